@@ -0,0 +1,48 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.calculator.BigDecimalMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+import org.jmatrix.matrix.matrixFactory.BigDecimalMatrixFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the generic BigDecimal dot product, which creates BigDecimals for every product and partial sum, against
+ * {@link BigDecimalMatricesCalculator#dot(Matrix, Matrix)}, which accumulates unscaled values in place. Run with
+ * -prof gc to compare the allocation per call.
+ * <p>
+ * Run ./gradlew jmh -Pjmh.includes=BigDecimalDotBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BigDecimalDotBenchmarks {
+
+	/**
+	 * The number of columns of matrix2, e.g. the batch size of a layer with 784 inputs and 200 outputs
+	 */
+	@Param({"1", "64"})
+	private int columns;
+
+	private Matrix<BigDecimal> matrix1;
+	private Matrix<BigDecimal> matrix2;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		matrix1 = BigDecimalMatrixFactory.withRandomValues(200, 784, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+		matrix2 = BigDecimalMatrixFactory.withRandomValues(784, columns, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+	}
+
+	@Benchmark
+	public Matrix<BigDecimal> measureGenericDot() {
+		return MatricesCalculator.dot(matrix1, matrix2, BigDecimal.ZERO, BigDecimal::multiply, BigDecimal::add);
+	}
+
+	@Benchmark
+	public Matrix<BigDecimal> measureUnscaledAccumulatorDot() {
+		return BigDecimalMatricesCalculator.dot(matrix1, matrix2);
+	}
+}
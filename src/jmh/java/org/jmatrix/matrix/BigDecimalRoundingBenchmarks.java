@@ -0,0 +1,69 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.calculator.BigDecimalMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.BigDecimalRounding;
+import org.jmatrix.matrix.matrixFactory.BigDecimalMatrixFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares exact BigDecimal dot products against ones rounded with a {@link BigDecimalRounding}, chained like the
+ * layers of a neural network. measureLayer times one layer after depth - 1 layers, which grows with the depth for the
+ * exact dot product and stays the same for the rounded ones. measureChain times all 100 layers.
+ * <p>
+ * Run ./gradlew jmh -Pjmh.includes=BigDecimalRoundingBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BigDecimalRoundingBenchmarks {
+
+	private static final int CHAIN_LAYERS = 100;
+
+	@Param({"EXACT", "PER_OPERATION", "PER_ACCUMULATION"})
+	private String policy;
+
+	@Param({"1", "10", "100"})
+	private int depth;
+
+	private BigDecimalRounding rounding;
+	private Matrix<BigDecimal> weights;
+	private Matrix<BigDecimal> inputs;
+	private Matrix<BigDecimal> layerInputs;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		rounding = policy.equals("EXACT") ? null : new BigDecimalRounding(MathContext.DECIMAL64, BigDecimalRounding.Policy.valueOf(policy));
+		weights = BigDecimalMatrixFactory.withRandomValues(64, 64, BigDecimal.valueOf(-0.125), BigDecimal.valueOf(0.125));
+		inputs = BigDecimalMatrixFactory.withRandomValues(64, 16, BigDecimal.valueOf(-1), BigDecimal.ONE);
+
+		layerInputs = inputs;
+		for (var layer = 1; layer < depth; layer++) {
+			layerInputs = layer(layerInputs);
+		}
+	}
+
+	private Matrix<BigDecimal> layer(Matrix<BigDecimal> activations) {
+		return rounding == null
+				? BigDecimalMatricesCalculator.dot(weights, activations)
+				: BigDecimalMatricesCalculator.dot(weights, activations, rounding);
+	}
+
+	@Benchmark
+	public Matrix<BigDecimal> measureLayer() {
+		return layer(layerInputs);
+	}
+
+	@Benchmark
+	public Matrix<BigDecimal> measureChain() {
+		Matrix<BigDecimal> activations = inputs;
+		for (var layer = 0; layer < CHAIN_LAYERS; layer++) {
+			activations = layer(activations);
+		}
+		return activations;
+	}
+}
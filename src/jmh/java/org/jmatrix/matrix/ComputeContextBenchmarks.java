@@ -0,0 +1,65 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.calculator.IntegerMatricesCalculator;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-call overhead of creating and shutting down a thread pool, which is what every parallel and
+ * Fork/Join calculation did before {@link ComputeContext}, against running on a context that is reused.
+ * The gap is largest for small matrices, where the pool costs more than the calculation.
+ * <p>
+ * Run ./gradlew jmh -Pjmh.includes=ComputeContextBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ComputeContextBenchmarks {
+
+	@Param({"16", "64", "256"})
+	private int size;
+
+	private Matrix<Integer> matrix1;
+	private Matrix<Integer> matrix2;
+	private ComputeContext sharedContext;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		matrix1 = IntegerMatrixFactory.withRandomValues(size, size, -100, 100);
+		matrix2 = IntegerMatrixFactory.withRandomValues(size, size, -100, 100);
+		sharedContext = new ComputeContext();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sharedContext.close();
+	}
+
+	@Benchmark
+	public Matrix<Integer> measureParallelDotPerCallContext() {
+		try (ComputeContext computeContext = new ComputeContext()) {
+			return IntegerMatricesCalculator.parallelDot(matrix1, matrix2, computeContext);
+		}
+	}
+
+	@Benchmark
+	public Matrix<Integer> measureParallelDotSharedContext() {
+		return IntegerMatricesCalculator.parallelDot(matrix1, matrix2, sharedContext);
+	}
+
+	@Benchmark
+	public Matrix<Integer> measureForkJoinDotPerCallContext() {
+		try (ComputeContext computeContext = new ComputeContext()) {
+			return IntegerMatricesCalculator.forkJoinDot(matrix1, matrix2, size * size, computeContext);
+		}
+	}
+
+	@Benchmark
+	public Matrix<Integer> measureForkJoinDotSharedContext() {
+		return IntegerMatricesCalculator.forkJoinDot(matrix1, matrix2, size * size, sharedContext);
+	}
+}
@@ -0,0 +1,64 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the textbook i-j-k dot product against the cache-blocked kernel used by
+ * {@link MatricesCalculator#dot} for large square matrices.
+ * <p>
+ * Run ./gradlew jmh -Pjmh.includes=DotBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DotBenchmarks {
+
+	@Param({"512", "1024", "2048"})
+	private int size;
+
+	private Matrix<Double> matrix1;
+	private Matrix<Double> matrix2;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		matrix1 = DoubleMatrixFactory.withRandomValues(size, size, -0.5, 0.5).toMatrix();
+		matrix2 = DoubleMatrixFactory.withRandomValues(size, size, -0.5, 0.5).toMatrix();
+	}
+
+	@Benchmark
+	public Matrix<Double> measureTextbookDot() {
+		return textbookDot(matrix1, matrix2);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureBlockedDot() {
+		return MatricesCalculator.dot(matrix1, matrix2, 0.0, (x, y) -> x * y, Double::sum);
+	}
+
+	/**
+	 * The i-j-k loop that {@link MatricesCalculator#dot} used before it was blocked, kept here as the baseline.
+	 */
+	private static Matrix<Double> textbookDot(Matrix<Double> matrix1, Matrix<Double> matrix2) {
+		List<List<Double>> matrixLists = new ArrayList<>();
+		for (var thisMatrixRowIterator = 0; thisMatrixRowIterator < matrix1.getRows(); thisMatrixRowIterator++) {
+			List<Double> newMatrixRow = new ArrayList<>();
+			for (var otherMatrixColIterator = 0; otherMatrixColIterator < matrix2.getColumns(); otherMatrixColIterator++) {
+				Double res = 0.0;
+				for (var elementIndex = 0; elementIndex < matrix1.getColumns(); elementIndex++) {
+					res = res + matrix1.getMatrixLists().get(thisMatrixRowIterator).get(elementIndex)
+							* matrix2.getMatrixLists().get(elementIndex).get(otherMatrixColIterator);
+				}
+				newMatrixRow.add(res);
+			}
+			matrixLists.add(newMatrixRow);
+		}
+		return new Matrix<>(matrixLists);
+	}
+}
@@ -0,0 +1,76 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.expression.MatrixExpression;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.MatrixCalculator;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Compares chains of calculator operations, which create a matrix for each operation, against the same chains built
+ * as a {@link MatrixExpression} and evaluated with fusion. Run with -prof gc to compare the allocation.
+ * <p>
+ * Run ./gradlew jmh -Pjmh.includes=ExpressionBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExpressionBenchmarks {
+
+	private static final UnaryOperator<Double> SIGMOID = x -> 1 / (1 + Math.exp(-x));
+
+	/**
+	 * The number of inputs in the batch, i.e. columns of x
+	 */
+	@Param({"1", "64"})
+	private int batchSize;
+
+	private Matrix<Double> weights;
+	private Matrix<Double> inputs;
+	private Matrix<Double> bias;
+	private Matrix<Double> errors;
+	private MatrixExpression<Double> layer;
+	private MatrixExpression<Double> backPropagation;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		weights = DoubleMatrixFactory.withRandomValues(200, 784, -0.5, 0.5).toMatrix();
+		inputs = DoubleMatrixFactory.withRandomValues(784, batchSize, -0.5, 0.5).toMatrix();
+		bias = DoubleMatrixFactory.withRandomValues(200, batchSize, -0.5, 0.5).toMatrix();
+		errors = DoubleMatrixFactory.withRandomValues(200, batchSize, -0.5, 0.5).toMatrix();
+
+		layer = MatrixExpression.of(weights)
+				.dot(MatrixExpression.of(inputs), 0.0, (x, y) -> x * y, Double::sum)
+				.combine(MatrixExpression.of(bias), Double::sum)
+				.transform(SIGMOID);
+		backPropagation = MatrixExpression.of(errors)
+				.dot(MatrixExpression.of(inputs).transpose(), 0.0, (x, y) -> x * y, Double::sum)
+				.transform(x -> x * 0.01);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureEagerLayer() {
+		Matrix<Double> dotProduct = MatricesCalculator.forkJoinDot(weights, inputs, 0.0, (x, y) -> x * y, Double::sum);
+		return MatrixCalculator.transform(MatricesCalculator.parallelCombine(dotProduct, bias, Double::sum), SIGMOID);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureLazyLayer() {
+		return layer.evaluate();
+	}
+
+	@Benchmark
+	public Matrix<Double> measureEagerBackPropagation() {
+		Matrix<Double> gradient = MatricesCalculator.forkJoinDot(errors, MatrixCalculator.transpose(inputs), 0.0, (x, y) -> x * y, Double::sum);
+		return MatrixCalculator.transform(gradient, x -> x * 0.01);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureLazyBackPropagation() {
+		return backPropagation.evaluate();
+	}
+}
@@ -0,0 +1,85 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.calculator.BiasActivation;
+import org.jmatrix.matrix.matrix.calculator.DoubleMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.DoubleMatrixCalculator;
+import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.MatrixCalculator;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Compares a layer's forward pass, {@code sigmoid(W·x + b)}, calculated as dot, combine and transform against the
+ * fused dot product with a {@link BiasActivation}. Run with -prof gc to compare the allocation per layer.
+ * <p>
+ * Run ./gradlew jmh -Pjmh.includes=FusedDotBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FusedDotBenchmarks {
+
+	private static final UnaryOperator<Double> SIGMOID = x -> 1 / (1 + Math.exp(-x));
+
+	/**
+	 * The number of inputs in the batch, i.e. columns of x
+	 */
+	@Param({"1", "64"})
+	private int batchSize;
+
+	private Matrix<Double> weights;
+	private Matrix<Double> inputs;
+	private Matrix<Double> bias;
+	private BiasActivation<Double> biasActivation;
+	private DoubleMatrix doubleWeights;
+	private DoubleMatrix doubleInputs;
+	private DoubleMatrix doubleBias;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		doubleWeights = DoubleMatrixFactory.withRandomValues(200, 784, -0.5, 0.5);
+		doubleInputs = DoubleMatrixFactory.withRandomValues(784, batchSize, -0.5, 0.5);
+		doubleBias = DoubleMatrixFactory.withRandomValues(200, batchSize, -0.5, 0.5);
+		weights = doubleWeights.toMatrix();
+		inputs = doubleInputs.toMatrix();
+		bias = doubleBias.toMatrix();
+		biasActivation = new BiasActivation<>(bias, Double::sum, SIGMOID);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureSeparateLayer() {
+		Matrix<Double> dotProduct = MatricesCalculator.dot(weights, inputs, 0.0, (x, y) -> x * y, Double::sum);
+		return MatrixCalculator.transform(MatricesCalculator.combine(dotProduct, bias, Double::sum), SIGMOID);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureFusedLayer() {
+		return MatricesCalculator.dot(weights, inputs, 0.0, (x, y) -> x * y, Double::sum, biasActivation);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureParallelFusedLayer() {
+		return MatricesCalculator.parallelDot(weights, inputs, 0.0, (x, y) -> x * y, Double::sum, biasActivation);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureForkJoinFusedLayer() {
+		return MatricesCalculator.forkJoinDot(weights, inputs, 0.0, (x, y) -> x * y, Double::sum, biasActivation);
+	}
+
+	@Benchmark
+	public DoubleMatrix measureDoubleSeparateLayer() {
+		DoubleMatrix dotProduct = DoubleMatricesCalculator.dot(doubleWeights, doubleInputs);
+		return DoubleMatrixCalculator.transform(DoubleMatricesCalculator.combine(dotProduct, doubleBias, Double::sum), x -> 1 / (1 + Math.exp(-x)));
+	}
+
+	@Benchmark
+	public DoubleMatrix measureDoubleFusedLayer() {
+		return DoubleMatricesCalculator.dot(doubleWeights, doubleInputs, doubleBias, x -> 1 / (1 + Math.exp(-x)));
+	}
+}
@@ -0,0 +1,66 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.matrix.IntMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.calculator.IntMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.IntegerMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the boxed Integer dot product and combine against {@link IntMatricesCalculator}, which works on the
+ * {@code int[]} of an {@link IntMatrix} and accumulates dot products in longs. The values are outside the
+ * {@link Integer#valueOf} cache, so the boxed versions allocate an Integer per product and partial sum.
+ * <p>
+ * Run ./gradlew jmh -Pjmh.includes=IntMatrixBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IntMatrixBenchmarks {
+
+	@Param({"1", "64"})
+	private int columns;
+
+	private Matrix<Integer> matrix1;
+	private Matrix<Integer> matrix2;
+	private Matrix<Integer> matrix3;
+
+	private IntMatrix intMatrix1;
+	private IntMatrix intMatrix2;
+	private IntMatrix intMatrix3;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		intMatrix1 = IntegerMatrixFactory.intMatrixWithRandomValues(200, 784, -1000, 1000);
+		intMatrix2 = IntegerMatrixFactory.intMatrixWithRandomValues(784, columns, -1000, 1000);
+		intMatrix3 = IntegerMatrixFactory.intMatrixWithRandomValues(200, 784, -1000, 1000);
+
+		matrix1 = intMatrix1.toMatrix();
+		matrix2 = intMatrix2.toMatrix();
+		matrix3 = intMatrix3.toMatrix();
+	}
+
+	@Benchmark
+	public Matrix<Integer> measureBoxedDot() {
+		return IntegerMatricesCalculator.dot(matrix1, matrix2);
+	}
+
+	@Benchmark
+	public IntMatrix measureIntMatrixDot() {
+		return IntMatricesCalculator.dot(intMatrix1, intMatrix2);
+	}
+
+	@Benchmark
+	public Matrix<Integer> measureBoxedCombine() {
+		return MatricesCalculator.combine(matrix1, matrix3, Integer::sum);
+	}
+
+	@Benchmark
+	public IntMatrix measureIntMatrixCombine() {
+		return IntMatricesCalculator.combine(intMatrix1, intMatrix3, Integer::sum);
+	}
+}
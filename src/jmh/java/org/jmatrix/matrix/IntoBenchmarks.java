@@ -0,0 +1,75 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.calculator.DoubleMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the calculators that allocate a new result against the "into" variants that write into a matrix reused
+ * across invocations, as in a training loop. Run with -prof gc to compare the allocation per operation.
+ * <p>
+ * Run ./gradlew jmh -Pjmh.includes=IntoBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IntoBenchmarks {
+
+	@Param({"64", "256"})
+	private int size;
+
+	private Matrix<Double> matrix1;
+	private Matrix<Double> matrix2;
+	private Matrix<Double> out;
+	private DoubleMatrix doubleMatrix1;
+	private DoubleMatrix doubleMatrix2;
+	private DoubleMatrix doubleOut;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		doubleMatrix1 = DoubleMatrixFactory.withRandomValues(size, size, -0.5, 0.5);
+		doubleMatrix2 = DoubleMatrixFactory.withRandomValues(size, size, -0.5, 0.5);
+		doubleOut = new DoubleMatrix(size, size);
+		matrix1 = doubleMatrix1.toMatrix();
+		matrix2 = doubleMatrix2.toMatrix();
+		out = doubleOut.toMatrix();
+	}
+
+	@Benchmark
+	public Matrix<Double> measureCombine() {
+		return MatricesCalculator.combine(matrix1, matrix2, Double::sum);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureCombineInto() {
+		MatricesCalculator.combineInto(matrix1, matrix2, Double::sum, out);
+		return out;
+	}
+
+	@Benchmark
+	public Matrix<Double> measureDot() {
+		return MatricesCalculator.dot(matrix1, matrix2, 0.0, (x, y) -> x * y, Double::sum);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureDotInto() {
+		MatricesCalculator.dotInto(matrix1, matrix2, 0.0, (x, y) -> x * y, Double::sum, out);
+		return out;
+	}
+
+	@Benchmark
+	public DoubleMatrix measureDoubleDot() {
+		return DoubleMatricesCalculator.dot(doubleMatrix1, doubleMatrix2);
+	}
+
+	@Benchmark
+	public DoubleMatrix measureDoubleDotInto() {
+		DoubleMatricesCalculator.dotInto(doubleMatrix1, doubleMatrix2, doubleOut);
+		return doubleOut;
+	}
+}
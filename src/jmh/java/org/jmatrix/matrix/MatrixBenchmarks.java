@@ -1,11 +1,20 @@
 package org.jmatrix.matrix;
 
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.FixedPointMatrix;
 import org.jmatrix.matrix.matrix.calculator.BigDecimalMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.DoubleMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.DoubleMatrixCalculator;
+import org.jmatrix.matrix.matrix.calculator.FixedPointMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.MatrixCalculator;
 import org.jmatrix.matrix.exception.EmptyMatrixException;
 import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
 import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
 import org.jmatrix.matrix.matrix.Matrix;
 import org.jmatrix.matrix.matrixFactory.BigDecimalMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.FixedPointMatrixFactory;
 import org.openjdk.jmh.annotations.*;
 
 import java.math.BigDecimal;
@@ -17,6 +26,19 @@ public class MatrixBenchmarks {
 	private Matrix<BigDecimal> matrix2;
 	private Matrix<BigDecimal> matrix3;
 
+	// The same values in primitive and boxed form, to compare DoubleMatrix against Matrix<Double>
+	private DoubleMatrix doubleMatrix1;
+	private DoubleMatrix doubleMatrix2;
+	private DoubleMatrix doubleMatrix3;
+	private Matrix<Double> boxedDoubleMatrix1;
+	private Matrix<Double> boxedDoubleMatrix2;
+	private Matrix<Double> boxedDoubleMatrix3;
+
+	// The BigDecimal matrices rounded to 9 decimal places, to compare FixedPointMatrix against Matrix<BigDecimal>
+	private FixedPointMatrix fixedPointMatrix1;
+	private FixedPointMatrix fixedPointMatrix2;
+	private FixedPointMatrix fixedPointMatrix3;
+
 	/**
 	 * Run ./gradlew jmh
 	 */
@@ -28,6 +50,17 @@ public class MatrixBenchmarks {
 		matrix1 = BigDecimalMatrixFactory.withRandomValues(200, 784, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
 		matrix2 = BigDecimalMatrixFactory.withRandomValues(784, 1, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
 		matrix3 = BigDecimalMatrixFactory.withRandomValues(200, 784, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+
+		doubleMatrix1 = DoubleMatrixFactory.withRandomValues(200, 784, -0.5, 0.5);
+		doubleMatrix2 = DoubleMatrixFactory.withRandomValues(784, 1, -0.5, 0.5);
+		doubleMatrix3 = DoubleMatrixFactory.withRandomValues(200, 784, -0.5, 0.5);
+		boxedDoubleMatrix1 = doubleMatrix1.toMatrix();
+		boxedDoubleMatrix2 = doubleMatrix2.toMatrix();
+		boxedDoubleMatrix3 = doubleMatrix3.toMatrix();
+
+		fixedPointMatrix1 = FixedPointMatrixFactory.fromMatrix(matrix1, 9);
+		fixedPointMatrix2 = FixedPointMatrixFactory.fromMatrix(matrix2, 9);
+		fixedPointMatrix3 = FixedPointMatrixFactory.fromMatrix(matrix3, 9);
 	}
 
 	@Benchmark
@@ -54,6 +87,12 @@ public class MatrixBenchmarks {
 		return BigDecimalMatricesCalculator.forkJoinDot(matrix1, matrix2, 5_000);
 	}
 
+	@Benchmark
+	@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+	public Matrix<BigDecimal> measureForkJoinDot_adaptive() throws ListsIncompatibleForMatrixException, EmptyMatrixException, MatricesIncompatibleForOperationException {
+		return BigDecimalMatricesCalculator.forkJoinDot(matrix1, matrix2);
+	}
+
 	@Benchmark
 	@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
 	public Matrix<BigDecimal> measureCombine() throws ListsIncompatibleForMatrixException, EmptyMatrixException, MatricesIncompatibleForOperationException {
@@ -78,6 +117,66 @@ public class MatrixBenchmarks {
 		return BigDecimalMatricesCalculator.forkAndJoinCombine(matrix1, matrix3, BigDecimal::add, 5_000);
 	}
 
+	@Benchmark
+	@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+	public FixedPointMatrix measureFixedPointDot() {
+		return FixedPointMatricesCalculator.dot(fixedPointMatrix1, fixedPointMatrix2);
+	}
+
+	@Benchmark
+	@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+	public FixedPointMatrix measureFixedPointCombine() {
+		return FixedPointMatricesCalculator.add(fixedPointMatrix1, fixedPointMatrix3);
+	}
+
+	@Benchmark
+	@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+	public Matrix<Double> measureBoxedDoubleDot() {
+		return MatricesCalculator.dot(boxedDoubleMatrix1, boxedDoubleMatrix2, 0.0, (x, y) -> x * y, Double::sum);
+	}
+
+	@Benchmark
+	@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+	public DoubleMatrix measureDoubleMatrixDot() {
+		return DoubleMatricesCalculator.dot(doubleMatrix1, doubleMatrix2);
+	}
+
+	@Benchmark
+	@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+	public Matrix<Double> measureBoxedDoubleCombine() {
+		return MatricesCalculator.combine(boxedDoubleMatrix1, boxedDoubleMatrix3, Double::sum);
+	}
+
+	@Benchmark
+	@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+	public DoubleMatrix measureDoubleMatrixCombine() {
+		return DoubleMatricesCalculator.combine(doubleMatrix1, doubleMatrix3, Double::sum);
+	}
+
+	@Benchmark
+	@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+	public Matrix<Double> measureBoxedDoubleTransform() {
+		return MatrixCalculator.transform(boxedDoubleMatrix1, x -> -x);
+	}
+
+	@Benchmark
+	@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+	public DoubleMatrix measureDoubleMatrixTransform() {
+		return DoubleMatrixCalculator.transform(doubleMatrix1, x -> -x);
+	}
+
+	@Benchmark
+	@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+	public Matrix<Double> measureBoxedDoubleTranspose() {
+		return MatrixCalculator.transpose(boxedDoubleMatrix1);
+	}
+
+	@Benchmark
+	@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+	public DoubleMatrix measureDoubleMatrixTranspose() {
+		return DoubleMatrixCalculator.transpose(doubleMatrix1);
+	}
+
 	/**@Benchmark
 	@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
 	public Matrix<BigDecimal> measureForkAndJoinCombine5_000() throws ListsIncompatibleForMatrixException, EmptyMatrixException, MatricesIncompatibleForOperationException {
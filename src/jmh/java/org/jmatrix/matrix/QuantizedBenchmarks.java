@@ -0,0 +1,98 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.QuantizedMatrix;
+import org.jmatrix.matrix.matrix.calculator.BigDecimalMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.DoubleMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.QuantizedMatricesCalculator;
+import org.jmatrix.matrix.matrixFactory.BigDecimalMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.QuantizedMatrixFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the int8 quantized dot product against the BigDecimal and double ones, for a layer with 784 inputs and 200
+ * outputs. The weights are quantized per row and the inputs per tensor.
+ * <p>
+ * The setup prints the largest and mean absolute difference between the quantized result and
+ * {@link BigDecimalMatricesCalculator#dot(Matrix, Matrix)}, so the accuracy cost of quantization is reported with the
+ * speed up.
+ * <p>
+ * Run ./gradlew jmh -Pjmh.includes=QuantizedBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuantizedBenchmarks {
+
+	/**
+	 * The number of columns of matrix2, e.g. the batch size
+	 */
+	@Param({"1", "64"})
+	private int columns;
+
+	private Matrix<BigDecimal> matrix1;
+	private Matrix<BigDecimal> matrix2;
+	private DoubleMatrix doubleMatrix1;
+	private DoubleMatrix doubleMatrix2;
+	private QuantizedMatrix quantizedMatrix1;
+	private QuantizedMatrix quantizedMatrix2;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		matrix1 = BigDecimalMatrixFactory.withRandomValues(200, 784, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+		matrix2 = BigDecimalMatrixFactory.withRandomValues(784, columns, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+
+		doubleMatrix1 = toDoubleMatrix(matrix1);
+		doubleMatrix2 = toDoubleMatrix(matrix2);
+		quantizedMatrix1 = QuantizedMatrixFactory.quantize(matrix1, QuantizedMatrix.Granularity.PER_ROW);
+		quantizedMatrix2 = QuantizedMatrixFactory.quantize(matrix2, QuantizedMatrix.Granularity.PER_TENSOR);
+
+		Matrix<BigDecimal> expected = BigDecimalMatricesCalculator.dot(matrix1, matrix2);
+		DoubleMatrix quantizedResult = QuantizedMatricesCalculator.dot(quantizedMatrix1, quantizedMatrix2);
+		double maxDelta = 0;
+		double totalDelta = 0;
+		for (var rowIterator = 0; rowIterator < quantizedResult.getRows(); rowIterator++) {
+			for (var colIterator = 0; colIterator < quantizedResult.getColumns(); colIterator++) {
+				double delta = Math.abs(expected.getMatrixLists().get(rowIterator).get(colIterator).doubleValue() - quantizedResult.get(rowIterator, colIterator));
+				maxDelta = Math.max(maxDelta, delta);
+				totalDelta += delta;
+			}
+		}
+		System.out.printf("%nQuantized dot product vs BigDecimal: max |delta| %.6f, mean |delta| %.6f%n", maxDelta,
+				totalDelta / (quantizedResult.getRows() * quantizedResult.getColumns()));
+	}
+
+	private static DoubleMatrix toDoubleMatrix(Matrix<BigDecimal> matrix) {
+		DoubleMatrix doubleMatrix = new DoubleMatrix(matrix.getRows(), matrix.getColumns());
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			for (var colIterator = 0; colIterator < matrix.getColumns(); colIterator++) {
+				doubleMatrix.set(rowIterator, colIterator, matrix.getMatrixLists().get(rowIterator).get(colIterator).doubleValue());
+			}
+		}
+		return doubleMatrix;
+	}
+
+	@Benchmark
+	public Matrix<BigDecimal> measureBigDecimalDot() {
+		return BigDecimalMatricesCalculator.dot(matrix1, matrix2);
+	}
+
+	@Benchmark
+	public DoubleMatrix measureDoubleMatrixDot() {
+		return DoubleMatricesCalculator.dot(doubleMatrix1, doubleMatrix2);
+	}
+
+	@Benchmark
+	public DoubleMatrix measureQuantizedDot() {
+		return QuantizedMatricesCalculator.dot(quantizedMatrix1, quantizedMatrix2);
+	}
+
+	@Benchmark
+	public DoubleMatrix measureQuantizedParallelDot() {
+		return QuantizedMatricesCalculator.parallelDot(quantizedMatrix1, quantizedMatrix2);
+	}
+}
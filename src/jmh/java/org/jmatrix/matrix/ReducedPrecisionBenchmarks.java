@@ -0,0 +1,66 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.FloatMatrix;
+import org.jmatrix.matrix.matrix.HalfMatrix;
+import org.jmatrix.matrix.matrix.calculator.DoubleMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.FloatMatricesCalculator;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.FloatMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.HalfMatrixFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares matrix-vector products with the weights stored as doubles, floats and 16-bit floats. The weights are 64 MB
+ * as doubles at the default size, so they don't fit in cache and every product reads them from memory.
+ * <p>
+ * Run ./gradlew jmh -Pjmh.includes=ReducedPrecisionBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReducedPrecisionBenchmarks {
+
+	@Param({"4096"})
+	private int size;
+
+	private DoubleMatrix doubleWeights;
+	private DoubleMatrix doubleInputs;
+	private FloatMatrix floatWeights;
+	private FloatMatrix floatInputs;
+	private HalfMatrix float16Weights;
+	private HalfMatrix bfloat16Weights;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		doubleWeights = DoubleMatrixFactory.withRandomValues(size, size, -0.5, 0.5);
+		doubleInputs = DoubleMatrixFactory.withRandomValues(size, 1, -0.5, 0.5);
+
+		floatWeights = FloatMatrixFactory.fromDoubleMatrix(doubleWeights);
+		floatInputs = FloatMatrixFactory.fromDoubleMatrix(doubleInputs);
+		float16Weights = HalfMatrixFactory.fromDoubleMatrix(doubleWeights, HalfMatrix.Format.FLOAT16);
+		bfloat16Weights = HalfMatrixFactory.fromDoubleMatrix(doubleWeights, HalfMatrix.Format.BFLOAT16);
+	}
+
+	@Benchmark
+	public DoubleMatrix measureDoubleMatrixVectorDot() {
+		return DoubleMatricesCalculator.dot(doubleWeights, doubleInputs);
+	}
+
+	@Benchmark
+	public FloatMatrix measureFloatMatrixVectorDot() {
+		return FloatMatricesCalculator.dot(floatWeights, floatInputs);
+	}
+
+	@Benchmark
+	public FloatMatrix measureFloat16MatrixVectorDot() {
+		return FloatMatricesCalculator.dot(float16Weights, floatInputs);
+	}
+
+	@Benchmark
+	public FloatMatrix measureBfloat16MatrixVectorDot() {
+		return FloatMatricesCalculator.dot(bfloat16Weights, floatInputs);
+	}
+}
@@ -0,0 +1,70 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.SparseMatrix;
+import org.jmatrix.matrix.matrix.calculator.BigDecimalMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.SparseMatricesCalculator;
+import org.jmatrix.matrix.matrixFactory.BigDecimalMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.SparseMatrixFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sparse dot products against {@link BigDecimalMatricesCalculator#dot(Matrix, Matrix)} of the same
+ * matrices stored densely, for a 500x500 matrix with the given fraction of stored elements, e.g. one-hot or
+ * bag-of-words features, times a dense 500x64 matrix or itself.
+ * <p>
+ * Run ./gradlew jmh -Pjmh.includes=SparseBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SparseBenchmarks {
+
+	@Param({"0.01", "0.05"})
+	private double density;
+
+	private SparseMatrix<BigDecimal> sparseMatrix;
+	private Matrix<BigDecimal> denseSparseMatrix;
+	private Matrix<BigDecimal> denseMatrix;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sparseMatrix = SparseMatrixFactory.withRandomValues(500, 500, density, () -> BigDecimal.valueOf(ThreadLocalRandom.current().nextDouble()), BigDecimal.ZERO, SparseMatrix.Layout.CSR);
+		denseSparseMatrix = sparseMatrix.toMatrix();
+		denseMatrix = BigDecimalMatrixFactory.withRandomValues(500, 64, BigDecimal.ZERO, BigDecimal.ONE);
+	}
+
+	@Benchmark
+	public Matrix<BigDecimal> measureDenseDot() {
+		return BigDecimalMatricesCalculator.dot(denseSparseMatrix, denseMatrix);
+	}
+
+	@Benchmark
+	public Matrix<BigDecimal> measureSparseDenseDot() {
+		return SparseMatricesCalculator.dot(sparseMatrix, denseMatrix, BigDecimal::multiply, BigDecimal::add);
+	}
+
+	@Benchmark
+	public Matrix<BigDecimal> measureParallelSparseDenseDot() {
+		return SparseMatricesCalculator.parallelDot(sparseMatrix, denseMatrix, BigDecimal::multiply, BigDecimal::add);
+	}
+
+	@Benchmark
+	public Matrix<BigDecimal> measureDenseSquare() {
+		return BigDecimalMatricesCalculator.dot(denseSparseMatrix, denseSparseMatrix);
+	}
+
+	@Benchmark
+	public SparseMatrix<BigDecimal> measureSparseSparseDot() {
+		return SparseMatricesCalculator.dot(sparseMatrix, sparseMatrix, BigDecimal::multiply, BigDecimal::add);
+	}
+
+	@Benchmark
+	public SparseMatrix<BigDecimal> measureParallelSparseSparseDot() {
+		return SparseMatricesCalculator.parallelDot(sparseMatrix, sparseMatrix, BigDecimal::multiply, BigDecimal::add);
+	}
+}
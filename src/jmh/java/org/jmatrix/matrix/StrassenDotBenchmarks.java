@@ -0,0 +1,64 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.calculator.DoubleMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.IntegerMatricesCalculator;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the classical Fork/Join dot product against the Strassen-Winograd dot product for square matrices, to find
+ * the size where Strassen starts to pay off, and the best cutoff for this machine. Sizes that are not a power of 2
+ * show the cost of padding.
+ * <p>
+ * Run ./gradlew jmh -Pjmh.includes=StrassenDotBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StrassenDotBenchmarks {
+
+	@Param({"256", "512", "1000", "1024", "2048"})
+	private int size;
+
+	@Param({"64", "128", "256"})
+	private int cutoff;
+
+	private Matrix<Integer> matrix1;
+	private Matrix<Integer> matrix2;
+	private DoubleMatrix doubleMatrix1;
+	private DoubleMatrix doubleMatrix2;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		matrix1 = IntegerMatrixFactory.withRandomValues(size, size, -100, 100);
+		matrix2 = IntegerMatrixFactory.withRandomValues(size, size, -100, 100);
+		doubleMatrix1 = DoubleMatrixFactory.withRandomValues(size, size, -0.5, 0.5);
+		doubleMatrix2 = DoubleMatrixFactory.withRandomValues(size, size, -0.5, 0.5);
+	}
+
+	@Benchmark
+	public Matrix<Integer> measureForkJoinDot() {
+		return IntegerMatricesCalculator.forkJoinDot(matrix1, matrix2);
+	}
+
+	@Benchmark
+	public Matrix<Integer> measureStrassenDot() {
+		return IntegerMatricesCalculator.strassenDot(matrix1, matrix2, cutoff, ComputeContext.getDefault());
+	}
+
+	@Benchmark
+	public DoubleMatrix measureDoubleDot() {
+		return DoubleMatricesCalculator.dot(doubleMatrix1, doubleMatrix2);
+	}
+
+	@Benchmark
+	public DoubleMatrix measureDoubleStrassenDot() {
+		return DoubleMatricesCalculator.strassenDot(doubleMatrix1, doubleMatrix2, cutoff, ComputeContext.getDefault());
+	}
+}
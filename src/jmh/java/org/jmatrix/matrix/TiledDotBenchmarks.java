@@ -0,0 +1,55 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.calculator.IntegerMatricesCalculator;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the serial dot product against the parallel and Fork/Join dot products for shapes where matrix1 has fewer
+ * rows than there are threads, which used to run on a single thread.
+ * <p>
+ * Run ./gradlew jmh -Pjmh.includes=TiledDotBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TiledDotBenchmarks {
+
+	/**
+	 * matrix1 rows x inner x matrix2 columns
+	 */
+	@Param({"1x2048x2048", "4x2048x512", "2x262144x2"})
+	private String shape;
+
+	private Matrix<Integer> matrix1;
+	private Matrix<Integer> matrix2;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		String[] dimensions = shape.split("x");
+		int rows = Integer.parseInt(dimensions[0]);
+		int inner = Integer.parseInt(dimensions[1]);
+		int columns = Integer.parseInt(dimensions[2]);
+
+		matrix1 = IntegerMatrixFactory.withRandomValues(rows, inner, -100, 100);
+		matrix2 = IntegerMatrixFactory.withRandomValues(inner, columns, -100, 100);
+	}
+
+	@Benchmark
+	public Matrix<Integer> measureDot() {
+		return IntegerMatricesCalculator.dot(matrix1, matrix2);
+	}
+
+	@Benchmark
+	public Matrix<Integer> measureParallelDot() {
+		return IntegerMatricesCalculator.parallelDot(matrix1, matrix2);
+	}
+
+	@Benchmark
+	public Matrix<Integer> measureForkJoinDot() {
+		return IntegerMatricesCalculator.forkJoinDot(matrix1, matrix2);
+	}
+}
@@ -0,0 +1,67 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.calculator.MatrixCalculator;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Compares the serial, parallel and Fork/Join transform, transpose and predicate check of {@code MatrixCalculator}.
+ * <p>
+ * Run ./gradlew jmh -Pjmh.includes=TransformBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TransformBenchmarks {
+
+	private static final UnaryOperator<Double> SIGMOID = x -> 1 / (1 + Math.exp(-x));
+
+	@Param({"500", "2000"})
+	private int size;
+
+	private Matrix<Double> matrix;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		matrix = DoubleMatrixFactory.withRandomValues(size, size, -0.5, 0.5).toMatrix();
+	}
+
+	@Benchmark
+	public Matrix<Double> measureTransform() {
+		return MatrixCalculator.transform(matrix, SIGMOID);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureParallelTransform() {
+		return MatrixCalculator.parallelTransform(matrix, SIGMOID);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureForkJoinTransform() {
+		return MatrixCalculator.forkJoinTransform(matrix, SIGMOID);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureTranspose() {
+		return MatrixCalculator.transpose(matrix);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureParallelTranspose() {
+		return MatrixCalculator.parallelTranspose(matrix);
+	}
+
+	@Benchmark
+	public boolean measureIsConditionTrueForEachElement() {
+		return MatrixCalculator.isConditionTrueForEachElement(matrix, x -> x > -1);
+	}
+
+	@Benchmark
+	public boolean measureParallelIsConditionTrueForEachElement() {
+		return MatrixCalculator.parallelIsConditionTrueForEachElement(matrix, x -> x > -1);
+	}
+}
@@ -0,0 +1,53 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
+import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.MatrixCalculator;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the backpropagation step {@code transpose(W)·errors} calculated with a copied transpose against a
+ * transposed view, which the dot product packs directly.
+ * <p>
+ * Run ./gradlew jmh -Pjmh.includes=TransposedDotBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransposedDotBenchmarks {
+
+	/**
+	 * The number of inputs in the batch, i.e. columns of errors
+	 */
+	@Param({"1", "64"})
+	private int batchSize;
+
+	private Matrix<Double> weights;
+	private Matrix<Double> errors;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		weights = DoubleMatrixFactory.withRandomValues(200, 784, -0.5, 0.5).toMatrix();
+		errors = DoubleMatrixFactory.withRandomValues(200, batchSize, -0.5, 0.5).toMatrix();
+	}
+
+	@Benchmark
+	public Matrix<Double> measureCopiedTransposeDot() {
+		return MatricesCalculator.dot(MatrixCalculator.transpose(weights), errors, 0.0, (x, y) -> x * y, Double::sum);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureTransposedViewDot() {
+		return MatricesCalculator.dot(MatrixCalculator.transposeView(weights), new MatrixView<>(errors), 0.0, (x, y) -> x * y, Double::sum);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureForkJoinTransposedViewDot() {
+		return MatricesCalculator.forkJoinDot(MatrixCalculator.transposeView(weights), new MatrixView<>(errors), ComputeContext.getDefault(), 0.0, (x, y) -> x * y, Double::sum);
+	}
+}
@@ -0,0 +1,66 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.calculator.DoubleMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.DoubleMatrixCalculator;
+import org.jmatrix.matrix.matrix.calculator.vector.ElementWiseOperation;
+import org.jmatrix.matrix.matrix.calculator.vector.TransformOperation;
+import org.jmatrix.matrix.matrix.calculator.vector.VectorMatricesCalculator;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Vector API kernels in {@link VectorMatricesCalculator} against the scalar primitive kernels in
+ * {@link DoubleMatricesCalculator} and {@link DoubleMatrixCalculator} for square matrices of different sizes.
+ * <p>
+ * Run ./gradlew jmh -Pjmh.includes=VectorBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VectorBenchmarks {
+
+	@Param({"64", "256", "1024"})
+	private int size;
+
+	private DoubleMatrix matrix1;
+	private DoubleMatrix matrix2;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		matrix1 = DoubleMatrixFactory.withRandomValues(size, size, -0.5, 0.5);
+		matrix2 = DoubleMatrixFactory.withRandomValues(size, size, -0.5, 0.5);
+	}
+
+	@Benchmark
+	public DoubleMatrix measureScalarDot() {
+		return DoubleMatricesCalculator.dot(matrix1, matrix2);
+	}
+
+	@Benchmark
+	public DoubleMatrix measureVectorDot() {
+		return VectorMatricesCalculator.dot(matrix1, matrix2);
+	}
+
+	@Benchmark
+	public DoubleMatrix measureScalarCombine() {
+		return DoubleMatricesCalculator.combine(matrix1, matrix2, Double::sum);
+	}
+
+	@Benchmark
+	public DoubleMatrix measureVectorCombine() {
+		return VectorMatricesCalculator.combine(matrix1, matrix2, ElementWiseOperation.ADD);
+	}
+
+	@Benchmark
+	public DoubleMatrix measureScalarSigmoidTransform() {
+		return DoubleMatrixCalculator.transform(matrix1, x -> 1.0 / (1.0 + Math.exp(-x)));
+	}
+
+	@Benchmark
+	public DoubleMatrix measureVectorSigmoidTransform() {
+		return VectorMatricesCalculator.transform(matrix1, TransformOperation.SIGMOID);
+	}
+}
@@ -0,0 +1,61 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.MatrixCalculator;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the serial, parallel and Fork/Join element-wise operations on wide and short matrices, which used to run on
+ * at most one task per row.
+ * <p>
+ * Run ./gradlew jmh -Pjmh.includes=WideElementWiseBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WideElementWiseBenchmarks {
+
+	@Param({"1", "3"})
+	private int rows;
+
+	@Param({"1000000"})
+	private int columns;
+
+	private Matrix<Double> matrix1;
+	private Matrix<Double> matrix2;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		matrix1 = DoubleMatrixFactory.withRandomValues(rows, columns, -0.5, 0.5).toMatrix();
+		matrix2 = DoubleMatrixFactory.withRandomValues(rows, columns, -0.5, 0.5).toMatrix();
+	}
+
+	@Benchmark
+	public Matrix<Double> measureCombine() {
+		return MatricesCalculator.combine(matrix1, matrix2, Double::sum);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureParallelCombine() {
+		return MatricesCalculator.parallelCombine(matrix1, matrix2, Double::sum);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureForkAndJoinCombine() {
+		return MatricesCalculator.forkAndJoinCombine(matrix1, matrix2, Double::sum);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureParallelTransform() {
+		return MatrixCalculator.parallelTransform(matrix1, x -> x * 2);
+	}
+
+	@Benchmark
+	public Matrix<Double> measureForkJoinTransform() {
+		return MatrixCalculator.forkJoinTransform(matrix1, x -> x * 2);
+	}
+}
@@ -1,9 +1,16 @@
 module org.jmatrix.matrix {
+	requires static jdk.incubator.vector;
+	// sun.misc.Unsafe.invokeCleaner, to release direct buffers on close
+	requires jdk.unsupported;
+
+	exports org.jmatrix.matrix.concurrent;
 	exports org.jmatrix.matrix.concurrent.task.forkJoin;
 	exports org.jmatrix.matrix.concurrent.task.parallel;
-	exports org.jmatrix.matrix.concurrent.task.parallel.dto;
 	exports org.jmatrix.matrix.exception;
+	exports org.jmatrix.matrix.expression;
 	exports org.jmatrix.matrix.matrixFactory;
+	exports org.jmatrix.matrix.matrixFile;
 	exports org.jmatrix.matrix.matrix;
 	exports org.jmatrix.matrix.matrix.calculator;
+	exports org.jmatrix.matrix.matrix.calculator.vector;
 }
\ No newline at end of file
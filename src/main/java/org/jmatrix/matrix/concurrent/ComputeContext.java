@@ -0,0 +1,183 @@
+package org.jmatrix.matrix.concurrent;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The class {@code ComputeContext} owns the threads used by the parallel and Fork/Join calculator methods.
+ * <p>
+ * Creating and tearing down a thread pool on every call costs far more than a small matrix calculation, so a context
+ * is meant to be created once and reused for the lifetime of the application. It holds:
+ * <ul>
+ *     <li>an {@link ExecutorService} with a fixed number of threads, used by the {@code parallel...()} methods</li>
+ *     <li>a dedicated {@link ForkJoinPool}, used by the {@code forkJoin...()} methods</li>
+ * </ul>
+ * Every parallel calculator method has an overload that takes a context. The other overloads use the
+ * {@linkplain #getDefault() default context}, which is created on first use with one thread per available processor.
+ * <p>
+ * The threads are daemon threads, so an unclosed context doesn't stop the JVM from exiting. A context should still be
+ * {@linkplain #close() closed} once it's no longer needed.
+ * <p>
+ * A parallel calculation started from one of the executor's own threads, e.g. by the function of a
+ * {@code parallelTransform}, runs its tasks on that thread (see {@link #isExecutorThread(ExecutorService)}) rather
+ * than queueing them behind the task that is waiting for them, which would deadlock once every thread is waiting.
+ */
+public class ComputeContext implements AutoCloseable {
+
+	private static final AtomicInteger CONTEXT_COUNT = new AtomicInteger();
+	private static final ThreadLocal<ComputeContext> EXECUTOR_CONTEXT = new ThreadLocal<>();
+	private static volatile ComputeContext defaultContext;
+
+	private final int parallelism;
+	private final ThreadPoolExecutor executorService;
+	private final ForkJoinPool forkJoinPool;
+
+	/**
+	 * Creates a context with one thread per available processor and an unbounded task queue.
+	 */
+	public ComputeContext() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a context with an unbounded task queue.
+	 *
+	 * @param parallelism the number of threads in the executor, and the parallelism of the Fork/Join pool
+	 */
+	public ComputeContext(int parallelism) {
+		this(parallelism, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @param parallelism   the number of threads in the executor, and the parallelism of the Fork/Join pool
+	 * @param queueCapacity the maximum number of tasks waiting for an executor thread. When the queue is full, the
+	 *                      thread submitting the task runs it instead, which throttles the submitter. Once the context
+	 *                      is closed, tasks are rejected with a {@link RejectedExecutionException}.
+	 */
+	public ComputeContext(int parallelism, int queueCapacity) {
+		if (parallelism < 1 || queueCapacity < 1) {
+			throw new IllegalArgumentException("parallelism and queueCapacity must be positive");
+		}
+
+		int contextNo = CONTEXT_COUNT.incrementAndGet();
+		BlockingQueue<Runnable> queue = queueCapacity == Integer.MAX_VALUE ? new LinkedBlockingQueue<>() : new ArrayBlockingQueue<>(queueCapacity);
+
+		this.parallelism = parallelism;
+		this.executorService = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS, queue,
+				daemonThreadFactory("jmatrix-compute-" + contextNo + "-"), ComputeContext::runOnCallerOrReject);
+		this.forkJoinPool = new ForkJoinPool(parallelism);
+	}
+
+	/**
+	 * Like {@link ThreadPoolExecutor.CallerRunsPolicy}, except that once the executor is shut down the task is rejected
+	 * rather than silently discarded, which would leave anyone waiting on its future waiting forever.
+	 */
+	private static void runOnCallerOrReject(Runnable runnable, ThreadPoolExecutor executor) {
+		if (executor.isShutdown()) {
+			throw new RejectedExecutionException("ComputeContext has been closed");
+		}
+		runnable.run();
+	}
+
+	/**
+	 * @return a factory for daemon threads that know they belong to this context's executor
+	 */
+	private ThreadFactory daemonThreadFactory(String namePrefix) {
+		AtomicInteger threadCount = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(() -> {
+				EXECUTOR_CONTEXT.set(this);
+				runnable.run();
+			}, namePrefix + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * @return true if the current thread is one of the threads of executorService, so waiting on tasks queued to it
+	 * could wait forever
+	 */
+	public static boolean isExecutorThread(ExecutorService executorService) {
+		ComputeContext context = EXECUTOR_CONTEXT.get();
+		return context != null && context.executorService == executorService;
+	}
+
+	/**
+	 * @return the context used by the calculator methods that don't take a context. It is created on first use.
+	 */
+	public static ComputeContext getDefault() {
+		ComputeContext context = defaultContext;
+		if (context == null) {
+			synchronized (ComputeContext.class) {
+				context = defaultContext;
+				if (context == null) {
+					context = new ComputeContext();
+					defaultContext = context;
+				}
+			}
+		}
+		return context;
+	}
+
+	/**
+	 * Replaces the default context. The previous default isn't closed, so the caller should close it once any
+	 * calculations using it have finished.
+	 *
+	 * @return the previous default context, or null if one hadn't been created yet
+	 */
+	public static synchronized ComputeContext setDefault(ComputeContext context) {
+		if (context == null) {
+			throw new IllegalArgumentException("The default context cannot be null");
+		}
+		ComputeContext previous = defaultContext;
+		defaultContext = context;
+		return previous;
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	public ExecutorService getExecutorService() {
+		return executorService;
+	}
+
+	public ForkJoinPool getForkJoinPool() {
+		return forkJoinPool;
+	}
+
+	/**
+	 * @return the number of tasks waiting for an executor thread
+	 */
+	public int getQueuedTaskCount() {
+		return executorService.getQueue().size();
+	}
+
+	public boolean isClosed() {
+		return executorService.isShutdown();
+	}
+
+	/**
+	 * Stops accepting new tasks and waits for the running tasks to finish. If this is the default context, a new
+	 * default context is created the next time one is needed.
+	 */
+	@Override
+	public void close() {
+		synchronized (ComputeContext.class) {
+			if (defaultContext == this) {
+				defaultContext = null;
+			}
+		}
+		executorService.close();
+		forkJoinPool.close();
+	}
+}
@@ -0,0 +1,209 @@
+package org.jmatrix.matrix.concurrent.task.forkJoin;
+
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
+import org.jmatrix.matrix.matrix.calculator.BlockedDotKernel;
+import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.MatrixCalculator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Derives a computationsPerTaskThreshold for the Fork/Join tasks, so callers don't have to choose one by hand.
+ * <p>
+ * The threshold is the larger of:
+ * <ul>
+ *     <li>the number of computations that take roughly {@link #TARGET_TASK_NANOS}, so each task does enough work to
+ *     pay for forking and joining it. The time per computation is measured by a short calibration run the first time
+ *     an element type is used with a function, and cached for the rest of the application.</li>
+ *     <li>the total computations divided into {@link #TASKS_PER_THREAD} tasks per thread of the pool, so there are
+ *     enough tasks for idle threads to steal when the rows take different amounts of time.</li>
+ * </ul>
+ * Computations are counted the same way as in {@link MatricesForkJoinDotTask}, {@link MatricesForkJoinCombineTask} and
+ * {@link MatricesForkJoinTransformTask}.
+ * <p>
+ * On top of the threshold, adaptive tasks stop splitting once more than {@link #SURPLUS_QUEUED_TASK_LIMIT} of their
+ * worker's tasks are waiting to be stolen (see {@link ForkJoinTask#getSurplusQueuedTaskCount()}), since the other
+ * threads already have work to take.
+ * <p>
+ * Calibration always times a {@link #CALIBRATION_SIZE} x {@link #CALIBRATION_SIZE} sample, filled by repeating the
+ * top left elements of the operands, so a small first call doesn't leave a measurement of little more than the timer
+ * itself. The sample is run for {@link #WARM_UP_COMPUTATIONS} (or at most {@link #MAX_WARM_UP_NANOS}) before it's
+ * timed, and then timed for at least {@link #MIN_MEASURED_NANOS}. The cost is cached by the class of the element and the classes of the functions, so a
+ * cheap function doesn't decide the threshold for an expensive one on the same element type.
+ */
+public abstract class AdaptiveForkJoinThreshold {
+
+	public static final long TARGET_TASK_NANOS = 50_000;
+	public static final int TASKS_PER_THREAD = 8;
+	public static final int SURPLUS_QUEUED_TASK_LIMIT = 3;
+
+	public static final int CALIBRATION_SIZE = 32;
+	public static final long WARM_UP_COMPUTATIONS = 250_000;
+	public static final long MAX_WARM_UP_NANOS = 100_000_000;
+	public static final long MIN_MEASURED_NANOS = 1_000_000;
+
+	private static final Map<CalibrationKey, Double> NANOS_PER_COMPUTATION = new ConcurrentHashMap<>();
+
+	/**
+	 * @return the threshold for a dot product of matrix1 with the kernel's matrix2, on a pool with the given
+	 * parallelism
+	 */
+	public static <T> int forDot(Matrix<T> matrix1, BlockedDotKernel<T> dotKernel, int parallelism) {
+		return forDot(new MatrixView<>(matrix1), dotKernel, parallelism);
+	}
+
+	/**
+	 * Same as {@link #forDot(Matrix, BlockedDotKernel, int)}, for a view of matrix1.
+	 */
+	public static <T> int forDot(MatrixView<T> matrix1, BlockedDotKernel<T> dotKernel, int parallelism) {
+		long totalComputations = dotComputations(matrix1.getRows(), matrix1.getColumns(), dotKernel.getColumns());
+		CalibrationKey key = CalibrationKey.of("dot", matrix1.get(0, 0), dotKernel.getMultiplyFunction(), dotKernel.getAccumulatorFunction());
+		double nanosPerComputation = nanosPerComputation(key, () -> calibrateDot(matrix1, dotKernel));
+		return threshold(totalComputations, nanosPerComputation, parallelism);
+	}
+
+	/**
+	 * @return the threshold for combining matrix1 with matrix2, on a pool with the given parallelism
+	 */
+	public static <T> int forCombine(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction, int parallelism) {
+		long totalComputations = combineComputations(matrix1.getRows(), matrix1.getColumns());
+		CalibrationKey key = CalibrationKey.of("combine", matrix1.getMatrixLists().getFirst().getFirst(), combineFunction);
+		double nanosPerComputation = nanosPerComputation(key, () -> calibrateCombine(matrix1, matrix2, combineFunction));
+		return threshold(totalComputations, nanosPerComputation, parallelism);
+	}
+
+	/**
+	 * @return the threshold for applying function to each element of matrix, on a pool with the given parallelism
+	 */
+	public static <T> int forTransform(Matrix<T> matrix, UnaryOperator<T> function, int parallelism) {
+		long totalComputations = combineComputations(matrix.getRows(), matrix.getColumns());
+		CalibrationKey key = CalibrationKey.of("transform", matrix.getMatrixLists().getFirst().getFirst(), function);
+		double nanosPerComputation = nanosPerComputation(key, () -> calibrateTransform(matrix, function));
+		return threshold(totalComputations, nanosPerComputation, parallelism);
+	}
+
+	static int threshold(long totalComputations, double nanosPerComputation, int parallelism) {
+		long minComputationsPerTask = (long) Math.ceil(TARGET_TASK_NANOS / Math.max(nanosPerComputation, Double.MIN_NORMAL));
+		long balancedComputationsPerTask = totalComputations / ((long) parallelism * TASKS_PER_THREAD);
+		return (int) Math.min(Integer.MAX_VALUE, Math.max(1, Math.max(minComputationsPerTask, balancedComputationsPerTask)));
+	}
+
+	public static long dotComputations(int matrix1Rows, int matrix1Columns, int matrix2Columns) {
+		return (long) (matrix1Columns + matrix2Columns - 1) * matrix1Rows * matrix2Columns;
+	}
+
+	public static long combineComputations(int rows, int columns) {
+		return (long) rows * columns;
+	}
+
+	/**
+	 * @return true if an adaptive task should compute directly instead of splitting further
+	 */
+	static boolean hasSurplusQueuedTasks() {
+		return ForkJoinTask.inForkJoinPool() && ForkJoinTask.getSurplusQueuedTaskCount() > SURPLUS_QUEUED_TASK_LIMIT;
+	}
+
+	/**
+	 * @return the cached time per computation for the operation on the element type with the given functions, or null
+	 * if it hasn't been calibrated yet
+	 */
+	public static Double getNanosPerComputation(String operation, Class<?> elementType, Object... functions) {
+		return NANOS_PER_COMPUTATION.get(new CalibrationKey(operation, elementType, classesOf(functions)));
+	}
+
+	/**
+	 * Calibrates outside of the map, as the sample runs the caller's functions, which may run calculations that
+	 * calibrate too. Threads that calibrate the same key at the same time keep whichever result is cached first.
+	 */
+	private static double nanosPerComputation(CalibrationKey key, DoubleSupplier calibration) {
+		Double cached = NANOS_PER_COMPUTATION.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		double calibrated = calibration.getAsDouble();
+		Double previous = NANOS_PER_COMPUTATION.putIfAbsent(key, calibrated);
+		return previous != null ? previous : calibrated;
+	}
+
+	private static <T> double calibrateDot(MatrixView<T> matrix1, BlockedDotKernel<T> dotKernel) {
+		Matrix<T> sample = sample(matrix1);
+		BlockedDotKernel<T> sampleKernel = dotKernel.tiled(CALIBRATION_SIZE, CALIBRATION_SIZE);
+		return calibrate(() -> sampleKernel.multiply(sample), dotComputations(CALIBRATION_SIZE, CALIBRATION_SIZE, CALIBRATION_SIZE));
+	}
+
+	private static <T> double calibrateCombine(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction) {
+		Matrix<T> sample1 = sample(new MatrixView<>(matrix1));
+		Matrix<T> sample2 = sample(new MatrixView<>(matrix2));
+		return calibrate(() -> MatricesCalculator.combine(sample1, sample2, combineFunction), combineComputations(CALIBRATION_SIZE, CALIBRATION_SIZE));
+	}
+
+	private static <T> double calibrateTransform(Matrix<T> matrix, UnaryOperator<T> function) {
+		Matrix<T> sample = sample(new MatrixView<>(matrix));
+		return calibrate(() -> MatrixCalculator.transform(sample, function), combineComputations(CALIBRATION_SIZE, CALIBRATION_SIZE));
+	}
+
+	/**
+	 * Runs the sample until the JIT compiler has compiled its loops, which takes a number of iterations rather than an
+	 * amount of time, unless the functions are slow enough for that to take too long. Then times as many runs as it
+	 * takes to fill {@link #MIN_MEASURED_NANOS}, so the overhead of reading the timer is spread over the runs.
+	 */
+	private static double calibrate(Supplier<?> sample, long computations) {
+		long warmUpStart = System.nanoTime();
+		for (long warmedUp = 0; warmedUp < WARM_UP_COMPUTATIONS && System.nanoTime() - warmUpStart < MAX_WARM_UP_NANOS; warmedUp += computations) {
+			sample.get();
+		}
+
+		long runs = 0;
+		long start = System.nanoTime();
+		long elapsedNanos;
+		do {
+			sample.get();
+			runs++;
+			elapsedNanos = System.nanoTime() - start;
+		} while (elapsedNanos < MIN_MEASURED_NANOS);
+		return (double) elapsedNanos / (runs * computations);
+	}
+
+	/**
+	 * @return a {@link #CALIBRATION_SIZE} x {@link #CALIBRATION_SIZE} matrix filled by repeating the top left
+	 * elements of view, whatever its size
+	 */
+	static <T> Matrix<T> sample(MatrixView<T> view) {
+		int rows = Math.min(CALIBRATION_SIZE, view.getRows());
+		int columns = Math.min(CALIBRATION_SIZE, view.getColumns());
+		List<List<T>> matrixLists = new ArrayList<>(CALIBRATION_SIZE);
+		for (var rowIterator = 0; rowIterator < CALIBRATION_SIZE; rowIterator++) {
+			List<T> row = new ArrayList<>(CALIBRATION_SIZE);
+			for (var colIterator = 0; colIterator < CALIBRATION_SIZE; colIterator++) {
+				row.add(view.get(rowIterator % rows, colIterator % columns));
+			}
+			matrixLists.add(row);
+		}
+		return new Matrix<>(matrixLists);
+	}
+
+	private static List<Class<?>> classesOf(Object... functions) {
+		return Arrays.stream(functions).<Class<?>>map(Object::getClass).toList();
+	}
+
+	/**
+	 * Identifies a cached cost by the classes of the element and the functions. Each lambda or method reference in the
+	 * source has its own class, so two call sites with different functions don't share a cost.
+	 */
+	private record CalibrationKey(String operation, Class<?> elementType, List<Class<?>> functionTypes) {
+
+		static CalibrationKey of(String operation, Object element, Object... functions) {
+			return new CalibrationKey(operation, element.getClass(), classesOf(functions));
+		}
+	}
+}
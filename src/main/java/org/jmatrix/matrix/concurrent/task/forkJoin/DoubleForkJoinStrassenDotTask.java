@@ -0,0 +1,162 @@
+package org.jmatrix.matrix.concurrent.task.forkJoin;
+
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.calculator.DoubleMatricesCalculator;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The primitive counterpart of {@link MatricesForkJoinStrassenDotTask} for {@link DoubleMatrix}. Quadrants are
+ * {@code DoubleMatrix} views of the padded backing arrays, so only the sums of quadrants and the products are
+ * allocated, and products no larger than the cutoff are calculated by {@link DoubleMatricesCalculator#dot}.
+ * <p>
+ * Results differ from {@link DoubleMatricesCalculator#dot} by rounding, see
+ * {@link MatricesForkJoinStrassenDotTask}.
+ */
+public class DoubleForkJoinStrassenDotTask extends RecursiveTask<DoubleMatrix> {
+
+	public static final int DEFAULT_CUTOFF = 256;
+
+	private final DoubleMatrix matrix1;
+	private final DoubleMatrix matrix2;
+	private final int cutoff;
+
+	public DoubleForkJoinStrassenDotTask(DoubleMatrix matrix1, DoubleMatrix matrix2, int cutoff) {
+		MatricesForkJoinStrassenDotTask.validateCutoff(cutoff);
+		this.matrix1 = matrix1;
+		this.matrix2 = matrix2;
+		this.cutoff = cutoff;
+	}
+
+	@Override
+	protected DoubleMatrix compute() {
+		int rows = matrix1.getRows();
+		int inner = matrix1.getColumns();
+		int columns = matrix2.getColumns();
+		int depth = MatricesForkJoinStrassenDotTask.depth(rows, inner, columns, cutoff);
+
+		DoubleMatrix padded1 = pad(matrix1, MatricesForkJoinStrassenDotTask.paddedSize(rows, depth), MatricesForkJoinStrassenDotTask.paddedSize(inner, depth));
+		DoubleMatrix padded2 = pad(matrix2, MatricesForkJoinStrassenDotTask.paddedSize(inner, depth), MatricesForkJoinStrassenDotTask.paddedSize(columns, depth));
+		DoubleMatrix result = new ProductTask(padded1, padded2, depth).compute();
+
+		if (result.getRows() == rows && result.getColumns() == columns) {
+			return result;
+		}
+		DoubleMatrix cropped = new DoubleMatrix(rows, columns);
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			System.arraycopy(result.getData(), result.index(rowIterator, 0), cropped.getData(), cropped.index(rowIterator, 0), columns);
+		}
+		return cropped;
+	}
+
+	private static DoubleMatrix pad(DoubleMatrix matrix, int rows, int columns) {
+		if (matrix.getRows() == rows && matrix.getColumns() == columns) {
+			return matrix;
+		}
+		DoubleMatrix padded = new DoubleMatrix(rows, columns);
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			System.arraycopy(matrix.getData(), matrix.index(rowIterator, 0), padded.getData(), padded.index(rowIterator, 0), matrix.getColumns());
+		}
+		return padded;
+	}
+
+	private static DoubleMatrix quadrant(DoubleMatrix matrix, int quadrantRow, int quadrantColumn) {
+		int halfRows = matrix.getRows() / 2;
+		int halfColumns = matrix.getColumns() / 2;
+		return new DoubleMatrix(matrix.getData(), matrix.index(quadrantRow * halfRows, quadrantColumn * halfColumns), halfRows, halfColumns, matrix.getStride());
+	}
+
+	/**
+	 * Calculates the product of two matrices, see {@link MatricesForkJoinStrassenDotTask} for the formulas.
+	 */
+	private static class ProductTask extends RecursiveTask<DoubleMatrix> {
+
+		private final DoubleMatrix matrix1;
+		private final DoubleMatrix matrix2;
+		private final int depth;
+
+		ProductTask(DoubleMatrix matrix1, DoubleMatrix matrix2, int depth) {
+			this.matrix1 = matrix1;
+			this.matrix2 = matrix2;
+			this.depth = depth;
+		}
+
+		@Override
+		protected DoubleMatrix compute() {
+			if (depth == 0) {
+				return DoubleMatricesCalculator.dot(matrix1, matrix2);
+			}
+
+			DoubleMatrix a11 = quadrant(matrix1, 0, 0);
+			DoubleMatrix a12 = quadrant(matrix1, 0, 1);
+			DoubleMatrix a21 = quadrant(matrix1, 1, 0);
+			DoubleMatrix a22 = quadrant(matrix1, 1, 1);
+			DoubleMatrix b11 = quadrant(matrix2, 0, 0);
+			DoubleMatrix b12 = quadrant(matrix2, 0, 1);
+			DoubleMatrix b21 = quadrant(matrix2, 1, 0);
+			DoubleMatrix b22 = quadrant(matrix2, 1, 1);
+
+			DoubleMatrix s1 = new DoubleMatrix(a11.getRows(), a11.getColumns());
+			DoubleMatrix s2 = new DoubleMatrix(a11.getRows(), a11.getColumns());
+			DoubleMatrix s3 = new DoubleMatrix(a11.getRows(), a11.getColumns());
+			DoubleMatrix s4 = new DoubleMatrix(a11.getRows(), a11.getColumns());
+			for (var rowIterator = 0; rowIterator < a11.getRows(); rowIterator++) {
+				for (var colIterator = 0; colIterator < a11.getColumns(); colIterator++) {
+					double sum1 = a21.get(rowIterator, colIterator) + a22.get(rowIterator, colIterator);
+					double sum2 = sum1 - a11.get(rowIterator, colIterator);
+					s1.set(rowIterator, colIterator, sum1);
+					s2.set(rowIterator, colIterator, sum2);
+					s3.set(rowIterator, colIterator, a11.get(rowIterator, colIterator) - a21.get(rowIterator, colIterator));
+					s4.set(rowIterator, colIterator, a12.get(rowIterator, colIterator) - sum2);
+				}
+			}
+
+			DoubleMatrix t1 = new DoubleMatrix(b11.getRows(), b11.getColumns());
+			DoubleMatrix t2 = new DoubleMatrix(b11.getRows(), b11.getColumns());
+			DoubleMatrix t3 = new DoubleMatrix(b11.getRows(), b11.getColumns());
+			DoubleMatrix t4 = new DoubleMatrix(b11.getRows(), b11.getColumns());
+			for (var rowIterator = 0; rowIterator < b11.getRows(); rowIterator++) {
+				for (var colIterator = 0; colIterator < b11.getColumns(); colIterator++) {
+					double difference1 = b12.get(rowIterator, colIterator) - b11.get(rowIterator, colIterator);
+					double difference2 = b22.get(rowIterator, colIterator) - difference1;
+					t1.set(rowIterator, colIterator, difference1);
+					t2.set(rowIterator, colIterator, difference2);
+					t3.set(rowIterator, colIterator, b22.get(rowIterator, colIterator) - b12.get(rowIterator, colIterator));
+					t4.set(rowIterator, colIterator, difference2 - b21.get(rowIterator, colIterator));
+				}
+			}
+
+			ProductTask p1 = new ProductTask(a11, b11, depth - 1);
+			ProductTask p2 = new ProductTask(a12, b21, depth - 1);
+			ProductTask p3 = new ProductTask(s4, b22, depth - 1);
+			ProductTask p4 = new ProductTask(a22, t4, depth - 1);
+			ProductTask p5 = new ProductTask(s1, t1, depth - 1);
+			ProductTask p6 = new ProductTask(s2, t2, depth - 1);
+			ProductTask p7 = new ProductTask(s3, t3, depth - 1);
+			invokeAll(p1, p2, p3, p4, p5, p6, p7);
+
+			return combineQuadrants(p1.join(), p2.join(), p3.join(), p4.join(), p5.join(), p6.join(), p7.join());
+		}
+
+		private static DoubleMatrix combineQuadrants(DoubleMatrix p1, DoubleMatrix p2, DoubleMatrix p3, DoubleMatrix p4, DoubleMatrix p5, DoubleMatrix p6, DoubleMatrix p7) {
+			int halfRows = p1.getRows();
+			int halfColumns = p1.getColumns();
+			DoubleMatrix result = new DoubleMatrix(halfRows * 2, halfColumns * 2);
+
+			for (var rowIterator = 0; rowIterator < halfRows; rowIterator++) {
+				for (var colIterator = 0; colIterator < halfColumns; colIterator++) {
+					double product1 = p1.get(rowIterator, colIterator);
+					double product5 = p5.get(rowIterator, colIterator);
+					double u2 = product1 + p6.get(rowIterator, colIterator);
+					double u3 = u2 + p7.get(rowIterator, colIterator);
+
+					result.set(rowIterator, colIterator, product1 + p2.get(rowIterator, colIterator));
+					result.set(rowIterator, colIterator + halfColumns, u2 + product5 + p3.get(rowIterator, colIterator));
+					result.set(rowIterator + halfRows, colIterator, u3 - p4.get(rowIterator, colIterator));
+					result.set(rowIterator + halfRows, colIterator + halfColumns, u3 + product5);
+				}
+			}
+			return result;
+		}
+	}
+}
@@ -1,8 +1,13 @@
 package org.jmatrix.matrix.concurrent.task.forkJoin;
 
 import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
 import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.RecursiveTask;
 import java.util.function.BiFunction;
 
@@ -16,53 +21,107 @@ import java.util.function.BiFunction;
  * should be somewhere between 100 - 10,000 computations. In this instance, a computation is the number of combine
  * operations performed on the matrices. So two matrices with 1 row and 100 columns would have 1 * 100 = 100 computations
  * per task.
+ * <p>
+ * The subtasks write their combined parts directly into a result that is allocated once, rather than appending the
+ * results of the subtasks together. A task splits its rows in half, or its columns once it has a single row, so a wide
+ * vector is divided between the workers as well as a tall matrix.
+ * <p>
+ * With adaptive splitting, a task also stops splitting when its worker already has a surplus of queued tasks, see
+ * {@link AdaptiveForkJoinThreshold}.
  *
  * @param <T> the type of the elements in the matrix.
  */
 public class MatricesForkJoinCombineTask<T> extends RecursiveTask<Matrix<T>> {
 
-	private final Matrix<T> matrix1;
-	private final Matrix<T> matrix2;
+	private final MatrixView<T> view1;
+	private final MatrixView<T> view2;
 	private final BiFunction<T, T, T> combineFunction;
 	private final int totalComputationsPerTask;
+	private final boolean adaptiveSplitting;
 
 	public MatricesForkJoinCombineTask(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction, int totalComputationsPerTask) {
-		this.matrix1 = matrix1;
-		this.matrix2 = matrix2;
+		this(matrix1, matrix2, combineFunction, totalComputationsPerTask, false);
+	}
+
+	public MatricesForkJoinCombineTask(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction, int totalComputationsPerTask, boolean adaptiveSplitting) {
+		this(new MatrixView<>(matrix1), new MatrixView<>(matrix2), combineFunction, totalComputationsPerTask, adaptiveSplitting);
+	}
+
+	/**
+	 * The subtasks split the views, rather than copying the rows of the matrices.
+	 */
+	public MatricesForkJoinCombineTask(MatrixView<T> view1, MatrixView<T> view2, BiFunction<T, T, T> combineFunction, int totalComputationsPerTask, boolean adaptiveSplitting) {
+		this.view1 = view1;
+		this.view2 = view2;
 		this.combineFunction = combineFunction;
 		this.totalComputationsPerTask = totalComputationsPerTask;
+		this.adaptiveSplitting = adaptiveSplitting;
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	protected Matrix<T> compute() {
-		int computationsPerRow = matrix1.getColumns();
-		int totalComputations = matrix1.getRows() * computationsPerRow;
+		List<List<T>> resultRows = new ArrayList<>(view1.getRows());
+		for (var rowIterator = 0; rowIterator < view1.getRows(); rowIterator++) {
+			resultRows.add(new ArrayList<>(Collections.nCopies(view1.getColumns(), null)));
+		}
+		Matrix<T> result = Matrix.wrapRows(resultRows);
+
+		new CombinePartTask(view1, view2, new MatrixView<>(result)).compute();
+		return result;
+	}
 
-		if (totalComputations < totalComputationsPerTask || matrix1.getRows() < 2) {
-			return MatricesCalculator.combine(this.matrix1, this.matrix2, this.combineFunction);
+	/**
+	 * Combines two views into the matching part of the result, splitting the rows in half, or the columns if there is
+	 * a single row, until the number of computations is below the threshold.
+	 */
+	private class CombinePartTask extends RecursiveAction {
+
+		private final MatrixView<T> view1;
+		private final MatrixView<T> view2;
+		private final MatrixView<T> resultView;
+
+		CombinePartTask(MatrixView<T> view1, MatrixView<T> view2, MatrixView<T> resultView) {
+			this.view1 = view1;
+			this.view2 = view2;
+			this.resultView = resultView;
 		}
 
-		int splitIndex = matrix1.getRows() / 2;
+		@Override
+		protected void compute() {
+			long totalComputations = AdaptiveForkJoinThreshold.combineComputations(view1.getRows(), view1.getColumns());
 
-		MatricesForkJoinCombineTask<T> leftTask = new MatricesForkJoinCombineTask<>(
-				new Matrix<>(matrix1.getMatrixLists().subList(0, splitIndex)),
-				new Matrix<>(matrix2.getMatrixLists().subList(0, splitIndex)),
-				this.combineFunction,
-				totalComputationsPerTask
-		);
+			if (totalComputations < totalComputationsPerTask || (view1.getRows() < 2 && view1.getColumns() < 2)
+					|| (adaptiveSplitting && AdaptiveForkJoinThreshold.hasSurplusQueuedTasks())) {
+				MatricesCalculator.combineInto(view1, view2, combineFunction, resultView);
+				return;
+			}
 
-		MatricesForkJoinCombineTask<T> rightTask = new MatricesForkJoinCombineTask<>(
-				new Matrix<>(matrix1.getMatrixLists().subList(splitIndex, matrix1.getRows())),
-				new Matrix<>(matrix2.getMatrixLists().subList(splitIndex, matrix2.getRows())),
-				this.combineFunction,
-				totalComputationsPerTask
-		);
+			CombinePartTask leftTask;
+			CombinePartTask rightTask;
 
-		leftTask.fork();
-		Matrix<T> matrixRowsRight = rightTask.compute();
-		Matrix<T> matrixRowsLeft = leftTask.join();
-		matrixRowsLeft.appendMatrix(matrixRowsRight);
+			if (view1.getRows() >= 2) {
+				int splitIndex = view1.getRows() / 2;
+				leftTask = new CombinePartTask(view1.rowRange(0, splitIndex), view2.rowRange(0, splitIndex), resultView.rowRange(0, splitIndex));
+				rightTask = new CombinePartTask(
+						view1.rowRange(splitIndex, view1.getRows()),
+						view2.rowRange(splitIndex, view2.getRows()),
+						resultView.rowRange(splitIndex, resultView.getRows())
+				);
+			} else {
+				int splitIndex = view1.getColumns() / 2;
+				int rightColumns = view1.getColumns() - splitIndex;
+				leftTask = new CombinePartTask(view1.subView(0, 0, 1, splitIndex), view2.subView(0, 0, 1, splitIndex), resultView.subView(0, 0, 1, splitIndex));
+				rightTask = new CombinePartTask(
+						view1.subView(0, splitIndex, 1, rightColumns),
+						view2.subView(0, splitIndex, 1, rightColumns),
+						resultView.subView(0, splitIndex, 1, rightColumns)
+				);
+			}
 
-		return matrixRowsLeft;
+			leftTask.fork();
+			rightTask.compute();
+			leftTask.join();
+		}
 	}
 }
@@ -1,8 +1,11 @@
 package org.jmatrix.matrix.concurrent.task.forkJoin;
 
 import org.jmatrix.matrix.matrix.Matrix;
-import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+import org.jmatrix.matrix.matrix.MatrixView;
+import org.jmatrix.matrix.matrix.calculator.BlockedDotKernel;
+import org.jmatrix.matrix.matrix.calculator.DotEpilogue;
 
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.RecursiveTask;
 import java.util.function.BiFunction;
 
@@ -11,8 +14,11 @@ import java.util.function.BiFunction;
  * using the Fork/Join framework for parallel computation. It extends the {@code RecursiveTask} class with a result
  * type of {@code Matrix<T>}.
  * <p>
- * This task recursively divides the matrix multiplication computation into subtasks until the amount of work
- * is small enough to compute directly, based on a specified threshold.
+ * This task recursively divides the result matrix into tiles until the amount of work is small enough to compute
+ * directly, based on a specified threshold. Each tile is halved along its longer side, rows or columns, so products
+ * with fewer rows than threads, e.g. 1 x n by n x n, still use every thread. If splitInner is set, tiles that are a
+ * single element are then halved along the inner dimension, and the two halves accumulated together, see
+ * {@link BlockedDotKernel#accumulateInto}. The tiles are written directly into a shared result.
  * <p>
  * The key value here is computationsPerTaskThreshold. According to Doug Lea's paper on the Fork/Join Framework, this value
  * should be somewhere between 100 - 10,000 computations. In this instance, a computation is the number of mathematical
@@ -26,73 +32,157 @@ import java.util.function.BiFunction;
  * 	- Total number of entries for the result matrix is matrix1 rows * matrix2 columns = 4.
  * 	- So, Total number of computations for this example task is: 5 * 4 = 20.
  * 	This particular example can be found <a href="https://www.mathsisfun.com/algebra/matrix-multiplying.html">here</a>.
+ * <p>
+ * All the subtasks share a single {@link BlockedDotKernel}, so matrix2 is only packed once.
+ * <p>
+ * With adaptive splitting, a task also stops splitting when its worker already has a surplus of queued tasks, see
+ * {@link AdaptiveForkJoinThreshold}.
+ * <p>
+ * If there's a {@link DotEpilogue}, such as a bias and activation, each tile that covers the whole inner dimension applies it once the tile is
+ * complete, so the result of a layer's forward pass is produced without intermediate matrices.
  *
  * @param <T> the type of elements in the matrices, determined by the {@code Matrix<T>} type
  */
 public class MatricesForkJoinDotTask<T> extends RecursiveTask<Matrix<T>> {
 
-	private final Matrix<T> matrix1;
-	private final Matrix<T> matrix2;
+	private final MatrixView<T> matrix1;
 	private final int computationsPerTaskThreshold; // should be 100 - 10,000 computations altogether
-	private final T zeroVal;
-	private final BiFunction<T, T, T> multiplyFunction;
-	private final BiFunction<T, T, T> accumulatorFunction;
+	private final BlockedDotKernel<T> dotKernel;
+	private final boolean adaptiveSplitting;
+	private final boolean splitInner;
+	private final DotEpilogue<T> epilogue;
 
 	public MatricesForkJoinDotTask(Matrix<T> matrix1, Matrix<T> matrix2, int rowsThreshold, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) {
+		this(matrix1, rowsThreshold, new BlockedDotKernel<>(matrix2, zeroVal, multiplyFunction, accumulatorFunction));
+	}
+
+	public MatricesForkJoinDotTask(Matrix<T> matrix1, int computationsPerTaskThreshold, BlockedDotKernel<T> dotKernel) {
+		this(matrix1, computationsPerTaskThreshold, dotKernel, false);
+	}
+
+	public MatricesForkJoinDotTask(Matrix<T> matrix1, int computationsPerTaskThreshold, BlockedDotKernel<T> dotKernel, boolean adaptiveSplitting) {
+		this(matrix1, computationsPerTaskThreshold, dotKernel, adaptiveSplitting, false);
+	}
+
+	/**
+	 * @param splitInner whether the inner dimension can be split. This changes how the products of each element are
+	 *                   grouped, so should only be set for accumulators that are associative.
+	 */
+	public MatricesForkJoinDotTask(Matrix<T> matrix1, int computationsPerTaskThreshold, BlockedDotKernel<T> dotKernel, boolean adaptiveSplitting, boolean splitInner) {
+		this(new MatrixView<>(matrix1), computationsPerTaskThreshold, dotKernel, adaptiveSplitting, splitInner);
+	}
+
+	public MatricesForkJoinDotTask(MatrixView<T> matrix1, int computationsPerTaskThreshold, BlockedDotKernel<T> dotKernel, boolean adaptiveSplitting, boolean splitInner) {
+		this(matrix1, computationsPerTaskThreshold, dotKernel, adaptiveSplitting, splitInner, null);
+	}
+
+	/**
+	 * @param epilogue applied to each element of the result once it's complete, or null for a plain dot product
+	 */
+	public MatricesForkJoinDotTask(MatrixView<T> matrix1, int computationsPerTaskThreshold, BlockedDotKernel<T> dotKernel, boolean adaptiveSplitting, boolean splitInner, DotEpilogue<T> epilogue) {
 		this.matrix1 = matrix1;
-		this.matrix2 = matrix2;
-		this.computationsPerTaskThreshold = rowsThreshold;
-		this.multiplyFunction = multiplyFunction;
-		this.zeroVal = zeroVal;
-		this.accumulatorFunction = accumulatorFunction;
+		this.computationsPerTaskThreshold = computationsPerTaskThreshold;
+		this.dotKernel = dotKernel;
+		this.adaptiveSplitting = adaptiveSplitting;
+		this.splitInner = splitInner;
+		this.epilogue = epilogue;
 	}
 
 	public Matrix<T> multiplyMatrices() {
-		return MatricesCalculator.dot(matrix1, matrix2, zeroVal, multiplyFunction, accumulatorFunction);
+		return dotKernel.multiply(matrix1, epilogue);
 	}
 
 	/**
 	 * Executes the dot product computation of two matrices using the Fork/Join framework.
-	 * If the number of computation to calculate the dot product is below a specified threshold, or there's only 1 row
-	 * in the matrix, then it computes the result directly. Otherwise, it splits the computation into two subtasks and
-	 * recursively processes each subtask. The computation is split by halving the first matrix by its rows.
 	 *
 	 * @return A Matrix representing the dot product computation of two matrices, where each
 	 * inner list corresponds to a row in the resulting matrix.
 	 */
 	@Override
 	protected Matrix<T> compute() {
-		int computationsPerResultMatrixEntry = matrix1.getColumns() + matrix2.getColumns() - 1;
-		int totalEntriesInResultMatrix = matrix1.getRows() * matrix2.getColumns();
-		int computationsPerTask = computationsPerResultMatrixEntry * totalEntriesInResultMatrix;
+		Object[][] result = dotKernel.newResult(matrix1.getRows(), dotKernel.getColumns());
+		new DotTileTask(0, matrix1.getRows(), 0, dotKernel.getColumns(), 0, dotKernel.getInner(), result, 0, 0).compute();
+		return dotKernel.toMatrix(result);
+	}
 
-		if (computationsPerTask < computationsPerTaskThreshold || matrix1.getRows() < 2) {
-			return multiplyMatrices();
+	/**
+	 * Accumulates one tile of the result into target, see {@link BlockedDotKernel#multiplyInto}.
+	 */
+	private class DotTileTask extends RecursiveAction {
+
+		private final int rowStart;
+		private final int rowEnd;
+		private final int colStart;
+		private final int colEnd;
+		private final int innerStart;
+		private final int innerEnd;
+		private final Object[][] target;
+		private final int targetRowOffset;
+		private final int targetColOffset;
+
+		DotTileTask(int rowStart, int rowEnd, int colStart, int colEnd, int innerStart, int innerEnd, Object[][] target, int targetRowOffset, int targetColOffset) {
+			this.rowStart = rowStart;
+			this.rowEnd = rowEnd;
+			this.colStart = colStart;
+			this.colEnd = colEnd;
+			this.innerStart = innerStart;
+			this.innerEnd = innerEnd;
+			this.target = target;
+			this.targetRowOffset = targetRowOffset;
+			this.targetColOffset = targetColOffset;
 		}
 
-		int splitIndex = matrix1.getRows() / 2;
-		MatricesForkJoinDotTask<T> leftTask = new MatricesForkJoinDotTask<>(
-				new Matrix<>(matrix1.getMatrixLists().subList(0, splitIndex)),
-				matrix2,
-				computationsPerTaskThreshold,
-				zeroVal,
-				multiplyFunction,
-				accumulatorFunction
-		);
-
-		MatricesForkJoinDotTask<T> rightTask = new MatricesForkJoinDotTask<>(
-				new Matrix<>(matrix1.getMatrixLists().subList(splitIndex, matrix1.getRows())),
-				matrix2,
-				computationsPerTaskThreshold,
-				zeroVal,
-				multiplyFunction,
-				accumulatorFunction
-		);
-		leftTask.fork();
-		Matrix<T> newMatrixListGroupRight = rightTask.compute();
-		Matrix<T> newMatrixListGroupLeft = leftTask.join();
-		newMatrixListGroupLeft.appendMatrix(newMatrixListGroupRight);
-
-		return newMatrixListGroupLeft;
+		/**
+		 * If the number of computations for the tile is below the threshold, or the tile can't be split, then it
+		 * computes the tile directly. Otherwise, it splits the tile into two subtasks and recursively processes each
+		 * subtask.
+		 */
+		@Override
+		protected void compute() {
+			int rows = rowEnd - rowStart;
+			int columns = colEnd - colStart;
+			int inner = innerEnd - innerStart;
+			long computationsPerTask = AdaptiveForkJoinThreshold.dotComputations(rows, inner, columns);
+			DotEpilogue<T> tileEpilogue = inner == dotKernel.getInner() ? epilogue : null;
+
+			if (computationsPerTask < computationsPerTaskThreshold
+					|| (rows < 2 && columns < 2 && (!splitInner || inner < 2))
+					|| (adaptiveSplitting && AdaptiveForkJoinThreshold.hasSurplusQueuedTasks())) {
+				dotKernel.multiplyInto(matrix1, rowStart, rowEnd, colStart, colEnd, innerStart, innerEnd, target, targetRowOffset, targetColOffset, tileEpilogue);
+				return;
+			}
+
+			if (rows >= 2 || columns >= 2) {
+				DotTileTask leftTask;
+				DotTileTask rightTask;
+				if (rows >= columns) {
+					int splitIndex = rowStart + rows / 2;
+					leftTask = new DotTileTask(rowStart, splitIndex, colStart, colEnd, innerStart, innerEnd, target, targetRowOffset, targetColOffset);
+					rightTask = new DotTileTask(splitIndex, rowEnd, colStart, colEnd, innerStart, innerEnd, target, targetRowOffset, targetColOffset);
+				} else {
+					int splitIndex = colStart + columns / 2;
+					leftTask = new DotTileTask(rowStart, rowEnd, colStart, splitIndex, innerStart, innerEnd, target, targetRowOffset, targetColOffset);
+					rightTask = new DotTileTask(rowStart, rowEnd, splitIndex, colEnd, innerStart, innerEnd, target, targetRowOffset, targetColOffset);
+				}
+				leftTask.fork();
+				rightTask.compute();
+				leftTask.join();
+				return;
+			}
+
+			// A single element, so split the inner dimension. The upper half is accumulated separately, then added
+			// after the lower half
+			int splitIndex = innerStart + inner / 2;
+			Object[][] partial = dotKernel.newResult(rows, columns);
+			DotTileTask leftTask = new DotTileTask(rowStart, rowEnd, colStart, colEnd, innerStart, splitIndex, target, targetRowOffset, targetColOffset);
+			DotTileTask rightTask = new DotTileTask(rowStart, rowEnd, colStart, colEnd, splitIndex, innerEnd, partial, rowStart, colStart);
+			leftTask.fork();
+			rightTask.compute();
+			leftTask.join();
+			dotKernel.accumulateInto(target, targetRowOffset, targetColOffset, partial, rowStart, colStart, rowStart, rowEnd, colStart, colEnd);
+			if (tileEpilogue != null) {
+				tileEpilogue.applyTo(target, targetRowOffset, targetColOffset, rowStart, rowEnd, colStart, colEnd);
+			}
+		}
 	}
 }
@@ -0,0 +1,292 @@
+package org.jmatrix.matrix.concurrent.task.forkJoin;
+
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
+import org.jmatrix.matrix.matrix.calculator.BlockedDotKernel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+
+/**
+ * The {@code MatricesForkJoinStrassenDotTask} class computes the dot product of two matrices with the Winograd variant
+ * of Strassen's algorithm, using the Fork/Join framework to calculate the seven sub-products of each level in
+ * parallel.
+ * <p>
+ * Each level splits matrix1 and matrix2 into quadrants and calculates the product from 7 products of half the size,
+ * instead of 8, plus 15 additions and subtractions of quadrants. Over n x n matrices this is O(n^2.81) multiplications
+ * instead of O(n^3), but the additions make each level more expensive, so the recursion stops once the smallest
+ * dimension of a product is no larger than the cutoff, and the remaining products are calculated by a
+ * {@link BlockedDotKernel}. The best cutoff depends on the element type and the machine, see StrassenDotBenchmarks.
+ * <p>
+ * Sizes that aren't divisible by 2 at every level are padded with zeroVal, to the smallest size that is (see
+ * {@link #paddedSize(int, int)}), so at most 2^depth - 1 rows or columns are added, and the padding is cropped from
+ * the result.
+ * <p>
+ * The products are grouped differently from {@link BlockedDotKernel}, and subtraction is used, so the result only
+ * matches {@link org.jmatrix.matrix.matrix.calculator.MatricesCalculator#dot} exactly for exact arithmetic, e.g.
+ * integer or BigDecimal. Floating-point results differ by rounding, and Strassen's algorithm is known to be less
+ * numerically stable than the classical algorithm.
+ *
+ * @param <T> the type of elements in the matrices, determined by the {@code Matrix<T>} type
+ */
+public class MatricesForkJoinStrassenDotTask<T> extends RecursiveTask<Matrix<T>> {
+
+	public static final int DEFAULT_CUTOFF = 128;
+
+	private final Matrix<T> matrix1;
+	private final Matrix<T> matrix2;
+	private final int cutoff;
+	private final T zeroVal;
+	private final BiFunction<T, T, T> addFunction;
+	private final BiFunction<T, T, T> subtractFunction;
+	private final BiFunction<T, T, T> multiplyFunction;
+
+	/**
+	 * @param cutoff products whose smallest dimension is no larger than the cutoff are calculated by the classical
+	 *               algorithm
+	 */
+	public MatricesForkJoinStrassenDotTask(Matrix<T> matrix1, Matrix<T> matrix2, int cutoff, T zeroVal, BiFunction<T, T, T> addFunction, BiFunction<T, T, T> subtractFunction, BiFunction<T, T, T> multiplyFunction) {
+		validateCutoff(cutoff);
+		this.matrix1 = matrix1;
+		this.matrix2 = matrix2;
+		this.cutoff = cutoff;
+		this.zeroVal = zeroVal;
+		this.addFunction = addFunction;
+		this.subtractFunction = subtractFunction;
+		this.multiplyFunction = multiplyFunction;
+	}
+
+	/**
+	 * @return the number of levels of Strassen recursion for a rows x inner by inner x columns product. Each level
+	 * halves every dimension, until the smallest is no larger than the cutoff.
+	 */
+	public static int depth(int rows, int inner, int columns, int cutoff) {
+		validateCutoff(cutoff);
+		var depth = 0;
+		while (Math.min(rows, Math.min(inner, columns)) > cutoff) {
+			rows = Math.ceilDiv(rows, 2);
+			inner = Math.ceilDiv(inner, 2);
+			columns = Math.ceilDiv(columns, 2);
+			depth++;
+		}
+		return depth;
+	}
+
+	/**
+	 * @return the smallest size no smaller than the given size that can be halved depth times
+	 */
+	public static int paddedSize(int size, int depth) {
+		return Math.ceilDiv(size, 1 << depth) << depth;
+	}
+
+	static void validateCutoff(int cutoff) {
+		if (cutoff < 1) {
+			throw new IllegalArgumentException("Strassen cutoff must be at least 1, but was " + cutoff);
+		}
+	}
+
+	@Override
+	protected Matrix<T> compute() {
+		int rows = matrix1.getRows();
+		int inner = matrix1.getColumns();
+		int columns = matrix2.getColumns();
+		int depth = depth(rows, inner, columns, cutoff);
+
+		Block padded1 = pad(matrix1, paddedSize(rows, depth), paddedSize(inner, depth));
+		Block padded2 = pad(matrix2, paddedSize(inner, depth), paddedSize(columns, depth));
+		Object[][] result = new ProductTask(padded1, padded2, depth).compute();
+
+		List<List<T>> matrixLists = new ArrayList<>(rows);
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			Object[] row = result[rowIterator];
+			matrixLists.add(copyRow(row, columns));
+		}
+		return Matrix.wrapRows(matrixLists);
+	}
+
+	private Block pad(Matrix<T> matrix, int rows, int columns) {
+		Object[][] data = new Object[rows][columns];
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			Object[] row = data[rowIterator];
+			var copied = 0;
+			if (rowIterator < matrix.getRows()) {
+				List<T> matrixRow = matrix.getMatrixLists().get(rowIterator);
+				copied = matrixRow.size();
+				for (var colIterator = 0; colIterator < copied; colIterator++) {
+					row[colIterator] = matrixRow.get(colIterator);
+				}
+			}
+			Arrays.fill(row, copied, columns, zeroVal);
+		}
+		return new Block(data, 0, 0, rows, columns);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<T> copyRow(Object[] row, int columns) {
+		return new ArrayList<>((List<T>) Arrays.asList(row).subList(0, columns));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<T> castRow(Object[] row) {
+		return (List<T>) Arrays.asList(row);
+	}
+
+	/**
+	 * A rectangular region of a 2D array, so quadrants can be passed down without copying them.
+	 */
+	private record Block(Object[][] data, int rowOffset, int colOffset, int rows, int columns) {
+
+		Block quadrant(int quadrantRow, int quadrantColumn) {
+			int halfRows = rows / 2;
+			int halfColumns = columns / 2;
+			return new Block(data, rowOffset + quadrantRow * halfRows, colOffset + quadrantColumn * halfColumns, halfRows, halfColumns);
+		}
+
+		Object get(int row, int column) {
+			return data[rowOffset + row][colOffset + column];
+		}
+	}
+
+	/**
+	 * Calculates the product of two blocks, returning it as a new array.
+	 */
+	private class ProductTask extends RecursiveTask<Object[][]> {
+
+		private final Block block1;
+		private final Block block2;
+		private final int depth;
+
+		ProductTask(Block block1, Block block2, int depth) {
+			this.block1 = block1;
+			this.block2 = block2;
+			this.depth = depth;
+		}
+
+		@Override
+		protected Object[][] compute() {
+			if (depth == 0) {
+				return multiplyClassically();
+			}
+
+			Block a11 = block1.quadrant(0, 0);
+			Block a12 = block1.quadrant(0, 1);
+			Block a21 = block1.quadrant(1, 0);
+			Block a22 = block1.quadrant(1, 1);
+			Block b11 = block2.quadrant(0, 0);
+			Block b12 = block2.quadrant(0, 1);
+			Block b21 = block2.quadrant(1, 0);
+			Block b22 = block2.quadrant(1, 1);
+
+			// S1 = A21 + A22, S2 = S1 - A11, S3 = A11 - A21, S4 = A12 - S2
+			Block[] s = newBlocks(4, a11.rows(), a11.columns());
+			for (var rowIterator = 0; rowIterator < a11.rows(); rowIterator++) {
+				for (var colIterator = 0; colIterator < a11.columns(); colIterator++) {
+					T s1 = add(a21.get(rowIterator, colIterator), a22.get(rowIterator, colIterator));
+					T s2 = subtract(s1, a11.get(rowIterator, colIterator));
+					s[0].data()[rowIterator][colIterator] = s1;
+					s[1].data()[rowIterator][colIterator] = s2;
+					s[2].data()[rowIterator][colIterator] = subtract(a11.get(rowIterator, colIterator), a21.get(rowIterator, colIterator));
+					s[3].data()[rowIterator][colIterator] = subtract(a12.get(rowIterator, colIterator), s2);
+				}
+			}
+
+			// T1 = B12 - B11, T2 = B22 - T1, T3 = B22 - B12, T4 = T2 - B21
+			Block[] t = newBlocks(4, b11.rows(), b11.columns());
+			for (var rowIterator = 0; rowIterator < b11.rows(); rowIterator++) {
+				for (var colIterator = 0; colIterator < b11.columns(); colIterator++) {
+					T t1 = subtract(b12.get(rowIterator, colIterator), b11.get(rowIterator, colIterator));
+					T t2 = subtract(b22.get(rowIterator, colIterator), t1);
+					t[0].data()[rowIterator][colIterator] = t1;
+					t[1].data()[rowIterator][colIterator] = t2;
+					t[2].data()[rowIterator][colIterator] = subtract(b22.get(rowIterator, colIterator), b12.get(rowIterator, colIterator));
+					t[3].data()[rowIterator][colIterator] = subtract(t2, b21.get(rowIterator, colIterator));
+				}
+			}
+
+			ProductTask p1 = new ProductTask(a11, b11, depth - 1);
+			ProductTask p2 = new ProductTask(a12, b21, depth - 1);
+			ProductTask p3 = new ProductTask(s[3], b22, depth - 1);
+			ProductTask p4 = new ProductTask(a22, t[3], depth - 1);
+			ProductTask p5 = new ProductTask(s[0], t[0], depth - 1);
+			ProductTask p6 = new ProductTask(s[1], t[1], depth - 1);
+			ProductTask p7 = new ProductTask(s[2], t[2], depth - 1);
+			invokeAll(p1, p2, p3, p4, p5, p6, p7);
+
+			return combineQuadrants(p1.join(), p2.join(), p3.join(), p4.join(), p5.join(), p6.join(), p7.join());
+		}
+
+		/**
+		 * U2 = P1 + P6, U3 = U2 + P7, and the quadrants of the result are C11 = P1 + P2, C12 = U2 + P5 + P3,
+		 * C21 = U3 - P4 and C22 = U3 + P5.
+		 */
+		@SuppressWarnings("unchecked")
+		private Object[][] combineQuadrants(Object[][] p1, Object[][] p2, Object[][] p3, Object[][] p4, Object[][] p5, Object[][] p6, Object[][] p7) {
+			int halfRows = p1.length;
+			int halfColumns = p1[0].length;
+			Object[][] result = new Object[halfRows * 2][halfColumns * 2];
+
+			for (var rowIterator = 0; rowIterator < halfRows; rowIterator++) {
+				Object[] upperRow = result[rowIterator];
+				Object[] lowerRow = result[rowIterator + halfRows];
+
+				for (var colIterator = 0; colIterator < halfColumns; colIterator++) {
+					T product1 = (T) p1[rowIterator][colIterator];
+					T product5 = (T) p5[rowIterator][colIterator];
+					T u2 = add(product1, p6[rowIterator][colIterator]);
+					T u3 = add(u2, p7[rowIterator][colIterator]);
+
+					upperRow[colIterator] = add(product1, p2[rowIterator][colIterator]);
+					upperRow[colIterator + halfColumns] = add(add(u2, product5), p3[rowIterator][colIterator]);
+					lowerRow[colIterator] = subtract(u3, p4[rowIterator][colIterator]);
+					lowerRow[colIterator + halfColumns] = add(u3, product5);
+				}
+			}
+			return result;
+		}
+
+		/**
+		 * Packs block2 straight from its array, and reads block1 through a view of its rows, so neither block is
+		 * copied before the kernel copies it.
+		 */
+		private Object[][] multiplyClassically() {
+			BlockedDotKernel<T> dotKernel = BlockedDotKernel.packing(block2.rows(), block2.columns(), (row, column) -> element(block2, row, column), zeroVal, multiplyFunction, addFunction);
+			Object[][] result = dotKernel.newResult(block1.rows(), block2.columns());
+			dotKernel.multiplyInto(toView(block1), 0, block1.rows(), 0, block2.columns(), 0, block1.columns(), result, 0, 0);
+			return result;
+		}
+
+		private MatrixView<T> toView(Block block) {
+			List<List<T>> matrixLists = new ArrayList<>(block.rows());
+			for (var rowIterator = 0; rowIterator < block.rows(); rowIterator++) {
+				matrixLists.add(castRow(block.data()[block.rowOffset() + rowIterator]));
+			}
+			return new MatrixView<>(Matrix.wrapRows(matrixLists)).subView(0, block.colOffset(), block.rows(), block.columns());
+		}
+
+		@SuppressWarnings("unchecked")
+		private T element(Block block, int row, int column) {
+			return (T) block.get(row, column);
+		}
+
+		private static Block[] newBlocks(int count, int rows, int columns) {
+			Block[] blocks = new Block[count];
+			for (var i = 0; i < count; i++) {
+				blocks[i] = new Block(new Object[rows][columns], 0, 0, rows, columns);
+			}
+			return blocks;
+		}
+
+		@SuppressWarnings("unchecked")
+		private T add(Object value1, Object value2) {
+			return addFunction.apply((T) value1, (T) value2);
+		}
+
+		@SuppressWarnings("unchecked")
+		private T subtract(Object value1, Object value2) {
+			return subtractFunction.apply((T) value1, (T) value2);
+		}
+	}
+}
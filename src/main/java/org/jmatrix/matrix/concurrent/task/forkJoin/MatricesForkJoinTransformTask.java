@@ -0,0 +1,99 @@
+package org.jmatrix.matrix.concurrent.task.forkJoin;
+
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
+import org.jmatrix.matrix.matrix.calculator.MatrixCalculator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.UnaryOperator;
+
+/**
+ * The class {@code MatricesForkJoinTransformTask} applies a function to each element of a matrix using the Fork/Join
+ * framework, the same way as {@link MatricesForkJoinCombineTask}: the rows, or the columns of a single row, are split
+ * in half until a task has fewer computations than the threshold, where a computation is one application of the
+ * function, and each task writes its part directly into a result that is allocated once.
+ * <p>
+ * With adaptive splitting, a task also stops splitting when its worker already has a surplus of queued tasks, see
+ * {@link AdaptiveForkJoinThreshold}.
+ *
+ * @param <T> the type of the elements in the matrix.
+ */
+public class MatricesForkJoinTransformTask<T> extends RecursiveTask<Matrix<T>> {
+
+	private final MatrixView<T> view;
+	private final UnaryOperator<T> function;
+	private final int totalComputationsPerTask;
+	private final boolean adaptiveSplitting;
+
+	public MatricesForkJoinTransformTask(Matrix<T> matrix, UnaryOperator<T> function, int totalComputationsPerTask) {
+		this(matrix, function, totalComputationsPerTask, false);
+	}
+
+	public MatricesForkJoinTransformTask(Matrix<T> matrix, UnaryOperator<T> function, int totalComputationsPerTask, boolean adaptiveSplitting) {
+		this.view = new MatrixView<>(matrix);
+		this.function = function;
+		this.totalComputationsPerTask = totalComputationsPerTask;
+		this.adaptiveSplitting = adaptiveSplitting;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Matrix<T> compute() {
+		List<List<T>> resultRows = new ArrayList<>(view.getRows());
+		for (var rowIterator = 0; rowIterator < view.getRows(); rowIterator++) {
+			resultRows.add(new ArrayList<>(Collections.nCopies(view.getColumns(), null)));
+		}
+		Matrix<T> result = Matrix.wrapRows(resultRows);
+
+		new TransformPartTask(view, new MatrixView<>(result)).compute();
+		return result;
+	}
+
+	/**
+	 * Transforms a view into the matching part of the result, splitting the rows in half, or the columns if there is a
+	 * single row, until the number of computations is below the threshold.
+	 */
+	private class TransformPartTask extends RecursiveAction {
+
+		private final MatrixView<T> view;
+		private final MatrixView<T> resultView;
+
+		TransformPartTask(MatrixView<T> view, MatrixView<T> resultView) {
+			this.view = view;
+			this.resultView = resultView;
+		}
+
+		@Override
+		protected void compute() {
+			long totalComputations = AdaptiveForkJoinThreshold.combineComputations(view.getRows(), view.getColumns());
+
+			if (totalComputations < totalComputationsPerTask || (view.getRows() < 2 && view.getColumns() < 2)
+					|| (adaptiveSplitting && AdaptiveForkJoinThreshold.hasSurplusQueuedTasks())) {
+				MatrixCalculator.transformInto(view, function, resultView);
+				return;
+			}
+
+			TransformPartTask leftTask;
+			TransformPartTask rightTask;
+
+			if (view.getRows() >= 2) {
+				int splitIndex = view.getRows() / 2;
+				leftTask = new TransformPartTask(view.rowRange(0, splitIndex), resultView.rowRange(0, splitIndex));
+				rightTask = new TransformPartTask(view.rowRange(splitIndex, view.getRows()), resultView.rowRange(splitIndex, resultView.getRows()));
+			} else {
+				int splitIndex = view.getColumns() / 2;
+				int rightColumns = view.getColumns() - splitIndex;
+				leftTask = new TransformPartTask(view.subView(0, 0, 1, splitIndex), resultView.subView(0, 0, 1, splitIndex));
+				rightTask = new TransformPartTask(view.subView(0, splitIndex, 1, rightColumns), resultView.subView(0, splitIndex, 1, rightColumns));
+			}
+
+			leftTask.fork();
+			rightTask.compute();
+			leftTask.join();
+		}
+	}
+}
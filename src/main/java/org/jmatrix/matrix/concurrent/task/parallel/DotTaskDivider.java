@@ -0,0 +1,151 @@
+package org.jmatrix.matrix.concurrent.task.parallel;
+
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
+import org.jmatrix.matrix.matrix.calculator.BlockedDotKernel;
+import org.jmatrix.matrix.matrix.calculator.DotEpilogue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The class {@code DotTaskDivider} divides a dot product into at least nTasks tasks where the shape allows it.
+ * <p>
+ * Splitting only on the rows of matrix1, like {@link MatricesTaskDivider}, leaves a 1 x n by n x n product on a single
+ * thread. Instead, the result is split into 2D tiles: first into row tiles, then, if there are fewer rows than tasks,
+ * each row tile into column tiles. If there still aren't enough tiles and splitInner is set, each tile's inner
+ * dimension is split too. The products of each inner split are accumulated into a separate partial result, and the
+ * last split of a tile to finish accumulates the partial results into the result in inner index order.
+ * <p>
+ * Tiles are written directly into a shared result, so no sorting or merging of sub-results is needed. There can be more
+ * tiles than nTasks, but at most nTasks of them are multiplied at the same time.
+ */
+public class DotTaskDivider {
+
+	final int rows;
+	final int inner;
+	final int columns;
+	final int rowTiles;
+	final int columnTiles;
+	final int innerSplits;
+	final int maxConcurrentTasks;
+
+	/**
+	 * @param splitInner whether the inner dimension can be split. This changes how the products of each element are
+	 *                   grouped, so should only be set for accumulators that are associative, see
+	 *                   {@link BlockedDotKernel#accumulateInto}.
+	 */
+	public DotTaskDivider(int rows, int inner, int columns, int nTasks, boolean splitInner) {
+		this.rows = rows;
+		this.inner = inner;
+		this.columns = columns;
+		this.rowTiles = Math.min(rows, nTasks);
+		this.columnTiles = Math.min(columns, Math.ceilDiv(nTasks, rowTiles));
+		this.innerSplits = splitInner ? Math.min(inner, Math.ceilDiv(nTasks, rowTiles * columnTiles)) : 1;
+		this.maxConcurrentTasks = nTasks;
+	}
+
+	/**
+	 * Runs the tasks for matrix1 multiplied by the kernel's matrix2 on the executor, and waits for them to finish.
+	 */
+	public <T> Matrix<T> multiply(Matrix<T> matrix1, BlockedDotKernel<T> dotKernel, ExecutorService executorService) {
+		return multiply(matrix1, dotKernel, null, executorService);
+	}
+
+	/**
+	 * Same as {@link #multiply(Matrix, BlockedDotKernel, ExecutorService)}, applying the epilogue to each tile once it's
+	 * complete, if it isn't null.
+	 */
+	public <T> Matrix<T> multiply(Matrix<T> matrix1, BlockedDotKernel<T> dotKernel, DotEpilogue<T> epilogue, ExecutorService executorService) {
+		return multiply(new MatrixView<>(matrix1), dotKernel, epilogue, executorService);
+	}
+
+	/**
+	 * Same as {@link #multiply(Matrix, BlockedDotKernel, DotEpilogue, ExecutorService)}, for a view of matrix1, e.g. a
+	 * {@linkplain MatrixView#transpose() transposed} view.
+	 */
+	public <T> Matrix<T> multiply(MatrixView<T> matrix1View, BlockedDotKernel<T> dotKernel, DotEpilogue<T> epilogue, ExecutorService executorService) {
+		Object[][] result = dotKernel.newResult(rows, columns);
+		List<Callable<Void>> callables = new ArrayList<>(getTasks());
+
+		for (var rowTile = 0; rowTile < rowTiles; rowTile++) {
+			for (var columnTile = 0; columnTile < columnTiles; columnTile++) {
+				Object[][][] partials = new Object[innerSplits][][];
+				AtomicInteger remainingSplits = new AtomicInteger(innerSplits);
+
+				for (var innerSplit = 0; innerSplit < innerSplits; innerSplit++) {
+					callables.add(new ParallelMatrixDotTileTask<>(
+							matrix1View,
+							dotKernel,
+							result,
+							start(rowTile, rows, rowTiles), start(rowTile + 1, rows, rowTiles),
+							start(columnTile, columns, columnTiles), start(columnTile + 1, columns, columnTiles),
+							start(innerSplit, inner, innerSplits), start(innerSplit + 1, inner, innerSplits),
+							partials,
+							innerSplit,
+							remainingSplits,
+							epilogue));
+				}
+			}
+		}
+
+		MatricesTaskDivider.invokeAll(callables, executorService, maxConcurrentTasks);
+		return dotKernel.toMatrix(result);
+	}
+
+	/**
+	 * Runs a task per tile of the result, setting each tile in out, see
+	 * {@link BlockedDotKernel#multiplyInto(MatrixView, int, int, int, int, MatrixView)}. The inner dimension must not be
+	 * split, since there's no partial result to accumulate the splits into.
+	 */
+	public <T> void multiplyInto(Matrix<T> matrix1, BlockedDotKernel<T> dotKernel, Matrix<T> out, ExecutorService executorService) {
+		if (innerSplits != 1) {
+			throw new IllegalStateException("Cannot split the inner dimension of a dot product into an output matrix");
+		}
+
+		MatrixView<T> matrix1View = new MatrixView<>(matrix1);
+		MatrixView<T> outView = new MatrixView<>(out);
+		List<Callable<Void>> callables = new ArrayList<>(getTasks());
+
+		for (var rowTile = 0; rowTile < rowTiles; rowTile++) {
+			for (var columnTile = 0; columnTile < columnTiles; columnTile++) {
+				int rowStart = start(rowTile, rows, rowTiles);
+				int rowEnd = start(rowTile + 1, rows, rowTiles);
+				int colStart = start(columnTile, columns, columnTiles);
+				int colEnd = start(columnTile + 1, columns, columnTiles);
+				callables.add(() -> {
+					dotKernel.multiplyInto(matrix1View, rowStart, rowEnd, colStart, colEnd, outView);
+					return null;
+				});
+			}
+		}
+
+		MatricesTaskDivider.invokeAll(callables, executorService, maxConcurrentTasks);
+	}
+
+	/**
+	 * @return the first index of the given part when length is split into parts of near equal size
+	 */
+	private static int start(int part, int length, int parts) {
+		return (int) ((long) part * length / parts);
+	}
+
+	public int getTasks() {
+		return rowTiles * columnTiles * innerSplits;
+	}
+
+	public int getRowTiles() {
+		return rowTiles;
+	}
+
+	public int getColumnTiles() {
+		return columnTiles;
+	}
+
+	public int getInnerSplits() {
+		return innerSplits;
+	}
+}
@@ -0,0 +1,70 @@
+package org.jmatrix.matrix.concurrent.task.parallel;
+
+import org.jmatrix.matrix.matrix.MatrixView;
+
+/**
+ * The class {@code ElementWiseTaskDivider} divides the elements of a rows x columns matrix into at least nTasks
+ * rectangular parts where the shape allows it, for element-wise operations such as combine and transform.
+ * <p>
+ * Splitting only on the rows, like {@link MatricesTaskDivider}, leaves a 1 x 5,000,000 vector on a single task, and a
+ * 3 x 1,000,000 matrix on three. Instead, like {@link DotTaskDivider}, the rows are split into row tiles first and, if
+ * there are fewer rows than tasks, each row tile is split into column tiles, so wide and short matrices are divided as
+ * evenly as tall ones. Each part is a {@link MatrixView}, so dividing a matrix doesn't copy anything.
+ */
+public class ElementWiseTaskDivider {
+
+	final int rows;
+	final int columns;
+	final int rowTiles;
+	final int columnTiles;
+
+	public ElementWiseTaskDivider(int rows, int columns, int nTasks) {
+		this.rows = rows;
+		this.columns = columns;
+		this.rowTiles = Math.max(1, Math.min(rows, nTasks));
+		this.columnTiles = Math.max(1, Math.min(columns, Math.ceilDiv(nTasks, rowTiles)));
+	}
+
+	/**
+	 * @return the part of view that the given task works on. view must have the dimensions the divider was created
+	 * for.
+	 */
+	public <T> MatrixView<T> part(MatrixView<T> view, int task) {
+		return view.subView(rowStart(task), colStart(task), rowEnd(task) - rowStart(task), colEnd(task) - colStart(task));
+	}
+
+	public int rowStart(int task) {
+		return start(task / columnTiles, rows, rowTiles);
+	}
+
+	public int rowEnd(int task) {
+		return start(task / columnTiles + 1, rows, rowTiles);
+	}
+
+	public int colStart(int task) {
+		return start(task % columnTiles, columns, columnTiles);
+	}
+
+	public int colEnd(int task) {
+		return start(task % columnTiles + 1, columns, columnTiles);
+	}
+
+	/**
+	 * @return the first index of the given part when length is split into parts of near equal size
+	 */
+	private static int start(int part, int length, int parts) {
+		return (int) ((long) part * length / parts);
+	}
+
+	public int getTasks() {
+		return rowTiles * columnTiles;
+	}
+
+	public int getRowTiles() {
+		return rowTiles;
+	}
+
+	public int getColumnTiles() {
+		return columnTiles;
+	}
+}
@@ -1,16 +1,20 @@
 package org.jmatrix.matrix.concurrent.task.parallel;
 
-import org.jmatrix.matrix.concurrent.task.parallel.dto.MatrixSubtaskItem;
-import org.jmatrix.matrix.exception.EmptyMatrixException;
-import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
-import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.concurrent.ComputeContext;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
-public class MatricesTaskDivider<T> {
+/**
+ * Divides the rows of a matrix between nThreads tasks. Each task writes its rows directly into its slice of a result
+ * that is allocated once up front, so there is nothing to sort or merge once the tasks have finished.
+ */
+public class MatricesTaskDivider {
 
 	final int tasks;
 	final int step;
@@ -24,24 +28,86 @@ public class MatricesTaskDivider<T> {
 		}
 	}
 
-	public Matrix<T> combineMatricesFromTasks(List<Callable<MatrixSubtaskItem<T>>> callables) throws ListsIncompatibleForMatrixException, EmptyMatrixException {
-		List<Matrix<T>> orderedMatrixSubtaskItems;
-		try (var executorService = Executors.newFixedThreadPool(tasks)) {
-			var futures = executorService.invokeAll(callables);
+	/**
+	 * Runs the tasks on the given executor and waits for them all to finish. The executor is not shut down, so it can
+	 * be reused for the next calculation.
+	 */
+	public static void invokeAll(List<? extends Callable<Void>> callables, ExecutorService executorService) {
+		invokeAll(callables, executorService, callables.size());
+	}
+
+	/**
+	 * Same as {@link #invokeAll(List, ExecutorService)}, running at most maxConcurrentTasks of the tasks at the same
+	 * time, however many threads the executor has. If the current thread is one of the executor's threads, the tasks
+	 * are run one after another on it instead, see {@link ComputeContext#isExecutorThread(ExecutorService)}.
+	 */
+	public static void invokeAll(List<? extends Callable<Void>> callables, ExecutorService executorService, int maxConcurrentTasks) {
+		if (maxConcurrentTasks < 1) {
+			throw new IllegalArgumentException("maxConcurrentTasks must be positive, but was " + maxConcurrentTasks);
+		}
+		if (ComputeContext.isExecutorThread(executorService)) {
+			runAll(callables);
+			return;
+		}
 
-			orderedMatrixSubtaskItems = futures.stream().parallel().map(future -> {
-				try {
-					return future.get();
-				} catch (InterruptedException | ExecutionException e) {
-					throw new RuntimeException(e);
+		List<? extends Callable<Void>> runners = callables;
+		if (maxConcurrentTasks < callables.size()) {
+			// Each runner takes the next task until there are none left, and the first failure stops the others
+			// taking more
+			AtomicInteger nextTask = new AtomicInteger();
+			Callable<Void> runner = () -> {
+				for (int task = nextTask.getAndIncrement(); task < callables.size(); task = nextTask.getAndIncrement()) {
+					try {
+						callables.get(task).call();
+					} catch (Exception e) {
+						nextTask.set(callables.size());
+						throw e;
+					}
 				}
-			}).sorted().map(MatrixSubtaskItem::matrix).toList();
+				return null;
+			};
+			runners = Collections.nCopies(maxConcurrentTasks, runner);
+		}
 
+		try {
+			for (Future<Void> future : executorService.invokeAll(runners)) {
+				future.get();
+			}
 		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	private static void runAll(List<? extends Callable<Void>> callables) {
+		for (var callable : callables) {
+			try {
+				callable.call();
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
 		}
+	}
+
+	/**
+	 * @return the first row of the given task
+	 */
+	public int fromRow(int task) {
+		return task * step;
+	}
 
-		return mergeMatrices(orderedMatrixSubtaskItems);
+	/**
+	 * @return the row after the last row of the given task. The last task takes any remaining rows.
+	 */
+	public int toRow(int task, int rows) {
+		return task == tasks - 1 ? rows : (task + 1) * step;
 	}
 
 	public int getTasks() {
@@ -52,12 +118,4 @@ public class MatricesTaskDivider<T> {
 		return step;
 	}
 
-	private Matrix<T> mergeMatrices(List<Matrix<T>> orderedMatrixSubtaskItems) {
-		Matrix<T> resultMatrix = orderedMatrixSubtaskItems.getFirst();
-		for (var i = 1; i < orderedMatrixSubtaskItems.size(); i++) {
-			resultMatrix.appendMatrix(orderedMatrixSubtaskItems.get(i));
-		}
-		return resultMatrix;
-	}
-
-}
\ No newline at end of file
+}
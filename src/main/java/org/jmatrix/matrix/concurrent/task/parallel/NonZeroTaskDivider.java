@@ -0,0 +1,77 @@
+package org.jmatrix.matrix.concurrent.task.parallel;
+
+import java.util.Arrays;
+
+/**
+ * The class {@code NonZeroTaskDivider} divides the rows of a sparse calculation between nTasks tasks so that each task
+ * gets about the same amount of work, rather than the same number of rows like {@link MatricesTaskDivider}.
+ * <p>
+ * In a sparse matrix the work per row follows its number of stored elements, which can be very uneven, e.g. a few
+ * frequent words in a bag-of-words matrix. The work is given as a cumulative sum over the rows, so the rows before each
+ * split point are found with a binary search, and each split is placed on whichever row boundary is closest to an equal
+ * share of the total. A task never gets an empty range of rows, so there can be fewer tasks than requested when a
+ * single row holds more than a share of the work.
+ */
+public class NonZeroTaskDivider {
+
+	final int[] rowStarts;
+
+	/**
+	 * @param cumulativeWork for each row r, the work of rows [0, r), followed by the total, so it has one more entry
+	 *                       than there are rows. For a CSR matrix, its row pointers plus the row number gives each row a
+	 *                       work of its stored elements, plus one for writing the row.
+	 * @param nTasks         the number of tasks to aim for
+	 */
+	public NonZeroTaskDivider(long[] cumulativeWork, int nTasks) {
+		int rows = cumulativeWork.length - 1;
+		int parts = Math.max(1, Math.min(rows, nTasks));
+		long total = cumulativeWork[rows];
+
+		int[] starts = new int[parts + 1];
+		var tasks = 0;
+		for (var part = 1; part < parts; part++) {
+			// total * part / parts, without overflowing
+			long target = total / parts * part + total % parts * part / parts;
+			int row = closestRow(cumulativeWork, target, starts[tasks]);
+			if (row > starts[tasks] && row < rows) {
+				starts[++tasks] = row;
+			}
+		}
+		starts[++tasks] = rows;
+
+		this.rowStarts = Arrays.copyOf(starts, tasks + 1);
+	}
+
+	/**
+	 * @return the row boundary in [fromRow, rows] whose cumulative work is closest to target
+	 */
+	private static int closestRow(long[] cumulativeWork, long target, int fromRow) {
+		int low = fromRow;
+		int high = cumulativeWork.length - 1;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (cumulativeWork[middle] < target) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		// low is the first boundary at or past target, the one before it may be closer
+		if (low > fromRow && target - cumulativeWork[low - 1] < cumulativeWork[low] - target) {
+			return low - 1;
+		}
+		return low;
+	}
+
+	public int rowStart(int task) {
+		return rowStarts[task];
+	}
+
+	public int rowEnd(int task) {
+		return rowStarts[task + 1];
+	}
+
+	public int getTasks() {
+		return rowStarts.length - 1;
+	}
+}
@@ -1,28 +1,36 @@
 package org.jmatrix.matrix.concurrent.task.parallel;
 
-import org.jmatrix.matrix.concurrent.task.parallel.dto.MatrixSubtaskItem;
-import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
 import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
 
 import java.util.concurrent.Callable;
 import java.util.function.BiFunction;
 
-public class ParallelMatrixCombineTask<T> implements Callable<MatrixSubtaskItem<T>> {
+/**
+ * Combines the elements of two views and sets each combined element in the matching position of a view of the
+ * shared result. The tasks of a parallel combine each get a different tile of the result, so they never write to
+ * the same element.
+ */
+public class ParallelMatrixCombineTask<T> implements Callable<Void> {
 
-	private final Matrix<T> matrix1;
-	private final Matrix<T> matrix2;
+	private final MatrixView<T> view1;
+	private final MatrixView<T> view2;
 	private final BiFunction<T, T, T> combineFunction;
-	private final int taskNo;
+	private final MatrixView<T> resultView;
 
-	public ParallelMatrixCombineTask(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction, int taskNo) {
-		this.matrix1 = matrix1;
-		this.matrix2 = matrix2;
+	/**
+	 * @param resultView the part of the result to write to, with the same dimensions as view1 and view2
+	 */
+	public ParallelMatrixCombineTask(MatrixView<T> view1, MatrixView<T> view2, BiFunction<T, T, T> combineFunction, MatrixView<T> resultView) {
+		this.view1 = view1;
+		this.view2 = view2;
 		this.combineFunction = combineFunction;
-		this.taskNo = taskNo;
+		this.resultView = resultView;
 	}
 
 	@Override
-	public MatrixSubtaskItem<T> call() {
-		return new MatrixSubtaskItem<>(MatricesCalculator.combine(matrix1, matrix2, combineFunction), taskNo);
+	public Void call() {
+		MatricesCalculator.combineInto(view1, view2, combineFunction, resultView);
+		return null;
 	}
 }
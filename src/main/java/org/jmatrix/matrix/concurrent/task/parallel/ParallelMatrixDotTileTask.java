@@ -0,0 +1,77 @@
+package org.jmatrix.matrix.concurrent.task.parallel;
+
+import org.jmatrix.matrix.matrix.MatrixView;
+import org.jmatrix.matrix.matrix.calculator.BlockedDotKernel;
+import org.jmatrix.matrix.matrix.calculator.DotEpilogue;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Calculates one tile of a dot product, over one split of the inner dimension, for a {@link DotTaskDivider}.
+ * <p>
+ * The first inner split accumulates straight into the result. The others accumulate into their own partial result,
+ * and whichever split of the tile finishes last accumulates the partial results into the result.
+ * <p>
+ * If there's a {@link DotEpilogue}, such as a bias and activation, it's applied to the tile once it's complete: by the kernel if the inner
+ * dimension isn't split, otherwise after the partial results have been accumulated.
+ */
+class ParallelMatrixDotTileTask<T> implements Callable<Void> {
+
+	private final MatrixView<T> matrix1;
+	private final BlockedDotKernel<T> dotKernel;
+	private final Object[][] result;
+	private final int rowStart;
+	private final int rowEnd;
+	private final int colStart;
+	private final int colEnd;
+	private final int innerStart;
+	private final int innerEnd;
+	private final Object[][][] partials;
+	private final int innerSplit;
+	private final AtomicInteger remainingSplits;
+	private final DotEpilogue<T> epilogue;
+
+	ParallelMatrixDotTileTask(MatrixView<T> matrix1, BlockedDotKernel<T> dotKernel, Object[][] result, int rowStart, int rowEnd, int colStart, int colEnd, int innerStart, int innerEnd, Object[][][] partials, int innerSplit, AtomicInteger remainingSplits, DotEpilogue<T> epilogue) {
+		this.matrix1 = matrix1;
+		this.dotKernel = dotKernel;
+		this.result = result;
+		this.rowStart = rowStart;
+		this.rowEnd = rowEnd;
+		this.colStart = colStart;
+		this.colEnd = colEnd;
+		this.innerStart = innerStart;
+		this.innerEnd = innerEnd;
+		this.partials = partials;
+		this.innerSplit = innerSplit;
+		this.remainingSplits = remainingSplits;
+		this.epilogue = epilogue;
+	}
+
+	@Override
+	public Void call() {
+		if (partials.length == 1) {
+			dotKernel.multiplyInto(matrix1, rowStart, rowEnd, colStart, colEnd, innerStart, innerEnd, result, 0, 0, epilogue);
+			return null;
+		}
+
+		if (innerSplit == 0) {
+			dotKernel.multiplyInto(matrix1, rowStart, rowEnd, colStart, colEnd, innerStart, innerEnd, result, 0, 0);
+		} else {
+			Object[][] partial = dotKernel.newResult(rowEnd - rowStart, colEnd - colStart);
+			dotKernel.multiplyInto(matrix1, rowStart, rowEnd, colStart, colEnd, innerStart, innerEnd, partial, rowStart, colStart);
+			partials[innerSplit] = partial;
+		}
+
+		// The decrement publishes this split's writes to the split that reduces the tile
+		if (remainingSplits.decrementAndGet() == 0) {
+			for (var split = 1; split < partials.length; split++) {
+				dotKernel.accumulateInto(result, 0, 0, partials[split], rowStart, colStart, rowStart, rowEnd, colStart, colEnd);
+			}
+			if (epilogue != null) {
+				epilogue.applyTo(result, 0, 0, rowStart, rowEnd, colStart, colEnd);
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,46 @@
+package org.jmatrix.matrix.concurrent.task.parallel;
+
+import org.jmatrix.matrix.matrix.MatrixView;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Tests each element of a view against a predicate. The tasks of a parallel check share a flag, which the first task
+ * to find a failing element sets, and every task checks it before each row, and every {@link #CHECK_INTERVAL}
+ * elements of a wide row, so the whole check stops soon after the first failure instead of testing the rest of the
+ * matrix.
+ */
+public class ParallelMatrixPredicateTask<T> implements Callable<Void> {
+
+	public static final int CHECK_INTERVAL = 1024;
+
+	private final MatrixView<T> view;
+	private final Predicate<T> predicate;
+	private final AtomicBoolean failed;
+
+	public ParallelMatrixPredicateTask(MatrixView<T> view, Predicate<T> predicate, AtomicBoolean failed) {
+		this.view = view;
+		this.predicate = predicate;
+		this.failed = failed;
+	}
+
+	@Override
+	public Void call() {
+		for (var rowIterator = 0; rowIterator < view.getRows() && !failed.get(); rowIterator++) {
+			List<T> row = view.getRow(rowIterator);
+			for (var colIterator = 0; colIterator < view.getColumns(); colIterator++) {
+				if (colIterator % CHECK_INTERVAL == CHECK_INTERVAL - 1 && failed.get()) {
+					return null;
+				}
+				if (!predicate.test(row.get(colIterator))) {
+					failed.set(true);
+					return null;
+				}
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,34 @@
+package org.jmatrix.matrix.concurrent.task.parallel;
+
+import org.jmatrix.matrix.matrix.MatrixView;
+import org.jmatrix.matrix.matrix.calculator.MatrixCalculator;
+
+import java.util.concurrent.Callable;
+import java.util.function.UnaryOperator;
+
+/**
+ * Applies a function to the elements of a view and sets each result in the matching position of a view of the shared
+ * result. The tasks of a parallel transform each get a different tile of the result, so they never write to the same
+ * element.
+ */
+public class ParallelMatrixTransformTask<T> implements Callable<Void> {
+
+	private final MatrixView<T> view;
+	private final UnaryOperator<T> function;
+	private final MatrixView<T> resultView;
+
+	/**
+	 * @param resultView the part of the result to write to, with the same dimensions as view
+	 */
+	public ParallelMatrixTransformTask(MatrixView<T> view, UnaryOperator<T> function, MatrixView<T> resultView) {
+		this.view = view;
+		this.function = function;
+		this.resultView = resultView;
+	}
+
+	@Override
+	public Void call() {
+		MatrixCalculator.transformInto(view, function, resultView);
+		return null;
+	}
+}
@@ -0,0 +1,32 @@
+package org.jmatrix.matrix.concurrent.task.parallel;
+
+import org.jmatrix.matrix.matrix.MatrixView;
+import org.jmatrix.matrix.matrix.calculator.MatrixCalculator;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Transposes a tile of a view into the matching tile of a view of the shared result, see
+ * {@link MatrixCalculator#transposeInto(MatrixView, MatrixView)}. The tasks of a parallel transpose each get a
+ * different tile, so they never write to the same element of the result.
+ */
+public class ParallelMatrixTransposeTask<T> implements Callable<Void> {
+
+	private final MatrixView<T> view;
+	private final MatrixView<T> resultView;
+
+	/**
+	 * @param resultView the part of the result to write to, with as many rows as view has columns, and as many columns
+	 *                   as view has rows
+	 */
+	public ParallelMatrixTransposeTask(MatrixView<T> view, MatrixView<T> resultView) {
+		this.view = view;
+		this.resultView = resultView;
+	}
+
+	@Override
+	public Void call() {
+		MatrixCalculator.transposeInto(view, resultView);
+		return null;
+	}
+}
@@ -0,0 +1,8 @@
+package org.jmatrix.matrix.exception;
+
+public class MatrixFileFormatException extends RuntimeException {
+
+	public MatrixFileFormatException(String message) {
+		super(message);
+	}
+}
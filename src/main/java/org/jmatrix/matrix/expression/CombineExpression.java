@@ -0,0 +1,35 @@
+package org.jmatrix.matrix.expression;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+final class CombineExpression<T> extends MatrixExpression<T> {
+
+	private final MatrixExpression<T> left;
+	private final MatrixExpression<T> right;
+	private final BiFunction<T, T, T> combineFunction;
+
+	CombineExpression(MatrixExpression<T> left, MatrixExpression<T> right, BiFunction<T, T, T> combineFunction) {
+		super(left.getRows(), left.getColumns());
+		this.left = left;
+		this.right = right;
+		this.combineFunction = combineFunction;
+	}
+
+	@Override
+	List<MatrixExpression<T>> getOperands() {
+		return List.of(left, right);
+	}
+
+	MatrixExpression<T> getLeft() {
+		return left;
+	}
+
+	MatrixExpression<T> getRight() {
+		return right;
+	}
+
+	BiFunction<T, T, T> getCombineFunction() {
+		return combineFunction;
+	}
+}
@@ -0,0 +1,47 @@
+package org.jmatrix.matrix.expression;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+final class DotExpression<T> extends MatrixExpression<T> {
+
+	private final MatrixExpression<T> left;
+	private final MatrixExpression<T> right;
+	private final T zeroVal;
+	private final BiFunction<T, T, T> multiplyFunction;
+	private final BiFunction<T, T, T> accumulatorFunction;
+
+	DotExpression(MatrixExpression<T> left, MatrixExpression<T> right, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) {
+		super(left.getRows(), right.getColumns());
+		this.left = left;
+		this.right = right;
+		this.zeroVal = zeroVal;
+		this.multiplyFunction = multiplyFunction;
+		this.accumulatorFunction = accumulatorFunction;
+	}
+
+	@Override
+	List<MatrixExpression<T>> getOperands() {
+		return List.of(left, right);
+	}
+
+	MatrixExpression<T> getLeft() {
+		return left;
+	}
+
+	MatrixExpression<T> getRight() {
+		return right;
+	}
+
+	T getZeroVal() {
+		return zeroVal;
+	}
+
+	BiFunction<T, T, T> getMultiplyFunction() {
+		return multiplyFunction;
+	}
+
+	BiFunction<T, T, T> getAccumulatorFunction() {
+		return accumulatorFunction;
+	}
+}
@@ -0,0 +1,14 @@
+package org.jmatrix.matrix.expression;
+
+/**
+ * Calculates the element in a row and column of a fused expression straight from its operands.
+ */
+@FunctionalInterface
+interface ElementFunction<T> {
+
+	/**
+	 * @param dotValue the complete dot product in the same row and column, if the function is applied to the tiles of a
+	 *                 dot product, otherwise null
+	 */
+	T apply(int row, int column, T dotValue);
+}
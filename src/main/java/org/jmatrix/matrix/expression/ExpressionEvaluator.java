@@ -0,0 +1,217 @@
+package org.jmatrix.matrix.expression;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.concurrent.task.parallel.DotTaskDivider;
+import org.jmatrix.matrix.concurrent.task.parallel.ElementWiseTaskDivider;
+import org.jmatrix.matrix.concurrent.task.parallel.MatricesTaskDivider;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
+import org.jmatrix.matrix.matrix.calculator.BlockedDotKernel;
+import org.jmatrix.matrix.matrix.calculator.DotEpilogue;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Evaluates one expression graph, see {@link MatrixExpression}.
+ * <p>
+ * Every dot product, and every expression that is an operand of more than one node, is materialized once into a
+ * matrix. The combine, transform and transpose nodes between them are compiled into a single {@link ElementFunction},
+ * which is either applied to the tiles of the dot product underneath them, or calculated in one pass split by rows and
+ * columns, see {@link ElementWiseTaskDivider}.
+ */
+class ExpressionEvaluator<T> {
+
+	private final ComputeContext computeContext;
+	private final Map<MatrixExpression<T>, Integer> references = new IdentityHashMap<>();
+	private final Map<MatrixExpression<T>, Matrix<T>> materialized = new IdentityHashMap<>();
+
+	ExpressionEvaluator(ComputeContext computeContext) {
+		this.computeContext = computeContext;
+	}
+
+	Matrix<T> evaluate(MatrixExpression<T> expression) {
+		if (expression instanceof SourceExpression<T> source) {
+			return new Matrix<>(source.getMatrix().getMatrixLists());
+		}
+
+		countReferences(expression);
+		return materialize(expression);
+	}
+
+	private void countReferences(MatrixExpression<T> expression) {
+		for (var operand : expression.getOperands()) {
+			if (references.merge(operand, 1, Integer::sum) == 1) {
+				countReferences(operand);
+			}
+		}
+	}
+
+	private Matrix<T> materialize(MatrixExpression<T> expression) {
+		if (expression instanceof SourceExpression<T> source) {
+			return source.getMatrix();
+		}
+
+		Matrix<T> result = materialized.get(expression);
+		if (result != null) {
+			return result;
+		}
+
+		if (expression instanceof DotExpression<T> dot) {
+			result = dot(dot, null);
+		} else {
+			DotExpression<T> epilogueDot = findEpilogueDot(expression);
+			ElementFunction<T> elementFunction = compile(expression, false, epilogueDot);
+			result = epilogueDot == null
+					? elementWise(expression.getRows(), expression.getColumns(), elementFunction)
+					: dot(epilogueDot, elementFunction);
+		}
+
+		materialized.put(expression, result);
+		return result;
+	}
+
+	/**
+	 * @return a dot product that the combine and transform nodes of expression can be applied to as its epilogue, or
+	 * null if there isn't one. The dot product can't be under a transpose, because the epilogue sets each element in the
+	 * same row and column as the dot product, and it can't be used by any other node.
+	 */
+	private DotExpression<T> findEpilogueDot(MatrixExpression<T> expression) {
+		if (!(expression instanceof CombineExpression<T>) && !(expression instanceof TransformExpression<T>)) {
+			return null;
+		}
+
+		for (var operand : expression.getOperands()) {
+			if (!isFused(operand)) {
+				continue;
+			}
+			if (operand instanceof DotExpression<T> dot) {
+				return dot;
+			}
+			DotExpression<T> dot = findEpilogueDot(operand);
+			if (dot != null) {
+				return dot;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return whether expression is calculated as part of the node that uses it, rather than read from a matrix
+	 */
+	private boolean isFused(MatrixExpression<T> expression) {
+		return !(expression instanceof SourceExpression<T>)
+				&& references.getOrDefault(expression, 0) <= 1
+				&& !materialized.containsKey(expression);
+	}
+
+	private ElementFunction<T> compile(MatrixExpression<T> expression, boolean transposed, DotExpression<T> epilogueDot) {
+		if (expression instanceof TransformExpression<T> transform) {
+			ElementFunction<T> operand = compileOperand(transform.getOperand(), transposed, epilogueDot);
+			UnaryOperator<T> function = transform.getFunction();
+			return (row, column, dotValue) -> function.apply(operand.apply(row, column, dotValue));
+		}
+		if (expression instanceof CombineExpression<T> combine) {
+			ElementFunction<T> left = compileOperand(combine.getLeft(), transposed, epilogueDot);
+			ElementFunction<T> right = compileOperand(combine.getRight(), transposed, epilogueDot);
+			BiFunction<T, T, T> combineFunction = combine.getCombineFunction();
+			return (row, column, dotValue) -> combineFunction.apply(left.apply(row, column, dotValue), right.apply(row, column, dotValue));
+		}
+		if (expression instanceof TransposeExpression<T> transpose) {
+			return compileOperand(transpose.getOperand(), !transposed, epilogueDot);
+		}
+		return read(materialize(expression), transposed);
+	}
+
+	private ElementFunction<T> compileOperand(MatrixExpression<T> operand, boolean transposed, DotExpression<T> epilogueDot) {
+		if (operand == epilogueDot) {
+			return (row, column, dotValue) -> dotValue;
+		}
+		if (isFused(operand) && !(operand instanceof DotExpression<T>)) {
+			return compile(operand, transposed, epilogueDot);
+		}
+		return read(materialize(operand), transposed);
+	}
+
+	private ElementFunction<T> read(Matrix<T> matrix, boolean transposed) {
+		List<List<T>> matrixLists = matrix.getMatrixLists();
+		return transposed
+				? (row, column, dotValue) -> matrixLists.get(column).get(row)
+				: (row, column, dotValue) -> matrixLists.get(row).get(column);
+	}
+
+	/**
+	 * Packs the right-hand operand straight from its compiled element function, so a transpose or element-wise nodes
+	 * over it don't create a matrix of their own. A transposed left-hand operand is read through a transposed view.
+	 */
+	@SuppressWarnings("unchecked")
+	private Matrix<T> dot(DotExpression<T> dot, ElementFunction<T> epilogueFunction) {
+		MatrixView<T> matrix1 = view(dot.getLeft());
+		ElementFunction<T> matrix2 = compileOperand(dot.getRight(), false, null);
+		int inner = dot.getLeft().getColumns();
+
+		BlockedDotKernel<T> dotKernel = BlockedDotKernel.packing(inner, dot.getColumns(), (row, column) -> matrix2.apply(row, column, null),
+				dot.getZeroVal(), dot.getMultiplyFunction(), dot.getAccumulatorFunction());
+
+		DotEpilogue<T> epilogue = null;
+		if (epilogueFunction != null) {
+			epilogue = (target, targetRowOffset, targetColOffset, rowStart, rowEnd, colStart, colEnd) -> {
+				for (var rowIterator = rowStart; rowIterator < rowEnd; rowIterator++) {
+					Object[] targetRow = target[rowIterator - targetRowOffset];
+					for (var colIterator = colStart; colIterator < colEnd; colIterator++) {
+						targetRow[colIterator - targetColOffset] = epilogueFunction.apply(rowIterator, colIterator, (T) targetRow[colIterator - targetColOffset]);
+					}
+				}
+			};
+		}
+
+		DotTaskDivider dotTaskDivider = new DotTaskDivider(dot.getRows(), inner, dot.getColumns(), computeContext.getParallelism(), false);
+		return dotTaskDivider.multiply(matrix1, dotKernel, epilogue, computeContext.getExecutorService());
+	}
+
+	/**
+	 * @return a view of expression for the left-hand operand of a dot product, which is a transposed view rather than a
+	 * copy if expression is a transpose
+	 */
+	private MatrixView<T> view(MatrixExpression<T> expression) {
+		if (expression instanceof TransposeExpression<T> transpose && !materialized.containsKey(transpose)) {
+			return view(transpose.getOperand()).transpose();
+		}
+		return new MatrixView<>(materialize(expression));
+	}
+
+	@SuppressWarnings("unchecked")
+	private Matrix<T> elementWise(int rows, int columns, ElementFunction<T> elementFunction) {
+		Object[][] result = new Object[rows][columns];
+		ElementWiseTaskDivider elementWiseTaskDivider = new ElementWiseTaskDivider(rows, columns, computeContext.getParallelism());
+		List<Callable<Void>> callables = new ArrayList<>(elementWiseTaskDivider.getTasks());
+
+		for (var i = 0; i < elementWiseTaskDivider.getTasks(); i++) {
+			int rowStart = elementWiseTaskDivider.rowStart(i);
+			int rowEnd = elementWiseTaskDivider.rowEnd(i);
+			int colStart = elementWiseTaskDivider.colStart(i);
+			int colEnd = elementWiseTaskDivider.colEnd(i);
+			callables.add(() -> {
+				for (var rowIterator = rowStart; rowIterator < rowEnd; rowIterator++) {
+					Object[] resultRow = result[rowIterator];
+					for (var colIterator = colStart; colIterator < colEnd; colIterator++) {
+						resultRow[colIterator] = elementFunction.apply(rowIterator, colIterator, null);
+					}
+				}
+				return null;
+			});
+		}
+		MatricesTaskDivider.invokeAll(callables, computeContext.getExecutorService());
+
+		List<List<T>> matrixLists = new ArrayList<>(rows);
+		for (var row : result) {
+			matrixLists.add(Matrix.rowOf(row));
+		}
+		return Matrix.wrapRows(matrixLists);
+	}
+}
@@ -0,0 +1,121 @@
+package org.jmatrix.matrix.expression;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * The class {@code MatrixExpression} describes a calculation over matrices without calculating it. Each operation
+ * returns a new expression with the operands as its children, so an expression is a graph of dot, combine, transform
+ * and transpose nodes, and an expression can be used as the operand of more than one node.
+ * <p>
+ * Calculating {@code transform(combine(dot(W, x), b, add), sigmoid)} with the calculators creates a matrix for each
+ * operation and sweeps each one again for the next. {@link #evaluate()} instead:
+ * <ul>
+ *     <li>fuses neighbouring combine, transform and transpose nodes into a single pass that calculates each element
+ *     of the result straight from the operands, without intermediate matrices,</li>
+ *     <li>applies that pass to each tile of a dot product as soon as the tile is complete (see
+ *     {@link org.jmatrix.matrix.matrix.calculator.DotEpilogue}), if the element-wise nodes are on top of a dot
+ *     product,</li>
+ *     <li>folds a transpose, or any element-wise nodes, of a dot product's right-hand operand into the packing of
+ *     that operand, which the dot product does anyway, and reads a transposed left-hand operand through a
+ *     {@linkplain org.jmatrix.matrix.matrix.MatrixView#transpose() transposed view},</li>
+ *     <li>calculates an expression that is used by more than one node only once,</li>
+ *     <li>and runs every pass and dot product as parallel tasks on a {@link ComputeContext}.</li>
+ * </ul>
+ * Dimensions are checked when the expression is built, so an invalid expression fails before anything is calculated.
+ *
+ * @param <T> the type of the elements in the matrices
+ */
+public abstract class MatrixExpression<T> {
+
+	private final int rows;
+	private final int columns;
+
+	MatrixExpression(int rows, int columns) {
+		this.rows = rows;
+		this.columns = columns;
+	}
+
+	/**
+	 * @return an expression for the given matrix. The matrix isn't copied, so it mustn't be changed before the
+	 * expression has been evaluated.
+	 */
+	public static <T> MatrixExpression<T> of(Matrix<T> matrix) {
+		return new SourceExpression<>(matrix);
+	}
+
+	/**
+	 * @return an expression for the dot product of this expression and other, see
+	 * {@link MatricesCalculator#dot(Matrix, Matrix, Object, BiFunction, BiFunction)}
+	 * @throws MatricesIncompatibleForOperationException if the number of columns of this expression doesn't equal the
+	 *                                                   number of rows of other
+	 */
+	public MatrixExpression<T> dot(MatrixExpression<T> other, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException {
+		if (columns != other.rows) {
+			throw new MatricesIncompatibleForOperationException("Cannot apply dot function with other matrix. Matrix 1 is " + rows + "x" + columns
+					+ " and matrix 2 is " + other.rows + "x" + other.columns);
+		}
+		return new DotExpression<>(this, other, zeroVal, multiplyFunction, accumulatorFunction);
+	}
+
+	/**
+	 * @return an expression that combines each element of this expression with the matching element of other, see
+	 * {@link MatricesCalculator#combine(Matrix, Matrix, BiFunction)}
+	 * @throws MatricesIncompatibleForOperationException if the expressions don't have the same dimensions
+	 */
+	public MatrixExpression<T> combine(MatrixExpression<T> other, BiFunction<T, T, T> combineFunction) throws MatricesIncompatibleForOperationException {
+		if (rows != other.rows || columns != other.columns) {
+			throw new MatricesIncompatibleForOperationException(MatricesCalculator.CANNOT_COMBINE_MATRICES_ERROR_MSG);
+		}
+		return new CombineExpression<>(this, other, combineFunction);
+	}
+
+	/**
+	 * @return an expression that applies function to each element of this expression
+	 */
+	public MatrixExpression<T> transform(UnaryOperator<T> function) {
+		return new TransformExpression<>(this, function);
+	}
+
+	/**
+	 * @return an expression for the transpose of this expression
+	 */
+	public MatrixExpression<T> transpose() {
+		return new TransposeExpression<>(this);
+	}
+
+	/**
+	 * Same as {@link #evaluate(ComputeContext)}, on {@link ComputeContext#getDefault()}.
+	 */
+	public Matrix<T> evaluate() {
+		return evaluate(ComputeContext.getDefault());
+	}
+
+	/**
+	 * Calculates the expression, running the passes and dot products as parallel tasks on computeContext.
+	 *
+	 * @return a new matrix, which never shares rows with the matrices the expression was built from
+	 */
+	public Matrix<T> evaluate(ComputeContext computeContext) {
+		return new ExpressionEvaluator<T>(computeContext).evaluate(this);
+	}
+
+	/**
+	 * @return the expressions this expression is calculated from
+	 */
+	abstract List<MatrixExpression<T>> getOperands();
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getColumns() {
+		return columns;
+	}
+}
@@ -0,0 +1,27 @@
+package org.jmatrix.matrix.expression;
+
+import org.jmatrix.matrix.matrix.Matrix;
+
+import java.util.List;
+
+/**
+ * An existing matrix, the leaves of every expression.
+ */
+final class SourceExpression<T> extends MatrixExpression<T> {
+
+	private final Matrix<T> matrix;
+
+	SourceExpression(Matrix<T> matrix) {
+		super(matrix.getRows(), matrix.getColumns());
+		this.matrix = matrix;
+	}
+
+	@Override
+	List<MatrixExpression<T>> getOperands() {
+		return List.of();
+	}
+
+	Matrix<T> getMatrix() {
+		return matrix;
+	}
+}
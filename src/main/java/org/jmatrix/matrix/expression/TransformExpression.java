@@ -0,0 +1,29 @@
+package org.jmatrix.matrix.expression;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+final class TransformExpression<T> extends MatrixExpression<T> {
+
+	private final MatrixExpression<T> operand;
+	private final UnaryOperator<T> function;
+
+	TransformExpression(MatrixExpression<T> operand, UnaryOperator<T> function) {
+		super(operand.getRows(), operand.getColumns());
+		this.operand = operand;
+		this.function = function;
+	}
+
+	@Override
+	List<MatrixExpression<T>> getOperands() {
+		return List.of(operand);
+	}
+
+	MatrixExpression<T> getOperand() {
+		return operand;
+	}
+
+	UnaryOperator<T> getFunction() {
+		return function;
+	}
+}
@@ -0,0 +1,22 @@
+package org.jmatrix.matrix.expression;
+
+import java.util.List;
+
+final class TransposeExpression<T> extends MatrixExpression<T> {
+
+	private final MatrixExpression<T> operand;
+
+	TransposeExpression(MatrixExpression<T> operand) {
+		super(operand.getColumns(), operand.getRows());
+		this.operand = operand;
+	}
+
+	@Override
+	List<MatrixExpression<T>> getOperands() {
+		return List.of(operand);
+	}
+
+	MatrixExpression<T> getOperand() {
+		return operand;
+	}
+}
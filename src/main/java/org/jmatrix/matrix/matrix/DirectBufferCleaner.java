@@ -0,0 +1,77 @@
+package org.jmatrix.matrix.matrix;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+/**
+ * Releases the native memory of a direct (or memory-mapped) {@link ByteBuffer} immediately, rather than waiting for
+ * the buffer to be garbage collected.
+ * <p>
+ * There is no public API for this before the Foreign Function & Memory API, so this uses
+ * {@code sun.misc.Unsafe.invokeCleaner} from the {@code jdk.unsupported} module, which the module descriptor requires,
+ * looked up reflectively. If it can't be found, {@link #clean} throws rather than silently leaving the memory to the
+ * garbage collector.
+ */
+final class DirectBufferCleaner {
+
+	private static final MethodHandle INVOKE_CLEANER;
+	private static final Exception LOOKUP_FAILURE;
+
+	static {
+		MethodHandle invokeCleaner = null;
+		Exception lookupFailure = null;
+		try {
+			invokeCleaner = findInvokeCleaner();
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			lookupFailure = e;
+		}
+		INVOKE_CLEANER = invokeCleaner;
+		LOOKUP_FAILURE = lookupFailure;
+	}
+
+	private DirectBufferCleaner() {
+	}
+
+	private static MethodHandle findInvokeCleaner() throws ReflectiveOperationException {
+		Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+		Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+		theUnsafe.setAccessible(true);
+		return MethodHandles.lookup()
+				.findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+				.bindTo(theUnsafe.get(null));
+	}
+
+	/**
+	 * @return true if direct buffers can be released eagerly on this JVM
+	 */
+	static boolean isAvailable() {
+		return INVOKE_CLEANER != null;
+	}
+
+	/**
+	 * The buffer must not be used by any thread after it has been cleaned.
+	 *
+	 * @param buffer a direct buffer returned by {@link ByteBuffer#allocateDirect} or {@code FileChannel.map}, not a
+	 *               slice or duplicate of one
+	 * @throws UnsupportedOperationException if {@code invokeCleaner} couldn't be found
+	 */
+	static void clean(ByteBuffer buffer) {
+		if (!buffer.isDirect()) {
+			return;
+		}
+		if (INVOKE_CLEANER == null) {
+			throw new UnsupportedOperationException("Direct buffers can't be released eagerly on this JVM", LOOKUP_FAILURE);
+		}
+
+		try {
+			INVOKE_CLEANER.invokeExact(buffer);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,191 @@
+package org.jmatrix.matrix.matrix;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The class {@code DoubleMatrix} represents a dense, two-dimensional matrix of primitive doubles.
+ * <p>
+ * Unlike {@link Matrix}, which stores every element as an object inside a list of lists, the elements are stored
+ * row-major in a single flat {@code double[]}. Element (row, column) is located at
+ * {@code offset + row * stride + column}. Keeping the data contiguous avoids boxing, pointer chasing and per-element
+ * allocation, which makes it the preferred type for large floating-point workloads where arbitrary precision isn't
+ * required.
+ */
+public class DoubleMatrix {
+	private final double[] data;
+	private final int offset;
+	private final int rows;
+	private final int columns;
+	private final int stride;
+
+	/**
+	 * Creates a new matrix with every element set to zero.
+	 */
+	public DoubleMatrix(int rows, int columns) throws EmptyMatrixException {
+		this(allocate(rows, columns), 0, rows, columns, columns);
+	}
+
+	/**
+	 * Creates a matrix backed by the given row-major array. The array is not copied.
+	 */
+	public DoubleMatrix(int rows, int columns, double[] data) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		this(data, 0, rows, columns, columns);
+	}
+
+	/**
+	 * Creates a matrix backed by a region of the given array. The array is not copied.
+	 *
+	 * @param data    the backing array
+	 * @param offset  the index of element (0, 0) in the backing array
+	 * @param rows    the number of rows
+	 * @param columns the number of columns
+	 * @param stride  the distance in the backing array between the start of two consecutive rows
+	 */
+	public DoubleMatrix(double[] data, int offset, int rows, int columns, int stride) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		validateDimensions(rows, columns);
+		if (data == null || stride < columns || offset < 0 || (long) offset + (long) (rows - 1) * stride + columns > data.length) {
+			throw new ListsIncompatibleForMatrixException("Backing array is too small for a " + rows + "x" + columns + " matrix");
+		}
+
+		this.data = data;
+		this.offset = offset;
+		this.rows = rows;
+		this.columns = columns;
+		this.stride = stride;
+	}
+
+	private static double[] allocate(int rows, int columns) throws EmptyMatrixException {
+		validateDimensions(rows, columns);
+		return new double[Math.multiplyExact(rows, columns)];
+	}
+
+	private static void validateDimensions(int rows, int columns) throws EmptyMatrixException {
+		if (rows < 1 || columns < 1) {
+			throw new EmptyMatrixException("Matrix must have at least 1 row and 1 column");
+		}
+	}
+
+	/**
+	 * @throws IndexOutOfBoundsException if row or column is outside this matrix, even when the backing array has an
+	 *                                   element at that position
+	 */
+	public double get(int row, int column) {
+		return data[checkedIndex(row, column)];
+	}
+
+	/**
+	 * @throws IndexOutOfBoundsException if row or column is outside this matrix, even when the backing array has an
+	 *                                   element at that position
+	 */
+	public void set(int row, int column, double value) {
+		data[checkedIndex(row, column)] = value;
+	}
+
+	private int checkedIndex(int row, int column) {
+		Objects.checkIndex(row, rows);
+		Objects.checkIndex(column, columns);
+		return index(row, column);
+	}
+
+	/**
+	 * @return the position of element (row, column) in the backing array. The row and column aren't checked, so this is
+	 * for kernels that have already checked their bounds.
+	 */
+	public int index(int row, int column) {
+		return offset + row * stride + column;
+	}
+
+	/**
+	 * Converts this matrix into a boxed {@link Matrix}.
+	 */
+	public Matrix<Double> toMatrix() {
+		List<List<Double>> matrixLists = new ArrayList<>(rows);
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			List<Double> newMatrixRow = new ArrayList<>(columns);
+			var rowStart = index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				newMatrixRow.add(data[rowStart + colIterator]);
+			}
+			matrixLists.add(newMatrixRow);
+		}
+		return new Matrix<>(matrixLists);
+	}
+
+	/**
+	 * @return true if the rows of this matrix are laid out back-to-back in the backing array
+	 */
+	public boolean isContiguous() {
+		return stride == columns;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getColumns() {
+		return columns;
+	}
+
+	public int getStride() {
+		return stride;
+	}
+
+	public int getOffset() {
+		return offset;
+	}
+
+	public double[] getData() {
+		return data;
+	}
+
+	public static boolean isSameDimensions(DoubleMatrix matrix1, DoubleMatrix matrix2) {
+		return matrix1.getRows() == matrix2.getRows() && matrix1.getColumns() == matrix2.getColumns();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		DoubleMatrix otherMatrix = (DoubleMatrix) o;
+		if (!isSameDimensions(this, otherMatrix)) return false;
+
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				if (Double.compare(get(rowIterator, colIterator), otherMatrix.get(rowIterator, colIterator)) != 0) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 31 * rows + columns;
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				result = 31 * result + Double.hashCode(get(rowIterator, colIterator));
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("DoubleMatrix{matrix=[");
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			sb.append(rowIterator == 0 ? "[" : ", [");
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				if (colIterator > 0) sb.append(", ");
+				sb.append(get(rowIterator, colIterator));
+			}
+			sb.append(']');
+		}
+		return sb.append("]}").toString();
+	}
+}
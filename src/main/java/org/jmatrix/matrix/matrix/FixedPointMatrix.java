@@ -0,0 +1,222 @@
+package org.jmatrix.matrix.matrix;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The class {@code FixedPointMatrix} represents a dense, two-dimensional matrix of fixed-point decimals, as a
+ * deterministic alternative to {@code Matrix<BigDecimal>} when unbounded precision isn't needed.
+ * <p>
+ * Every element is stored as an unscaled {@code long} with a single scale for the whole matrix, so element (row,
+ * column) is {@code unscaled * 10^-scale}, like a {@link BigDecimal} with a fixed scale. The unscaled values are laid
+ * out like {@link DoubleMatrix}: row-major in a flat {@code long[]}, with element (row, column) at
+ * {@code offset + row * stride + column}. Calculations on them are exact integer arithmetic, see
+ * {@link org.jmatrix.matrix.matrix.calculator.FixedPointMatricesCalculator}, so they give the same results on every
+ * platform without allocating an object per element.
+ */
+public class FixedPointMatrix {
+
+	/**
+	 * The largest scale, as 10^18 is the largest power of ten that fits in a long
+	 */
+	public static final int MAX_SCALE = 18;
+
+	private final long[] data;
+	private final int offset;
+	private final int rows;
+	private final int columns;
+	private final int stride;
+	private final int scale;
+
+	/**
+	 * Creates a new matrix with every element set to zero.
+	 */
+	public FixedPointMatrix(int rows, int columns, int scale) throws EmptyMatrixException {
+		this(allocate(rows, columns), 0, rows, columns, columns, scale);
+	}
+
+	/**
+	 * Creates a matrix backed by the given row-major array of unscaled values. The array is not copied.
+	 */
+	public FixedPointMatrix(int rows, int columns, int scale, long[] data) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		this(data, 0, rows, columns, columns, scale);
+	}
+
+	/**
+	 * Creates a matrix backed by a region of the given array of unscaled values. The array is not copied.
+	 *
+	 * @param data    the backing array
+	 * @param offset  the index of element (0, 0) in the backing array
+	 * @param rows    the number of rows
+	 * @param columns the number of columns
+	 * @param stride  the distance in the backing array between the start of two consecutive rows
+	 * @param scale   the number of decimal digits after the point, from 0 to {@link #MAX_SCALE}
+	 */
+	public FixedPointMatrix(long[] data, int offset, int rows, int columns, int stride, int scale) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		validateDimensions(rows, columns);
+		validateScale(scale);
+		if (data == null || stride < columns || offset < 0 || (long) offset + (long) (rows - 1) * stride + columns > data.length) {
+			throw new ListsIncompatibleForMatrixException("Backing array is too small for a " + rows + "x" + columns + " matrix");
+		}
+
+		this.data = data;
+		this.offset = offset;
+		this.rows = rows;
+		this.columns = columns;
+		this.stride = stride;
+		this.scale = scale;
+	}
+
+	private static long[] allocate(int rows, int columns) throws EmptyMatrixException {
+		validateDimensions(rows, columns);
+		return new long[Math.multiplyExact(rows, columns)];
+	}
+
+	private static void validateDimensions(int rows, int columns) throws EmptyMatrixException {
+		if (rows < 1 || columns < 1) {
+			throw new EmptyMatrixException("Matrix must have at least 1 row and 1 column");
+		}
+	}
+
+	/**
+	 * @throws IllegalArgumentException if scale isn't between 0 and {@link #MAX_SCALE}
+	 */
+	public static void validateScale(int scale) {
+		if (scale < 0 || scale > MAX_SCALE) {
+			throw new IllegalArgumentException("Scale must be between 0 and " + MAX_SCALE + " but was " + scale);
+		}
+	}
+
+	/**
+	 * @return the unscaled value of element (row, column)
+	 */
+	public long getUnscaled(int row, int column) {
+		return data[checkedIndex(row, column)];
+	}
+
+	public void setUnscaled(int row, int column, long unscaledValue) {
+		data[checkedIndex(row, column)] = unscaledValue;
+	}
+
+	/**
+	 * @return element (row, column) as a BigDecimal with the scale of this matrix
+	 */
+	public BigDecimal get(int row, int column) {
+		return BigDecimal.valueOf(getUnscaled(row, column), scale);
+	}
+
+	private int checkedIndex(int row, int column) {
+		Objects.checkIndex(row, rows);
+		Objects.checkIndex(column, columns);
+		return index(row, column);
+	}
+
+	/**
+	 * @return the position of element (row, column) in the backing array, without checking the row and column
+	 */
+	public int index(int row, int column) {
+		return offset + row * stride + column;
+	}
+
+	/**
+	 * Converts this matrix into a boxed {@link Matrix}, where every element has the scale of this matrix.
+	 */
+	public Matrix<BigDecimal> toMatrix() {
+		List<List<BigDecimal>> matrixLists = new ArrayList<>(rows);
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			List<BigDecimal> newMatrixRow = new ArrayList<>(columns);
+			var rowStart = index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				newMatrixRow.add(BigDecimal.valueOf(data[rowStart + colIterator], scale));
+			}
+			matrixLists.add(newMatrixRow);
+		}
+		return new Matrix<>(matrixLists);
+	}
+
+	/**
+	 * @return true if the rows of this matrix are laid out back-to-back in the backing array
+	 */
+	public boolean isContiguous() {
+		return stride == columns;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getColumns() {
+		return columns;
+	}
+
+	public int getStride() {
+		return stride;
+	}
+
+	public int getOffset() {
+		return offset;
+	}
+
+	public int getScale() {
+		return scale;
+	}
+
+	public long[] getData() {
+		return data;
+	}
+
+	public static boolean isSameDimensions(FixedPointMatrix matrix1, FixedPointMatrix matrix2) {
+		return matrix1.getRows() == matrix2.getRows() && matrix1.getColumns() == matrix2.getColumns();
+	}
+
+	/**
+	 * Two matrices are equal if they have the same dimensions, scale and unscaled values, like
+	 * {@link BigDecimal#equals}.
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		FixedPointMatrix otherMatrix = (FixedPointMatrix) o;
+		if (!isSameDimensions(this, otherMatrix) || scale != otherMatrix.scale) return false;
+
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				if (getUnscaled(rowIterator, colIterator) != otherMatrix.getUnscaled(rowIterator, colIterator)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 31 * (31 * rows + columns) + scale;
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				result = 31 * result + Long.hashCode(getUnscaled(rowIterator, colIterator));
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("FixedPointMatrix{matrix=[");
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			sb.append(rowIterator == 0 ? "[" : ", [");
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				if (colIterator > 0) sb.append(", ");
+				sb.append(get(rowIterator, colIterator).toPlainString());
+			}
+			sb.append(']');
+		}
+		return sb.append("]}").toString();
+	}
+}
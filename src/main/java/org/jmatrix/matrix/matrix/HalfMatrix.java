@@ -0,0 +1,274 @@
+package org.jmatrix.matrix.matrix;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The class {@code HalfMatrix} represents a dense, two-dimensional matrix of 16-bit floating-point numbers, in either
+ * of the formats of {@link Format}.
+ * <p>
+ * The elements are laid out like {@link FloatMatrix}, row-major in a flat {@code short[]} with element (row, column)
+ * at {@code offset + row * stride + column}, but each one is stored as the raw bits of a 16-bit float. That's half
+ * the memory and memory bandwidth of a {@link FloatMatrix}, and a quarter of a {@link DoubleMatrix}, which matters for
+ * matrix-vector products whose speed is limited by reading the weights. Elements are widened to float to be used, and
+ * the kernels in {@link org.jmatrix.matrix.matrix.calculator.FloatMatricesCalculator} accumulate in float.
+ */
+public class HalfMatrix {
+
+	/**
+	 * The 16-bit floating-point formats a {@link HalfMatrix} can store. Converting a float to either of them rounds to
+	 * the nearest representable value, ties to even, like a float operation.
+	 */
+	public enum Format {
+		/**
+		 * IEEE 754 binary16: 5 exponent bits and 10 fraction bits. About 3 significant decimal digits, and values up to
+		 * 65504, see {@link Float#floatToFloat16}.
+		 */
+		FLOAT16 {
+			@Override
+			public float toFloat(short bits) {
+				return Float.float16ToFloat(bits);
+			}
+
+			@Override
+			public short fromFloat(float value) {
+				return Float.floatToFloat16(value);
+			}
+		},
+		/**
+		 * bfloat16: the upper 16 bits of a float, so 8 exponent bits and 7 fraction bits. About 2 significant decimal
+		 * digits, but the same range as a float.
+		 */
+		BFLOAT16 {
+			@Override
+			public float toFloat(short bits) {
+				return Float.intBitsToFloat(bits << 16);
+			}
+
+			@Override
+			public short fromFloat(float value) {
+				int bits = Float.floatToRawIntBits(value);
+				if (Float.isNaN(value)) {
+					// keep the sign and make sure the truncated fraction is still non-zero
+					return (short) ((bits >>> 16) | 0x0040);
+				}
+				// adding 0x7FFF, plus 1 if the lowest kept bit is odd, carries into the kept bits exactly when the value
+				// is rounded up to nearest, ties to even
+				return (short) ((bits + 0x7FFF + ((bits >>> 16) & 1)) >>> 16);
+			}
+		};
+
+		/**
+		 * @return the float equal to the 16-bit float with the given bits. Every 16-bit float is exactly representable
+		 * as a float.
+		 */
+		public abstract float toFloat(short bits);
+
+		/**
+		 * @return the bits of the 16-bit float nearest to value
+		 */
+		public abstract short fromFloat(float value);
+	}
+
+	private final short[] data;
+	private final int offset;
+	private final int rows;
+	private final int columns;
+	private final int stride;
+	private final Format format;
+
+	/**
+	 * Creates a new matrix with every element set to zero.
+	 */
+	public HalfMatrix(int rows, int columns, Format format) throws EmptyMatrixException {
+		this(allocate(rows, columns), 0, rows, columns, columns, format);
+	}
+
+	/**
+	 * Creates a matrix backed by the given row-major array of 16-bit float bits. The array is not copied.
+	 */
+	public HalfMatrix(int rows, int columns, Format format, short[] data) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		this(data, 0, rows, columns, columns, format);
+	}
+
+	/**
+	 * Creates a matrix backed by a region of the given array of 16-bit float bits. The array is not copied.
+	 *
+	 * @param data    the backing array
+	 * @param offset  the index of element (0, 0) in the backing array
+	 * @param rows    the number of rows
+	 * @param columns the number of columns
+	 * @param stride  the distance in the backing array between the start of two consecutive rows
+	 * @param format  the format of the 16-bit floats in data
+	 */
+	public HalfMatrix(short[] data, int offset, int rows, int columns, int stride, Format format) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		validateDimensions(rows, columns);
+		if (data == null || stride < columns || offset < 0 || (long) offset + (long) (rows - 1) * stride + columns > data.length) {
+			throw new ListsIncompatibleForMatrixException("Backing array is too small for a " + rows + "x" + columns + " matrix");
+		}
+		if (format == null) {
+			throw new IllegalArgumentException("Format must not be null");
+		}
+
+		this.data = data;
+		this.offset = offset;
+		this.rows = rows;
+		this.columns = columns;
+		this.stride = stride;
+		this.format = format;
+	}
+
+	private static short[] allocate(int rows, int columns) throws EmptyMatrixException {
+		validateDimensions(rows, columns);
+		return new short[Math.multiplyExact(rows, columns)];
+	}
+
+	private static void validateDimensions(int rows, int columns) throws EmptyMatrixException {
+		if (rows < 1 || columns < 1) {
+			throw new EmptyMatrixException("Matrix must have at least 1 row and 1 column");
+		}
+	}
+
+	/**
+	 * @return element (row, column) widened to a float
+	 */
+	public float get(int row, int column) {
+		return format.toFloat(data[checkedIndex(row, column)]);
+	}
+
+	/**
+	 * Sets element (row, column) to the 16-bit float nearest to value.
+	 */
+	public void set(int row, int column, float value) {
+		data[checkedIndex(row, column)] = format.fromFloat(value);
+	}
+
+	private int checkedIndex(int row, int column) {
+		Objects.checkIndex(row, rows);
+		Objects.checkIndex(column, columns);
+		return index(row, column);
+	}
+
+	/**
+	 * @return the position of element (row, column) in the backing array, without checking the row and column
+	 */
+	public int index(int row, int column) {
+		return offset + row * stride + column;
+	}
+
+	/**
+	 * Widens every element into a new {@link FloatMatrix}.
+	 */
+	public FloatMatrix toFloatMatrix() {
+		FloatMatrix result = new FloatMatrix(rows, columns);
+		float[] resultData = result.getData();
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			var rowStart = index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				resultData[resultRow + colIterator] = format.toFloat(data[rowStart + colIterator]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Converts this matrix into a boxed {@link Matrix}, widening every element to a float.
+	 */
+	public Matrix<Float> toMatrix() {
+		List<List<Float>> matrixLists = new ArrayList<>(rows);
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			List<Float> newMatrixRow = new ArrayList<>(columns);
+			var rowStart = index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				newMatrixRow.add(format.toFloat(data[rowStart + colIterator]));
+			}
+			matrixLists.add(newMatrixRow);
+		}
+		return new Matrix<>(matrixLists);
+	}
+
+	/**
+	 * @return true if the rows of this matrix are laid out back-to-back in the backing array
+	 */
+	public boolean isContiguous() {
+		return stride == columns;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getColumns() {
+		return columns;
+	}
+
+	public int getStride() {
+		return stride;
+	}
+
+	public int getOffset() {
+		return offset;
+	}
+
+	public Format getFormat() {
+		return format;
+	}
+
+	public short[] getData() {
+		return data;
+	}
+
+	public static boolean isSameDimensions(HalfMatrix matrix1, HalfMatrix matrix2) {
+		return matrix1.getRows() == matrix2.getRows() && matrix1.getColumns() == matrix2.getColumns();
+	}
+
+	/**
+	 * Two matrices are equal if they have the same dimensions, format and element bits.
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		HalfMatrix otherMatrix = (HalfMatrix) o;
+		if (!isSameDimensions(this, otherMatrix) || format != otherMatrix.format) return false;
+
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				if (data[index(rowIterator, colIterator)] != otherMatrix.data[otherMatrix.index(rowIterator, colIterator)]) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 31 * (31 * rows + columns) + format.ordinal();
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				result = 31 * result + data[index(rowIterator, colIterator)];
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("HalfMatrix{format=").append(format).append(", matrix=[");
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			sb.append(rowIterator == 0 ? "[" : ", [");
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				if (colIterator > 0) sb.append(", ");
+				sb.append(get(rowIterator, colIterator));
+			}
+			sb.append(']');
+		}
+		return sb.append("]}").toString();
+	}
+}
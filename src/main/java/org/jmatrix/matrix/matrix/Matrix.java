@@ -4,6 +4,7 @@ import org.jmatrix.matrix.exception.EmptyMatrixException;
 import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.BiFunction;
@@ -40,6 +41,38 @@ public class Matrix<T> {
 		this.columns = matrixList.getFirst().size();
 	}
 
+	private Matrix(List<List<T>> matrixLists, int rows, int columns) {
+		this.matrixLists = matrixLists;
+		this.rows = rows;
+		this.columns = columns;
+	}
+
+	/**
+	 * Creates a matrix that uses the given rows as they are, rather than copying each of them like
+	 * {@link #Matrix(List)}. The calculators use this to return results whose rows they have just built, so the rows
+	 * must not be shared with anything else.
+	 */
+	public static <T> Matrix<T> wrapRows(List<List<T>> matrixLists) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		if (isEmpty(matrixLists)) {
+			throw new EmptyMatrixException("Matrix List is empty or null");
+		}
+
+		if (!matrixLists.stream().allMatch(list -> list.size() == matrixLists.getFirst().size())) {
+			throw new ListsIncompatibleForMatrixException("Matrix rows have different number of columns");
+		}
+
+		return new Matrix<>(new ArrayList<>(matrixLists), matrixLists.size(), matrixLists.getFirst().size());
+	}
+
+	/**
+	 * Copies a row that has just been filled in as an array into a list of its own, so that matrices built from such
+	 * rows can be resized like those created by {@link #Matrix(List)}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> List<T> rowOf(Object[] row) {
+		return new ArrayList<>((List<T>) Arrays.asList(row));
+	}
+
 	public Matrix(int rows, int columns, T minRange, T maxRange, BiFunction<T, T, T> createRandomValuesFunction) {
 		this.matrixLists = initializeRandomMatrix(rows, columns, minRange, maxRange, createRandomValuesFunction);
 		this.rows = rows;
@@ -95,7 +128,7 @@ public class Matrix<T> {
 		return matrix;
 	}
 
-	private boolean isEmpty(List<List<T>> matrixList) {
+	private static <T> boolean isEmpty(List<List<T>> matrixList) {
 		return matrixList == null || matrixList.isEmpty() || matrixList.stream().anyMatch((list -> list == null || list.isEmpty()));
 	}
 
@@ -0,0 +1,210 @@
+package org.jmatrix.matrix.matrix;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The class {@code MatrixView} is a rectangular window onto the rows and columns of a {@link Matrix}, without copying
+ * any elements.
+ * <p>
+ * Creating a {@code Matrix} from a subList of rows validates and copies every row, so splitting a matrix between
+ * tasks that way copies the whole input again at every level of a Fork/Join tree. Creating a view, or a view of a
+ * view, only records the offsets and extents, so the parallel engines can split their inputs in constant time.
+ * <p>
+ * A view reads through to the matrix it was created from, so it sees changes to the existing elements, but its
+ * bounds are fixed when it's created, so rows appended to the matrix afterwards are not part of the view.
+ * <p>
+ * {@link #transpose()} returns a view that swaps the row and column indexes, also without copying. The offsets of a
+ * view are always the first row list and the first element of each row list of the matrix that it includes, so they
+ * don't change when the view is transposed.
+ *
+ * @param <T> the type of elements in the matrix
+ */
+public class MatrixView<T> {
+
+	private final List<List<T>> matrixLists;
+	private final int rowOffset;
+	private final int colOffset;
+	private final int rows;
+	private final int columns;
+	private final boolean transposed;
+
+	/**
+	 * Creates a view of the whole matrix.
+	 */
+	public MatrixView(Matrix<T> matrix) {
+		this(matrix.getMatrixLists(), 0, 0, matrix.getRows(), matrix.getColumns(), false);
+	}
+
+	private MatrixView(List<List<T>> matrixLists, int rowOffset, int colOffset, int rows, int columns, boolean transposed) {
+		this.matrixLists = matrixLists;
+		this.rowOffset = rowOffset;
+		this.colOffset = colOffset;
+		this.rows = rows;
+		this.columns = columns;
+		this.transposed = transposed;
+	}
+
+	/**
+	 * @param rowOffset the first row of this view to include
+	 * @param colOffset the first column of this view to include
+	 * @param rows      the number of rows to include
+	 * @param columns   the number of columns to include
+	 * @return a view of part of this view
+	 */
+	public MatrixView<T> subView(int rowOffset, int colOffset, int rows, int columns) {
+		Objects.checkFromIndexSize(rowOffset, rows, this.rows);
+		Objects.checkFromIndexSize(colOffset, columns, this.columns);
+		return transposed
+				? new MatrixView<>(matrixLists, this.rowOffset + colOffset, this.colOffset + rowOffset, rows, columns, true)
+				: new MatrixView<>(matrixLists, this.rowOffset + rowOffset, this.colOffset + colOffset, rows, columns, false);
+	}
+
+	/**
+	 * @return a view whose element (row, col) is element (col, row) of this view
+	 */
+	public MatrixView<T> transpose() {
+		return new MatrixView<>(matrixLists, rowOffset, colOffset, columns, rows, !transposed);
+	}
+
+	/**
+	 * @return a view of rows [fromRow, toRow) of this view, with all of its columns
+	 */
+	public MatrixView<T> rowRange(int fromRow, int toRow) {
+		return subView(fromRow, 0, toRow - fromRow, columns);
+	}
+
+	public T get(int row, int column) {
+		Objects.checkIndex(row, rows);
+		Objects.checkIndex(column, columns);
+		return transposed
+				? matrixLists.get(rowOffset + column).get(colOffset + row)
+				: matrixLists.get(rowOffset + row).get(colOffset + column);
+	}
+
+	/**
+	 * @return the elements of the given row of this view, backed by the matrix. The row of a transposed view is a column
+	 * of the matrix, so reading it touches a different row list for each element; use {@link #copyRows} to read
+	 * several rows at once.
+	 */
+	public List<T> getRow(int row) {
+		Objects.checkIndex(row, rows);
+		if (transposed) {
+			return new ColumnList(colOffset + row);
+		}
+
+		List<T> matrixRow = matrixLists.get(rowOffset + row);
+		return colOffset == 0 && columns == matrixRow.size() ? matrixRow : matrixRow.subList(colOffset, colOffset + columns);
+	}
+
+	/**
+	 * Copies rows [fromRow, toRow) of this view into arrays. The rows of a transposed view are copied by walking along
+	 * each row list of the matrix once, rather than along each of its columns.
+	 */
+	public Object[][] copyRows(int fromRow, int toRow) {
+		Objects.checkFromToIndex(fromRow, toRow, rows);
+		Object[][] copiedRows = new Object[toRow - fromRow][];
+		if (!transposed) {
+			for (var rowIterator = fromRow; rowIterator < toRow; rowIterator++) {
+				copiedRows[rowIterator - fromRow] = getRow(rowIterator).toArray();
+			}
+			return copiedRows;
+		}
+
+		for (var copiedRow = 0; copiedRow < copiedRows.length; copiedRow++) {
+			copiedRows[copiedRow] = new Object[columns];
+		}
+		for (var colIterator = 0; colIterator < columns; colIterator++) {
+			List<T> matrixRow = matrixLists.get(rowOffset + colIterator);
+			for (var rowIterator = fromRow; rowIterator < toRow; rowIterator++) {
+				copiedRows[rowIterator - fromRow][colIterator] = matrixRow.get(colOffset + rowIterator);
+			}
+		}
+		return copiedRows;
+	}
+
+	/**
+	 * Copies the elements of this view into a single row-major array, walking along each row list of the matrix once
+	 * whether or not the view is transposed.
+	 */
+	public Object[] toRowMajorArray() {
+		Object[] elements = new Object[rows * columns];
+		int matrixRows = transposed ? columns : rows;
+		int matrixColumns = transposed ? rows : columns;
+		for (var matrixRowIterator = 0; matrixRowIterator < matrixRows; matrixRowIterator++) {
+			List<T> matrixRow = matrixLists.get(rowOffset + matrixRowIterator);
+			for (var matrixColIterator = 0; matrixColIterator < matrixColumns; matrixColIterator++) {
+				int index = transposed ? matrixColIterator * columns + matrixRowIterator : matrixRowIterator * columns + matrixColIterator;
+				elements[index] = matrixRow.get(colOffset + matrixColIterator);
+			}
+		}
+		return elements;
+	}
+
+	/**
+	 * Copies the elements of this view into a new matrix.
+	 */
+	@SuppressWarnings("unchecked")
+	public Matrix<T> toMatrix() {
+		return new Matrix<>(Arrays.stream(copyRows(0, rows)).map(row -> (List<T>) Arrays.asList(row)).toList());
+	}
+
+	public static <T> boolean isSameDimensions(MatrixView<T> view1, MatrixView<T> view2) {
+		return view1.getRows() == view2.getRows() && view1.getColumns() == view2.getColumns();
+	}
+
+	public int getRowOffset() {
+		return rowOffset;
+	}
+
+	public int getColOffset() {
+		return colOffset;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getColumns() {
+		return columns;
+	}
+
+	public boolean isTransposed() {
+		return transposed;
+	}
+
+	@Override
+	public String toString() {
+		return "MatrixView{rowOffset=" + rowOffset + ", colOffset=" + colOffset + ", rows=" + rows + ", columns=" + columns + ", transposed=" + transposed + '}';
+	}
+
+	/**
+	 * A row of a transposed view, which is part of a column of the matrix.
+	 */
+	private class ColumnList extends AbstractList<T> implements RandomAccess {
+
+		private final int matrixColumn;
+
+		ColumnList(int matrixColumn) {
+			this.matrixColumn = matrixColumn;
+		}
+
+		@Override
+		public T get(int index) {
+			return matrixLists.get(rowOffset + Objects.checkIndex(index, columns)).get(matrixColumn);
+		}
+
+		@Override
+		public T set(int index, T element) {
+			return matrixLists.get(rowOffset + Objects.checkIndex(index, columns)).set(matrixColumn, element);
+		}
+
+		@Override
+		public int size() {
+			return columns;
+		}
+	}
+}
@@ -0,0 +1,277 @@
+package org.jmatrix.matrix.matrix;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The class {@code OffHeapDoubleMatrix} represents a dense, row-major matrix of doubles stored outside the Java heap.
+ * <p>
+ * Large weight and activation matrices held on the heap make GC pauses grow with the size of the model. The elements
+ * of this matrix live in direct {@link ByteBuffer}s instead, so the garbage collector only ever sees a handful of
+ * small buffer objects, however large the matrix is.
+ * <p>
+ * A single buffer can hold at most 2GB, so the rows are split into chunks of {@link #getRowsPerChunk()} rows, each in
+ * its own buffer. A row never spans two chunks.
+ * <p>
+ * The native memory is released as soon as {@link #close()} is called, so the matrix should be used in a
+ * try-with-resources block or closed explicitly. Like a shared {@code Arena}, the buffers never leave this class, and
+ * every access counts itself in and out, so the memory is only released once no thread is using it: accessing a
+ * closed matrix throws an {@link IllegalStateException}, and so does closing a matrix while another thread is
+ * accessing it. Rows are read and written in bulk with {@link #getRow} and {@link #setRow}, which only count in once
+ * per row.
+ */
+public class OffHeapDoubleMatrix implements AutoCloseable {
+
+	public static final long MAX_CHUNK_BYTES = Integer.MAX_VALUE;
+
+	/**
+	 * The value of {@link #accesses} once the matrix is closed
+	 */
+	private static final int CLOSED = -1;
+
+	private final ByteBuffer[] byteChunks;
+	private final DoubleBuffer[] chunks;
+	/**
+	 * The number of accesses in progress, or {@link #CLOSED}
+	 */
+	private final AtomicInteger accesses = new AtomicInteger();
+	private final int rows;
+	private final int columns;
+	private final int rowsPerChunk;
+
+	/**
+	 * Wraps existing buffers without copying them. The matrix takes ownership of the buffers, and closing the matrix
+	 * releases them.
+	 *
+	 * @param byteChunks   direct buffers holding the rows row-major. Every chunk except the last must hold exactly
+	 *                     rowsPerChunk rows, and the last must hold the remaining rows.
+	 * @param rows         the number of rows
+	 * @param columns      the number of columns
+	 * @param rowsPerChunk the number of rows in each chunk
+	 * @param byteOrder    the byte order the doubles are stored in
+	 */
+	public OffHeapDoubleMatrix(ByteBuffer[] byteChunks, int rows, int columns, int rowsPerChunk, ByteOrder byteOrder) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		if (rows < 1 || columns < 1) {
+			throw new EmptyMatrixException("Matrix must have at least 1 row and 1 column");
+		}
+		if (rowsPerChunk < 1 || byteChunks.length != chunkCount(rows, rowsPerChunk)) {
+			throw new ListsIncompatibleForMatrixException("Expected " + chunkCount(rows, Math.max(rowsPerChunk, 1)) + " chunks of " + rowsPerChunk + " rows");
+		}
+
+		this.byteChunks = byteChunks;
+		this.chunks = new DoubleBuffer[byteChunks.length];
+		for (var i = 0; i < byteChunks.length; i++) {
+			int chunkRows = Math.min(rowsPerChunk, rows - i * rowsPerChunk);
+			if (byteChunks[i].capacity() < (long) chunkRows * columns * Double.BYTES) {
+				throw new ListsIncompatibleForMatrixException("Chunk " + i + " is too small for " + chunkRows + " rows of " + columns + " columns");
+			}
+			this.chunks[i] = byteChunks[i].duplicate().order(byteOrder).asDoubleBuffer();
+		}
+		this.rows = rows;
+		this.columns = columns;
+		this.rowsPerChunk = rowsPerChunk;
+	}
+
+	/**
+	 * Allocates a new off-heap matrix with every element set to zero.
+	 */
+	public static OffHeapDoubleMatrix allocate(int rows, int columns) throws EmptyMatrixException {
+		return allocate(rows, columns, MAX_CHUNK_BYTES);
+	}
+
+	static OffHeapDoubleMatrix allocate(int rows, int columns, long maxChunkBytes) throws EmptyMatrixException {
+		if (rows < 1 || columns < 1) {
+			throw new EmptyMatrixException("Matrix must have at least 1 row and 1 column");
+		}
+
+		int rowsPerChunk = rowsPerChunk(rows, columns, maxChunkBytes);
+		ByteBuffer[] byteChunks = new ByteBuffer[chunkCount(rows, rowsPerChunk)];
+		for (var i = 0; i < byteChunks.length; i++) {
+			int chunkRows = Math.min(rowsPerChunk, rows - i * rowsPerChunk);
+			byteChunks[i] = ByteBuffer.allocateDirect(chunkRows * columns * Double.BYTES);
+		}
+		return new OffHeapDoubleMatrix(byteChunks, rows, columns, rowsPerChunk, ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * Copies a heap matrix into a new off-heap matrix.
+	 */
+	public static OffHeapDoubleMatrix copyOf(DoubleMatrix matrix) throws EmptyMatrixException {
+		OffHeapDoubleMatrix offHeapMatrix = allocate(matrix.getRows(), matrix.getColumns());
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			offHeapMatrix.setRow(rowIterator, matrix.getData(), matrix.index(rowIterator, 0));
+		}
+		return offHeapMatrix;
+	}
+
+	/**
+	 * @return the largest number of rows that fit into a single buffer of at most maxChunkBytes
+	 */
+	public static int rowsPerChunk(int rows, int columns, long maxChunkBytes) {
+		long rowBytes = (long) columns * Double.BYTES;
+		if (rowBytes > maxChunkBytes) {
+			throw new ListsIncompatibleForMatrixException("A single row of " + columns + " columns does not fit into a buffer");
+		}
+		return (int) Math.min(rows, maxChunkBytes / rowBytes);
+	}
+
+	public static int chunkCount(int rows, int rowsPerChunk) {
+		return (rows + rowsPerChunk - 1) / rowsPerChunk;
+	}
+
+	/**
+	 * Copies this matrix onto the heap.
+	 */
+	public DoubleMatrix toDoubleMatrix() {
+		DoubleMatrix matrix = new DoubleMatrix(rows, columns);
+		acquire();
+		try {
+			for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+				getRowChunk(rowIterator).get(rowOffset(rowIterator), matrix.getData(), matrix.index(rowIterator, 0), columns);
+			}
+		} finally {
+			release();
+		}
+		return matrix;
+	}
+
+	public double get(int row, int column) {
+		Objects.checkIndex(column, columns);
+		acquire();
+		try {
+			return getRowChunk(row).get(rowOffset(row) + column);
+		} finally {
+			release();
+		}
+	}
+
+	public void set(int row, int column, double value) {
+		Objects.checkIndex(column, columns);
+		acquire();
+		try {
+			getRowChunk(row).put(rowOffset(row) + column, value);
+		} finally {
+			release();
+		}
+	}
+
+	/**
+	 * Copies the given row into destination, starting at destinationOffset.
+	 */
+	public void getRow(int row, double[] destination, int destinationOffset) {
+		acquire();
+		try {
+			getRowChunk(row).get(rowOffset(row), destination, destinationOffset, columns);
+		} finally {
+			release();
+		}
+	}
+
+	/**
+	 * Copies {@link #getColumns()} elements of source, starting at sourceOffset, into the given row.
+	 */
+	public void setRow(int row, double[] source, int sourceOffset) {
+		acquire();
+		try {
+			getRowChunk(row).put(rowOffset(row), source, sourceOffset, columns);
+		} finally {
+			release();
+		}
+	}
+
+	/**
+	 * Counts an access in, so the buffers can't be released until the matching {@link #release()}.
+	 *
+	 * @throws IllegalStateException if the matrix has been closed
+	 */
+	void acquire() {
+		while (true) {
+			int current = accesses.get();
+			if (current == CLOSED) {
+				throw new IllegalStateException("Matrix has been closed");
+			}
+			if (accesses.compareAndSet(current, current + 1)) {
+				return;
+			}
+		}
+	}
+
+	void release() {
+		accesses.decrementAndGet();
+	}
+
+	/**
+	 * @return the buffer holding the given row, which must only be used between {@link #acquire()} and
+	 * {@link #release()}. The row starts at {@link #rowOffset(int)} in the buffer.
+	 */
+	DoubleBuffer getRowChunk(int row) {
+		Objects.checkIndex(row, rows);
+		return chunks[row / rowsPerChunk];
+	}
+
+	/**
+	 * @return the index of element (row, 0) in the buffer returned by {@link #getRowChunk(int)}
+	 */
+	int rowOffset(int row) {
+		return (row % rowsPerChunk) * columns;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getColumns() {
+		return columns;
+	}
+
+	public int getRowsPerChunk() {
+		return rowsPerChunk;
+	}
+
+	public boolean isReadOnly() {
+		return byteChunks[0].isReadOnly();
+	}
+
+	public boolean isClosed() {
+		return accesses.get() == CLOSED;
+	}
+
+	/**
+	 * Releases the off-heap memory. Calling this more than once has no effect.
+	 *
+	 * @throws IllegalStateException         if another thread is accessing the matrix, which is left open
+	 * @throws UnsupportedOperationException if the JVM can't release direct buffers eagerly, see
+	 *                                       {@link DirectBufferCleaner}. The matrix is closed, and the memory is
+	 *                                       released when the buffers are garbage collected.
+	 */
+	@Override
+	public void close() {
+		while (true) {
+			int current = accesses.get();
+			if (current == CLOSED) {
+				return;
+			}
+			if (current > 0) {
+				throw new IllegalStateException("Matrix can't be closed while it's being accessed");
+			}
+			if (accesses.compareAndSet(0, CLOSED)) {
+				break;
+			}
+		}
+
+		for (var byteChunk : byteChunks) {
+			DirectBufferCleaner.clean(byteChunk);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "OffHeapDoubleMatrix{rows=" + rows + ", columns=" + columns + ", closed=" + isClosed() + '}';
+	}
+}
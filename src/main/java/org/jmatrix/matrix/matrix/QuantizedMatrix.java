@@ -0,0 +1,252 @@
+package org.jmatrix.matrix.matrix;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The class {@code QuantizedMatrix} represents a dense, two-dimensional matrix of 8-bit quantized values.
+ * <p>
+ * Each element is stored as a signed byte q, laid out like {@link DoubleMatrix}: row-major in a flat {@code byte[]},
+ * with element (row, column) at {@code offset + row * stride + column}. It stands for the real value
+ * {@code scale * (q - zeroPoint)}, where the scale and zero point are either shared by the whole matrix or set per
+ * row, see {@link Granularity}. That's an eighth of the memory of a {@link DoubleMatrix}, and dot products of
+ * quantized matrices are integer arithmetic, see
+ * {@link org.jmatrix.matrix.matrix.calculator.QuantizedMatricesCalculator}.
+ * <p>
+ * Use {@link org.jmatrix.matrix.matrixFactory.QuantizedMatrixFactory} to quantize a matrix, and {@link #dequantize()}
+ * or {@link #toMatrix()} to convert it back.
+ */
+public class QuantizedMatrix {
+
+	/**
+	 * Which elements share a scale and zero point
+	 */
+	public enum Granularity {
+		/**
+		 * One scale and zero point for the whole matrix
+		 */
+		PER_TENSOR,
+		/**
+		 * A scale and zero point for each row, e.g. for each output of a layer's weights, which keeps rows with small
+		 * values from losing their precision to rows with large ones
+		 */
+		PER_ROW
+	}
+
+	private final byte[] data;
+	private final int offset;
+	private final int rows;
+	private final int columns;
+	private final int stride;
+	private final double[] scales;
+	private final int[] zeroPoints;
+
+	/**
+	 * Creates a matrix backed by the given row-major array of quantized values. No array is copied.
+	 *
+	 * @param scales     one scale for the whole matrix, or one for each row
+	 * @param zeroPoints the zero points matching the scales
+	 */
+	public QuantizedMatrix(int rows, int columns, byte[] data, double[] scales, int[] zeroPoints) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		this(data, 0, rows, columns, columns, scales, zeroPoints);
+	}
+
+	/**
+	 * Creates a matrix backed by a region of the given array of quantized values. No array is copied.
+	 *
+	 * @param data       the backing array
+	 * @param offset     the index of element (0, 0) in the backing array
+	 * @param rows       the number of rows
+	 * @param columns    the number of columns
+	 * @param stride     the distance in the backing array between the start of two consecutive rows
+	 * @param scales     one scale for the whole matrix, or one for each row. Each must be positive and finite.
+	 * @param zeroPoints the zero points matching the scales, each in the range of a byte
+	 * @throws IllegalArgumentException if the scales or zero points are invalid
+	 */
+	public QuantizedMatrix(byte[] data, int offset, int rows, int columns, int stride, double[] scales, int[] zeroPoints) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		if (rows < 1 || columns < 1) {
+			throw new EmptyMatrixException("Matrix must have at least 1 row and 1 column");
+		}
+		if (data == null || stride < columns || offset < 0 || (long) offset + (long) (rows - 1) * stride + columns > data.length) {
+			throw new ListsIncompatibleForMatrixException("Backing array is too small for a " + rows + "x" + columns + " matrix");
+		}
+		validateQuantizationParameters(rows, scales, zeroPoints);
+
+		this.data = data;
+		this.offset = offset;
+		this.rows = rows;
+		this.columns = columns;
+		this.stride = stride;
+		this.scales = scales;
+		this.zeroPoints = zeroPoints;
+	}
+
+	private static void validateQuantizationParameters(int rows, double[] scales, int[] zeroPoints) {
+		if (scales == null || zeroPoints == null || scales.length != zeroPoints.length || (scales.length != 1 && scales.length != rows)) {
+			throw new IllegalArgumentException("There must be one scale and zero point for the whole matrix, or one for each of the " + rows + " rows");
+		}
+		for (var i = 0; i < scales.length; i++) {
+			if (!(scales[i] > 0) || !Double.isFinite(scales[i])) {
+				throw new IllegalArgumentException("Scale must be positive and finite but was " + scales[i]);
+			}
+			if (zeroPoints[i] < Byte.MIN_VALUE || zeroPoints[i] > Byte.MAX_VALUE) {
+				throw new IllegalArgumentException("Zero point must be between " + Byte.MIN_VALUE + " and " + Byte.MAX_VALUE + " but was " + zeroPoints[i]);
+			}
+		}
+	}
+
+	/**
+	 * @return the quantized value of element (row, column)
+	 */
+	public byte getQuantized(int row, int column) {
+		return data[index(row, column)];
+	}
+
+	/**
+	 * @return the real value of element (row, column), {@code scale * (q - zeroPoint)}
+	 */
+	public double get(int row, int column) {
+		return getScale(row) * (getQuantized(row, column) - getZeroPoint(row));
+	}
+
+	/**
+	 * @return the scale of the given row
+	 */
+	public double getScale(int row) {
+		return scales.length == 1 ? scales[0] : scales[row];
+	}
+
+	/**
+	 * @return the zero point of the given row
+	 */
+	public int getZeroPoint(int row) {
+		return zeroPoints.length == 1 ? zeroPoints[0] : zeroPoints[row];
+	}
+
+	/**
+	 * @return the position of element (row, column) in the backing array
+	 */
+	public int index(int row, int column) {
+		return offset + row * stride + column;
+	}
+
+	/**
+	 * Converts every element back into its real value in a new {@link DoubleMatrix}.
+	 */
+	public DoubleMatrix dequantize() {
+		DoubleMatrix result = new DoubleMatrix(rows, columns);
+		double[] resultData = result.getData();
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			var rowStart = index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+			double scale = getScale(rowIterator);
+			int zeroPoint = getZeroPoint(rowIterator);
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				resultData[resultRow + colIterator] = scale * (data[rowStart + colIterator] - zeroPoint);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Converts every element back into its real value in a boxed {@link Matrix}.
+	 */
+	public Matrix<Double> toMatrix() {
+		List<List<Double>> matrixLists = new ArrayList<>(rows);
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			List<Double> newMatrixRow = new ArrayList<>(columns);
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				newMatrixRow.add(get(rowIterator, colIterator));
+			}
+			matrixLists.add(newMatrixRow);
+		}
+		return new Matrix<>(matrixLists);
+	}
+
+	public Granularity getGranularity() {
+		return scales.length == 1 ? Granularity.PER_TENSOR : Granularity.PER_ROW;
+	}
+
+	/**
+	 * @return true if the rows of this matrix are laid out back-to-back in the backing array
+	 */
+	public boolean isContiguous() {
+		return stride == columns;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getColumns() {
+		return columns;
+	}
+
+	public int getStride() {
+		return stride;
+	}
+
+	public int getOffset() {
+		return offset;
+	}
+
+	public byte[] getData() {
+		return data;
+	}
+
+	public static boolean isSameDimensions(QuantizedMatrix matrix1, QuantizedMatrix matrix2) {
+		return matrix1.getRows() == matrix2.getRows() && matrix1.getColumns() == matrix2.getColumns();
+	}
+
+	/**
+	 * Two matrices are equal if they have the same dimensions, quantized values, scales and zero points.
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		QuantizedMatrix otherMatrix = (QuantizedMatrix) o;
+		if (!isSameDimensions(this, otherMatrix) || !Arrays.equals(scales, otherMatrix.scales) || !Arrays.equals(zeroPoints, otherMatrix.zeroPoints)) {
+			return false;
+		}
+
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				if (getQuantized(rowIterator, colIterator) != otherMatrix.getQuantized(rowIterator, colIterator)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 31 * (31 * (31 * rows + columns) + Arrays.hashCode(scales)) + Arrays.hashCode(zeroPoints);
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				result = 31 * result + getQuantized(rowIterator, colIterator);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("QuantizedMatrix{scales=").append(Arrays.toString(scales))
+				.append(", zeroPoints=").append(Arrays.toString(zeroPoints)).append(", matrix=[");
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			sb.append(rowIterator == 0 ? "[" : ", [");
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				if (colIterator > 0) sb.append(", ");
+				sb.append(getQuantized(rowIterator, colIterator));
+			}
+			sb.append(']');
+		}
+		return sb.append("]}").toString();
+	}
+}
@@ -0,0 +1,302 @@
+package org.jmatrix.matrix.matrix;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The class {@code SparseMatrix} represents a two-dimensional matrix that only stores its non-zero elements, in
+ * compressed sparse row (CSR) or compressed sparse column (CSC) form, see {@link Layout}.
+ * <p>
+ * The elements are grouped by the major dimension: rows for {@link Layout#CSR} and columns for {@link Layout#CSC}.
+ * The entries of major slice m are at positions [pointers[m], pointers[m + 1]) of the indices and values arrays, with
+ * their minor index (the column for CSR, the row for CSC) in ascending order. Every element that isn't stored is the
+ * matrix's zero value. A matrix with nnz stored elements takes O(nnz + major) memory, instead of rows * columns boxed
+ * elements for a {@link Matrix}, and its dot products in
+ * {@link org.jmatrix.matrix.matrix.calculator.SparseMatricesCalculator} only multiply the stored elements.
+ * <p>
+ * Use {@link org.jmatrix.matrix.matrixFactory.SparseMatrixFactory} to create a sparse matrix from a {@link Matrix} or
+ * from (row, column, value) triplets, and {@link #toMatrix()} to convert it back.
+ */
+public class SparseMatrix<T> {
+
+	/**
+	 * Which dimension the elements are grouped by
+	 */
+	public enum Layout {
+		/**
+		 * Compressed sparse row: the elements are grouped by row, so a row's elements can be read without a search,
+		 * e.g. for the left-hand matrix of a dot product
+		 */
+		CSR,
+		/**
+		 * Compressed sparse column: the elements are grouped by column, e.g. for the right-hand matrix of a dot product
+		 * with a dense left-hand matrix
+		 */
+		CSC
+	}
+
+	private final int rows;
+	private final int columns;
+	private final Layout layout;
+	private final int[] pointers;
+	private final int[] indices;
+	private final Object[] values;
+	private final T zeroVal;
+
+	/**
+	 * Creates a matrix from its compressed arrays. pointers and indices are not copied, values is.
+	 *
+	 * @param rows     the number of rows
+	 * @param columns  the number of columns
+	 * @param layout   the dimension the elements are grouped by
+	 * @param pointers for each major slice m, the position of its first element, followed by the number of elements,
+	 *                 so it has one more entry than there are rows (CSR) or columns (CSC)
+	 * @param indices  the minor index of each element, ascending within each major slice
+	 * @param values   the value of each element
+	 * @param zeroVal  the value of every element that isn't stored
+	 * @throws ListsIncompatibleForMatrixException if the arrays don't describe a valid rows x columns matrix
+	 */
+	public SparseMatrix(int rows, int columns, Layout layout, int[] pointers, int[] indices, List<T> values, T zeroVal) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		this(rows, columns, layout, pointers, indices, values == null ? null : values.toArray(), zeroVal);
+		validateStructure();
+	}
+
+	private SparseMatrix(int rows, int columns, Layout layout, int[] pointers, int[] indices, Object[] values, T zeroVal) {
+		if (rows < 1 || columns < 1) {
+			throw new EmptyMatrixException("Matrix must have at least 1 row and 1 column");
+		}
+		if (layout == null || zeroVal == null) {
+			throw new IllegalArgumentException("Layout and zero value must not be null");
+		}
+
+		this.rows = rows;
+		this.columns = columns;
+		this.layout = layout;
+		this.pointers = pointers;
+		this.indices = indices;
+		this.values = values;
+		this.zeroVal = zeroVal;
+	}
+
+	/**
+	 * Creates a matrix from arrays that are already known to be valid, e.g. the result of a dot product. No array is
+	 * copied, so they must not be shared with anything else.
+	 */
+	public static <T> SparseMatrix<T> wrap(int rows, int columns, Layout layout, int[] pointers, int[] indices, Object[] values, T zeroVal) throws EmptyMatrixException {
+		return new SparseMatrix<>(rows, columns, layout, pointers, indices, values, zeroVal);
+	}
+
+	private void validateStructure() throws ListsIncompatibleForMatrixException {
+		int majorSize = getMajorSize();
+		if (pointers == null || indices == null || values == null || pointers.length != majorSize + 1 || pointers[0] != 0
+				|| pointers[majorSize] != indices.length || indices.length != values.length) {
+			throw new ListsIncompatibleForMatrixException("Compressed arrays do not match a " + rows + "x" + columns + " " + layout + " matrix");
+		}
+
+		int minorSize = getMinorSize();
+		for (var major = 0; major < majorSize; major++) {
+			if (pointers[major] > pointers[major + 1]) {
+				throw new ListsIncompatibleForMatrixException("Pointers must not decrease but pointer " + (major + 1) + " is less than pointer " + major);
+			}
+			for (var position = pointers[major]; position < pointers[major + 1]; position++) {
+				if (indices[position] < 0 || indices[position] >= minorSize) {
+					throw new ListsIncompatibleForMatrixException("Index " + indices[position] + " is out of bounds for " + minorSize + " " + (layout == Layout.CSR ? "columns" : "rows"));
+				}
+				if (position > pointers[major] && indices[position] <= indices[position - 1]) {
+					throw new ListsIncompatibleForMatrixException("Indices must be strictly ascending within each " + (layout == Layout.CSR ? "row" : "column"));
+				}
+				if (values[position] == null) {
+					throw new ListsIncompatibleForMatrixException("Values must not be null");
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return element (row, column), or the zero value if it isn't stored. The element is found with a binary search
+	 * of its row (CSR) or column (CSC).
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int row, int column) {
+		Objects.checkIndex(row, rows);
+		Objects.checkIndex(column, columns);
+		int major = layout == Layout.CSR ? row : column;
+		int minor = layout == Layout.CSR ? column : row;
+		int position = Arrays.binarySearch(indices, pointers[major], pointers[major + 1], minor);
+		return position >= 0 ? (T) values[position] : zeroVal;
+	}
+
+	/**
+	 * @return the value stored at the given position of the compressed arrays
+	 */
+	@SuppressWarnings("unchecked")
+	public T getValue(int position) {
+		return (T) values[position];
+	}
+
+	/**
+	 * @return the number of stored elements
+	 */
+	public int getNonZeroCount() {
+		return indices.length;
+	}
+
+	/**
+	 * @return the number of stored elements in the given row (CSR) or column (CSC)
+	 */
+	public int getNonZeroCount(int major) {
+		return pointers[major + 1] - pointers[major];
+	}
+
+	/**
+	 * @return the fraction of the elements that are stored
+	 */
+	public double getDensity() {
+		return (double) indices.length / ((long) rows * columns);
+	}
+
+	/**
+	 * Converts this matrix into the given layout, in O(nnz + rows + columns) time. If it's already in that layout, this
+	 * matrix is returned. The values themselves are shared, not copied.
+	 */
+	public SparseMatrix<T> toLayout(Layout targetLayout) {
+		if (targetLayout == layout) {
+			return this;
+		}
+
+		int minorSize = getMinorSize();
+		int[] newPointers = new int[minorSize + 1];
+		for (int index : indices) {
+			newPointers[index + 1]++;
+		}
+		for (var minor = 0; minor < minorSize; minor++) {
+			newPointers[minor + 1] += newPointers[minor];
+		}
+
+		// walking the major slices in order appends to each new slice in ascending order of the new minor index
+		int[] nextPositions = Arrays.copyOf(newPointers, minorSize);
+		int[] newIndices = new int[indices.length];
+		Object[] newValues = new Object[values.length];
+		for (var major = 0; major < getMajorSize(); major++) {
+			for (var position = pointers[major]; position < pointers[major + 1]; position++) {
+				int newPosition = nextPositions[indices[position]]++;
+				newIndices[newPosition] = major;
+				newValues[newPosition] = values[position];
+			}
+		}
+		return new SparseMatrix<>(rows, columns, targetLayout, newPointers, newIndices, newValues, zeroVal);
+	}
+
+	/**
+	 * @return the transpose of this matrix, in O(1) time: the compressed rows of this matrix are the compressed columns
+	 * of its transpose, so the arrays are shared and only the layout and dimensions are swapped.
+	 */
+	public SparseMatrix<T> transpose() {
+		return new SparseMatrix<>(columns, rows, layout == Layout.CSR ? Layout.CSC : Layout.CSR, pointers, indices, values, zeroVal);
+	}
+
+	/**
+	 * Converts this matrix into a dense {@link Matrix}, with every element that isn't stored set to the zero value.
+	 */
+	@SuppressWarnings("unchecked")
+	public Matrix<T> toMatrix() {
+		List<List<T>> matrixLists = new ArrayList<>(rows);
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			matrixLists.add(new ArrayList<>(Collections.nCopies(columns, zeroVal)));
+		}
+		for (var major = 0; major < getMajorSize(); major++) {
+			for (var position = pointers[major]; position < pointers[major + 1]; position++) {
+				int row = layout == Layout.CSR ? major : indices[position];
+				int column = layout == Layout.CSR ? indices[position] : major;
+				matrixLists.get(row).set(column, (T) values[position]);
+			}
+		}
+		return Matrix.wrapRows(matrixLists);
+	}
+
+	private int getMajorSize() {
+		return layout == Layout.CSR ? rows : columns;
+	}
+
+	private int getMinorSize() {
+		return layout == Layout.CSR ? columns : rows;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getColumns() {
+		return columns;
+	}
+
+	public Layout getLayout() {
+		return layout;
+	}
+
+	public T getZeroVal() {
+		return zeroVal;
+	}
+
+	/**
+	 * @return the pointers array, not a copy
+	 */
+	public int[] getPointers() {
+		return pointers;
+	}
+
+	/**
+	 * @return the indices array, not a copy
+	 */
+	public int[] getIndices() {
+		return indices;
+	}
+
+	public static <T> boolean isSameDimensions(SparseMatrix<T> matrix1, SparseMatrix<T> matrix2) {
+		return matrix1.getRows() == matrix2.getRows() && matrix1.getColumns() == matrix2.getColumns();
+	}
+
+	/**
+	 * Two matrices are equal if they have the same dimensions, zero value and stored elements, whatever their layout.
+	 * A stored element equal to the zero value is not equal to an element that isn't stored.
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		SparseMatrix<?> otherMatrix = (SparseMatrix<?>) o;
+		if (rows != otherMatrix.rows || columns != otherMatrix.columns || !zeroVal.equals(otherMatrix.zeroVal)) {
+			return false;
+		}
+
+		SparseMatrix<?> csr = toLayout(Layout.CSR);
+		SparseMatrix<?> otherCsr = otherMatrix.toLayout(Layout.CSR);
+		return Arrays.equals(csr.pointers, otherCsr.pointers) && Arrays.equals(csr.indices, otherCsr.indices) && Arrays.equals(csr.values, otherCsr.values);
+	}
+
+	@Override
+	public int hashCode() {
+		SparseMatrix<T> csr = toLayout(Layout.CSR);
+		return Objects.hash(rows, columns, zeroVal, Arrays.hashCode(csr.pointers), Arrays.hashCode(csr.indices), Arrays.hashCode(csr.values));
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("SparseMatrix{rows=").append(rows).append(", columns=").append(columns)
+				.append(", layout=").append(layout).append(", zeroVal=").append(zeroVal).append(", elements=[");
+		for (var major = 0; major < getMajorSize(); major++) {
+			for (var position = pointers[major]; position < pointers[major + 1]; position++) {
+				int row = layout == Layout.CSR ? major : indices[position];
+				int column = layout == Layout.CSR ? indices[position] : major;
+				sb.append(position == 0 ? "(" : ", (").append(row).append(", ").append(column).append(")=").append(values[position]);
+			}
+		}
+		return sb.append("]}").toString();
+	}
+}
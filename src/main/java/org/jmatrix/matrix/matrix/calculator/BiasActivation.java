@@ -0,0 +1,83 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.Matrix;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * The class {@code BiasActivation} is the second half of a neural-network layer's forward pass,
+ * {@code activation(W·x + b)}, which the dot products can apply to each element of their result as soon as it's
+ * complete.
+ * <p>
+ * Calculating the dot product, then {@link MatricesCalculator#combine} with the bias, then
+ * {@link MatrixCalculator#transform} with the activation function, sweeps the result three times and creates two
+ * intermediate matrices. Passing a {@code BiasActivation} to a dot product instead applies
+ * {@code activationFunction(biasFunction(element, biasElement))} to each tile of the result while it's still in cache,
+ * and only creates the result.
+ *
+ * @param <T> the type of the elements in the matrices
+ */
+public class BiasActivation<T> implements DotEpilogue<T> {
+
+	private final Matrix<T> bias;
+	private final BiFunction<T, T, T> biasFunction;
+	private final UnaryOperator<T> activationFunction;
+
+	/**
+	 * @param bias               a matrix with the same dimensions as the result of the dot product
+	 * @param biasFunction       combines an element of the dot product with the matching element of the bias, usually
+	 *                           addition
+	 * @param activationFunction applied to each element after the bias, e.g. sigmoid or ReLU
+	 */
+	public BiasActivation(Matrix<T> bias, BiFunction<T, T, T> biasFunction, UnaryOperator<T> activationFunction) {
+		this.bias = bias;
+		this.biasFunction = biasFunction;
+		this.activationFunction = activationFunction;
+	}
+
+	/**
+	 * Applies the bias and activation to the elements (row, col) of target, for rows [rowStart, rowEnd) and columns
+	 * [colStart, colEnd) of the result. Element (row, col) is stored in
+	 * {@code target[row - targetRowOffset][col - targetColOffset]}, as in {@link BlockedDotKernel#multiplyInto}, and
+	 * must already hold its complete dot product.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void applyTo(Object[][] target, int targetRowOffset, int targetColOffset, int rowStart, int rowEnd, int colStart, int colEnd) {
+		for (var rowIterator = rowStart; rowIterator < rowEnd; rowIterator++) {
+			Object[] targetRow = target[rowIterator - targetRowOffset];
+			List<T> biasRow = bias.getMatrixLists().get(rowIterator);
+
+			for (var colIterator = colStart; colIterator < colEnd; colIterator++) {
+				targetRow[colIterator - targetColOffset] = activationFunction.apply(
+						biasFunction.apply((T) targetRow[colIterator - targetColOffset], biasRow.get(colIterator)));
+			}
+		}
+	}
+
+	/**
+	 * @throws MatricesIncompatibleForOperationException if the bias doesn't have the same dimensions as a rows x
+	 *                                                   columns result
+	 */
+	public void validateFor(int rows, int columns) throws MatricesIncompatibleForOperationException {
+		if (bias.getRows() != rows || bias.getColumns() != columns) {
+			throw new MatricesIncompatibleForOperationException("Cannot apply bias to the dot product. Bias is " + bias.getRows() + "x" + bias.getColumns()
+					+ " but the dot product is " + rows + "x" + columns);
+		}
+	}
+
+	public Matrix<T> getBias() {
+		return bias;
+	}
+
+	public BiFunction<T, T, T> getBiasFunction() {
+		return biasFunction;
+	}
+
+	public UnaryOperator<T> getActivationFunction() {
+		return activationFunction;
+	}
+}
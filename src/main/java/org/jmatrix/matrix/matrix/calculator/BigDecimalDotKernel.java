@@ -0,0 +1,167 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.matrix.Matrix;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The class {@code BigDecimalDotKernel} calculates exact BigDecimal dot products without creating a BigDecimal for
+ * every product and partial sum.
+ * <p>
+ * {@code accumulatorFunction.apply(res, multiplyFunction.apply(...))} creates at least two BigDecimals per product,
+ * and more once the products no longer fit in a long. Instead, the unscaled values and scales of both matrices are
+ * packed into arrays once, and each result element is summed in an {@link UnscaledAccumulator} at the scale the exact
+ * sum would have, the largest scale of its products (and at least 0, the scale of {@link BigDecimal#ZERO}). Only one
+ * BigDecimal is created per result element, and the results are equal, scale included, to
+ * {@link MatricesCalculator#dot} with {@link BigDecimal#multiply} and {@link BigDecimal#add}.
+ * <p>
+ * The kernel only applies when every unscaled value fits in 128 bits, see {@link #MAX_PRECISION}, and the scales are
+ * close enough together for the accumulator to stay small, see {@link #MAX_ALIGNMENT}. Otherwise {@link #multiply}
+ * returns null and the caller uses the generic dot product.
+ */
+final class BigDecimalDotKernel {
+
+	/**
+	 * The most decimal digits a product can be shifted by to match the scale of its result element
+	 */
+	static final int MAX_ALIGNMENT = 1_000;
+
+	/**
+	 * The most digits of an unscaled value that the kernel accepts. 10^38 - 1 fits in 127 bits.
+	 */
+	static final int MAX_PRECISION = 38;
+
+	private BigDecimalDotKernel() {
+	}
+
+	/**
+	 * @return the dot product of matrix1 and matrix2, which must already be validated for the dot product, or null if
+	 * the kernel doesn't apply to them
+	 */
+	static Matrix<BigDecimal> multiply(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2) {
+		int rows = matrix1.getRows();
+		int inner = matrix1.getColumns();
+		int columns = matrix2.getColumns();
+
+		// matrix1 is packed row-major and matrix2 column-major, so the inner loop walks along both arrays
+		PackedValues packed1 = new PackedValues(rows * inner);
+		PackedValues packed2 = new PackedValues(inner * columns);
+
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			List<BigDecimal> row = matrix1.getMatrixLists().get(rowIterator);
+			for (var innerIterator = 0; innerIterator < inner; innerIterator++) {
+				if (!packed1.pack(row.get(innerIterator), rowIterator * inner + innerIterator)) {
+					return null;
+				}
+			}
+		}
+		for (var innerIterator = 0; innerIterator < inner; innerIterator++) {
+			List<BigDecimal> row = matrix2.getMatrixLists().get(innerIterator);
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				if (!packed2.pack(row.get(colIterator), colIterator * inner + innerIterator)) {
+					return null;
+				}
+			}
+		}
+
+		int[] scales1 = packed1.scales;
+		int[] scales2 = packed2.scales;
+		long minProductScale = (long) min(scales1) + min(scales2);
+		long maxProductScale = (long) max(scales1) + max(scales2);
+		long maxAlignment = Math.max(0, maxProductScale) - minProductScale;
+		if (minProductScale < Integer.MIN_VALUE || maxProductScale > Integer.MAX_VALUE || maxAlignment > MAX_ALIGNMENT) {
+			return null;
+		}
+
+		UnscaledAccumulator accumulator = new UnscaledAccumulator((int) maxAlignment);
+		List<List<BigDecimal>> matrixLists = new ArrayList<>(rows);
+
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			BigDecimal[] resultRow = new BigDecimal[columns];
+			int rowStart = rowIterator * inner;
+
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				int colStart = colIterator * inner;
+
+				var scale = 0;
+				for (var innerIterator = 0; innerIterator < inner; innerIterator++) {
+					scale = Math.max(scale, scales1[rowStart + innerIterator] + scales2[colStart + innerIterator]);
+				}
+
+				accumulator.reset();
+				for (var innerIterator = 0; innerIterator < inner; innerIterator++) {
+					int index1 = rowStart + innerIterator;
+					int index2 = colStart + innerIterator;
+					accumulator.addProduct(packed1.lows[index1], packed1.highs[index1], packed1.negatives[index1],
+							packed2.lows[index2], packed2.highs[index2], packed2.negatives[index2], scale - scales1[index1] - scales2[index2]);
+				}
+				resultRow[colIterator] = accumulator.toBigDecimal(scale);
+			}
+			matrixLists.add(Matrix.rowOf(resultRow));
+		}
+
+		return Matrix.wrapRows(matrixLists);
+	}
+
+	private static int min(int[] values) {
+		var min = Integer.MAX_VALUE;
+		for (var value : values) {
+			min = Math.min(min, value);
+		}
+		return min;
+	}
+
+	private static int max(int[] values) {
+		var max = Integer.MIN_VALUE;
+		for (var value : values) {
+			max = Math.max(max, value);
+		}
+		return max;
+	}
+
+	/**
+	 * The unscaled values of a matrix as the low and high words of their magnitudes and their signs, and their scales
+	 */
+	private static final class PackedValues {
+
+		private final long[] lows;
+		private final long[] highs;
+		private final boolean[] negatives;
+		private final int[] scales;
+
+		PackedValues(int size) {
+			this.lows = new long[size];
+			this.highs = new long[size];
+			this.negatives = new boolean[size];
+			this.scales = new int[size];
+		}
+
+		/**
+		 * @return false if the unscaled value of element has more than {@link #MAX_PRECISION} digits
+		 */
+		boolean pack(BigDecimal element, int index) {
+			if (element.precision() > MAX_PRECISION) {
+				return false;
+			}
+
+			// the two's complement words of the unscaled value, negated into a magnitude
+			BigInteger unscaled = element.unscaledValue();
+			long low = unscaled.longValue();
+			long high = unscaled.bitLength() < Long.SIZE ? low >> 63 : unscaled.shiftRight(Long.SIZE).longValue();
+			boolean negative = high < 0;
+			if (negative) {
+				high = ~high + (low == 0 ? 1 : 0);
+				low = -low;
+			}
+
+			lows[index] = low;
+			highs[index] = high;
+			negatives[index] = negative;
+			scales[index] = element.scale();
+			return true;
+		}
+	}
+}
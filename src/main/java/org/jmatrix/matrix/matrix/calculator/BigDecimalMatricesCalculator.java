@@ -1,26 +1,146 @@
 package org.jmatrix.matrix.matrix.calculator;
 
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.concurrent.task.forkJoin.AdaptiveForkJoinThreshold;
+import org.jmatrix.matrix.concurrent.task.forkJoin.MatricesForkJoinDotTask;
+import org.jmatrix.matrix.concurrent.task.parallel.DotTaskDivider;
 import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
 
 import java.math.BigDecimal;
 import java.util.function.BiFunction;
 
+/**
+ * Dot products of BigDecimal matrices. BigDecimal addition is exact, so associative, and the parallel and Fork/Join
+ * dot products also split the inner dimension of small results between tasks.
+ * <p>
+ * Exact products keep growing in digits when dot products are chained. The overloads that take a
+ * {@link BigDecimalRounding} round the results to a fixed precision instead. Rounding isn't associative, so those never
+ * split the inner dimension.
+ */
 public class BigDecimalMatricesCalculator extends MatricesCalculator<BigDecimal> {
 
+	/**
+	 * Accumulates each element of the result in place from the unscaled values of the matrices, see
+	 * {@link BigDecimalDotKernel}, falling back to {@link MatricesCalculator#dot} when the kernel doesn't apply. Both
+	 * give the same result.
+	 */
 	public static Matrix<BigDecimal> dot(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2) {
-		return MatricesCalculator.dot(matrix1, matrix2, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+		validateMatricesForDot(matrix1, matrix2);
+
+		Matrix<BigDecimal> result = BigDecimalDotKernel.multiply(matrix1, matrix2);
+		return result != null ? result : MatricesCalculator.dot(matrix1, matrix2, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
 	}
 
 	public static Matrix<BigDecimal> parallelDot(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2) {
-		return MatricesCalculator.parallelDot(matrix1, matrix2, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+		return parallelDot(matrix1, matrix2, ComputeContext.getDefault());
 	}
 
 	public static Matrix<BigDecimal> parallelDot(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2, int nThreads) {
-		return MatricesCalculator.parallelDot(matrix1, matrix2, nThreads, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+		return MatricesCalculator.parallelDot(matrix1, matrix2, nThreads, ComputeContext.getDefault(), true, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+	}
+
+	public static Matrix<BigDecimal> parallelDot(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2, ComputeContext computeContext) {
+		return MatricesCalculator.parallelDot(matrix1, matrix2, computeContext.getParallelism(), computeContext, true, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+	}
+
+	public static Matrix<BigDecimal> forkJoinDot(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2) {
+		return MatricesCalculator.forkJoinDot(matrix1, matrix2, ComputeContext.getDefault(), true, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+	}
+
+	public static Matrix<BigDecimal> forkJoinDot(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2, ComputeContext computeContext) {
+		return MatricesCalculator.forkJoinDot(matrix1, matrix2, computeContext, true, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
 	}
 
 	public static Matrix<BigDecimal> forkJoinDot(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2, int threshold) {
-		return MatricesCalculator.forkJoinDot(matrix1, matrix2, threshold, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+		return MatricesCalculator.forkJoinDot(matrix1, matrix2, threshold, ComputeContext.getDefault(), true, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+	}
+
+	public static Matrix<BigDecimal> forkJoinDot(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2, int threshold, ComputeContext computeContext) {
+		return MatricesCalculator.forkJoinDot(matrix1, matrix2, threshold, computeContext, true, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+	}
+
+	public static Matrix<BigDecimal> dot(MatrixView<BigDecimal> matrix1, MatrixView<BigDecimal> matrix2) {
+		return MatricesCalculator.dot(matrix1, matrix2, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+	}
+
+	public static Matrix<BigDecimal> parallelDot(MatrixView<BigDecimal> matrix1, MatrixView<BigDecimal> matrix2, ComputeContext computeContext) {
+		return MatricesCalculator.parallelDot(matrix1, matrix2, computeContext, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+	}
+
+	public static Matrix<BigDecimal> forkJoinDot(MatrixView<BigDecimal> matrix1, MatrixView<BigDecimal> matrix2, ComputeContext computeContext) {
+		return MatricesCalculator.forkJoinDot(matrix1, matrix2, computeContext, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+	}
+
+	/**
+	 * Same as {@link #dot(Matrix, Matrix)}, rounding to the precision of rounding, either every operation or each
+	 * element of the result, see {@link BigDecimalRounding.Policy}.
+	 */
+	public static Matrix<BigDecimal> dot(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2, BigDecimalRounding rounding) {
+		validateMatricesForDot(matrix1, matrix2);
+
+		return newDotKernel(matrix2, rounding).multiply(new MatrixView<>(matrix1), rounding.getEpilogue());
+	}
+
+	public static Matrix<BigDecimal> parallelDot(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2, BigDecimalRounding rounding) {
+		return parallelDot(matrix1, matrix2, rounding, ComputeContext.getDefault());
+	}
+
+	/**
+	 * Same as {@link #dot(Matrix, Matrix, BigDecimalRounding)}, with the tiles split between the context's threads,
+	 * see {@link DotTaskDivider}.
+	 */
+	public static Matrix<BigDecimal> parallelDot(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2, BigDecimalRounding rounding, ComputeContext computeContext) {
+		validateMatricesForDot(matrix1, matrix2);
+
+		DotTaskDivider dotTaskDivider = new DotTaskDivider(matrix1.getRows(), matrix1.getColumns(), matrix2.getColumns(), computeContext.getParallelism(), false);
+
+		return dotTaskDivider.multiply(matrix1, newDotKernel(matrix2, rounding), rounding.getEpilogue(), computeContext.getExecutorService());
+	}
+
+	public static Matrix<BigDecimal> forkJoinDot(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2, BigDecimalRounding rounding) {
+		return forkJoinDot(matrix1, matrix2, rounding, ComputeContext.getDefault());
+	}
+
+	/**
+	 * Same as {@link #dot(Matrix, Matrix, BigDecimalRounding)}, as Fork/Join tasks with the threshold chosen by
+	 * {@link AdaptiveForkJoinThreshold}.
+	 */
+	public static Matrix<BigDecimal> forkJoinDot(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2, BigDecimalRounding rounding, ComputeContext computeContext) {
+		validateMatricesForDot(matrix1, matrix2);
+
+		BlockedDotKernel<BigDecimal> dotKernel = newDotKernel(matrix2, rounding);
+		int computationsPerTaskThreshold = AdaptiveForkJoinThreshold.forDot(matrix1, dotKernel, computeContext.getForkJoinPool().getParallelism());
+
+		return computeContext.getForkJoinPool().invoke(new MatricesForkJoinDotTask<>(new MatrixView<>(matrix1), computationsPerTaskThreshold, dotKernel, true, false, rounding.getEpilogue()));
+	}
+
+	private static BlockedDotKernel<BigDecimal> newDotKernel(Matrix<BigDecimal> matrix2, BigDecimalRounding rounding) {
+		return new BlockedDotKernel<>(matrix2, getZeroVal(), rounding.getMultiplyFunction(), rounding.getAccumulatorFunction());
+	}
+
+	public static void dotInto(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2, Matrix<BigDecimal> out) {
+		MatricesCalculator.dotInto(matrix1, matrix2, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction(), out);
+	}
+
+	public static void parallelDotInto(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2, Matrix<BigDecimal> out) {
+		parallelDotInto(matrix1, matrix2, ComputeContext.getDefault(), out);
+	}
+
+	public static void parallelDotInto(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2, ComputeContext computeContext, Matrix<BigDecimal> out) {
+		MatricesCalculator.parallelDotInto(matrix1, matrix2, computeContext, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction(), out);
+	}
+
+	public static Matrix<BigDecimal> strassenDot(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2) {
+		return MatricesCalculator.strassenDot(matrix1, matrix2, getZeroVal(), getAccumulatorFunction(), getSubtractFunction(), getMultiplyFunction());
+	}
+
+	public static Matrix<BigDecimal> strassenDot(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2, int cutoff) {
+		return strassenDot(matrix1, matrix2, cutoff, ComputeContext.getDefault());
+	}
+
+	public static Matrix<BigDecimal> strassenDot(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2, int cutoff, ComputeContext computeContext) {
+		return MatricesCalculator.strassenDot(matrix1, matrix2, cutoff, computeContext, getZeroVal(), getAccumulatorFunction(), getSubtractFunction(), getMultiplyFunction());
 	}
 
 	public static BiFunction<BigDecimal, BigDecimal, BigDecimal> getMultiplyFunction() {
@@ -34,4 +154,8 @@ public class BigDecimalMatricesCalculator extends MatricesCalculator<BigDecimal>
 	public static BiFunction<BigDecimal, BigDecimal, BigDecimal> getAccumulatorFunction() {
 		return BigDecimal::add;
 	}
+
+	public static BiFunction<BigDecimal, BigDecimal, BigDecimal> getSubtractFunction() {
+		return BigDecimal::subtract;
+	}
 }
@@ -0,0 +1,86 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.function.BiFunction;
+
+/**
+ * Bounds the precision of the BigDecimal dot products of {@link BigDecimalMatricesCalculator}.
+ * <p>
+ * Exact BigDecimal multiplication adds the scales of its operands, so each chained dot product, e.g. a layer of a
+ * neural network, has more digits than the one before it and gets slower and uses more memory. Rounding the results
+ * to a fixed precision keeps the cost of each dot product the same, however many are chained.
+ *
+ * @param mathContext the precision and rounding mode of the results. Its precision must be positive, as a precision of
+ *                    0 is unlimited.
+ * @param policy      when the rounding is applied
+ */
+public record BigDecimalRounding(MathContext mathContext, Policy policy) implements DotEpilogue<BigDecimal> {
+
+	public enum Policy {
+		/**
+		 * Rounds every product and every partial sum. The operands of each operation are bounded, which is cheapest for
+		 * long inner dimensions, but the rounding errors of the partial sums add up.
+		 */
+		PER_OPERATION,
+		/**
+		 * Multiplies and accumulates exactly and rounds each element of the result once, so the result is the correctly
+		 * rounded exact dot product.
+		 */
+		PER_ACCUMULATION
+	}
+
+	public BigDecimalRounding {
+		if (mathContext.getPrecision() < 1) {
+			throw new IllegalArgumentException("Rounding precision must be positive");
+		}
+		if (policy == null) {
+			throw new IllegalArgumentException("Rounding policy must not be null");
+		}
+	}
+
+	public static BigDecimalRounding perOperation(MathContext mathContext) {
+		return new BigDecimalRounding(mathContext, Policy.PER_OPERATION);
+	}
+
+	public static BigDecimalRounding perAccumulation(MathContext mathContext) {
+		return new BigDecimalRounding(mathContext, Policy.PER_ACCUMULATION);
+	}
+
+	public BiFunction<BigDecimal, BigDecimal, BigDecimal> getMultiplyFunction() {
+		if (policy == Policy.PER_OPERATION) {
+			return (multiplicand, multiplier) -> multiplicand.multiply(multiplier, mathContext);
+		}
+		return BigDecimal::multiply;
+	}
+
+	public BiFunction<BigDecimal, BigDecimal, BigDecimal> getAccumulatorFunction() {
+		if (policy == Policy.PER_OPERATION) {
+			return (augend, addend) -> augend.add(addend, mathContext);
+		}
+		return BigDecimal::add;
+	}
+
+	/**
+	 * @return the epilogue that rounds each element of the dot product once it's complete, or null if the operations
+	 * are already rounded
+	 */
+	public DotEpilogue<BigDecimal> getEpilogue() {
+		return policy == Policy.PER_ACCUMULATION ? this : null;
+	}
+
+	/**
+	 * Rounds the elements (row, col) of target, for rows [rowStart, rowEnd) and columns [colStart, colEnd) of the
+	 * result, see {@link DotEpilogue#applyTo}.
+	 */
+	@Override
+	public void applyTo(Object[][] target, int targetRowOffset, int targetColOffset, int rowStart, int rowEnd, int colStart, int colEnd) {
+		for (var rowIterator = rowStart; rowIterator < rowEnd; rowIterator++) {
+			Object[] targetRow = target[rowIterator - targetRowOffset];
+
+			for (var colIterator = colStart; colIterator < colEnd; colIterator++) {
+				targetRow[colIterator - targetColOffset] = ((BigDecimal) targetRow[colIterator - targetColOffset]).round(mathContext);
+			}
+		}
+	}
+}
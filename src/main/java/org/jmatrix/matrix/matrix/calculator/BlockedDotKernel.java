@@ -0,0 +1,290 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * The class {@code BlockedDotKernel} multiplies matrices against a fixed right-hand operand (matrix2) using a
+ * cache-blocked, i-k-j ordered loop.
+ * <p>
+ * The textbook i-j-k loop walks down a column of matrix2 in its innermost loop, touching a different row list on every
+ * iteration. Instead, matrix2 is packed once into a flat row-major array, and the innermost loop walks along a row of
+ * the packed matrix2 and a row of the result. The loops are also split into tiles (see {@link DotTileSizes}) so the
+ * part of matrix2 and the result being worked on stays in cache.
+ * <p>
+ * Each row tile of matrix1 is copied into arrays before it's multiplied (see {@link MatrixView#copyRows}), so either
+ * operand can be a {@linkplain MatrixView#transpose() transposed view}: both are copied by walking along the row lists
+ * of the underlying matrix, and the tiled loops are the same as for a plain matrix.
+ * <p>
+ * Every result element still accumulates its products in ascending order of the inner index, starting from
+ * {@code zeroVal}, so results are identical to the textbook loop even for non-associative accumulator functions.
+ * <p>
+ * A kernel is immutable once created, so a single kernel (and a single packed copy of matrix2) can be shared by
+ * every task of a parallel dot product.
+ *
+ * @param <T> the type of the elements in the matrices
+ */
+public class BlockedDotKernel<T> {
+
+	private final Object[] packedMatrix2;
+	private final int inner;
+	private final int columns;
+	private final T zeroVal;
+	private final BiFunction<T, T, T> multiplyFunction;
+	private final BiFunction<T, T, T> accumulatorFunction;
+	private final DotTileSizes tileSizes;
+
+	public BlockedDotKernel(Matrix<T> matrix2, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) {
+		this(matrix2, zeroVal, multiplyFunction, accumulatorFunction, DotTileSizes.DEFAULT);
+	}
+
+	public BlockedDotKernel(Matrix<T> matrix2, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction, DotTileSizes tileSizes) {
+		this(new MatrixView<>(matrix2), zeroVal, multiplyFunction, accumulatorFunction, tileSizes);
+	}
+
+	/**
+	 * Creates a kernel for a view of matrix2, e.g. a {@linkplain MatrixView#transpose() transposed} view, which is
+	 * packed in the same single pass as a matrix.
+	 */
+	public BlockedDotKernel(MatrixView<T> matrix2, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) {
+		this(matrix2, zeroVal, multiplyFunction, accumulatorFunction, DotTileSizes.DEFAULT);
+	}
+
+	public BlockedDotKernel(MatrixView<T> matrix2, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction, DotTileSizes tileSizes) {
+		this(matrix2.toRowMajorArray(), matrix2.getRows(), matrix2.getColumns(), zeroVal, multiplyFunction, accumulatorFunction, tileSizes);
+	}
+
+	private BlockedDotKernel(Object[] packedMatrix2, int inner, int columns, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction, DotTileSizes tileSizes) {
+		this.packedMatrix2 = packedMatrix2;
+		this.inner = inner;
+		this.columns = columns;
+		this.zeroVal = zeroVal;
+		this.multiplyFunction = multiplyFunction;
+		this.accumulatorFunction = accumulatorFunction;
+		this.tileSizes = tileSizes;
+	}
+
+	/**
+	 * Creates a kernel for an inner x columns matrix2 whose elements are calculated by elements while it's packed,
+	 * e.g. the transpose of a matrix or the result of an element-wise operation, without creating matrix2 itself.
+	 */
+	public static <T> BlockedDotKernel<T> packing(int inner, int columns, ElementSupplier<T> elements, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) {
+		Object[] packed = new Object[inner * columns];
+		for (var rowIterator = 0; rowIterator < inner; rowIterator++) {
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				packed[rowIterator * columns + colIterator] = elements.get(rowIterator, colIterator);
+			}
+		}
+		return new BlockedDotKernel<>(packed, inner, columns, zeroVal, multiplyFunction, accumulatorFunction, DotTileSizes.DEFAULT);
+	}
+
+	/**
+	 * @return a kernel with the same functions and tile sizes for a tiledInner x tiledColumns matrix2 filled by
+	 * repeating this kernel's matrix2, e.g. to time a sample of the same size whatever the size of matrix2
+	 */
+	public BlockedDotKernel<T> tiled(int tiledInner, int tiledColumns) {
+		if (tiledInner < 1 || tiledColumns < 1) {
+			throw new IllegalArgumentException("Tiled matrix must have at least one row and column, but was " + tiledInner + "x" + tiledColumns);
+		}
+
+		Object[] packedTiled = new Object[tiledInner * tiledColumns];
+		for (var rowIterator = 0; rowIterator < tiledInner; rowIterator++) {
+			int matrix2RowStart = (rowIterator % inner) * columns;
+			for (var colIterator = 0; colIterator < tiledColumns; colIterator++) {
+				packedTiled[rowIterator * tiledColumns + colIterator] = packedMatrix2[matrix2RowStart + colIterator % columns];
+			}
+		}
+		return new BlockedDotKernel<>(packedTiled, tiledInner, tiledColumns, zeroVal, multiplyFunction, accumulatorFunction, tileSizes);
+	}
+
+	/**
+	 * Calculates the dot product of matrix1 and the packed matrix2. The caller is responsible for checking that the
+	 * number of columns of matrix1 equals the number of rows of matrix2.
+	 *
+	 * @param matrix1 the first matrix in the dot equation
+	 * @return the dot product of matrix1 and matrix2
+	 */
+	public Matrix<T> multiply(Matrix<T> matrix1) {
+		return multiply(new MatrixView<>(matrix1));
+	}
+
+	/**
+	 * Same as {@link #multiply(Matrix)}, for the rows of a view.
+	 */
+	public Matrix<T> multiply(MatrixView<T> matrix1) {
+		return multiply(matrix1, null);
+	}
+
+	/**
+	 * Same as {@link #multiply(MatrixView)}, applying the epilogue to each row tile of the result as soon as it's
+	 * complete.
+	 */
+	public Matrix<T> multiply(MatrixView<T> matrix1, DotEpilogue<T> epilogue) {
+		Object[][] result = newResult(matrix1.getRows(), columns);
+		multiplyInto(matrix1, 0, matrix1.getRows(), 0, columns, 0, inner, result, 0, 0, epilogue);
+		return toMatrix(result);
+	}
+
+	/**
+	 * Accumulates the products of rows [rowStart, rowEnd) of the matrix1 view and columns [colStart, colEnd) of matrix2, over
+	 * the inner indexes [innerStart, innerEnd), into target. Element (row, col) is accumulated into
+	 * {@code target[row - targetRowOffset][col - targetColOffset]}, which must already hold its starting value,
+	 * usually from {@link #newResult(int, int)}.
+	 * <p>
+	 * Tasks can call this concurrently for regions of the result that don't overlap.
+	 */
+	public void multiplyInto(MatrixView<T> matrix1, int rowStart, int rowEnd, int colStart, int colEnd, int innerStart, int innerEnd, Object[][] target, int targetRowOffset, int targetColOffset) {
+		multiplyInto(matrix1, rowStart, rowEnd, colStart, colEnd, innerStart, innerEnd, target, targetRowOffset, targetColOffset, null);
+	}
+
+	/**
+	 * Same as {@link #multiplyInto(MatrixView, int, int, int, int, int, int, Object[][], int, int)}, and if
+	 * epilogue isn't null, applies it to each row tile once all of its inner indexes have been accumulated. The
+	 * caller must pass the whole inner range, or the epilogue would be applied to part of a sum.
+	 */
+	public void multiplyInto(MatrixView<T> matrix1, int rowStart, int rowEnd, int colStart, int colEnd, int innerStart, int innerEnd, Object[][] target, int targetRowOffset, int targetColOffset, DotEpilogue<T> epilogue) {
+		for (var rowTileStart = rowStart; rowTileStart < rowEnd; rowTileStart += tileSizes.rowTile()) {
+			int rowTileEnd = Math.min(rowTileStart + tileSizes.rowTile(), rowEnd);
+			Object[][] packedRows = matrix1.copyRows(rowTileStart, rowTileEnd);
+
+			for (var innerTileStart = innerStart; innerTileStart < innerEnd; innerTileStart += tileSizes.innerTile()) {
+				int innerTileEnd = Math.min(innerTileStart + tileSizes.innerTile(), innerEnd);
+
+				for (var colTileStart = colStart; colTileStart < colEnd; colTileStart += tileSizes.columnTile()) {
+					int colTileEnd = Math.min(colTileStart + tileSizes.columnTile(), colEnd);
+					multiplyTile(packedRows, target, rowTileStart, rowTileEnd, innerTileStart, innerTileEnd, colTileStart, colTileEnd, targetRowOffset, targetColOffset);
+				}
+			}
+
+			if (epilogue != null) {
+				epilogue.applyTo(target, targetRowOffset, targetColOffset, rowTileStart, rowTileEnd, colStart, colEnd);
+			}
+		}
+	}
+
+	/**
+	 * Calculates rows [rowStart, rowEnd) and columns [colStart, colEnd) of the dot product, over the whole inner
+	 * dimension, and sets each element in the same row and column of out, e.g. a caller-owned result matrix.
+	 * <p>
+	 * Each row tile is accumulated into a scratch array, which is allocated once per call and is only as big as one row
+	 * tile, then copied into out. A row tile of matrix1 is copied before anything is written to the same rows of out,
+	 * so out can be matrix1, as long as no other task is reading those rows at the same time.
+	 */
+	@SuppressWarnings("unchecked")
+	public void multiplyInto(MatrixView<T> matrix1, int rowStart, int rowEnd, int colStart, int colEnd, MatrixView<T> out) {
+		Object[][] scratch = new Object[Math.min(tileSizes.rowTile(), rowEnd - rowStart)][colEnd - colStart];
+
+		for (var rowTileStart = rowStart; rowTileStart < rowEnd; rowTileStart += tileSizes.rowTile()) {
+			int rowTileEnd = Math.min(rowTileStart + tileSizes.rowTile(), rowEnd);
+			for (var scratchRow : scratch) {
+				Arrays.fill(scratchRow, zeroVal);
+			}
+
+			multiplyInto(matrix1, rowTileStart, rowTileEnd, colStart, colEnd, 0, inner, scratch, rowTileStart, colStart);
+
+			for (var rowIterator = rowTileStart; rowIterator < rowTileEnd; rowIterator++) {
+				Object[] scratchRow = scratch[rowIterator - rowTileStart];
+				List<T> outRow = out.getRow(rowIterator);
+				for (var colIterator = colStart; colIterator < colEnd; colIterator++) {
+					outRow.set(colIterator, (T) scratchRow[colIterator - colStart]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Accumulates each element of partial into the matching element of target, for a region of the result whose
+	 * inner indexes were split between target and partial. target must hold the products of the lower inner indexes,
+	 * so each element is still accumulated in ascending order of the inner index, but grouped differently. The result
+	 * only matches {@link #multiply(Matrix)} if the accumulator function is associative with zeroVal as its identity,
+	 * e.g. exact integer or BigDecimal addition.
+	 */
+	@SuppressWarnings("unchecked")
+	public void accumulateInto(Object[][] target, int targetRowOffset, int targetColOffset, Object[][] partial, int partialRowOffset, int partialColOffset, int rowStart, int rowEnd, int colStart, int colEnd) {
+		for (var rowIterator = rowStart; rowIterator < rowEnd; rowIterator++) {
+			Object[] targetRow = target[rowIterator - targetRowOffset];
+			Object[] partialRow = partial[rowIterator - partialRowOffset];
+
+			for (var colIterator = colStart; colIterator < colEnd; colIterator++) {
+				targetRow[colIterator - targetColOffset] = accumulatorFunction.apply(
+						(T) targetRow[colIterator - targetColOffset],
+						(T) partialRow[colIterator - partialColOffset]);
+			}
+		}
+	}
+
+	/**
+	 * @return a rows x columns array with every element set to zeroVal
+	 */
+	public Object[][] newResult(int rows, int columns) {
+		Object[][] result = new Object[rows][columns];
+		for (var row : result) {
+			Arrays.fill(row, zeroVal);
+		}
+		return result;
+	}
+
+	/**
+	 * Converts a result from {@link #newResult(int, int)} into a matrix, copying each of its arrays once into a row.
+	 */
+	public Matrix<T> toMatrix(Object[][] result) {
+		List<List<T>> matrixLists = new ArrayList<>(result.length);
+		for (var row : result) {
+			matrixLists.add(Matrix.rowOf(row));
+		}
+		return Matrix.wrapRows(matrixLists);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void multiplyTile(Object[][] packedRows, Object[][] target, int rowTileStart, int rowTileEnd, int innerTileStart, int innerTileEnd, int colTileStart, int colTileEnd, int targetRowOffset, int targetColOffset) {
+		for (var rowIterator = rowTileStart; rowIterator < rowTileEnd; rowIterator++) {
+			Object[] matrix1Row = packedRows[rowIterator - rowTileStart];
+			Object[] targetRow = target[rowIterator - targetRowOffset];
+
+			for (var elementIndex = innerTileStart; elementIndex < innerTileEnd; elementIndex++) {
+				T matrix1Value = (T) matrix1Row[elementIndex];
+				int matrix2RowStart = elementIndex * columns;
+
+				for (var colIterator = colTileStart; colIterator < colTileEnd; colIterator++) {
+					targetRow[colIterator - targetColOffset] = accumulatorFunction.apply(
+							(T) targetRow[colIterator - targetColOffset],
+							multiplyFunction.apply(matrix1Value, (T) packedMatrix2[matrix2RowStart + colIterator]));
+				}
+			}
+		}
+	}
+
+	public int getInner() {
+		return inner;
+	}
+
+	public int getColumns() {
+		return columns;
+	}
+
+	public DotTileSizes getTileSizes() {
+		return tileSizes;
+	}
+
+	public BiFunction<T, T, T> getMultiplyFunction() {
+		return multiplyFunction;
+	}
+
+	public BiFunction<T, T, T> getAccumulatorFunction() {
+		return accumulatorFunction;
+	}
+
+	/**
+	 * Supplies the element in a row and column of a matrix that hasn't been created, see
+	 * {@link #packing(int, int, ElementSupplier, Object, BiFunction, BiFunction)}.
+	 */
+	@FunctionalInterface
+	public interface ElementSupplier<T> {
+		T get(int row, int column);
+	}
+}
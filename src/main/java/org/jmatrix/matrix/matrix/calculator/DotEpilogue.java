@@ -0,0 +1,18 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+/**
+ * An element-wise operation that the dot products apply to each tile of their result as soon as it's complete, while
+ * the tile is still in cache, instead of in a separate pass over the result. See {@link BiasActivation}.
+ *
+ * @param <T> the type of the elements in the matrices
+ */
+@FunctionalInterface
+public interface DotEpilogue<T> {
+
+	/**
+	 * Replaces each element (row, col) of target, for rows [rowStart, rowEnd) and columns [colStart, colEnd) of the
+	 * result. Element (row, col) is stored in {@code target[row - targetRowOffset][col - targetColOffset]}, as in
+	 * {@link BlockedDotKernel#multiplyInto}, and already holds its complete dot product.
+	 */
+	void applyTo(Object[][] target, int targetRowOffset, int targetColOffset, int rowStart, int rowEnd, int colStart, int colEnd);
+}
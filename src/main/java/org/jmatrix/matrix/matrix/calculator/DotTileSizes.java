@@ -0,0 +1,22 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+/**
+ * The tile sizes used by {@link BlockedDotKernel}. The dot product is computed one tile at a time, where a tile
+ * covers {@code rowTile} rows of matrix1, {@code innerTile} columns of matrix1 (rows of matrix2) and
+ * {@code columnTile} columns of matrix2. The tiles should be small enough for the touched part of matrix2 and the
+ * result to stay in cache while the tile is processed.
+ *
+ * @param rowTile    the number of matrix1 rows per tile
+ * @param innerTile  the number of matrix1 columns / matrix2 rows per tile
+ * @param columnTile the number of matrix2 columns per tile
+ */
+public record DotTileSizes(int rowTile, int innerTile, int columnTile) {
+
+	public static final DotTileSizes DEFAULT = new DotTileSizes(32, 128, 256);
+
+	public DotTileSizes {
+		if (rowTile < 1 || innerTile < 1 || columnTile < 1) {
+			throw new IllegalArgumentException("Tile sizes must be positive");
+		}
+	}
+}
@@ -0,0 +1,209 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.concurrent.task.forkJoin.DoubleForkJoinStrassenDotTask;
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Calculations on multiple {@link DoubleMatrix} instances. This is the primitive counterpart of
+ * {@link MatricesCalculator}: the kernels read and write the flat backing arrays directly, so no element is boxed and
+ * no intermediate object is allocated apart from the result matrix.
+ */
+public abstract class DoubleMatricesCalculator {
+
+	/**
+	 * Combines each element of matrix1 with the matching element in matrix2 using the combine function.
+	 *
+	 * @param matrix1         the first matrix to combine with
+	 * @param matrix2         the second matrix to combine
+	 * @param combineFunction the function to apply each element with
+	 * @return a new matrix with the same dimensions as matrix1 and matrix2 with combineFunction applied on each element
+	 * @throws MatricesIncompatibleForOperationException if the two matrices have different dimensions
+	 */
+	public static DoubleMatrix combine(DoubleMatrix matrix1, DoubleMatrix matrix2, DoubleBinaryOperator combineFunction) throws MatricesIncompatibleForOperationException {
+		validateMatricesForCombine(matrix1, matrix2);
+
+		DoubleMatrix result = new DoubleMatrix(matrix1.getRows(), matrix1.getColumns());
+		combineInto(matrix1, matrix2, combineFunction, result);
+		return result;
+	}
+
+	/**
+	 * Same as {@link #combine}, but writes the result into a caller-owned matrix instead of creating a new one. Each
+	 * element is read before its result is written, so out can be matrix1 or matrix2 to combine in place.
+	 *
+	 * @param out a matrix with the same dimensions as matrix1 and matrix2
+	 * @throws MatricesIncompatibleForOperationException if the matrices or out have different dimensions
+	 */
+	public static void combineInto(DoubleMatrix matrix1, DoubleMatrix matrix2, DoubleBinaryOperator combineFunction, DoubleMatrix out) throws MatricesIncompatibleForOperationException {
+		validateMatricesForCombine(matrix1, matrix2);
+		validateMatricesForCombine(matrix1, out);
+
+		double[] data1 = matrix1.getData();
+		double[] data2 = matrix2.getData();
+		double[] outData = out.getData();
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			var row2 = matrix2.index(rowIterator, 0);
+			var outRow = out.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix1.getColumns(); colIterator++) {
+				outData[outRow + colIterator] = combineFunction.applyAsDouble(data1[row1 + colIterator], data2[row2 + colIterator]);
+			}
+		}
+	}
+
+	/**
+	 * Calculates the dot product of matrix1 and matrix2. The loops are ordered i-k-j so that the innermost loop
+	 * streams through a row of matrix2 and a row of the result, instead of striding down a column of matrix2.
+	 * Each result element still accumulates its products in ascending k order, so results match
+	 * {@link MatricesCalculator#dot} on the equivalent {@code Matrix<Double>}.
+	 *
+	 * @param matrix1 the first matrix in the dot equation
+	 * @param matrix2 the second matrix in the dot equation
+	 * @return the dot product of matrix1 and matrix2
+	 */
+	public static DoubleMatrix dot(DoubleMatrix matrix1, DoubleMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1, matrix2);
+
+		DoubleMatrix result = new DoubleMatrix(matrix1.getRows(), matrix2.getColumns());
+		accumulateDot(matrix1, matrix2, result);
+		return result;
+	}
+
+	/**
+	 * Same as {@link #dot}, but writes the result into a caller-owned matrix instead of creating a new one, so
+	 * repeated products of the same shapes allocate nothing. The rows of out are cleared before they're accumulated
+	 * into, so out can't share its backing array with matrix1 or matrix2.
+	 *
+	 * @param out a matrix with as many rows as matrix1 and as many columns as matrix2
+	 * @throws MatricesIncompatibleForOperationException if the matrices can't be multiplied or out has the wrong
+	 *                                                   dimensions
+	 */
+	public static void dotInto(DoubleMatrix matrix1, DoubleMatrix matrix2, DoubleMatrix out) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1, matrix2);
+		DoubleMatrixCalculator.validateOutput(out, matrix1.getRows(), matrix2.getColumns());
+		if (out.getData() == matrix1.getData() || out.getData() == matrix2.getData()) {
+			throw new IllegalArgumentException("The output of a dot product can't share its backing array with the matrices being multiplied");
+		}
+
+		for (var rowIterator = 0; rowIterator < out.getRows(); rowIterator++) {
+			var outRow = out.index(rowIterator, 0);
+			Arrays.fill(out.getData(), outRow, outRow + out.getColumns(), 0.0);
+		}
+		accumulateDot(matrix1, matrix2, out);
+	}
+
+	private static void accumulateDot(DoubleMatrix matrix1, DoubleMatrix matrix2, DoubleMatrix result) {
+		double[] data1 = matrix1.getData();
+		double[] data2 = matrix2.getData();
+		double[] resultData = result.getData();
+		int columns = matrix2.getColumns();
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+			for (var elementIndex = 0; elementIndex < matrix1.getColumns(); elementIndex++) {
+				var value1 = data1[row1 + elementIndex];
+				var row2 = matrix2.index(elementIndex, 0);
+				for (var colIterator = 0; colIterator < columns; colIterator++) {
+					resultData[resultRow + colIterator] += value1 * data2[row2 + colIterator];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Calculates {@code activation(matrix1 · matrix2 + bias)} in one sweep. Each row of the result has the bias and
+	 * activation applied as soon as its dot products are complete, while it's still in cache, and no intermediate
+	 * matrices are created.
+	 *
+	 * @param bias a matrix with the same dimensions as the dot product
+	 * @throws MatricesIncompatibleForOperationException if the matrices can't be multiplied, or the bias doesn't have
+	 *                                                   the same dimensions as the dot product
+	 */
+	public static DoubleMatrix dot(DoubleMatrix matrix1, DoubleMatrix matrix2, DoubleMatrix bias, DoubleUnaryOperator activationFunction) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1, matrix2);
+		if (bias.getRows() != matrix1.getRows() || bias.getColumns() != matrix2.getColumns()) {
+			throw new MatricesIncompatibleForOperationException("Cannot apply bias to the dot product. Bias is " + bias.getRows() + "x" + bias.getColumns()
+					+ " but the dot product is " + matrix1.getRows() + "x" + matrix2.getColumns());
+		}
+
+		DoubleMatrix result = new DoubleMatrix(matrix1.getRows(), matrix2.getColumns());
+		double[] data1 = matrix1.getData();
+		double[] data2 = matrix2.getData();
+		double[] biasData = bias.getData();
+		double[] resultData = result.getData();
+		int columns = matrix2.getColumns();
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+			for (var elementIndex = 0; elementIndex < matrix1.getColumns(); elementIndex++) {
+				var value1 = data1[row1 + elementIndex];
+				var row2 = matrix2.index(elementIndex, 0);
+				for (var colIterator = 0; colIterator < columns; colIterator++) {
+					resultData[resultRow + colIterator] += value1 * data2[row2 + colIterator];
+				}
+			}
+
+			var biasRow = bias.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				resultData[resultRow + colIterator] = activationFunction.applyAsDouble(resultData[resultRow + colIterator] + biasData[biasRow + colIterator]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Same as {@link #strassenDot(DoubleMatrix, DoubleMatrix, int, ComputeContext)}, with the
+	 * {@link DoubleForkJoinStrassenDotTask#DEFAULT_CUTOFF default cutoff} and context.
+	 */
+	public static DoubleMatrix strassenDot(DoubleMatrix matrix1, DoubleMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		return strassenDot(matrix1, matrix2, DoubleForkJoinStrassenDotTask.DEFAULT_CUTOFF, ComputeContext.getDefault());
+	}
+
+	/**
+	 * Calculates the dot product with the Strassen-Winograd algorithm on the context's
+	 * {@link java.util.concurrent.ForkJoinPool}, see {@link DoubleForkJoinStrassenDotTask}. The result differs from
+	 * {@link #dot} by rounding.
+	 *
+	 * @param cutoff products whose smallest dimension is no larger than the cutoff are calculated by {@link #dot}
+	 */
+	public static DoubleMatrix strassenDot(DoubleMatrix matrix1, DoubleMatrix matrix2, int cutoff, ComputeContext computeContext) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1, matrix2);
+
+		return computeContext.getForkJoinPool().invoke(new DoubleForkJoinStrassenDotTask(matrix1, matrix2, cutoff));
+	}
+
+	/**
+	 * The number of columns of the 1st matrix must equal the number of rows of the 2nd matrix.
+	 *
+	 * @return true if the dot operation can be performed on matrix1 & matrix2
+	 */
+	protected static boolean canDot(DoubleMatrix matrix1, DoubleMatrix matrix2) {
+		return matrix1.getColumns() == matrix2.getRows();
+	}
+
+	protected static void validateMatricesForDot(DoubleMatrix matrix1, DoubleMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		if (!canDot(matrix1, matrix2)) {
+			throw new MatricesIncompatibleForOperationException(generateIncompatibleMatricesForDotError(matrix1, matrix2));
+		}
+	}
+
+	protected static void validateMatricesForCombine(DoubleMatrix matrix1, DoubleMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		if (!DoubleMatrix.isSameDimensions(matrix1, matrix2)) {
+			throw new MatricesIncompatibleForOperationException(MatricesCalculator.CANNOT_COMBINE_MATRICES_ERROR_MSG);
+		}
+	}
+
+	protected static String generateIncompatibleMatricesForDotError(DoubleMatrix matrix1, DoubleMatrix matrix2) {
+		return "Cannot create dot product for matrices. Matrices are incompatible for multiplication." +
+				"Columns of matrix 1: " + matrix1.getColumns() + " does not match rows of matrix 2: " + matrix2.getRows();
+	}
+}
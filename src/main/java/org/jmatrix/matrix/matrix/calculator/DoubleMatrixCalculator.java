@@ -0,0 +1,101 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Single matrix operations on a {@link DoubleMatrix}. This is the primitive counterpart of {@link MatrixCalculator}.
+ */
+public abstract class DoubleMatrixCalculator {
+
+	public static DoubleMatrix transform(DoubleMatrix matrix, DoubleUnaryOperator function) {
+		DoubleMatrix result = new DoubleMatrix(matrix.getRows(), matrix.getColumns());
+		transformInto(matrix, function, result);
+		return result;
+	}
+
+	/**
+	 * Same as {@link #transform}, but writes the result into a caller-owned matrix instead of creating a new one. out
+	 * can be matrix, see {@link #transformInPlace}.
+	 *
+	 * @throws MatricesIncompatibleForOperationException if out has different dimensions
+	 */
+	public static void transformInto(DoubleMatrix matrix, DoubleUnaryOperator function, DoubleMatrix out) throws MatricesIncompatibleForOperationException {
+		validateOutput(out, matrix.getRows(), matrix.getColumns());
+
+		double[] data = matrix.getData();
+		double[] outData = out.getData();
+
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			var row = matrix.index(rowIterator, 0);
+			var outRow = out.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix.getColumns(); colIterator++) {
+				outData[outRow + colIterator] = function.applyAsDouble(data[row + colIterator]);
+			}
+		}
+	}
+
+	public static void transformInPlace(DoubleMatrix matrix, DoubleUnaryOperator function) {
+		transformInto(matrix, function, matrix);
+	}
+
+	public static DoubleMatrix transpose(DoubleMatrix matrix) {
+		DoubleMatrix result = new DoubleMatrix(matrix.getColumns(), matrix.getRows());
+		transposeInto(matrix, result);
+		return result;
+	}
+
+	/**
+	 * Same as {@link #transpose}, but writes the result into a caller-owned matrix instead of creating a new one. Use
+	 * {@link #transposeInPlace} to transpose a square matrix in place.
+	 *
+	 * @throws MatricesIncompatibleForOperationException if out has the wrong dimensions
+	 */
+	public static void transposeInto(DoubleMatrix matrix, DoubleMatrix out) throws MatricesIncompatibleForOperationException {
+		validateOutput(out, matrix.getColumns(), matrix.getRows());
+		if (out.getData() == matrix.getData()) {
+			throw new IllegalArgumentException("The output of a transpose can't share its backing array with the matrix being transposed, use transposeInPlace instead");
+		}
+
+		double[] data = matrix.getData();
+		double[] outData = out.getData();
+
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			var row = matrix.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix.getColumns(); colIterator++) {
+				outData[out.index(colIterator, rowIterator)] = data[row + colIterator];
+			}
+		}
+	}
+
+	/**
+	 * Transposes a square matrix by swapping each element above the diagonal with the matching element below it.
+	 *
+	 * @throws MatricesIncompatibleForOperationException if the matrix isn't square
+	 */
+	public static void transposeInPlace(DoubleMatrix matrix) throws MatricesIncompatibleForOperationException {
+		if (matrix.getRows() != matrix.getColumns()) {
+			throw new MatricesIncompatibleForOperationException("Cannot transpose a " + matrix.getRows() + "x" + matrix.getColumns() + " matrix in place. Matrix must be square.");
+		}
+
+		double[] data = matrix.getData();
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			for (var colIterator = rowIterator + 1; colIterator < matrix.getColumns(); colIterator++) {
+				var upper = matrix.index(rowIterator, colIterator);
+				var lower = matrix.index(colIterator, rowIterator);
+				var value = data[upper];
+				data[upper] = data[lower];
+				data[lower] = value;
+			}
+		}
+	}
+
+	static void validateOutput(DoubleMatrix out, int rows, int columns) throws MatricesIncompatibleForOperationException {
+		if (out.getRows() != rows || out.getColumns() != columns) {
+			throw new MatricesIncompatibleForOperationException("Cannot write result to the output matrix. Output is " + out.getRows() + "x" + out.getColumns()
+					+ " but the result is " + rows + "x" + columns);
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import java.math.RoundingMode;
+
+/**
+ * Exact arithmetic on the unscaled values of fixed-point decimals, used by {@link FixedPointMatricesCalculator}.
+ * <p>
+ * Products and sums of products are kept as signed 128-bit integers, a high and a low long, and only rounded once
+ * when they're rescaled into a long, the same way {@link java.math.BigDecimal#setScale(int, RoundingMode)} rounds.
+ * Nothing is allocated.
+ */
+final class FixedPointArithmetic {
+
+	/**
+	 * 10^n for n in [0, 18], the largest powers of ten that fit in a long
+	 */
+	static final long[] POWERS_OF_TEN = new long[19];
+
+	/**
+	 * The most digits divided out of a 128-bit value at once, so the remainder fits in 30 bits and can be shifted
+	 * left by 32 bits in a long
+	 */
+	private static final int DIVISION_DIGITS = 9;
+
+	private static final long LOW_32_BITS = 0xFFFFFFFFL;
+
+	static {
+		POWERS_OF_TEN[0] = 1;
+		for (var i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+		}
+	}
+
+	private FixedPointArithmetic() {
+	}
+
+	/**
+	 * @return the unscaled value of {@code multiplicand * multiplier}, where the product has the sum of the scales of
+	 * its operands, productScale, rounded to toScale
+	 * @throws ArithmeticException if the result doesn't fit in a long, or roundingMode is
+	 *                             {@link RoundingMode#UNNECESSARY} and the product has to be rounded
+	 */
+	static long multiply(long multiplicand, long multiplier, int productScale, int toScale, RoundingMode roundingMode) {
+		return rescale(Math.multiplyHigh(multiplicand, multiplier), multiplicand * multiplier, productScale, toScale, roundingMode);
+	}
+
+	/**
+	 * Adds the signed 128-bit product {@code multiplicand * multiplier} to the accumulator at index.
+	 *
+	 * @throws ArithmeticException if the sum doesn't fit in 128 bits
+	 */
+	static void addProduct(long[] highs, long[] lows, int index, long multiplicand, long multiplier) {
+		long productLow = multiplicand * multiplier;
+		long productHigh = Math.multiplyHigh(multiplicand, multiplier);
+
+		long low = lows[index] + productLow;
+		long carry = Long.compareUnsigned(low, productLow) < 0 ? 1 : 0;
+		long high = highs[index] + productHigh + carry;
+		if (((highs[index] ^ high) & (productHigh ^ high)) < 0) {
+			throw new ArithmeticException("Fixed-point dot product overflowed 128 bits");
+		}
+
+		highs[index] = high;
+		lows[index] = low;
+	}
+
+	/**
+	 * @return the signed 128-bit unscaled value (high, low) with scale fromScale, rounded to toScale
+	 * @throws ArithmeticException if the result doesn't fit in a long, or roundingMode is
+	 *                             {@link RoundingMode#UNNECESSARY} and the value has to be rounded
+	 */
+	static long rescale(long high, long low, int fromScale, int toScale, RoundingMode roundingMode) {
+		if (toScale >= fromScale) {
+			if (high != low >> 63) {
+				throw overflow();
+			}
+			return toScale == fromScale ? low : Math.multiplyExact(low, POWERS_OF_TEN[toScale - fromScale]);
+		}
+
+		boolean negative = high < 0;
+		if (negative) {
+			high = ~high + (low == 0 ? 1 : 0);
+			low = -low;
+		}
+
+		// long division of the magnitude by 10^(fromScale - toScale), a few digits at a time. Only the remainder of the
+		// last division is needed to round, and whether any earlier one was non-zero.
+		long remainder = 0;
+		long divisor = 1;
+		var sticky = false;
+		for (int digits = fromScale - toScale; digits > 0; ) {
+			int divisionDigits = Math.min(digits, DIVISION_DIGITS);
+			digits -= divisionDigits;
+			sticky |= remainder != 0;
+			divisor = POWERS_OF_TEN[divisionDigits];
+
+			long current = high >>> 32;
+			long quotient3 = current / divisor;
+			current = (current % divisor) << 32 | (high & LOW_32_BITS);
+			long quotient2 = current / divisor;
+			current = (current % divisor) << 32 | (low >>> 32);
+			long quotient1 = current / divisor;
+			current = (current % divisor) << 32 | (low & LOW_32_BITS);
+			long quotient0 = current / divisor;
+			remainder = current % divisor;
+
+			high = quotient3 << 32 | quotient2;
+			low = quotient1 << 32 | quotient0;
+		}
+
+		if (roundUp(roundingMode, negative, (low & 1) != 0, remainder, divisor, sticky)) {
+			low++;
+			if (low == 0) {
+				high++;
+			}
+		}
+
+		if (high != 0 || (low < 0 && !(negative && low == Long.MIN_VALUE))) {
+			throw overflow();
+		}
+		return negative ? -low : low;
+	}
+
+	/**
+	 * @param odd       whether the truncated magnitude is odd
+	 * @param remainder the remainder of the last division, by divisor
+	 * @param sticky    whether any digit below the last division was non-zero
+	 * @return whether the truncated magnitude should be incremented
+	 */
+	private static boolean roundUp(RoundingMode roundingMode, boolean negative, boolean odd, long remainder, long divisor, boolean sticky) {
+		if (remainder == 0 && !sticky) {
+			return false;
+		}
+
+		// divisor is a positive power of ten, so even, and 2 * remainder == divisor is exactly half only without sticky
+		int comparedToHalf = Long.compare(2 * remainder, divisor);
+		if (comparedToHalf == 0 && sticky) {
+			comparedToHalf = 1;
+		}
+
+		return switch (roundingMode) {
+			case UP -> true;
+			case DOWN -> false;
+			case CEILING -> !negative;
+			case FLOOR -> negative;
+			case HALF_UP -> comparedToHalf >= 0;
+			case HALF_DOWN -> comparedToHalf > 0;
+			case HALF_EVEN -> comparedToHalf > 0 || (comparedToHalf == 0 && odd);
+			case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+		};
+	}
+
+	private static ArithmeticException overflow() {
+		return new ArithmeticException("Fixed-point result doesn't fit in a long");
+	}
+}
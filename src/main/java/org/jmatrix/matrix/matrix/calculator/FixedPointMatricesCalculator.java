@@ -0,0 +1,206 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.FixedPointMatrix;
+
+import java.math.RoundingMode;
+
+/**
+ * Calculations on multiple {@link FixedPointMatrix} instances. This is the fixed-point counterpart of
+ * {@link BigDecimalMatricesCalculator}: every result is the exact result rounded to the scale of the output, the same
+ * as the BigDecimal calculation followed by {@link java.math.BigDecimal#setScale(int, RoundingMode)}, but the kernels
+ * work on the unscaled longs in the backing arrays, so no element is boxed and no intermediate object is allocated.
+ * <p>
+ * Results that don't fit in a long throw an {@link ArithmeticException}, like {@link Math#addExact}, rather than
+ * overflowing silently.
+ */
+public abstract class FixedPointMatricesCalculator {
+
+	public static final String CANNOT_COMBINE_SCALES_ERROR_MSG = "Cannot add or subtract fixed-point matrices with different scales.";
+
+	/**
+	 * Adds each element of matrix1 to the matching element in matrix2.
+	 *
+	 * @throws MatricesIncompatibleForOperationException if the matrices have different dimensions or scales
+	 * @throws ArithmeticException                       if a sum doesn't fit in a long
+	 */
+	public static FixedPointMatrix add(FixedPointMatrix matrix1, FixedPointMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		validateMatricesForAdd(matrix1, matrix2);
+
+		FixedPointMatrix result = new FixedPointMatrix(matrix1.getRows(), matrix1.getColumns(), matrix1.getScale());
+		long[] data1 = matrix1.getData();
+		long[] data2 = matrix2.getData();
+		long[] resultData = result.getData();
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			var row2 = matrix2.index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix1.getColumns(); colIterator++) {
+				resultData[resultRow + colIterator] = Math.addExact(data1[row1 + colIterator], data2[row2 + colIterator]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Subtracts each element of matrix2 from the matching element in matrix1.
+	 *
+	 * @throws MatricesIncompatibleForOperationException if the matrices have different dimensions or scales
+	 * @throws ArithmeticException                       if a difference doesn't fit in a long
+	 */
+	public static FixedPointMatrix subtract(FixedPointMatrix matrix1, FixedPointMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		validateMatricesForAdd(matrix1, matrix2);
+
+		FixedPointMatrix result = new FixedPointMatrix(matrix1.getRows(), matrix1.getColumns(), matrix1.getScale());
+		long[] data1 = matrix1.getData();
+		long[] data2 = matrix2.getData();
+		long[] resultData = result.getData();
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			var row2 = matrix2.index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix1.getColumns(); colIterator++) {
+				resultData[resultRow + colIterator] = Math.subtractExact(data1[row1 + colIterator], data2[row2 + colIterator]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Multiplies each element of matrix1 by the matching element in matrix2. Each product is calculated exactly in 128
+	 * bits and rounded to resultScale.
+	 *
+	 * @throws MatricesIncompatibleForOperationException if the matrices have different dimensions
+	 * @throws ArithmeticException                       if a product doesn't fit in a long at resultScale
+	 */
+	public static FixedPointMatrix multiplyElements(FixedPointMatrix matrix1, FixedPointMatrix matrix2, int resultScale, RoundingMode roundingMode) throws MatricesIncompatibleForOperationException {
+		validateMatricesForCombine(matrix1, matrix2);
+
+		FixedPointMatrix result = new FixedPointMatrix(matrix1.getRows(), matrix1.getColumns(), resultScale);
+		int productScale = matrix1.getScale() + matrix2.getScale();
+		long[] data1 = matrix1.getData();
+		long[] data2 = matrix2.getData();
+		long[] resultData = result.getData();
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			var row2 = matrix2.index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix1.getColumns(); colIterator++) {
+				resultData[resultRow + colIterator] = FixedPointArithmetic.multiply(data1[row1 + colIterator], data2[row2 + colIterator], productScale, resultScale, roundingMode);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Same as {@link #dot(FixedPointMatrix, FixedPointMatrix, int, RoundingMode)}, with the larger scale of the two
+	 * matrices and {@link RoundingMode#HALF_EVEN}.
+	 */
+	public static FixedPointMatrix dot(FixedPointMatrix matrix1, FixedPointMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		return dot(matrix1, matrix2, Math.max(matrix1.getScale(), matrix2.getScale()), RoundingMode.HALF_EVEN);
+	}
+
+	/**
+	 * Calculates the dot product of matrix1 and matrix2. Each element of the result is accumulated exactly as a 128-bit
+	 * integer, at the sum of the scales of the matrices, and rounded once to resultScale, so the result equals the
+	 * exact BigDecimal dot product of the same values rounded to resultScale.
+	 * <p>
+	 * The loops are ordered i-k-j, like {@link DoubleMatricesCalculator#dot}, so the innermost loop streams through a
+	 * row of matrix2 and a row of 128-bit accumulators.
+	 *
+	 * @throws MatricesIncompatibleForOperationException if the matrices can't be multiplied
+	 * @throws ArithmeticException                       if a sum of products doesn't fit in 128 bits, or an element of
+	 *                                                   the result doesn't fit in a long at resultScale
+	 */
+	public static FixedPointMatrix dot(FixedPointMatrix matrix1, FixedPointMatrix matrix2, int resultScale, RoundingMode roundingMode) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1, matrix2);
+
+		FixedPointMatrix result = new FixedPointMatrix(matrix1.getRows(), matrix2.getColumns(), resultScale);
+		accumulateDot(matrix1, matrix2, roundingMode, result);
+		return result;
+	}
+
+	/**
+	 * Same as {@link #dot(FixedPointMatrix, FixedPointMatrix, int, RoundingMode)}, rounded to the scale of a
+	 * caller-owned matrix and written into it instead of creating a new one. The only buffers allocated are the
+	 * accumulators for one row of the result. out can't share its backing array with matrix1 or matrix2.
+	 *
+	 * @param out a matrix with as many rows as matrix1 and as many columns as matrix2
+	 * @throws MatricesIncompatibleForOperationException if the matrices can't be multiplied or out has the wrong
+	 *                                                   dimensions
+	 */
+	public static void dotInto(FixedPointMatrix matrix1, FixedPointMatrix matrix2, RoundingMode roundingMode, FixedPointMatrix out) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1, matrix2);
+		if (out.getRows() != matrix1.getRows() || out.getColumns() != matrix2.getColumns()) {
+			throw new MatricesIncompatibleForOperationException("Cannot write the result into the output matrix. Output is " + out.getRows() + "x" + out.getColumns()
+					+ " but the result is " + matrix1.getRows() + "x" + matrix2.getColumns());
+		}
+		if (out.getData() == matrix1.getData() || out.getData() == matrix2.getData()) {
+			throw new IllegalArgumentException("The output of a dot product can't share its backing array with the matrices being multiplied");
+		}
+
+		accumulateDot(matrix1, matrix2, roundingMode, out);
+	}
+
+	private static void accumulateDot(FixedPointMatrix matrix1, FixedPointMatrix matrix2, RoundingMode roundingMode, FixedPointMatrix result) {
+		long[] data1 = matrix1.getData();
+		long[] data2 = matrix2.getData();
+		long[] resultData = result.getData();
+		int columns = matrix2.getColumns();
+		int productScale = matrix1.getScale() + matrix2.getScale();
+		int resultScale = result.getScale();
+
+		long[] highs = new long[columns];
+		long[] lows = new long[columns];
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			for (var elementIndex = 0; elementIndex < matrix1.getColumns(); elementIndex++) {
+				var value1 = data1[row1 + elementIndex];
+				var row2 = matrix2.index(elementIndex, 0);
+				for (var colIterator = 0; colIterator < columns; colIterator++) {
+					FixedPointArithmetic.addProduct(highs, lows, colIterator, value1, data2[row2 + colIterator]);
+				}
+			}
+
+			var resultRow = result.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				resultData[resultRow + colIterator] = FixedPointArithmetic.rescale(highs[colIterator], lows[colIterator], productScale, resultScale, roundingMode);
+				highs[colIterator] = 0;
+				lows[colIterator] = 0;
+			}
+		}
+	}
+
+	/**
+	 * The number of columns of the 1st matrix must equal the number of rows of the 2nd matrix.
+	 *
+	 * @return true if the dot operation can be performed on matrix1 & matrix2
+	 */
+	protected static boolean canDot(FixedPointMatrix matrix1, FixedPointMatrix matrix2) {
+		return matrix1.getColumns() == matrix2.getRows();
+	}
+
+	protected static void validateMatricesForDot(FixedPointMatrix matrix1, FixedPointMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		if (!canDot(matrix1, matrix2)) {
+			throw new MatricesIncompatibleForOperationException("Cannot create dot product for matrices. Matrices are incompatible for multiplication." +
+					"Columns of matrix 1: " + matrix1.getColumns() + " does not match rows of matrix 2: " + matrix2.getRows());
+		}
+	}
+
+	protected static void validateMatricesForCombine(FixedPointMatrix matrix1, FixedPointMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		if (!FixedPointMatrix.isSameDimensions(matrix1, matrix2)) {
+			throw new MatricesIncompatibleForOperationException(MatricesCalculator.CANNOT_COMBINE_MATRICES_ERROR_MSG);
+		}
+	}
+
+	protected static void validateMatricesForAdd(FixedPointMatrix matrix1, FixedPointMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		validateMatricesForCombine(matrix1, matrix2);
+		if (matrix1.getScale() != matrix2.getScale()) {
+			throw new MatricesIncompatibleForOperationException(CANNOT_COMBINE_SCALES_ERROR_MSG);
+		}
+	}
+}
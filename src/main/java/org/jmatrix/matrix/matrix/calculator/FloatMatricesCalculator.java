@@ -0,0 +1,219 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.FloatMatrix;
+import org.jmatrix.matrix.matrix.HalfMatrix;
+
+import java.util.Arrays;
+
+/**
+ * Dot products of {@link FloatMatrix} and {@link HalfMatrix} instances, accumulated in float. This is the float32
+ * counterpart of {@link DoubleMatricesCalculator}, see
+ * {@link org.jmatrix.matrix.matrix.calculator.vector.VectorMatricesCalculator} for the SIMD versions of the
+ * float-only kernels.
+ * <p>
+ * The 16-bit elements of a {@link HalfMatrix} are widened to float as they're read, and every product and sum is a
+ * float operation in the same order as {@link #dot(FloatMatrix, FloatMatrix)}, so the results are identical to
+ * widening the matrix with {@link HalfMatrix#toFloatMatrix()} first, without allocating the wider copy or reading it
+ * back from memory.
+ */
+public abstract class FloatMatricesCalculator {
+
+	/**
+	 * The number of independent sums each row of a matrix-vector product is split into, so consecutive additions don't
+	 * wait for each other
+	 */
+	private static final int PARTIAL_SUMS = 4;
+
+	/**
+	 * Calculates the dot product of matrix1 and matrix2. The loops are ordered i-k-j, like
+	 * {@link DoubleMatricesCalculator#dot}, apart from matrix-vector products, which are summed in
+	 * {@link #PARTIAL_SUMS} interleaved partial sums per row.
+	 */
+	public static FloatMatrix dot(FloatMatrix matrix1, FloatMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1.getColumns(), matrix2.getRows());
+
+		FloatMatrix result = new FloatMatrix(matrix1.getRows(), matrix2.getColumns());
+		float[] data1 = matrix1.getData();
+		float[] data2 = matrix2.getData();
+		float[] resultData = result.getData();
+		int columns = matrix2.getColumns();
+
+		if (columns == 1) {
+			// see accumulateMatrixVectorDot
+			float[] vector = copyColumn(matrix2);
+			for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+				var row1 = matrix1.index(rowIterator, 0);
+				float sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+				var elementIndex = 0;
+				for (; elementIndex <= vector.length - PARTIAL_SUMS; elementIndex += PARTIAL_SUMS) {
+					sum0 += data1[row1 + elementIndex] * vector[elementIndex];
+					sum1 += data1[row1 + elementIndex + 1] * vector[elementIndex + 1];
+					sum2 += data1[row1 + elementIndex + 2] * vector[elementIndex + 2];
+					sum3 += data1[row1 + elementIndex + 3] * vector[elementIndex + 3];
+				}
+				for (; elementIndex < vector.length; elementIndex++) {
+					sum0 += data1[row1 + elementIndex] * vector[elementIndex];
+				}
+				resultData[result.index(rowIterator, 0)] = (sum0 + sum1) + (sum2 + sum3);
+			}
+			return result;
+		}
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+			for (var elementIndex = 0; elementIndex < matrix1.getColumns(); elementIndex++) {
+				var value1 = data1[row1 + elementIndex];
+				var row2 = matrix2.index(elementIndex, 0);
+				for (var colIterator = 0; colIterator < columns; colIterator++) {
+					resultData[resultRow + colIterator] += value1 * data2[row2 + colIterator];
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Calculates the dot product of 16-bit weights and float inputs, e.g. a layer whose weights are stored in half
+	 * precision. Each weight is widened once, in the middle loop, so a matrix-vector product reads 2 bytes per weight
+	 * instead of 4 or 8.
+	 */
+	public static FloatMatrix dot(HalfMatrix matrix1, FloatMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1.getColumns(), matrix2.getRows());
+
+		FloatMatrix result = new FloatMatrix(matrix1.getRows(), matrix2.getColumns());
+		accumulateDot(matrix1, matrix2, result);
+		return result;
+	}
+
+	/**
+	 * Same as {@link #dot(HalfMatrix, FloatMatrix)}, but writes the result into a caller-owned matrix instead of
+	 * creating a new one, so repeated products of the same shapes allocate nothing. The rows of out are cleared before
+	 * they're accumulated into, so out can't share its backing array with matrix2.
+	 *
+	 * @param out a matrix with as many rows as matrix1 and as many columns as matrix2
+	 * @throws MatricesIncompatibleForOperationException if the matrices can't be multiplied or out has the wrong
+	 *                                                   dimensions
+	 */
+	public static void dotInto(HalfMatrix matrix1, FloatMatrix matrix2, FloatMatrix out) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1.getColumns(), matrix2.getRows());
+		if (out.getRows() != matrix1.getRows() || out.getColumns() != matrix2.getColumns()) {
+			throw new MatricesIncompatibleForOperationException("Cannot write the result into the output matrix. Output is " + out.getRows() + "x" + out.getColumns()
+					+ " but the result is " + matrix1.getRows() + "x" + matrix2.getColumns());
+		}
+		if (out.getData() == matrix2.getData()) {
+			throw new IllegalArgumentException("The output of a dot product can't share its backing array with the matrices being multiplied");
+		}
+
+		for (var rowIterator = 0; rowIterator < out.getRows(); rowIterator++) {
+			var outRow = out.index(rowIterator, 0);
+			Arrays.fill(out.getData(), outRow, outRow + out.getColumns(), 0.0f);
+		}
+		accumulateDot(matrix1, matrix2, out);
+	}
+
+	private static void accumulateDot(HalfMatrix matrix1, FloatMatrix matrix2, FloatMatrix result) {
+		short[] data1 = matrix1.getData();
+		float[] data2 = matrix2.getData();
+		float[] resultData = result.getData();
+		HalfMatrix.Format format = matrix1.getFormat();
+		int columns = matrix2.getColumns();
+
+		if (columns == 1) {
+			accumulateMatrixVectorDot(matrix1, matrix2, result);
+			return;
+		}
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+			for (var elementIndex = 0; elementIndex < matrix1.getColumns(); elementIndex++) {
+				var value1 = format.toFloat(data1[row1 + elementIndex]);
+				var row2 = matrix2.index(elementIndex, 0);
+				for (var colIterator = 0; colIterator < columns; colIterator++) {
+					resultData[resultRow + colIterator] += value1 * data2[row2 + colIterator];
+				}
+			}
+		}
+	}
+
+	/**
+	 * The i-k-j loops with a single column of matrix2 would load and store the same result element for every product,
+	 * one after the other. Instead, each row is summed in {@link #PARTIAL_SUMS} local variables, over a contiguous
+	 * copy of the vector, and the partial sums are added at the end. The results can differ from the i-k-j order by
+	 * rounding, but are still identical to {@link #dot(FloatMatrix, FloatMatrix)} of the widened matrix.
+	 */
+	private static void accumulateMatrixVectorDot(HalfMatrix matrix1, FloatMatrix matrix2, FloatMatrix result) {
+		short[] data1 = matrix1.getData();
+		float[] resultData = result.getData();
+		HalfMatrix.Format format = matrix1.getFormat();
+		float[] vector = copyColumn(matrix2);
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			float sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+			var elementIndex = 0;
+			for (; elementIndex <= vector.length - PARTIAL_SUMS; elementIndex += PARTIAL_SUMS) {
+				sum0 += format.toFloat(data1[row1 + elementIndex]) * vector[elementIndex];
+				sum1 += format.toFloat(data1[row1 + elementIndex + 1]) * vector[elementIndex + 1];
+				sum2 += format.toFloat(data1[row1 + elementIndex + 2]) * vector[elementIndex + 2];
+				sum3 += format.toFloat(data1[row1 + elementIndex + 3]) * vector[elementIndex + 3];
+			}
+			for (; elementIndex < vector.length; elementIndex++) {
+				sum0 += format.toFloat(data1[row1 + elementIndex]) * vector[elementIndex];
+			}
+			resultData[result.index(rowIterator, 0)] = (sum0 + sum1) + (sum2 + sum3);
+		}
+	}
+
+	private static float[] copyColumn(FloatMatrix matrix) {
+		float[] column = new float[matrix.getRows()];
+		for (var rowIterator = 0; rowIterator < column.length; rowIterator++) {
+			column[rowIterator] = matrix.getData()[matrix.index(rowIterator, 0)];
+		}
+		return column;
+	}
+
+	/**
+	 * Calculates the dot product of float inputs and 16-bit weights, e.g. a batch of inputs, one per row, times the
+	 * weights of a layer. The loops are ordered k-i-j: each row of matrix2 is widened once into a buffer and then
+	 * multiplied by every row of matrix1, so no weight is widened more than once. Each result element still
+	 * accumulates its products in ascending k order.
+	 */
+	public static FloatMatrix dot(FloatMatrix matrix1, HalfMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1.getColumns(), matrix2.getRows());
+
+		FloatMatrix result = new FloatMatrix(matrix1.getRows(), matrix2.getColumns());
+		float[] data1 = matrix1.getData();
+		short[] data2 = matrix2.getData();
+		float[] resultData = result.getData();
+		HalfMatrix.Format format = matrix2.getFormat();
+		int columns = matrix2.getColumns();
+
+		float[] widenedRow = new float[columns];
+
+		for (var elementIndex = 0; elementIndex < matrix1.getColumns(); elementIndex++) {
+			var row2 = matrix2.index(elementIndex, 0);
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				widenedRow[colIterator] = format.toFloat(data2[row2 + colIterator]);
+			}
+
+			for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+				var value1 = data1[matrix1.index(rowIterator, elementIndex)];
+				var resultRow = result.index(rowIterator, 0);
+				for (var colIterator = 0; colIterator < columns; colIterator++) {
+					resultData[resultRow + colIterator] += value1 * widenedRow[colIterator];
+				}
+			}
+		}
+		return result;
+	}
+
+	private static void validateMatricesForDot(int columns1, int rows2) throws MatricesIncompatibleForOperationException {
+		if (columns1 != rows2) {
+			throw new MatricesIncompatibleForOperationException("Cannot create dot product for matrices. Matrices are incompatible for multiplication." +
+					"Columns of matrix 1: " + columns1 + " does not match rows of matrix 2: " + rows2);
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.IntMatrix;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Calculations on multiple {@link IntMatrix} instances. This is the primitive counterpart of
+ * {@link IntegerMatricesCalculator}: the kernels read and write the flat backing arrays directly, so no element is
+ * boxed.
+ * <p>
+ * Unlike {@link IntegerMatricesCalculator#getMultiplyFunction()}, which wraps around silently, dot products are
+ * accumulated in longs and only narrowed to an int once each element is complete, and a result that doesn't fit in an
+ * int throws an {@link ArithmeticException}.
+ */
+public abstract class IntMatricesCalculator {
+
+	/**
+	 * Combines each element of matrix1 with the matching element in matrix2 using the combine function.
+	 *
+	 * @param matrix1         the first matrix to combine with
+	 * @param matrix2         the second matrix to combine
+	 * @param combineFunction the function to apply each element with
+	 * @return a new matrix with the same dimensions as matrix1 and matrix2 with combineFunction applied on each element
+	 * @throws MatricesIncompatibleForOperationException if the two matrices have different dimensions
+	 */
+	public static IntMatrix combine(IntMatrix matrix1, IntMatrix matrix2, IntBinaryOperator combineFunction) throws MatricesIncompatibleForOperationException {
+		validateMatricesForCombine(matrix1, matrix2);
+
+		IntMatrix result = new IntMatrix(matrix1.getRows(), matrix1.getColumns());
+		combineInto(matrix1, matrix2, combineFunction, result);
+		return result;
+	}
+
+	/**
+	 * Same as {@link #combine}, but writes the result into a caller-owned matrix instead of creating a new one. Each
+	 * element is read before its result is written, so out can be matrix1 or matrix2 to combine in place.
+	 *
+	 * @param out a matrix with the same dimensions as matrix1 and matrix2
+	 * @throws MatricesIncompatibleForOperationException if the matrices or out have different dimensions
+	 */
+	public static void combineInto(IntMatrix matrix1, IntMatrix matrix2, IntBinaryOperator combineFunction, IntMatrix out) throws MatricesIncompatibleForOperationException {
+		validateMatricesForCombine(matrix1, matrix2);
+		validateMatricesForCombine(matrix1, out);
+
+		int[] data1 = matrix1.getData();
+		int[] data2 = matrix2.getData();
+		int[] outData = out.getData();
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			var row2 = matrix2.index(rowIterator, 0);
+			var outRow = out.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix1.getColumns(); colIterator++) {
+				outData[outRow + colIterator] = combineFunction.applyAsInt(data1[row1 + colIterator], data2[row2 + colIterator]);
+			}
+		}
+	}
+
+	/**
+	 * Calculates the dot product of matrix1 and matrix2. The loops are ordered i-k-j, like
+	 * {@link DoubleMatricesCalculator#dot}, and each row of the result is accumulated in a row of longs.
+	 * <p>
+	 * If the largest magnitudes in the two matrices show that no sum of products can overflow a long, the inner loop
+	 * is plain long arithmetic. Otherwise every addition is checked.
+	 *
+	 * @param matrix1 the first matrix in the dot equation
+	 * @param matrix2 the second matrix in the dot equation
+	 * @return the dot product of matrix1 and matrix2
+	 * @throws MatricesIncompatibleForOperationException if the matrices can't be multiplied
+	 * @throws ArithmeticException                       if an element of the result doesn't fit in an int
+	 */
+	public static IntMatrix dot(IntMatrix matrix1, IntMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1, matrix2);
+
+		IntMatrix result = new IntMatrix(matrix1.getRows(), matrix2.getColumns());
+		accumulateDot(matrix1, matrix2, result);
+		return result;
+	}
+
+	/**
+	 * Same as {@link #dot}, but writes the result into a caller-owned matrix instead of creating a new one. The only
+	 * buffer allocated is the row of long accumulators. out can't share its backing array with matrix1 or matrix2.
+	 *
+	 * @param out a matrix with as many rows as matrix1 and as many columns as matrix2
+	 * @throws MatricesIncompatibleForOperationException if the matrices can't be multiplied or out has the wrong
+	 *                                                   dimensions
+	 * @throws ArithmeticException                       if an element of the result doesn't fit in an int
+	 */
+	public static void dotInto(IntMatrix matrix1, IntMatrix matrix2, IntMatrix out) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1, matrix2);
+		IntMatrixCalculator.validateOutput(out, matrix1.getRows(), matrix2.getColumns());
+		if (out.getData() == matrix1.getData() || out.getData() == matrix2.getData()) {
+			throw new IllegalArgumentException("The output of a dot product can't share its backing array with the matrices being multiplied");
+		}
+
+		accumulateDot(matrix1, matrix2, out);
+	}
+
+	private static void accumulateDot(IntMatrix matrix1, IntMatrix matrix2, IntMatrix result) {
+		int[] data1 = matrix1.getData();
+		int[] data2 = matrix2.getData();
+		int[] resultData = result.getData();
+		int columns = matrix2.getColumns();
+		boolean canOverflow = canOverflowLong(matrix1, matrix2);
+
+		long[] sums = new long[columns];
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			for (var elementIndex = 0; elementIndex < matrix1.getColumns(); elementIndex++) {
+				long value1 = data1[row1 + elementIndex];
+				var row2 = matrix2.index(elementIndex, 0);
+				if (canOverflow) {
+					for (var colIterator = 0; colIterator < columns; colIterator++) {
+						sums[colIterator] = Math.addExact(sums[colIterator], value1 * data2[row2 + colIterator]);
+					}
+				} else {
+					for (var colIterator = 0; colIterator < columns; colIterator++) {
+						sums[colIterator] += value1 * data2[row2 + colIterator];
+					}
+				}
+			}
+
+			var resultRow = result.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				resultData[resultRow + colIterator] = Math.toIntExact(sums[colIterator]);
+				sums[colIterator] = 0;
+			}
+		}
+	}
+
+	/**
+	 * @return false if the sum of matrix1.getColumns() products of the largest magnitudes in each matrix fits in a
+	 * long, so no partial sum of the dot product can overflow
+	 */
+	private static boolean canOverflowLong(IntMatrix matrix1, IntMatrix matrix2) {
+		// the largest product of two ints is (-2^31)^2 = 2^62, so this can't overflow
+		long maxProduct = maxMagnitude(matrix1) * maxMagnitude(matrix2);
+		return maxProduct != 0 && maxProduct > Long.MAX_VALUE / matrix1.getColumns();
+	}
+
+	private static long maxMagnitude(IntMatrix matrix) {
+		int[] data = matrix.getData();
+		long max = 0;
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			var row = matrix.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix.getColumns(); colIterator++) {
+				max = Math.max(max, Math.abs((long) data[row + colIterator]));
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * The number of columns of the 1st matrix must equal the number of rows of the 2nd matrix.
+	 *
+	 * @return true if the dot operation can be performed on matrix1 & matrix2
+	 */
+	protected static boolean canDot(IntMatrix matrix1, IntMatrix matrix2) {
+		return matrix1.getColumns() == matrix2.getRows();
+	}
+
+	protected static void validateMatricesForDot(IntMatrix matrix1, IntMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		if (!canDot(matrix1, matrix2)) {
+			throw new MatricesIncompatibleForOperationException("Cannot create dot product for matrices. Matrices are incompatible for multiplication." +
+					"Columns of matrix 1: " + matrix1.getColumns() + " does not match rows of matrix 2: " + matrix2.getRows());
+		}
+	}
+
+	protected static void validateMatricesForCombine(IntMatrix matrix1, IntMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		if (!IntMatrix.isSameDimensions(matrix1, matrix2)) {
+			throw new MatricesIncompatibleForOperationException(MatricesCalculator.CANNOT_COMBINE_MATRICES_ERROR_MSG);
+		}
+	}
+}
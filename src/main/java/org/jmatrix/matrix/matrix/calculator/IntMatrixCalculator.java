@@ -0,0 +1,101 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.IntMatrix;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Single matrix operations on an {@link IntMatrix}. This is the primitive counterpart of {@link MatrixCalculator}.
+ */
+public abstract class IntMatrixCalculator {
+
+	public static IntMatrix transform(IntMatrix matrix, IntUnaryOperator function) {
+		IntMatrix result = new IntMatrix(matrix.getRows(), matrix.getColumns());
+		transformInto(matrix, function, result);
+		return result;
+	}
+
+	/**
+	 * Same as {@link #transform}, but writes the result into a caller-owned matrix instead of creating a new one. out
+	 * can be matrix, see {@link #transformInPlace}.
+	 *
+	 * @throws MatricesIncompatibleForOperationException if out has different dimensions
+	 */
+	public static void transformInto(IntMatrix matrix, IntUnaryOperator function, IntMatrix out) throws MatricesIncompatibleForOperationException {
+		validateOutput(out, matrix.getRows(), matrix.getColumns());
+
+		int[] data = matrix.getData();
+		int[] outData = out.getData();
+
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			var row = matrix.index(rowIterator, 0);
+			var outRow = out.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix.getColumns(); colIterator++) {
+				outData[outRow + colIterator] = function.applyAsInt(data[row + colIterator]);
+			}
+		}
+	}
+
+	public static void transformInPlace(IntMatrix matrix, IntUnaryOperator function) {
+		transformInto(matrix, function, matrix);
+	}
+
+	public static IntMatrix transpose(IntMatrix matrix) {
+		IntMatrix result = new IntMatrix(matrix.getColumns(), matrix.getRows());
+		transposeInto(matrix, result);
+		return result;
+	}
+
+	/**
+	 * Same as {@link #transpose}, but writes the result into a caller-owned matrix instead of creating a new one. Use
+	 * {@link #transposeInPlace} to transpose a square matrix in place.
+	 *
+	 * @throws MatricesIncompatibleForOperationException if out has the wrong dimensions
+	 */
+	public static void transposeInto(IntMatrix matrix, IntMatrix out) throws MatricesIncompatibleForOperationException {
+		validateOutput(out, matrix.getColumns(), matrix.getRows());
+		if (out.getData() == matrix.getData()) {
+			throw new IllegalArgumentException("The output of a transpose can't share its backing array with the matrix being transposed, use transposeInPlace instead");
+		}
+
+		int[] data = matrix.getData();
+		int[] outData = out.getData();
+
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			var row = matrix.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix.getColumns(); colIterator++) {
+				outData[out.index(colIterator, rowIterator)] = data[row + colIterator];
+			}
+		}
+	}
+
+	/**
+	 * Transposes a square matrix by swapping each element above the diagonal with the matching element below it.
+	 *
+	 * @throws MatricesIncompatibleForOperationException if the matrix isn't square
+	 */
+	public static void transposeInPlace(IntMatrix matrix) throws MatricesIncompatibleForOperationException {
+		if (matrix.getRows() != matrix.getColumns()) {
+			throw new MatricesIncompatibleForOperationException("Cannot transpose a " + matrix.getRows() + "x" + matrix.getColumns() + " matrix in place. Matrix must be square.");
+		}
+
+		int[] data = matrix.getData();
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			for (var colIterator = rowIterator + 1; colIterator < matrix.getColumns(); colIterator++) {
+				var upper = matrix.index(rowIterator, colIterator);
+				var lower = matrix.index(colIterator, rowIterator);
+				var value = data[upper];
+				data[upper] = data[lower];
+				data[lower] = value;
+			}
+		}
+	}
+
+	static void validateOutput(IntMatrix out, int rows, int columns) throws MatricesIncompatibleForOperationException {
+		if (out.getRows() != rows || out.getColumns() != columns) {
+			throw new MatricesIncompatibleForOperationException("Cannot write result to the output matrix. Output is " + out.getRows() + "x" + out.getColumns()
+					+ " but the result is " + rows + "x" + columns);
+		}
+	}
+}
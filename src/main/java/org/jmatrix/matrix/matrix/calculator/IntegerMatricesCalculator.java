@@ -1,9 +1,15 @@
 package org.jmatrix.matrix.matrix.calculator;
 
+import org.jmatrix.matrix.concurrent.ComputeContext;
 import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
 
 import java.util.function.BiFunction;
 
+/**
+ * Dot products of Integer matrices. Integer addition is associative, even when it overflows, so the parallel and
+ * Fork/Join dot products also split the inner dimension of small results between tasks.
+ */
 public class IntegerMatricesCalculator extends MatricesCalculator<Integer> {
 
 	public static Matrix<Integer> dot(Matrix<Integer> matrix1, Matrix<Integer> matrix2) {
@@ -11,15 +17,67 @@ public class IntegerMatricesCalculator extends MatricesCalculator<Integer> {
 	}
 
 	public static Matrix<Integer> parallelDot(Matrix<Integer> matrix1, Matrix<Integer> matrix2) {
-		return MatricesCalculator.parallelDot(matrix1, matrix2, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+		return parallelDot(matrix1, matrix2, ComputeContext.getDefault());
 	}
 
 	public static Matrix<Integer> parallelDot(Matrix<Integer> matrix1, Matrix<Integer> matrix2, int nThreads) {
-		return MatricesCalculator.parallelDot(matrix1, matrix2, nThreads, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+		return MatricesCalculator.parallelDot(matrix1, matrix2, nThreads, ComputeContext.getDefault(), true, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+	}
+
+	public static Matrix<Integer> parallelDot(Matrix<Integer> matrix1, Matrix<Integer> matrix2, ComputeContext computeContext) {
+		return MatricesCalculator.parallelDot(matrix1, matrix2, computeContext.getParallelism(), computeContext, true, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+	}
+
+	public static Matrix<Integer> forkJoinDot(Matrix<Integer> matrix1, Matrix<Integer> matrix2) {
+		return MatricesCalculator.forkJoinDot(matrix1, matrix2, ComputeContext.getDefault(), true, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+	}
+
+	public static Matrix<Integer> forkJoinDot(Matrix<Integer> matrix1, Matrix<Integer> matrix2, ComputeContext computeContext) {
+		return MatricesCalculator.forkJoinDot(matrix1, matrix2, computeContext, true, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
 	}
 
 	public static Matrix<Integer> forkJoinDot(Matrix<Integer> matrix1, Matrix<Integer> matrix2, int threshold) {
-		return MatricesCalculator.forkJoinDot(matrix1, matrix2, threshold, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+		return MatricesCalculator.forkJoinDot(matrix1, matrix2, threshold, ComputeContext.getDefault(), true, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+	}
+
+	public static Matrix<Integer> forkJoinDot(Matrix<Integer> matrix1, Matrix<Integer> matrix2, int threshold, ComputeContext computeContext) {
+		return MatricesCalculator.forkJoinDot(matrix1, matrix2, threshold, computeContext, true, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+	}
+
+	public static Matrix<Integer> dot(MatrixView<Integer> matrix1, MatrixView<Integer> matrix2) {
+		return MatricesCalculator.dot(matrix1, matrix2, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+	}
+
+	public static Matrix<Integer> parallelDot(MatrixView<Integer> matrix1, MatrixView<Integer> matrix2, ComputeContext computeContext) {
+		return MatricesCalculator.parallelDot(matrix1, matrix2, computeContext, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+	}
+
+	public static Matrix<Integer> forkJoinDot(MatrixView<Integer> matrix1, MatrixView<Integer> matrix2, ComputeContext computeContext) {
+		return MatricesCalculator.forkJoinDot(matrix1, matrix2, computeContext, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction());
+	}
+
+	public static void dotInto(Matrix<Integer> matrix1, Matrix<Integer> matrix2, Matrix<Integer> out) {
+		MatricesCalculator.dotInto(matrix1, matrix2, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction(), out);
+	}
+
+	public static void parallelDotInto(Matrix<Integer> matrix1, Matrix<Integer> matrix2, Matrix<Integer> out) {
+		parallelDotInto(matrix1, matrix2, ComputeContext.getDefault(), out);
+	}
+
+	public static void parallelDotInto(Matrix<Integer> matrix1, Matrix<Integer> matrix2, ComputeContext computeContext, Matrix<Integer> out) {
+		MatricesCalculator.parallelDotInto(matrix1, matrix2, computeContext, getZeroVal(), getMultiplyFunction(), getAccumulatorFunction(), out);
+	}
+
+	public static Matrix<Integer> strassenDot(Matrix<Integer> matrix1, Matrix<Integer> matrix2) {
+		return MatricesCalculator.strassenDot(matrix1, matrix2, getZeroVal(), getAccumulatorFunction(), getSubtractFunction(), getMultiplyFunction());
+	}
+
+	public static Matrix<Integer> strassenDot(Matrix<Integer> matrix1, Matrix<Integer> matrix2, int cutoff) {
+		return strassenDot(matrix1, matrix2, cutoff, ComputeContext.getDefault());
+	}
+
+	public static Matrix<Integer> strassenDot(Matrix<Integer> matrix1, Matrix<Integer> matrix2, int cutoff, ComputeContext computeContext) {
+		return MatricesCalculator.strassenDot(matrix1, matrix2, cutoff, computeContext, getZeroVal(), getAccumulatorFunction(), getSubtractFunction(), getMultiplyFunction());
 	}
 
 	public static BiFunction<Integer, Integer, Integer> getMultiplyFunction() {
@@ -33,4 +91,8 @@ public class IntegerMatricesCalculator extends MatricesCalculator<Integer> {
 	public static BiFunction<Integer, Integer, Integer> getAccumulatorFunction() {
 		return Integer::sum;
 	}
+
+	public static BiFunction<Integer, Integer, Integer> getSubtractFunction() {
+		return (x, y) -> (x - y);
+	}
 }
@@ -1,20 +1,24 @@
 package org.jmatrix.matrix.matrix.calculator;
 
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.concurrent.task.forkJoin.AdaptiveForkJoinThreshold;
+import org.jmatrix.matrix.concurrent.task.parallel.DotTaskDivider;
+import org.jmatrix.matrix.concurrent.task.parallel.ElementWiseTaskDivider;
 import org.jmatrix.matrix.concurrent.task.parallel.MatricesTaskDivider;
 import org.jmatrix.matrix.concurrent.task.forkJoin.MatricesForkJoinCombineTask;
 import org.jmatrix.matrix.concurrent.task.forkJoin.MatricesForkJoinDotTask;
+import org.jmatrix.matrix.concurrent.task.forkJoin.MatricesForkJoinStrassenDotTask;
 import org.jmatrix.matrix.concurrent.task.parallel.ParallelMatrixCombineTask;
-import org.jmatrix.matrix.concurrent.task.parallel.ParallelMatrixDotTask;
-import org.jmatrix.matrix.concurrent.task.parallel.dto.MatrixSubtaskItem;
 import org.jmatrix.matrix.exception.EmptyMatrixException;
 import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
 import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
 import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 
 public abstract class MatricesCalculator<T> {
@@ -37,48 +41,180 @@ public abstract class MatricesCalculator<T> {
 	public static <T> Matrix<T> combine(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction) throws MatricesIncompatibleForOperationException, ListsIncompatibleForMatrixException, EmptyMatrixException {
 		validateMatricesForCombine(matrix1, matrix2);
 
-		List<List<T>> matrixLists = new ArrayList<>();
-		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
-			List<T> newMatrixRow = new ArrayList<>();
-			for (var colIterator = 0; colIterator < matrix1.getColumns(); colIterator++) {
-				newMatrixRow.add(combineFunction.apply(matrix1.getMatrixLists().get(rowIterator).get(colIterator), matrix2.getMatrixLists().get(rowIterator).get(colIterator)));
+		return combineViews(new MatrixView<>(matrix1), new MatrixView<>(matrix2), combineFunction);
+	}
+
+	/**
+	 * Same as {@link #combine(Matrix, Matrix, BiFunction)}, for the elements of two views.
+	 *
+	 * @throws MatricesIncompatibleForOperationException if the two views have different dimensions
+	 */
+	public static <T> Matrix<T> combine(MatrixView<T> view1, MatrixView<T> view2, BiFunction<T, T, T> combineFunction) throws MatricesIncompatibleForOperationException, ListsIncompatibleForMatrixException, EmptyMatrixException {
+		if (!MatrixView.isSameDimensions(view1, view2)) {
+			throw new MatricesIncompatibleForOperationException(CANNOT_COMBINE_MATRICES_ERROR_MSG);
+		}
+
+		return combineViews(view1, view2, combineFunction);
+	}
+
+	private static <T> Matrix<T> combineViews(MatrixView<T> view1, MatrixView<T> view2, BiFunction<T, T, T> combineFunction) {
+		List<List<T>> matrixLists = new ArrayList<>(Collections.nCopies(view1.getRows(), null));
+		combineRowsInto(view1, view2, combineFunction, matrixLists, 0);
+		return Matrix.wrapRows(matrixLists);
+	}
+
+	/**
+	 * Combines the rows of two views with the same dimensions, and sets each combined row in resultRows, starting at
+	 * resultRowOffset. The parallel engines use this so each task writes its rows directly into its slice of the
+	 * result.
+	 */
+	public static <T> void combineRowsInto(MatrixView<T> view1, MatrixView<T> view2, BiFunction<T, T, T> combineFunction, List<List<T>> resultRows, int resultRowOffset) {
+		for (var rowIterator = 0; rowIterator < view1.getRows(); rowIterator++) {
+			List<T> view1Row = view1.getRow(rowIterator);
+			List<T> view2Row = view2.getRow(rowIterator);
+			List<T> newMatrixRow = new ArrayList<>(view1.getColumns());
+			for (var colIterator = 0; colIterator < view1.getColumns(); colIterator++) {
+				newMatrixRow.add(combineFunction.apply(view1Row.get(colIterator), view2Row.get(colIterator)));
+			}
+			resultRows.set(resultRowOffset + rowIterator, newMatrixRow);
+		}
+	}
+
+	/**
+	 * Same as {@link #combine(Matrix, Matrix, BiFunction)}, but sets the result in the elements of a caller-owned
+	 * matrix instead of creating a new one, so calculations that repeat with the same shapes don't allocate a result
+	 * each time. Each element is read before its result is written, so out can be matrix1 or matrix2 to combine in
+	 * place.
+	 *
+	 * @param out a matrix with the same dimensions as matrix1 and matrix2
+	 * @throws MatricesIncompatibleForOperationException if the matrices or out have different dimensions
+	 */
+	public static <T> void combineInto(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction, Matrix<T> out) throws MatricesIncompatibleForOperationException {
+		validateMatricesForCombine(matrix1, matrix2);
+		validateOutput(out, matrix1.getRows(), matrix1.getColumns());
+
+		combineInto(new MatrixView<>(matrix1), new MatrixView<>(matrix2), combineFunction, new MatrixView<>(out));
+	}
+
+	/**
+	 * Same as {@link #combineInto(Matrix, Matrix, BiFunction, Matrix)}, for the elements of views. The parallel
+	 * engines use this so each task writes its elements directly into its part of the result.
+	 *
+	 * @throws MatricesIncompatibleForOperationException if the views have different dimensions
+	 */
+	public static <T> void combineInto(MatrixView<T> view1, MatrixView<T> view2, BiFunction<T, T, T> combineFunction, MatrixView<T> out) throws MatricesIncompatibleForOperationException {
+		if (!MatrixView.isSameDimensions(view1, view2) || !MatrixView.isSameDimensions(view1, out)) {
+			throw new MatricesIncompatibleForOperationException(CANNOT_COMBINE_MATRICES_ERROR_MSG);
+		}
+
+		for (var rowIterator = 0; rowIterator < view1.getRows(); rowIterator++) {
+			List<T> view1Row = view1.getRow(rowIterator);
+			List<T> view2Row = view2.getRow(rowIterator);
+			List<T> outRow = out.getRow(rowIterator);
+			for (var colIterator = 0; colIterator < view1.getColumns(); colIterator++) {
+				outRow.set(colIterator, combineFunction.apply(view1Row.get(colIterator), view2Row.get(colIterator)));
 			}
-			matrixLists.add(newMatrixRow);
 		}
-		return new Matrix<>(matrixLists);
 	}
 
 	public static <T> Matrix<T> parallelCombine(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction) throws MatricesIncompatibleForOperationException, ListsIncompatibleForMatrixException, EmptyMatrixException {
-		return parallelCombine(matrix1, matrix2, combineFunction, Runtime.getRuntime().availableProcessors());
+		return parallelCombine(matrix1, matrix2, combineFunction, ComputeContext.getDefault());
 	}
 
+	/**
+	 * Splits the elements into {@link ComputeContext#getParallelism()} tasks, by rows and then by columns if there are
+	 * fewer rows than tasks (see {@link ElementWiseTaskDivider}), and runs them on the context's executor.
+	 */
+	public static <T> Matrix<T> parallelCombine(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction, ComputeContext computeContext) throws MatricesIncompatibleForOperationException, ListsIncompatibleForMatrixException, EmptyMatrixException {
+		return parallelCombine(matrix1, matrix2, combineFunction, computeContext.getParallelism(), computeContext);
+	}
+
+	/**
+	 * Splits the elements into nThreads tasks, see {@link ElementWiseTaskDivider}, and runs them on the
+	 * {@linkplain ComputeContext#getDefault() default context}, at most nThreads at the same time.
+	 */
 	public static <T> Matrix<T> parallelCombine(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction, int nThreads) throws MatricesIncompatibleForOperationException, ListsIncompatibleForMatrixException, EmptyMatrixException {
+		return parallelCombine(matrix1, matrix2, combineFunction, nThreads, ComputeContext.getDefault());
+	}
+
+	private static <T> Matrix<T> parallelCombine(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction, int nThreads, ComputeContext computeContext) throws MatricesIncompatibleForOperationException, ListsIncompatibleForMatrixException, EmptyMatrixException {
+		validateMatricesForCombine(matrix1, matrix2);
+
+		Matrix<T> result = newResult(matrix1.getRows(), matrix1.getColumns());
+		parallelCombineInto(matrix1, matrix2, combineFunction, result, nThreads, computeContext);
+		return result;
+	}
+
+	public static <T> void parallelCombineInto(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction, Matrix<T> out) throws MatricesIncompatibleForOperationException {
+		parallelCombineInto(matrix1, matrix2, combineFunction, out, ComputeContext.getDefault());
+	}
+
+	/**
+	 * Same as {@link #combineInto(Matrix, Matrix, BiFunction, Matrix)}, with the elements split into
+	 * {@link ComputeContext#getParallelism()} tasks on the context's executor, see {@link ElementWiseTaskDivider}.
+	 */
+	public static <T> void parallelCombineInto(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction, Matrix<T> out, ComputeContext computeContext) throws MatricesIncompatibleForOperationException {
 		validateMatricesForCombine(matrix1, matrix2);
+		validateOutput(out, matrix1.getRows(), matrix1.getColumns());
+
+		parallelCombineInto(matrix1, matrix2, combineFunction, out, computeContext.getParallelism(), computeContext);
+	}
 
-		MatricesTaskDivider<T> matricesTaskDivider = new MatricesTaskDivider<>(matrix1.getRows(), nThreads);
-		List<Callable<MatrixSubtaskItem<T>>> callables = new ArrayList<>();
+	private static <T> void parallelCombineInto(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction, Matrix<T> out, int nThreads, ComputeContext computeContext) {
+		ElementWiseTaskDivider elementWiseTaskDivider = new ElementWiseTaskDivider(matrix1.getRows(), matrix1.getColumns(), nThreads);
+		List<Callable<Void>> callables = new ArrayList<>(elementWiseTaskDivider.getTasks());
 
-		for (var i = 0; i < matricesTaskDivider.getTasks(); i++) {
+		MatrixView<T> view1 = new MatrixView<>(matrix1);
+		MatrixView<T> view2 = new MatrixView<>(matrix2);
+		MatrixView<T> outView = new MatrixView<>(out);
+
+		for (var i = 0; i < elementWiseTaskDivider.getTasks(); i++) {
 			callables.add(
 					new ParallelMatrixCombineTask<>(
-							new Matrix<>(matrix1.getMatrixLists().subList(i * matricesTaskDivider.getStep(), i == matricesTaskDivider.getTasks() - 1 ? matrix1.getRows() : (i + 1) * matricesTaskDivider.getStep())),
-							new Matrix<>(matrix2.getMatrixLists().subList(i * matricesTaskDivider.getStep(), i == matricesTaskDivider.getTasks() - 1 ? matrix1.getRows() : (i + 1) * matricesTaskDivider.getStep())),
+							elementWiseTaskDivider.part(view1, i),
+							elementWiseTaskDivider.part(view2, i),
 							combineFunction,
-							i));
+							elementWiseTaskDivider.part(outView, i)));
 		}
 
-		return matricesTaskDivider.combineMatricesFromTasks(callables);
+		MatricesTaskDivider.invokeAll(callables, computeContext.getExecutorService(), nThreads);
+	}
+
+	/**
+	 * Same as {@link #forkAndJoinCombine(Matrix, Matrix, BiFunction, int)}, with the threshold chosen by
+	 * {@link AdaptiveForkJoinThreshold}.
+	 */
+	public static <T> Matrix<T> forkAndJoinCombine(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction) throws MatricesIncompatibleForOperationException, ListsIncompatibleForMatrixException, EmptyMatrixException {
+		return forkAndJoinCombine(matrix1, matrix2, combineFunction, ComputeContext.getDefault());
+	}
+
+	/**
+	 * Same as {@link #forkAndJoinCombine(Matrix, Matrix, BiFunction, int, ComputeContext)}, with the threshold chosen
+	 * by {@link AdaptiveForkJoinThreshold}.
+	 */
+	public static <T> Matrix<T> forkAndJoinCombine(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction, ComputeContext computeContext) throws MatricesIncompatibleForOperationException, ListsIncompatibleForMatrixException, EmptyMatrixException {
+		validateMatricesForCombine(matrix1, matrix2);
+
+		int computationsPerTaskThreshold = AdaptiveForkJoinThreshold.forCombine(matrix1, matrix2, combineFunction, computeContext.getForkJoinPool().getParallelism());
+		MatricesForkJoinCombineTask<T> combineTask = new MatricesForkJoinCombineTask<>(matrix1, matrix2, combineFunction, computationsPerTaskThreshold, true);
+		return computeContext.getForkJoinPool().invoke(combineTask);
 	}
 
 	public static <T> Matrix<T> forkAndJoinCombine(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction, int computationsPerTaskThreshold) throws MatricesIncompatibleForOperationException, ListsIncompatibleForMatrixException, EmptyMatrixException {
+		return forkAndJoinCombine(matrix1, matrix2, combineFunction, computationsPerTaskThreshold, ComputeContext.getDefault());
+	}
+
+	/**
+	 * Same as {@link #forkAndJoinCombine(Matrix, Matrix, BiFunction, int)}, running the tasks on the context's
+	 * {@link java.util.concurrent.ForkJoinPool}.
+	 */
+	public static <T> Matrix<T> forkAndJoinCombine(Matrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> combineFunction, int computationsPerTaskThreshold, ComputeContext computeContext) throws MatricesIncompatibleForOperationException, ListsIncompatibleForMatrixException, EmptyMatrixException {
 		if (!isSameDimensions(matrix1, matrix2)) {
 			throw new MatricesIncompatibleForOperationException(CANNOT_COMBINE_MATRICES_ERROR_MSG);
 		}
 
-		try (ForkJoinPool forkJoinPool = ForkJoinPool.commonPool()) {
-			MatricesForkJoinCombineTask<T> combineTask = new MatricesForkJoinCombineTask<>(matrix1, matrix2, combineFunction, computationsPerTaskThreshold);
-			return forkJoinPool.invoke(combineTask);
-		}
+		MatricesForkJoinCombineTask<T> combineTask = new MatricesForkJoinCombineTask<>(matrix1, matrix2, combineFunction, computationsPerTaskThreshold);
+		return computeContext.getForkJoinPool().invoke(combineTask);
 	}
 
 	/**
@@ -86,75 +222,289 @@ public abstract class MatricesCalculator<T> {
 	 * The result will have the same number of rows as the 1st matrix, and the same number of columns as the 2nd matrix.
 	 * <a href="https://builtin.com/data-science/dot-product-matrix#:~:text=A%20dot%20product%20of%20a,matrix%20and%20a%202x3%20matrix">
 	 * Read this article for more information on dot product and matrix multiplication</a>.
+	 * <p>
+	 * The product is calculated by a {@link BlockedDotKernel} using the {@link DotTileSizes#DEFAULT} tile sizes.
 	 *
 	 * @param matrix1 the first matrix in the dot equation
 	 * @param matrix2 the second matrix in the dot equation
 	 * @return the dot product of this matrix and the other matrix
 	 */
 	public static <T> Matrix<T> dot(Matrix<T> matrix1, Matrix<T> matrix2, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		return dot(matrix1, matrix2, zeroVal, multiplyFunction, accumulatorFunction, DotTileSizes.DEFAULT);
+	}
+
+	/**
+	 * Same as {@link #dot(Matrix, Matrix, Object, BiFunction, BiFunction)}, using the given tile sizes for the
+	 * {@link BlockedDotKernel}.
+	 */
+	public static <T> Matrix<T> dot(Matrix<T> matrix1, Matrix<T> matrix2, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction, DotTileSizes tileSizes) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
 		validateMatricesForDot(matrix1, matrix2);
 
-		List<List<T>> matrixLists = new ArrayList<>(new ArrayList<>());
+		return new BlockedDotKernel<>(matrix2, zeroVal, multiplyFunction, accumulatorFunction, tileSizes).multiply(matrix1);
+	}
+
+	public static <T> Matrix<T> parallelDot(Matrix<T> matrix1, Matrix<T> matrix2, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		return parallelDot(matrix1, matrix2, ComputeContext.getDefault(), zeroVal, multiplyFunction, accumulatorFunction);
+	}
+
+	/**
+	 * Splits the result into at least nThreads tiles where the shape allows it, see {@link DotTaskDivider}, and runs
+	 * them on the {@linkplain ComputeContext#getDefault() default context}, at most nThreads at the same time.
+	 */
+	public static <T> Matrix<T> parallelDot(Matrix<T> matrix1, Matrix<T> matrix2, int nThreads, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		return parallelDot(matrix1, matrix2, nThreads, ComputeContext.getDefault(), false, zeroVal, multiplyFunction, accumulatorFunction);
+	}
+
+	/**
+	 * Splits the result into at least {@link ComputeContext#getParallelism()} tiles where the shape allows it, see
+	 * {@link DotTaskDivider}, and runs them on the context's executor.
+	 */
+	public static <T> Matrix<T> parallelDot(Matrix<T> matrix1, Matrix<T> matrix2, ComputeContext computeContext, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		return parallelDot(matrix1, matrix2, computeContext.getParallelism(), computeContext, false, zeroVal, multiplyFunction, accumulatorFunction);
+	}
 
-		for (var thisMatrixRowIterator = 0; thisMatrixRowIterator < matrix1.getRows(); thisMatrixRowIterator++) {
-			List<T> newMatrixRow = new ArrayList<>();
+	/**
+	 * @param splitInner whether the inner dimension can also be split when there are fewer result elements than
+	 *                   tasks. This changes how each element's products are grouped, so the result only matches
+	 *                   {@link #dot} if the accumulator function is associative, e.g. exact integer or BigDecimal
+	 *                   addition.
+	 */
+	public static <T> Matrix<T> parallelDot(Matrix<T> matrix1, Matrix<T> matrix2, int nThreads, ComputeContext computeContext, boolean splitInner, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		validateMatricesForDot(matrix1, matrix2);
 
-			for (var otherMatrixColIterator = 0; otherMatrixColIterator < matrix2.getColumns(); otherMatrixColIterator++) {
-				T res = zeroVal;
+		DotTaskDivider dotTaskDivider = new DotTaskDivider(matrix1.getRows(), matrix1.getColumns(), matrix2.getColumns(), nThreads, splitInner);
+		BlockedDotKernel<T> dotKernel = new BlockedDotKernel<>(matrix2, zeroVal, multiplyFunction, accumulatorFunction);
 
-				for (var elementIndex = 0; elementIndex < matrix1.getColumns(); elementIndex++) {
-					res = accumulatorFunction.apply(
-							res,
-							multiplyFunction.apply(
-									matrix1.getMatrixLists().get(thisMatrixRowIterator).get(elementIndex),
-									matrix2.getMatrixLists().get(elementIndex).get(otherMatrixColIterator)));
-				}
-				newMatrixRow.add(res);
-			}
-			matrixLists.add(newMatrixRow);
-		}
+		return dotTaskDivider.multiply(matrix1, dotKernel, computeContext.getExecutorService());
+	}
 
-		return new Matrix<>(matrixLists);
+	/**
+	 * Same as {@link #forkJoinDot(Matrix, Matrix, int, Object, BiFunction, BiFunction)}, with the threshold chosen by
+	 * {@link AdaptiveForkJoinThreshold}.
+	 */
+	public static <T> Matrix<T> forkJoinDot(Matrix<T> matrix1, Matrix<T> matrix2, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		return forkJoinDot(matrix1, matrix2, ComputeContext.getDefault(), zeroVal, multiplyFunction, accumulatorFunction);
 	}
 
-	protected static <T> Matrix<T> parallelDot(Matrix<T> matrix1, Matrix<T> matrix2, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
-		return parallelDot(matrix1, matrix2, Runtime.getRuntime().availableProcessors(), zeroVal, multiplyFunction, accumulatorFunction);
+	/**
+	 * Same as {@link #forkJoinDot(Matrix, Matrix, int, ComputeContext, Object, BiFunction, BiFunction)}, with the
+	 * threshold chosen by {@link AdaptiveForkJoinThreshold}.
+	 */
+	public static <T> Matrix<T> forkJoinDot(Matrix<T> matrix1, Matrix<T> matrix2, ComputeContext computeContext, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		return forkJoinDot(matrix1, matrix2, computeContext, false, zeroVal, multiplyFunction, accumulatorFunction);
 	}
 
-	protected static <T> Matrix<T> parallelDot(Matrix<T> matrix1, Matrix<T> matrix2, int nThreads, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+	/**
+	 * @param splitInner whether single element tiles can be split along the inner dimension, see
+	 *                   {@link #parallelDot(Matrix, Matrix, int, ComputeContext, boolean, Object, BiFunction, BiFunction)}
+	 */
+	public static <T> Matrix<T> forkJoinDot(Matrix<T> matrix1, Matrix<T> matrix2, ComputeContext computeContext, boolean splitInner, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
 		validateMatricesForDot(matrix1, matrix2);
 
-		MatricesTaskDivider<T> matricesTaskDivider = new MatricesTaskDivider<>(matrix1.getRows(), nThreads);
-		List<Callable<MatrixSubtaskItem<T>>> callables = new ArrayList<>();
+		BlockedDotKernel<T> dotKernel = new BlockedDotKernel<>(matrix2, zeroVal, multiplyFunction, accumulatorFunction);
+		int computationsPerTaskThreshold = AdaptiveForkJoinThreshold.forDot(matrix1, dotKernel, computeContext.getForkJoinPool().getParallelism());
+		MatricesForkJoinDotTask<T> dotTask = new MatricesForkJoinDotTask<>(matrix1, computationsPerTaskThreshold, dotKernel, true, splitInner);
 
-		for (var i = 0; i < matricesTaskDivider.getTasks(); i++) {
-			callables.add(
-					new ParallelMatrixDotTask<T>(
-							new Matrix<>(matrix1.getMatrixLists().subList(i * matricesTaskDivider.getStep(), i == matricesTaskDivider.getTasks() - 1 ? matrix1.getRows() : (i + 1) * matricesTaskDivider.getStep())),
-							matrix2,
-							i,
-							zeroVal,
-							multiplyFunction,
-							accumulatorFunction));
+		return computeContext.getForkJoinPool().invoke(dotTask);
+	}
+
+	public static <T> Matrix<T> forkJoinDot(Matrix<T> matrix1, Matrix<T> matrix2, int computationsPerTaskThreshold, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		return forkJoinDot(matrix1, matrix2, computationsPerTaskThreshold, ComputeContext.getDefault(), zeroVal, multiplyFunction, accumulatorFunction);
+	}
+
+	/**
+	 * Same as {@link #forkJoinDot(Matrix, Matrix, int, Object, BiFunction, BiFunction)}, running the tasks on the
+	 * context's {@link java.util.concurrent.ForkJoinPool}.
+	 */
+	public static <T> Matrix<T> forkJoinDot(Matrix<T> matrix1, Matrix<T> matrix2, int computationsPerTaskThreshold, ComputeContext computeContext, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		return forkJoinDot(matrix1, matrix2, computationsPerTaskThreshold, computeContext, false, zeroVal, multiplyFunction, accumulatorFunction);
+	}
+
+	/**
+	 * @param splitInner whether single element tiles can be split along the inner dimension, see
+	 *                   {@link #parallelDot(Matrix, Matrix, int, ComputeContext, boolean, Object, BiFunction, BiFunction)}
+	 */
+	public static <T> Matrix<T> forkJoinDot(Matrix<T> matrix1, Matrix<T> matrix2, int computationsPerTaskThreshold, ComputeContext computeContext, boolean splitInner, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		validateMatricesForDot(matrix1, matrix2);
+
+		MatricesForkJoinDotTask<T> dotTask = new MatricesForkJoinDotTask<>(
+				matrix1,
+				computationsPerTaskThreshold,
+				new BlockedDotKernel<>(matrix2, zeroVal, multiplyFunction, accumulatorFunction),
+				false,
+				splitInner);
+
+		return computeContext.getForkJoinPool().invoke(dotTask);
+	}
+
+	/**
+	 * Same as {@link #dot(Matrix, Matrix, Object, BiFunction, BiFunction)}, for views of the matrices. Either view can
+	 * be {@linkplain MatrixView#transpose() transposed}, e.g. {@code dot(MatrixCalculator.transposeView(weights),
+	 * new MatrixView<>(errors), ...)}. The kernel packs matrix2, and each row tile of matrix1, by walking along the row
+	 * lists of the underlying matrices whether or not the view is transposed, so transposing an operand doesn't copy
+	 * anything beyond the packing that every dot product does.
+	 */
+	public static <T> Matrix<T> dot(MatrixView<T> matrix1, MatrixView<T> matrix2, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException {
+		validateViewsForDot(matrix1, matrix2);
+
+		return new BlockedDotKernel<>(matrix2, zeroVal, multiplyFunction, accumulatorFunction).multiply(matrix1);
+	}
+
+	/**
+	 * Same as {@link #parallelDot(Matrix, Matrix, ComputeContext, Object, BiFunction, BiFunction)}, for views of the
+	 * matrices, see {@link #dot(MatrixView, MatrixView, Object, BiFunction, BiFunction)}.
+	 */
+	public static <T> Matrix<T> parallelDot(MatrixView<T> matrix1, MatrixView<T> matrix2, ComputeContext computeContext, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException {
+		validateViewsForDot(matrix1, matrix2);
+
+		DotTaskDivider dotTaskDivider = new DotTaskDivider(matrix1.getRows(), matrix1.getColumns(), matrix2.getColumns(), computeContext.getParallelism(), false);
+		BlockedDotKernel<T> dotKernel = new BlockedDotKernel<>(matrix2, zeroVal, multiplyFunction, accumulatorFunction);
+
+		return dotTaskDivider.multiply(matrix1, dotKernel, null, computeContext.getExecutorService());
+	}
+
+	/**
+	 * Same as {@link #forkJoinDot(Matrix, Matrix, ComputeContext, Object, BiFunction, BiFunction)}, for views of the
+	 * matrices, see {@link #dot(MatrixView, MatrixView, Object, BiFunction, BiFunction)}.
+	 */
+	public static <T> Matrix<T> forkJoinDot(MatrixView<T> matrix1, MatrixView<T> matrix2, ComputeContext computeContext, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException {
+		validateViewsForDot(matrix1, matrix2);
+
+		BlockedDotKernel<T> dotKernel = new BlockedDotKernel<>(matrix2, zeroVal, multiplyFunction, accumulatorFunction);
+		int computationsPerTaskThreshold = AdaptiveForkJoinThreshold.forDot(matrix1, dotKernel, computeContext.getForkJoinPool().getParallelism());
+
+		return computeContext.getForkJoinPool().invoke(new MatricesForkJoinDotTask<>(matrix1, computationsPerTaskThreshold, dotKernel, true, false));
+	}
+
+	/**
+	 * Calculates {@code activation(matrix1 · matrix2 + bias)}, e.g. a neural-network layer's forward pass, in one
+	 * sweep. The bias and activation are applied to each tile of the dot product as soon as it's complete, so no
+	 * intermediate matrices are created.
+	 *
+	 * @throws MatricesIncompatibleForOperationException if the matrices can't be multiplied, or the bias doesn't have
+	 *                                                   the same dimensions as the dot product
+	 */
+	public static <T> Matrix<T> dot(Matrix<T> matrix1, Matrix<T> matrix2, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction, BiasActivation<T> biasActivation) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		validateMatricesForFusedDot(matrix1, matrix2, biasActivation);
+
+		return new BlockedDotKernel<>(matrix2, zeroVal, multiplyFunction, accumulatorFunction).multiply(new MatrixView<>(matrix1), biasActivation);
+	}
+
+	public static <T> Matrix<T> parallelDot(Matrix<T> matrix1, Matrix<T> matrix2, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction, BiasActivation<T> biasActivation) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		return parallelDot(matrix1, matrix2, ComputeContext.getDefault(), zeroVal, multiplyFunction, accumulatorFunction, biasActivation);
+	}
+
+	/**
+	 * Same as {@link #dot(Matrix, Matrix, Object, BiFunction, BiFunction, BiasActivation)}, with the tiles split
+	 * between the context's threads, see {@link DotTaskDivider}.
+	 */
+	public static <T> Matrix<T> parallelDot(Matrix<T> matrix1, Matrix<T> matrix2, ComputeContext computeContext, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction, BiasActivation<T> biasActivation) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		validateMatricesForFusedDot(matrix1, matrix2, biasActivation);
+
+		DotTaskDivider dotTaskDivider = new DotTaskDivider(matrix1.getRows(), matrix1.getColumns(), matrix2.getColumns(), computeContext.getParallelism(), false);
+		BlockedDotKernel<T> dotKernel = new BlockedDotKernel<>(matrix2, zeroVal, multiplyFunction, accumulatorFunction);
+
+		return dotTaskDivider.multiply(matrix1, dotKernel, biasActivation, computeContext.getExecutorService());
+	}
+
+	public static <T> Matrix<T> forkJoinDot(Matrix<T> matrix1, Matrix<T> matrix2, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction, BiasActivation<T> biasActivation) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		return forkJoinDot(matrix1, matrix2, ComputeContext.getDefault(), zeroVal, multiplyFunction, accumulatorFunction, biasActivation);
+	}
+
+	/**
+	 * Same as {@link #dot(Matrix, Matrix, Object, BiFunction, BiFunction, BiasActivation)}, as Fork/Join tasks with the
+	 * threshold chosen by {@link AdaptiveForkJoinThreshold}.
+	 */
+	public static <T> Matrix<T> forkJoinDot(Matrix<T> matrix1, Matrix<T> matrix2, ComputeContext computeContext, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction, BiasActivation<T> biasActivation) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		validateMatricesForFusedDot(matrix1, matrix2, biasActivation);
+
+		BlockedDotKernel<T> dotKernel = new BlockedDotKernel<>(matrix2, zeroVal, multiplyFunction, accumulatorFunction);
+		int computationsPerTaskThreshold = AdaptiveForkJoinThreshold.forDot(matrix1, dotKernel, computeContext.getForkJoinPool().getParallelism());
+
+		return computeContext.getForkJoinPool().invoke(new MatricesForkJoinDotTask<>(new MatrixView<>(matrix1), computationsPerTaskThreshold, dotKernel, true, false, biasActivation));
+	}
+
+	/**
+	 * Same as {@link #dot(Matrix, Matrix, Object, BiFunction, BiFunction, BiasActivation)}, as Fork/Join tasks with the
+	 * given threshold.
+	 */
+	public static <T> Matrix<T> forkJoinDot(Matrix<T> matrix1, Matrix<T> matrix2, int computationsPerTaskThreshold, ComputeContext computeContext, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction, BiasActivation<T> biasActivation) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		validateMatricesForFusedDot(matrix1, matrix2, biasActivation);
+
+		BlockedDotKernel<T> dotKernel = new BlockedDotKernel<>(matrix2, zeroVal, multiplyFunction, accumulatorFunction);
+
+		return computeContext.getForkJoinPool().invoke(new MatricesForkJoinDotTask<>(new MatrixView<>(matrix1), computationsPerTaskThreshold, dotKernel, false, false, biasActivation));
+	}
+
+	/**
+	 * Same as {@link #dot(Matrix, Matrix, Object, BiFunction, BiFunction)}, but sets the result in the elements of a
+	 * caller-owned matrix instead of creating a new one. Apart from the packed copy of matrix2, the only buffer
+	 * allocated is a scratch array for one row tile of the result.
+	 * <p>
+	 * Each row of the result only depends on the same row of matrix1, so out can be matrix1 to multiply it in place by
+	 * a square matrix2. out can't be matrix2.
+	 *
+	 * @param out a matrix with as many rows as matrix1 and as many columns as matrix2
+	 * @throws MatricesIncompatibleForOperationException if the matrices can't be multiplied or out has the wrong
+	 *                                                   dimensions
+	 */
+	public static <T> void dotInto(Matrix<T> matrix1, Matrix<T> matrix2, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction, Matrix<T> out) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1, matrix2);
+		validateOutput(out, matrix1.getRows(), matrix2.getColumns());
+		if (out == matrix2) {
+			throw new IllegalArgumentException("The output of a dot product can't be matrix2");
 		}
 
-		return matricesTaskDivider.combineMatricesFromTasks(callables);
+		new BlockedDotKernel<>(matrix2, zeroVal, multiplyFunction, accumulatorFunction).multiplyInto(new MatrixView<>(matrix1), 0, matrix1.getRows(), 0, matrix2.getColumns(), new MatrixView<>(out));
 	}
 
-	public static <T> Matrix<T> forkJoinDot(Matrix<T> matrix1, Matrix<T> matrix2, int computationsPerTaskThreshold, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+	public static <T> void parallelDotInto(Matrix<T> matrix1, Matrix<T> matrix2, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction, Matrix<T> out) throws MatricesIncompatibleForOperationException {
+		parallelDotInto(matrix1, matrix2, ComputeContext.getDefault(), zeroVal, multiplyFunction, accumulatorFunction, out);
+	}
+
+	/**
+	 * Same as {@link #dotInto}, with the result split into tiles on the context's executor, see {@link DotTaskDivider}.
+	 * Tiles of the same rows run at the same time, so out can't be matrix1 or matrix2.
+	 */
+	public static <T> void parallelDotInto(Matrix<T> matrix1, Matrix<T> matrix2, ComputeContext computeContext, T zeroVal, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction, Matrix<T> out) throws MatricesIncompatibleForOperationException {
 		validateMatricesForDot(matrix1, matrix2);
+		validateOutput(out, matrix1.getRows(), matrix2.getColumns());
+		if (out == matrix1 || out == matrix2) {
+			throw new IllegalArgumentException("The output of a parallel dot product can't be one of the matrices being multiplied");
+		}
+
+		DotTaskDivider dotTaskDivider = new DotTaskDivider(matrix1.getRows(), matrix1.getColumns(), matrix2.getColumns(), computeContext.getParallelism(), false);
+		BlockedDotKernel<T> dotKernel = new BlockedDotKernel<>(matrix2, zeroVal, multiplyFunction, accumulatorFunction);
+
+		dotTaskDivider.multiplyInto(matrix1, dotKernel, out, computeContext.getExecutorService());
+	}
+
+	/**
+	 * Same as {@link #strassenDot(Matrix, Matrix, int, ComputeContext, Object, BiFunction, BiFunction, BiFunction)},
+	 * with the {@link MatricesForkJoinStrassenDotTask#DEFAULT_CUTOFF default cutoff} and context.
+	 */
+	public static <T> Matrix<T> strassenDot(Matrix<T> matrix1, Matrix<T> matrix2, T zeroVal, BiFunction<T, T, T> addFunction, BiFunction<T, T, T> subtractFunction, BiFunction<T, T, T> multiplyFunction) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		return strassenDot(matrix1, matrix2, MatricesForkJoinStrassenDotTask.DEFAULT_CUTOFF, ComputeContext.getDefault(), zeroVal, addFunction, subtractFunction, multiplyFunction);
+	}
 
-		try (ForkJoinPool forkJoinPool = ForkJoinPool.commonPool()) {
-			MatricesForkJoinDotTask<T> dotTask = new MatricesForkJoinDotTask<>(
-					matrix1,
-					matrix2,
-					computationsPerTaskThreshold,
-					zeroVal,
-					multiplyFunction,
-					accumulatorFunction);
+	/**
+	 * Calculates the dot product with the Strassen-Winograd algorithm, see {@link MatricesForkJoinStrassenDotTask},
+	 * on the context's {@link java.util.concurrent.ForkJoinPool}. Products too small to recurse at all are calculated
+	 * by {@link #forkJoinDot(Matrix, Matrix, ComputeContext, Object, BiFunction, BiFunction)} instead.
+	 * <p>
+	 * The result only matches {@link #dot} exactly if the add, subtract and multiply functions are exact, e.g. integer
+	 * or BigDecimal arithmetic.
+	 *
+	 * @param cutoff products whose smallest dimension is no larger than the cutoff are calculated by the classical
+	 *               algorithm
+	 */
+	public static <T> Matrix<T> strassenDot(Matrix<T> matrix1, Matrix<T> matrix2, int cutoff, ComputeContext computeContext, T zeroVal, BiFunction<T, T, T> addFunction, BiFunction<T, T, T> subtractFunction, BiFunction<T, T, T> multiplyFunction) throws MatricesIncompatibleForOperationException, EmptyMatrixException, ListsIncompatibleForMatrixException {
+		validateMatricesForDot(matrix1, matrix2);
 
-			return forkJoinPool.invoke(dotTask);
+		if (MatricesForkJoinStrassenDotTask.depth(matrix1.getRows(), matrix1.getColumns(), matrix2.getColumns(), cutoff) == 0) {
+			return forkJoinDot(matrix1, matrix2, computeContext, zeroVal, multiplyFunction, addFunction);
 		}
+		return computeContext.getForkJoinPool().invoke(new MatricesForkJoinStrassenDotTask<>(matrix1, matrix2, cutoff, zeroVal, addFunction, subtractFunction, multiplyFunction));
 	}
 
 	public static <T> boolean isSameDimensions(Matrix<T> matrix1, Matrix<T> matrix2) {
@@ -181,6 +531,44 @@ public abstract class MatricesCalculator<T> {
 		}
 	}
 
+	protected static <T> void validateViewsForDot(MatrixView<T> matrix1, MatrixView<T> matrix2) throws MatricesIncompatibleForOperationException {
+		if (matrix1.get(0, 0).getClass() != matrix2.get(0, 0).getClass()) {
+			throw new MatricesIncompatibleForOperationException(CANNOT_DOT_MATRICES_ERROR_MSG);
+		}
+
+		if (matrix1.getColumns() != matrix2.getRows()) {
+			throw new MatricesIncompatibleForOperationException("Cannot create dot product for matrices. Matrices are incompatible for multiplication." +
+					"Columns of matrix 1: " + matrix1.getColumns() + " does not match rows of matrix 2: " + matrix2.getRows());
+		}
+	}
+
+	/**
+	 * @throws MatricesIncompatibleForOperationException if out isn't a rows x columns matrix
+	 */
+	protected static <T> void validateOutput(Matrix<T> out, int rows, int columns) throws MatricesIncompatibleForOperationException {
+		if (out.getRows() != rows || out.getColumns() != columns) {
+			throw new MatricesIncompatibleForOperationException("Cannot write result to the output matrix. Output is " + out.getRows() + "x" + out.getColumns()
+					+ " but the result is " + rows + "x" + columns);
+		}
+	}
+
+	/**
+	 * @return a rows x columns matrix for a parallel engine to set every element of. Setting an element doesn't change
+	 * the structure of a row, so tasks can set different elements of the same row at the same time.
+	 */
+	protected static <T> Matrix<T> newResult(int rows, int columns) {
+		List<List<T>> matrixLists = new ArrayList<>(rows);
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			matrixLists.add(new ArrayList<>(Collections.nCopies(columns, null)));
+		}
+		return Matrix.wrapRows(matrixLists);
+	}
+
+	protected static <T> void validateMatricesForFusedDot(Matrix<T> matrix1, Matrix<T> matrix2, BiasActivation<T> biasActivation) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1, matrix2);
+		biasActivation.validateFor(matrix1.getRows(), matrix2.getColumns());
+	}
+
 	protected static <T> void validateMatricesForCombine(Matrix<T> matrix1, Matrix<T> matrix2) throws MatricesIncompatibleForOperationException {
 		if (!Matrix.isSameType(matrix1, matrix2)) {
 			throw new MatricesIncompatibleForOperationException(CANNOT_DOT_MATRICES_ERROR_MSG);
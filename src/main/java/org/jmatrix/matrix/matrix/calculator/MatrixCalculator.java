@@ -1,16 +1,33 @@
 package org.jmatrix.matrix.matrix.calculator;
 
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.concurrent.task.forkJoin.AdaptiveForkJoinThreshold;
+import org.jmatrix.matrix.concurrent.task.forkJoin.MatricesForkJoinTransformTask;
+import org.jmatrix.matrix.concurrent.task.parallel.ElementWiseTaskDivider;
+import org.jmatrix.matrix.concurrent.task.parallel.MatricesTaskDivider;
+import org.jmatrix.matrix.concurrent.task.parallel.ParallelMatrixPredicateTask;
+import org.jmatrix.matrix.concurrent.task.parallel.ParallelMatrixTransformTask;
+import org.jmatrix.matrix.concurrent.task.parallel.ParallelMatrixTransposeTask;
 import org.jmatrix.matrix.exception.EmptyMatrixException;
 import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
 import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
 public abstract class MatrixCalculator {
 
+	/**
+	 * The number of rows and columns in each tile of {@link #transposeInto(MatrixView, MatrixView)}
+	 */
+	public static final int TRANSPOSE_TILE_SIZE = 64;
+
 	public static <T> Matrix<T> transform(Matrix<T> matrix, UnaryOperator<T> function) throws ListsIncompatibleForMatrixException, EmptyMatrixException {
 		List<List<T>> matrixLists = new ArrayList<>();
 		for (var row : matrix.getMatrixLists()) {
@@ -34,8 +51,257 @@ public abstract class MatrixCalculator {
 		return new Matrix<>(matrixLists);
 	}
 
+	/**
+	 * @return a view of the transpose of matrix, which swaps the row and column indexes instead of copying the
+	 * elements like {@link #transpose(Matrix)}. The dot products accept it directly, see
+	 * {@link MatricesCalculator#dot(MatrixView, MatrixView, Object, java.util.function.BiFunction, java.util.function.BiFunction)}.
+	 */
+	public static <T> MatrixView<T> transposeView(Matrix<T> matrix) {
+		return new MatrixView<>(matrix).transpose();
+	}
+
+	/**
+	 * Same as {@link #transform(Matrix, UnaryOperator)}, splitting the elements between tasks on the
+	 * {@linkplain ComputeContext#getDefault() default context}.
+	 */
+	public static <T> Matrix<T> parallelTransform(Matrix<T> matrix, UnaryOperator<T> function) {
+		return parallelTransform(matrix, function, ComputeContext.getDefault());
+	}
+
+	/**
+	 * Same as {@link #transform(Matrix, UnaryOperator)}, splitting the elements between tasks on the context's
+	 * executor, by rows and then by columns if there are fewer rows than tasks, see {@link ElementWiseTaskDivider}.
+	 * Each task writes its part directly into a result that is allocated once.
+	 */
+	public static <T> Matrix<T> parallelTransform(Matrix<T> matrix, UnaryOperator<T> function, ComputeContext computeContext) {
+		Matrix<T> result = MatricesCalculator.newResult(matrix.getRows(), matrix.getColumns());
+		ElementWiseTaskDivider elementWiseTaskDivider = new ElementWiseTaskDivider(matrix.getRows(), matrix.getColumns(), computeContext.getParallelism());
+		List<Callable<Void>> callables = new ArrayList<>(elementWiseTaskDivider.getTasks());
+
+		MatrixView<T> view = new MatrixView<>(matrix);
+		MatrixView<T> resultView = new MatrixView<>(result);
+
+		for (var i = 0; i < elementWiseTaskDivider.getTasks(); i++) {
+			callables.add(new ParallelMatrixTransformTask<>(elementWiseTaskDivider.part(view, i), function, elementWiseTaskDivider.part(resultView, i)));
+		}
+
+		MatricesTaskDivider.invokeAll(callables, computeContext.getExecutorService());
+		return result;
+	}
+
+	/**
+	 * Same as {@link #forkJoinTransform(Matrix, UnaryOperator, int, ComputeContext)}, with the threshold chosen by
+	 * {@link AdaptiveForkJoinThreshold}, on the {@linkplain ComputeContext#getDefault() default context}.
+	 */
+	public static <T> Matrix<T> forkJoinTransform(Matrix<T> matrix, UnaryOperator<T> function) {
+		return forkJoinTransform(matrix, function, ComputeContext.getDefault());
+	}
+
+	/**
+	 * Same as {@link #forkJoinTransform(Matrix, UnaryOperator, int, ComputeContext)}, with the threshold chosen by
+	 * {@link AdaptiveForkJoinThreshold}.
+	 */
+	public static <T> Matrix<T> forkJoinTransform(Matrix<T> matrix, UnaryOperator<T> function, ComputeContext computeContext) {
+		int computationsPerTaskThreshold = AdaptiveForkJoinThreshold.forTransform(matrix, function, computeContext.getForkJoinPool().getParallelism());
+		return computeContext.getForkJoinPool().invoke(new MatricesForkJoinTransformTask<>(matrix, function, computationsPerTaskThreshold, true));
+	}
+
+	public static <T> Matrix<T> forkJoinTransform(Matrix<T> matrix, UnaryOperator<T> function, int computationsPerTaskThreshold) {
+		return forkJoinTransform(matrix, function, computationsPerTaskThreshold, ComputeContext.getDefault());
+	}
+
+	/**
+	 * Same as {@link #transform(Matrix, UnaryOperator)}, as Fork/Join tasks that split the rows until each task has
+	 * fewer than computationsPerTaskThreshold elements, see {@link MatricesForkJoinTransformTask}.
+	 */
+	public static <T> Matrix<T> forkJoinTransform(Matrix<T> matrix, UnaryOperator<T> function, int computationsPerTaskThreshold, ComputeContext computeContext) {
+		return computeContext.getForkJoinPool().invoke(new MatricesForkJoinTransformTask<>(matrix, function, computationsPerTaskThreshold));
+	}
+
+	/**
+	 * Applies the function to each element of view and sets the result in the same row and column of out.
+	 *
+	 * @throws MatricesIncompatibleForOperationException if out has different dimensions
+	 */
+	public static <T> void transformInto(MatrixView<T> view, UnaryOperator<T> function, MatrixView<T> out) throws MatricesIncompatibleForOperationException {
+		if (!MatrixView.isSameDimensions(view, out)) {
+			throw new MatricesIncompatibleForOperationException("Cannot write result to the output view. Output is " + out.getRows() + "x" + out.getColumns()
+					+ " but the result is " + view.getRows() + "x" + view.getColumns());
+		}
+
+		for (var rowIterator = 0; rowIterator < view.getRows(); rowIterator++) {
+			List<T> row = view.getRow(rowIterator);
+			List<T> outRow = out.getRow(rowIterator);
+			for (var colIterator = 0; colIterator < view.getColumns(); colIterator++) {
+				outRow.set(colIterator, function.apply(row.get(colIterator)));
+			}
+		}
+	}
+
+	/**
+	 * Same as {@link #transpose(Matrix)}, on the {@linkplain ComputeContext#getDefault() default context}.
+	 */
+	public static <T> Matrix<T> parallelTranspose(Matrix<T> matrix) {
+		return parallelTranspose(matrix, ComputeContext.getDefault());
+	}
+
+	/**
+	 * Same as {@link #transpose(Matrix)}, splitting the elements of matrix between tasks on the context's executor, see
+	 * {@link ElementWiseTaskDivider}. Each task transposes its part into the mirrored part of the result in
+	 * cache-blocked tiles, see {@link #transposeInto(MatrixView, MatrixView)}.
+	 */
+	public static <T> Matrix<T> parallelTranspose(Matrix<T> matrix, ComputeContext computeContext) {
+		Matrix<T> result = MatricesCalculator.newResult(matrix.getColumns(), matrix.getRows());
+		ElementWiseTaskDivider elementWiseTaskDivider = new ElementWiseTaskDivider(matrix.getRows(), matrix.getColumns(), computeContext.getParallelism());
+		List<Callable<Void>> callables = new ArrayList<>(elementWiseTaskDivider.getTasks());
+
+		MatrixView<T> view = new MatrixView<>(matrix);
+		MatrixView<T> resultView = new MatrixView<>(result);
+
+		for (var i = 0; i < elementWiseTaskDivider.getTasks(); i++) {
+			int rowStart = elementWiseTaskDivider.rowStart(i);
+			int colStart = elementWiseTaskDivider.colStart(i);
+			int rows = elementWiseTaskDivider.rowEnd(i) - rowStart;
+			int columns = elementWiseTaskDivider.colEnd(i) - colStart;
+			callables.add(new ParallelMatrixTransposeTask<>(view.subView(rowStart, colStart, rows, columns), resultView.subView(colStart, rowStart, columns, rows)));
+		}
+
+		MatricesTaskDivider.invokeAll(callables, computeContext.getExecutorService());
+		return result;
+	}
+
+	/**
+	 * Sets element (col, row) of out to element (row, col) of view.
+	 * <p>
+	 * Walking along a row of view writes down a column of out, touching a different row list for every element. The
+	 * copy is split into {@link #TRANSPOSE_TILE_SIZE} x {@link #TRANSPOSE_TILE_SIZE} tiles, so the rows of out being
+	 * written to are still in cache when the next row of view reaches them.
+	 *
+	 * @throws MatricesIncompatibleForOperationException if out doesn't have as many rows as view has columns, and as
+	 *                                                   many columns as view has rows
+	 */
+	public static <T> void transposeInto(MatrixView<T> view, MatrixView<T> out) throws MatricesIncompatibleForOperationException {
+		if (out.getRows() != view.getColumns() || out.getColumns() != view.getRows()) {
+			throw new MatricesIncompatibleForOperationException("Cannot write result to the output view. Output is " + out.getRows() + "x" + out.getColumns()
+					+ " but the result is " + view.getColumns() + "x" + view.getRows());
+		}
+
+		// getRow wraps the row of a view with a column offset, so the rows of out are only looked up once per tile
+		List<List<T>> outRows = new ArrayList<>(TRANSPOSE_TILE_SIZE);
+		for (var colTileStart = 0; colTileStart < view.getColumns(); colTileStart += TRANSPOSE_TILE_SIZE) {
+			int colTileEnd = Math.min(colTileStart + TRANSPOSE_TILE_SIZE, view.getColumns());
+			outRows.clear();
+			for (var colIterator = colTileStart; colIterator < colTileEnd; colIterator++) {
+				outRows.add(out.getRow(colIterator));
+			}
+
+			for (var rowTileStart = 0; rowTileStart < view.getRows(); rowTileStart += TRANSPOSE_TILE_SIZE) {
+				int rowTileEnd = Math.min(rowTileStart + TRANSPOSE_TILE_SIZE, view.getRows());
+
+				for (var rowIterator = rowTileStart; rowIterator < rowTileEnd; rowIterator++) {
+					List<T> row = view.getRow(rowIterator);
+					for (var colIterator = colTileStart; colIterator < colTileEnd; colIterator++) {
+						outRows.get(colIterator - colTileStart).set(rowIterator, row.get(colIterator));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Same as {@link #transform(Matrix, UnaryOperator)}, but sets the result in the elements of a caller-owned matrix
+	 * instead of creating a new one. out can be matrix, see {@link #transformInPlace(Matrix, UnaryOperator)}.
+	 *
+	 * @param out a matrix with the same dimensions as matrix
+	 * @throws MatricesIncompatibleForOperationException if out has different dimensions
+	 */
+	public static <T> void transformInto(Matrix<T> matrix, UnaryOperator<T> function, Matrix<T> out) throws MatricesIncompatibleForOperationException {
+		MatricesCalculator.validateOutput(out, matrix.getRows(), matrix.getColumns());
+
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			List<T> row = matrix.getMatrixLists().get(rowIterator);
+			List<T> outRow = out.getMatrixLists().get(rowIterator);
+			for (var colIterator = 0; colIterator < matrix.getColumns(); colIterator++) {
+				outRow.set(colIterator, function.apply(row.get(colIterator)));
+			}
+		}
+	}
+
+	/**
+	 * Applies the function to each element of the matrix, replacing the element with the result.
+	 */
+	public static <T> void transformInPlace(Matrix<T> matrix, UnaryOperator<T> function) {
+		transformInto(matrix, function, matrix);
+	}
+
+	/**
+	 * Same as {@link #transpose(Matrix)}, but sets the result in the elements of a caller-owned matrix instead of
+	 * creating a new one. Use {@link #transposeInPlace(Matrix)} to transpose a square matrix in place.
+	 *
+	 * @param out a matrix with as many rows as matrix has columns, and as many columns as matrix has rows
+	 * @throws MatricesIncompatibleForOperationException if out has the wrong dimensions
+	 */
+	public static <T> void transposeInto(Matrix<T> matrix, Matrix<T> out) throws MatricesIncompatibleForOperationException {
+		MatricesCalculator.validateOutput(out, matrix.getColumns(), matrix.getRows());
+		if (out == matrix) {
+			throw new IllegalArgumentException("The output of a transpose can't be the matrix being transposed, use transposeInPlace instead");
+		}
+
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			List<T> row = matrix.getMatrixLists().get(rowIterator);
+			for (var colIterator = 0; colIterator < matrix.getColumns(); colIterator++) {
+				out.getMatrixLists().get(colIterator).set(rowIterator, row.get(colIterator));
+			}
+		}
+	}
+
+	/**
+	 * Transposes a square matrix by swapping each element above the diagonal with the matching element below it.
+	 *
+	 * @throws MatricesIncompatibleForOperationException if the matrix isn't square
+	 */
+	public static <T> void transposeInPlace(Matrix<T> matrix) throws MatricesIncompatibleForOperationException {
+		if (matrix.getRows() != matrix.getColumns()) {
+			throw new MatricesIncompatibleForOperationException("Cannot transpose a " + matrix.getRows() + "x" + matrix.getColumns() + " matrix in place. Matrix must be square.");
+		}
+
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			List<T> row = matrix.getMatrixLists().get(rowIterator);
+			for (var colIterator = rowIterator + 1; colIterator < matrix.getColumns(); colIterator++) {
+				row.set(colIterator, matrix.getMatrixLists().get(colIterator).set(rowIterator, row.get(colIterator)));
+			}
+		}
+	}
+
 	public static <T> boolean isConditionTrueForEachElement(Matrix<T> matrix, Predicate<T> predicate) {
 		return matrix.getMatrixLists().stream().allMatch(list -> list.stream().allMatch(predicate));
 	}
 
+	/**
+	 * Same as {@link #isConditionTrueForEachElement(Matrix, Predicate)}, splitting the elements between tasks on the
+	 * {@linkplain ComputeContext#getDefault() default context}.
+	 */
+	public static <T> boolean parallelIsConditionTrueForEachElement(Matrix<T> matrix, Predicate<T> predicate) {
+		return parallelIsConditionTrueForEachElement(matrix, predicate, ComputeContext.getDefault());
+	}
+
+	/**
+	 * Same as {@link #isConditionTrueForEachElement(Matrix, Predicate)}, splitting the elements between tasks on the
+	 * context's executor, see {@link ElementWiseTaskDivider}. Like the serial check, it stops as soon as an element
+	 * fails: every task stops soon after any task has found a failing element, see {@link ParallelMatrixPredicateTask}.
+	 */
+	public static <T> boolean parallelIsConditionTrueForEachElement(Matrix<T> matrix, Predicate<T> predicate, ComputeContext computeContext) {
+		ElementWiseTaskDivider elementWiseTaskDivider = new ElementWiseTaskDivider(matrix.getRows(), matrix.getColumns(), computeContext.getParallelism());
+		List<Callable<Void>> callables = new ArrayList<>(elementWiseTaskDivider.getTasks());
+		MatrixView<T> view = new MatrixView<>(matrix);
+		AtomicBoolean failed = new AtomicBoolean();
+
+		for (var i = 0; i < elementWiseTaskDivider.getTasks(); i++) {
+			callables.add(new ParallelMatrixPredicateTask<>(elementWiseTaskDivider.part(view, i), predicate, failed));
+		}
+
+		MatricesTaskDivider.invokeAll(callables, computeContext.getExecutorService());
+		return !failed.get();
+	}
+
 }
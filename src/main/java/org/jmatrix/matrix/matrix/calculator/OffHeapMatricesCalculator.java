@@ -0,0 +1,102 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.OffHeapDoubleMatrix;
+
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+
+/**
+ * Calculations on multiple {@link OffHeapDoubleMatrix} instances. The kernels copy the operands from, and the result
+ * to, the off-heap buffers a row at a time with {@link OffHeapDoubleMatrix#getRow} and
+ * {@link OffHeapDoubleMatrix#setRow}. The only heap allocations are scratch arrays of one row, or for
+ * {@link #dot} one block of {@link #DOT_ROW_BLOCK} rows, of each operand per call, so the amount of heap used doesn't
+ * depend on the number of rows.
+ * <p>
+ * The result is a new off-heap matrix which the caller is responsible for closing.
+ */
+public abstract class OffHeapMatricesCalculator {
+
+	/**
+	 * The number of rows of matrix1 that {@link #dot} multiplies for each pass over matrix2
+	 */
+	public static final int DOT_ROW_BLOCK = 64;
+
+	public static OffHeapDoubleMatrix combine(OffHeapDoubleMatrix matrix1, OffHeapDoubleMatrix matrix2, DoubleBinaryOperator combineFunction) throws MatricesIncompatibleForOperationException {
+		if (matrix1.getRows() != matrix2.getRows() || matrix1.getColumns() != matrix2.getColumns()) {
+			throw new MatricesIncompatibleForOperationException(MatricesCalculator.CANNOT_COMBINE_MATRICES_ERROR_MSG);
+		}
+
+		int columns = matrix1.getColumns();
+		OffHeapDoubleMatrix result = OffHeapDoubleMatrix.allocate(matrix1.getRows(), columns);
+		double[] row1 = new double[columns];
+		double[] row2 = new double[columns];
+
+		try {
+			for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+				matrix1.getRow(rowIterator, row1, 0);
+				matrix2.getRow(rowIterator, row2, 0);
+				for (var colIterator = 0; colIterator < columns; colIterator++) {
+					row1[colIterator] = combineFunction.applyAsDouble(row1[colIterator], row2[colIterator]);
+				}
+				result.setRow(rowIterator, row1, 0);
+			}
+		} catch (RuntimeException e) {
+			result.close();
+			throw e;
+		}
+		return result;
+	}
+
+	/**
+	 * Calculates the dot product of matrix1 and matrix2 in i-k-j order, a block of {@link #DOT_ROW_BLOCK} rows of
+	 * matrix1 at a time. Each row of matrix2 is copied out of its buffer once per block, which is a bulk copy rather
+	 * than a bounds-checked buffer read per element, and multiplied against every row of the block before the next
+	 * one is copied, so matrix2 is read once per block rather than once per row of the result. The result rows are
+	 * accumulated in a scratch block and written to the result once complete. The accumulation order matches
+	 * {@link DoubleMatricesCalculator#dot}, so results are identical.
+	 */
+	public static OffHeapDoubleMatrix dot(OffHeapDoubleMatrix matrix1, OffHeapDoubleMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		if (matrix1.getColumns() != matrix2.getRows()) {
+			throw new MatricesIncompatibleForOperationException("Cannot create dot product for matrices. Matrices are incompatible for multiplication." +
+					"Columns of matrix 1: " + matrix1.getColumns() + " does not match rows of matrix 2: " + matrix2.getRows());
+		}
+
+		int inner = matrix1.getColumns();
+		int columns = matrix2.getColumns();
+		OffHeapDoubleMatrix result = OffHeapDoubleMatrix.allocate(matrix1.getRows(), columns);
+		int blockRows = Math.min(DOT_ROW_BLOCK, matrix1.getRows());
+		double[] block1 = new double[blockRows * inner];
+		double[] row2 = new double[columns];
+		double[] resultBlock = new double[blockRows * columns];
+
+		try {
+			for (var blockStart = 0; blockStart < matrix1.getRows(); blockStart += blockRows) {
+				int blockEnd = Math.min(blockStart + blockRows, matrix1.getRows());
+				for (var rowIterator = blockStart; rowIterator < blockEnd; rowIterator++) {
+					matrix1.getRow(rowIterator, block1, (rowIterator - blockStart) * inner);
+				}
+				Arrays.fill(resultBlock, 0.0);
+
+				for (var elementIndex = 0; elementIndex < inner; elementIndex++) {
+					matrix2.getRow(elementIndex, row2, 0);
+					for (var blockRow = 0; blockRow < blockEnd - blockStart; blockRow++) {
+						double value1 = block1[blockRow * inner + elementIndex];
+						int resultRowStart = blockRow * columns;
+						for (var colIterator = 0; colIterator < columns; colIterator++) {
+							resultBlock[resultRowStart + colIterator] += value1 * row2[colIterator];
+						}
+					}
+				}
+
+				for (var rowIterator = blockStart; rowIterator < blockEnd; rowIterator++) {
+					result.setRow(rowIterator, resultBlock, (rowIterator - blockStart) * columns);
+				}
+			}
+		} catch (RuntimeException e) {
+			result.close();
+			throw e;
+		}
+		return result;
+	}
+}
@@ -0,0 +1,202 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.concurrent.task.parallel.ElementWiseTaskDivider;
+import org.jmatrix.matrix.concurrent.task.parallel.MatricesTaskDivider;
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.QuantizedMatrix;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Dot products of {@link QuantizedMatrix} instances, accumulated in int and dequantized into a {@link DoubleMatrix}.
+ * <p>
+ * With element (i, k) of matrix1 standing for {@code s1_i * (a_ik - z1_i)} and element (k, j) of matrix2 for
+ * {@code s2 * (b_kj - z2)}, each element of the dot product is
+ * <pre>
+ *     s1_i * s2 * (sum(a_ik * b_kj) - z2 * sum(a_ik) - z1_i * sum(b_kj) + inner * z1_i * z2)
+ * </pre>
+ * The sum of byte products is the only part that depends on both matrices, and it's accumulated in ints, which is
+ * exact as each product is at most 2^14 and the sums are moved into longs every {@link #MAX_INT_PRODUCTS} products.
+ * The sums of matrix1's rows and matrix2's columns are calculated once, and the scales are applied once per element
+ * of the result. So the only error in the result comes from quantizing the matrices, and from the final
+ * multiplication by the scales.
+ * <p>
+ * matrix2 must be quantized {@link QuantizedMatrix.Granularity#PER_TENSOR per tensor}, as per row scales would differ
+ * along the inner dimension, while matrix1, e.g. the weights of a layer, can also be quantized per row.
+ */
+public abstract class QuantizedMatricesCalculator {
+
+	/**
+	 * The most products of two bytes, each at most (-128)^2 = 2^14, that can be summed without overflowing an int
+	 */
+	static final int MAX_INT_PRODUCTS = Integer.MAX_VALUE / (1 << 14);
+
+	/**
+	 * Calculates the dot product of matrix1 and matrix2 on the calling thread.
+	 *
+	 * @throws MatricesIncompatibleForOperationException if the matrices can't be multiplied, or matrix2 isn't
+	 *                                                   quantized per tensor
+	 */
+	public static DoubleMatrix dot(QuantizedMatrix matrix1, QuantizedMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1, matrix2);
+
+		DoubleMatrix result = new DoubleMatrix(matrix1.getRows(), matrix2.getColumns());
+		long[] columnSums = columnSums(matrix2);
+		accumulateDot(matrix1, matrix2, columnSums, result, 0, matrix1.getRows(), 0, matrix2.getColumns());
+		return result;
+	}
+
+	/**
+	 * Same as {@link #parallelDot(QuantizedMatrix, QuantizedMatrix, ComputeContext)}, on the
+	 * {@linkplain ComputeContext#getDefault() default context}.
+	 */
+	public static DoubleMatrix parallelDot(QuantizedMatrix matrix1, QuantizedMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		return parallelDot(matrix1, matrix2, ComputeContext.getDefault());
+	}
+
+	/**
+	 * Same as {@link #dot}, splitting the result between tasks on the context's executor, by rows and then by columns
+	 * if there are fewer rows than tasks, see {@link ElementWiseTaskDivider}. Each element is calculated by a single
+	 * task, so the result is identical to {@link #dot}.
+	 */
+	public static DoubleMatrix parallelDot(QuantizedMatrix matrix1, QuantizedMatrix matrix2, ComputeContext computeContext) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1, matrix2);
+
+		DoubleMatrix result = new DoubleMatrix(matrix1.getRows(), matrix2.getColumns());
+		long[] columnSums = columnSums(matrix2);
+		ElementWiseTaskDivider taskDivider = new ElementWiseTaskDivider(matrix1.getRows(), matrix2.getColumns(), computeContext.getParallelism());
+		List<Callable<Void>> callables = new ArrayList<>(taskDivider.getTasks());
+
+		for (var i = 0; i < taskDivider.getTasks(); i++) {
+			int rowStart = taskDivider.rowStart(i);
+			int rowEnd = taskDivider.rowEnd(i);
+			int colStart = taskDivider.colStart(i);
+			int colEnd = taskDivider.colEnd(i);
+			callables.add(() -> {
+				accumulateDot(matrix1, matrix2, columnSums, result, rowStart, rowEnd, colStart, colEnd);
+				return null;
+			});
+		}
+
+		MatricesTaskDivider.invokeAll(callables, computeContext.getExecutorService());
+		return result;
+	}
+
+	/**
+	 * Calculates the elements of the result in rows [rowStart, rowEnd) and columns [colStart, colEnd). The loops are
+	 * ordered i-k-j, like {@link DoubleMatricesCalculator#dot}, with a row of int accumulators, apart from
+	 * matrix-vector products, which sum each row in local variables.
+	 */
+	private static void accumulateDot(QuantizedMatrix matrix1, QuantizedMatrix matrix2, long[] columnSums, DoubleMatrix result, int rowStart, int rowEnd, int colStart, int colEnd) {
+		byte[] data1 = matrix1.getData();
+		byte[] data2 = matrix2.getData();
+		double[] resultData = result.getData();
+		int inner = matrix1.getColumns();
+		int columns = colEnd - colStart;
+		long zeroPoint2 = matrix2.getZeroPoint(0);
+		double scale2 = matrix2.getScale(0);
+
+		int[] products = new int[columns];
+		long[] productSums = new long[columns];
+
+		for (var rowIterator = rowStart; rowIterator < rowEnd; rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+
+			if (columns == 1) {
+				productSums[0] = dotRowWithColumn(data1, row1, data2, matrix2.index(0, colStart), matrix2.getStride(), inner);
+			} else {
+				for (var innerStart = 0; innerStart < inner; innerStart += MAX_INT_PRODUCTS) {
+					int innerEnd = Math.min(inner, innerStart + MAX_INT_PRODUCTS);
+					for (var elementIndex = innerStart; elementIndex < innerEnd; elementIndex++) {
+						int value1 = data1[row1 + elementIndex];
+						var row2 = matrix2.index(elementIndex, colStart);
+						for (var colIterator = 0; colIterator < columns; colIterator++) {
+							products[colIterator] += value1 * data2[row2 + colIterator];
+						}
+					}
+					for (var colIterator = 0; colIterator < columns; colIterator++) {
+						productSums[colIterator] += products[colIterator];
+						products[colIterator] = 0;
+					}
+				}
+			}
+
+			long rowSum = 0;
+			for (var elementIndex = 0; elementIndex < inner; elementIndex++) {
+				rowSum += data1[row1 + elementIndex];
+			}
+			long zeroPoint1 = matrix1.getZeroPoint(rowIterator);
+			double scale = matrix1.getScale(rowIterator) * scale2;
+			long offsetSum = inner * zeroPoint1 * zeroPoint2 - zeroPoint2 * rowSum;
+
+			var resultRow = result.index(rowIterator, colStart);
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				long sum = productSums[colIterator] + offsetSum - zeroPoint1 * columnSums[colStart + colIterator];
+				resultData[resultRow + colIterator] = scale * sum;
+				productSums[colIterator] = 0;
+			}
+		}
+	}
+
+	/**
+	 * @return the sum of the products of a row of matrix1 and a column of matrix2, in four int partial sums, which is
+	 * exact in any order
+	 */
+	private static long dotRowWithColumn(byte[] data1, int row1, byte[] data2, int column2, int stride2, int inner) {
+		long total = 0;
+		for (var innerStart = 0; innerStart < inner; innerStart += MAX_INT_PRODUCTS) {
+			int innerEnd = Math.min(inner, innerStart + MAX_INT_PRODUCTS);
+			int sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+			var elementIndex = innerStart;
+			for (; elementIndex <= innerEnd - 4; elementIndex += 4) {
+				sum0 += data1[row1 + elementIndex] * data2[column2 + elementIndex * stride2];
+				sum1 += data1[row1 + elementIndex + 1] * data2[column2 + (elementIndex + 1) * stride2];
+				sum2 += data1[row1 + elementIndex + 2] * data2[column2 + (elementIndex + 2) * stride2];
+				sum3 += data1[row1 + elementIndex + 3] * data2[column2 + (elementIndex + 3) * stride2];
+			}
+			for (; elementIndex < innerEnd; elementIndex++) {
+				sum0 += data1[row1 + elementIndex] * data2[column2 + elementIndex * stride2];
+			}
+			total += (long) sum0 + sum1 + sum2 + sum3;
+		}
+		return total;
+	}
+
+	/**
+	 * @return the sum of the quantized values in each column of matrix
+	 */
+	private static long[] columnSums(QuantizedMatrix matrix) {
+		byte[] data = matrix.getData();
+		long[] sums = new long[matrix.getColumns()];
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			var row = matrix.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix.getColumns(); colIterator++) {
+				sums[colIterator] += data[row + colIterator];
+			}
+		}
+		return sums;
+	}
+
+	/**
+	 * The number of columns of the 1st matrix must equal the number of rows of the 2nd matrix.
+	 *
+	 * @return true if the dot operation can be performed on matrix1 & matrix2
+	 */
+	protected static boolean canDot(QuantizedMatrix matrix1, QuantizedMatrix matrix2) {
+		return matrix1.getColumns() == matrix2.getRows();
+	}
+
+	protected static void validateMatricesForDot(QuantizedMatrix matrix1, QuantizedMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		if (!canDot(matrix1, matrix2)) {
+			throw new MatricesIncompatibleForOperationException("Cannot create dot product for matrices. Matrices are incompatible for multiplication." +
+					"Columns of matrix 1: " + matrix1.getColumns() + " does not match rows of matrix 2: " + matrix2.getRows());
+		}
+		if (matrix2.getGranularity() != QuantizedMatrix.Granularity.PER_TENSOR) {
+			throw new MatricesIncompatibleForOperationException("Cannot create dot product for matrices. Matrix 2 must be quantized per tensor but is quantized " + matrix2.getGranularity());
+		}
+	}
+}
@@ -0,0 +1,337 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.concurrent.task.parallel.MatricesTaskDivider;
+import org.jmatrix.matrix.concurrent.task.parallel.NonZeroTaskDivider;
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.SparseMatrix;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.BiFunction;
+
+/**
+ * Dot products of {@link SparseMatrix} instances with each other and with dense {@link Matrix} instances, which only
+ * multiply the stored elements of the sparse matrices. For a sparse matrix with nnz stored elements, a sparse-dense
+ * product does nnz * columns multiply-adds instead of rows * inner * columns.
+ * <p>
+ * The multiply and accumulator functions are the same as for {@link MatricesCalculator#dot}, and the zero value is the
+ * sparse matrix's. Each element of a result accumulates its products in ascending order of the inner index, starting
+ * from the zero value, like {@link MatricesCalculator#dot}, but skips the products with an element that isn't stored.
+ * So the results are identical for exact types such as Integer and BigDecimal, and for floating-point types as long as
+ * the dense matrix has no infinite or NaN elements.
+ * <p>
+ * Each product reads its sparse matrices in one layout, and a matrix in the other layout is converted first, see
+ * {@link SparseMatrix#toLayout}: sparse-dense and sparse-sparse products read CSR matrices, and dense-sparse products
+ * read a CSC matrix. The parallel versions split the rows of the result between tasks by their number of products,
+ * see {@link NonZeroTaskDivider}, so a few dense rows don't leave the other tasks idle.
+ */
+public abstract class SparseMatricesCalculator {
+
+	/**
+	 * Calculates the dot product of a sparse matrix and a dense matrix on the calling thread.
+	 */
+	public static <T> Matrix<T> dot(SparseMatrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1.getColumns(), matrix2.getRows());
+
+		SparseMatrix<T> csr = matrix1.toLayout(SparseMatrix.Layout.CSR);
+		List<List<T>> resultRows = newResultRows(csr.getRows());
+		accumulateDot(csr, matrix2, multiplyFunction, accumulatorFunction, resultRows, 0, csr.getRows());
+		return Matrix.wrapRows(resultRows);
+	}
+
+	/**
+	 * Same as {@link #parallelDot(SparseMatrix, Matrix, ComputeContext, BiFunction, BiFunction)}, on the
+	 * {@linkplain ComputeContext#getDefault() default context}.
+	 */
+	public static <T> Matrix<T> parallelDot(SparseMatrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException {
+		return parallelDot(matrix1, matrix2, ComputeContext.getDefault(), multiplyFunction, accumulatorFunction);
+	}
+
+	/**
+	 * Same as {@link #dot(SparseMatrix, Matrix, BiFunction, BiFunction)}, with the rows of matrix1 split between
+	 * {@link ComputeContext#getParallelism()} tasks by their number of stored elements. Each row is calculated by a
+	 * single task, so the result is identical to {@link #dot(SparseMatrix, Matrix, BiFunction, BiFunction)}.
+	 */
+	public static <T> Matrix<T> parallelDot(SparseMatrix<T> matrix1, Matrix<T> matrix2, ComputeContext computeContext, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1.getColumns(), matrix2.getRows());
+
+		SparseMatrix<T> csr = matrix1.toLayout(SparseMatrix.Layout.CSR);
+		List<List<T>> resultRows = newResultRows(csr.getRows());
+
+		// each stored element costs a row of multiply-adds, and each row costs one more to fill with zeros
+		int[] pointers = csr.getPointers();
+		long[] cumulativeWork = new long[pointers.length];
+		for (var rowIterator = 0; rowIterator < pointers.length; rowIterator++) {
+			cumulativeWork[rowIterator] = (long) pointers[rowIterator] + rowIterator;
+		}
+
+		NonZeroTaskDivider taskDivider = new NonZeroTaskDivider(cumulativeWork, computeContext.getParallelism());
+		List<Callable<Void>> callables = new ArrayList<>(taskDivider.getTasks());
+		for (var i = 0; i < taskDivider.getTasks(); i++) {
+			int rowStart = taskDivider.rowStart(i);
+			int rowEnd = taskDivider.rowEnd(i);
+			callables.add(() -> {
+				accumulateDot(csr, matrix2, multiplyFunction, accumulatorFunction, resultRows, rowStart, rowEnd);
+				return null;
+			});
+		}
+
+		MatricesTaskDivider.invokeAll(callables, computeContext.getExecutorService());
+		return Matrix.wrapRows(resultRows);
+	}
+
+	/**
+	 * Calculates rows [rowStart, rowEnd) of a sparse-dense product. The loops are ordered i-k-j like
+	 * {@link BlockedDotKernel}, with k only running over the stored elements of row i.
+	 */
+	private static <T> void accumulateDot(SparseMatrix<T> matrix1, Matrix<T> matrix2, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction, List<List<T>> resultRows, int rowStart, int rowEnd) {
+		int[] pointers = matrix1.getPointers();
+		int[] indices = matrix1.getIndices();
+		List<List<T>> rows2 = matrix2.getMatrixLists();
+		int columns = matrix2.getColumns();
+
+		for (var rowIterator = rowStart; rowIterator < rowEnd; rowIterator++) {
+			Object[] resultRow = new Object[columns];
+			Arrays.fill(resultRow, matrix1.getZeroVal());
+			for (var position = pointers[rowIterator]; position < pointers[rowIterator + 1]; position++) {
+				T value1 = matrix1.getValue(position);
+				List<T> row2 = rows2.get(indices[position]);
+				for (var colIterator = 0; colIterator < columns; colIterator++) {
+					resultRow[colIterator] = accumulate(accumulatorFunction, resultRow[colIterator], multiplyFunction.apply(value1, row2.get(colIterator)));
+				}
+			}
+			resultRows.set(rowIterator, Matrix.rowOf(resultRow));
+		}
+	}
+
+	/**
+	 * Calculates the dot product of a dense matrix and a sparse matrix on the calling thread.
+	 */
+	public static <T> Matrix<T> dot(Matrix<T> matrix1, SparseMatrix<T> matrix2, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1.getColumns(), matrix2.getRows());
+
+		SparseMatrix<T> csc = matrix2.toLayout(SparseMatrix.Layout.CSC);
+		List<List<T>> resultRows = newResultRows(matrix1.getRows());
+		accumulateDot(matrix1, csc, multiplyFunction, accumulatorFunction, resultRows, 0, matrix1.getRows());
+		return Matrix.wrapRows(resultRows);
+	}
+
+	/**
+	 * Same as {@link #parallelDot(Matrix, SparseMatrix, ComputeContext, BiFunction, BiFunction)}, on the
+	 * {@linkplain ComputeContext#getDefault() default context}.
+	 */
+	public static <T> Matrix<T> parallelDot(Matrix<T> matrix1, SparseMatrix<T> matrix2, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException {
+		return parallelDot(matrix1, matrix2, ComputeContext.getDefault(), multiplyFunction, accumulatorFunction);
+	}
+
+	/**
+	 * Same as {@link #dot(Matrix, SparseMatrix, BiFunction, BiFunction)}, with the rows of matrix1 split between
+	 * {@link ComputeContext#getParallelism()} tasks. Every row of a dense-sparse product multiplies all the stored
+	 * elements of matrix2, so the rows are split evenly, see {@link MatricesTaskDivider}.
+	 */
+	public static <T> Matrix<T> parallelDot(Matrix<T> matrix1, SparseMatrix<T> matrix2, ComputeContext computeContext, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1.getColumns(), matrix2.getRows());
+
+		SparseMatrix<T> csc = matrix2.toLayout(SparseMatrix.Layout.CSC);
+		List<List<T>> resultRows = newResultRows(matrix1.getRows());
+
+		MatricesTaskDivider taskDivider = new MatricesTaskDivider(matrix1.getRows(), computeContext.getParallelism());
+		List<Callable<Void>> callables = new ArrayList<>(taskDivider.getTasks());
+		for (var i = 0; i < taskDivider.getTasks(); i++) {
+			int rowStart = taskDivider.fromRow(i);
+			int rowEnd = taskDivider.toRow(i, matrix1.getRows());
+			callables.add(() -> {
+				accumulateDot(matrix1, csc, multiplyFunction, accumulatorFunction, resultRows, rowStart, rowEnd);
+				return null;
+			});
+		}
+
+		MatricesTaskDivider.invokeAll(callables, computeContext.getExecutorService());
+		return Matrix.wrapRows(resultRows);
+	}
+
+	/**
+	 * Calculates rows [rowStart, rowEnd) of a dense-sparse product. Each element is the sum of the products of row i
+	 * of matrix1 with the stored elements of column j of matrix2, which are in ascending row order in CSC.
+	 */
+	private static <T> void accumulateDot(Matrix<T> matrix1, SparseMatrix<T> matrix2, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction, List<List<T>> resultRows, int rowStart, int rowEnd) {
+		int[] pointers = matrix2.getPointers();
+		int[] indices = matrix2.getIndices();
+		int columns = matrix2.getColumns();
+
+		for (var rowIterator = rowStart; rowIterator < rowEnd; rowIterator++) {
+			List<T> row1 = matrix1.getMatrixLists().get(rowIterator);
+			Object[] resultRow = new Object[columns];
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				T sum = matrix2.getZeroVal();
+				for (var position = pointers[colIterator]; position < pointers[colIterator + 1]; position++) {
+					sum = accumulatorFunction.apply(sum, multiplyFunction.apply(row1.get(indices[position]), matrix2.getValue(position)));
+				}
+				resultRow[colIterator] = sum;
+			}
+			resultRows.set(rowIterator, Matrix.rowOf(resultRow));
+		}
+	}
+
+	/**
+	 * Calculates the dot product of two sparse matrices on the calling thread, into a new CSR matrix with matrix1's
+	 * zero value. An element of the result is stored if at least one product contributes to it, even if the products
+	 * add up to zero.
+	 */
+	public static <T> SparseMatrix<T> dot(SparseMatrix<T> matrix1, SparseMatrix<T> matrix2, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1.getColumns(), matrix2.getRows());
+
+		SparseMatrix<T> csr1 = matrix1.toLayout(SparseMatrix.Layout.CSR);
+		SparseMatrix<T> csr2 = matrix2.toLayout(SparseMatrix.Layout.CSR);
+		SparseRows sparseRows = new SparseRows(csr1.getRows());
+		accumulateDot(csr1, csr2, multiplyFunction, accumulatorFunction, sparseRows, 0, csr1.getRows());
+		return sparseRows.toMatrix(csr2.getColumns(), csr1.getZeroVal());
+	}
+
+	/**
+	 * Same as {@link #parallelDot(SparseMatrix, SparseMatrix, ComputeContext, BiFunction, BiFunction)}, on the
+	 * {@linkplain ComputeContext#getDefault() default context}.
+	 */
+	public static <T> SparseMatrix<T> parallelDot(SparseMatrix<T> matrix1, SparseMatrix<T> matrix2, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException {
+		return parallelDot(matrix1, matrix2, ComputeContext.getDefault(), multiplyFunction, accumulatorFunction);
+	}
+
+	/**
+	 * Same as {@link #dot(SparseMatrix, SparseMatrix, BiFunction, BiFunction)}, with the rows of matrix1 split between
+	 * {@link ComputeContext#getParallelism()} tasks by their number of products: each stored element (i, k) of matrix1
+	 * is multiplied by every stored element of row k of matrix2. Each row is calculated by a single task, so the result
+	 * is identical to {@link #dot(SparseMatrix, SparseMatrix, BiFunction, BiFunction)}.
+	 */
+	public static <T> SparseMatrix<T> parallelDot(SparseMatrix<T> matrix1, SparseMatrix<T> matrix2, ComputeContext computeContext, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1.getColumns(), matrix2.getRows());
+
+		SparseMatrix<T> csr1 = matrix1.toLayout(SparseMatrix.Layout.CSR);
+		SparseMatrix<T> csr2 = matrix2.toLayout(SparseMatrix.Layout.CSR);
+		SparseRows sparseRows = new SparseRows(csr1.getRows());
+
+		int[] pointers1 = csr1.getPointers();
+		int[] indices1 = csr1.getIndices();
+		long[] cumulativeWork = new long[pointers1.length];
+		for (var rowIterator = 0; rowIterator < csr1.getRows(); rowIterator++) {
+			long rowWork = 1;
+			for (var position = pointers1[rowIterator]; position < pointers1[rowIterator + 1]; position++) {
+				rowWork += csr2.getNonZeroCount(indices1[position]);
+			}
+			cumulativeWork[rowIterator + 1] = cumulativeWork[rowIterator] + rowWork;
+		}
+
+		NonZeroTaskDivider taskDivider = new NonZeroTaskDivider(cumulativeWork, computeContext.getParallelism());
+		List<Callable<Void>> callables = new ArrayList<>(taskDivider.getTasks());
+		for (var i = 0; i < taskDivider.getTasks(); i++) {
+			int rowStart = taskDivider.rowStart(i);
+			int rowEnd = taskDivider.rowEnd(i);
+			callables.add(() -> {
+				accumulateDot(csr1, csr2, multiplyFunction, accumulatorFunction, sparseRows, rowStart, rowEnd);
+				return null;
+			});
+		}
+
+		MatricesTaskDivider.invokeAll(callables, computeContext.getExecutorService());
+		return sparseRows.toMatrix(csr2.getColumns(), csr1.getZeroVal());
+	}
+
+	/**
+	 * Calculates rows [rowStart, rowEnd) of a sparse-sparse product with Gustavson's algorithm: the rows of matrix2
+	 * matching the stored elements of row i of matrix1 are scaled and scattered into a dense accumulator row, in
+	 * ascending k order. The columns touched are tracked with a marker per column, so the accumulator never has to be
+	 * cleared, and only the touched columns are sorted and gathered into the result row.
+	 */
+	private static <T> void accumulateDot(SparseMatrix<T> matrix1, SparseMatrix<T> matrix2, BiFunction<T, T, T> multiplyFunction, BiFunction<T, T, T> accumulatorFunction, SparseRows sparseRows, int rowStart, int rowEnd) {
+		int[] pointers1 = matrix1.getPointers();
+		int[] indices1 = matrix1.getIndices();
+		int[] pointers2 = matrix2.getPointers();
+		int[] indices2 = matrix2.getIndices();
+		int columns = matrix2.getColumns();
+
+		Object[] accumulator = new Object[columns];
+		int[] markers = new int[columns];
+		Arrays.fill(markers, -1);
+		int[] touchedColumns = new int[columns];
+
+		for (var rowIterator = rowStart; rowIterator < rowEnd; rowIterator++) {
+			var touched = 0;
+			for (var position1 = pointers1[rowIterator]; position1 < pointers1[rowIterator + 1]; position1++) {
+				T value1 = matrix1.getValue(position1);
+				int row2 = indices1[position1];
+				for (var position2 = pointers2[row2]; position2 < pointers2[row2 + 1]; position2++) {
+					int column = indices2[position2];
+					T product = multiplyFunction.apply(value1, matrix2.getValue(position2));
+					if (markers[column] != rowIterator) {
+						markers[column] = rowIterator;
+						touchedColumns[touched++] = column;
+						accumulator[column] = accumulatorFunction.apply(matrix1.getZeroVal(), product);
+					} else {
+						accumulator[column] = accumulate(accumulatorFunction, accumulator[column], product);
+					}
+				}
+			}
+
+			int[] rowIndices = Arrays.copyOf(touchedColumns, touched);
+			Arrays.sort(rowIndices);
+			Object[] rowValues = new Object[touched];
+			for (var i = 0; i < touched; i++) {
+				rowValues[i] = accumulator[rowIndices[i]];
+			}
+			sparseRows.indices[rowIterator] = rowIndices;
+			sparseRows.values[rowIterator] = rowValues;
+		}
+	}
+
+	/**
+	 * The rows of a sparse-sparse product, each written by a single task, and then concatenated into a CSR matrix
+	 */
+	private static class SparseRows {
+
+		final int[][] indices;
+		final Object[][] values;
+
+		SparseRows(int rows) {
+			this.indices = new int[rows][];
+			this.values = new Object[rows][];
+		}
+
+		<T> SparseMatrix<T> toMatrix(int columns, T zeroVal) {
+			int[] pointers = new int[indices.length + 1];
+			for (var rowIterator = 0; rowIterator < indices.length; rowIterator++) {
+				pointers[rowIterator + 1] = Math.addExact(pointers[rowIterator], indices[rowIterator].length);
+			}
+
+			int[] allIndices = new int[pointers[indices.length]];
+			Object[] allValues = new Object[pointers[indices.length]];
+			for (var rowIterator = 0; rowIterator < indices.length; rowIterator++) {
+				System.arraycopy(indices[rowIterator], 0, allIndices, pointers[rowIterator], indices[rowIterator].length);
+				System.arraycopy(values[rowIterator], 0, allValues, pointers[rowIterator], values[rowIterator].length);
+			}
+			return SparseMatrix.wrap(indices.length, columns, SparseMatrix.Layout.CSR, pointers, allIndices, allValues, zeroVal);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Object accumulate(BiFunction<T, T, T> accumulatorFunction, Object sum, T product) {
+		return accumulatorFunction.apply((T) sum, product);
+	}
+
+	/**
+	 * @return a list of rows that tasks can set by index, as setting an element doesn't change its structure
+	 */
+	private static <T> List<List<T>> newResultRows(int rows) {
+		return new ArrayList<>(Collections.nCopies(rows, null));
+	}
+
+	private static void validateMatricesForDot(int columns1, int rows2) throws MatricesIncompatibleForOperationException {
+		if (columns1 != rows2) {
+			throw new MatricesIncompatibleForOperationException("Cannot create dot product for matrices. Matrices are incompatible for multiplication." +
+					"Columns of matrix 1: " + columns1 + " does not match rows of matrix 2: " + rows2);
+		}
+	}
+}
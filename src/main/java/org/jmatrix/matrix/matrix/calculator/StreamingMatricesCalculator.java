@@ -0,0 +1,206 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.concurrent.task.parallel.MatricesTaskDivider;
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrixFile.MatrixFileHeader;
+import org.jmatrix.matrix.matrixFile.MatrixFileReader;
+import org.jmatrix.matrix.matrixFile.MatrixFileWriter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Out-of-core dot products for matrices that are too large to hold in memory.
+ * <p>
+ * matrix1 is read from a matrix file in blocks of rows, each block is multiplied against matrix2 (which must fit in
+ * memory), and each block of the result is written straight to the result matrix file. Since row i of the result only
+ * depends on row i of matrix1, the blocks are independent, which is the same row-splitting idea that
+ * {@link MatricesTaskDivider} uses for {@link MatricesCalculator#parallelDot}.
+ * <p>
+ * The calling thread reads the blocks in order and hands them to the worker threads. At most {@code prefetchBlocks}
+ * blocks are read ahead of the workers, so peak memory is roughly
+ * {@code (prefetchBlocks + nThreads) * blockRows * (matrix1 columns + matrix2 columns) * 8} bytes plus matrix2,
+ * however many rows matrix1 has.
+ * <p>
+ * The blocks are multiplied on the executor of a {@link ComputeContext}, the
+ * {@linkplain ComputeContext#getDefault() default context} unless one is given.
+ */
+public abstract class StreamingMatricesCalculator {
+
+	public static void dot(Path matrix1Path, DoubleMatrix matrix2, Path resultPath, int blockRows) throws IOException, MatricesIncompatibleForOperationException {
+		dot(matrix1Path, matrix2, resultPath, blockRows, ComputeContext.getDefault());
+	}
+
+	/**
+	 * Multiplies up to {@link ComputeContext#getParallelism()} blocks at the same time, reading as many blocks ahead.
+	 */
+	public static void dot(Path matrix1Path, DoubleMatrix matrix2, Path resultPath, int blockRows, ComputeContext computeContext) throws IOException, MatricesIncompatibleForOperationException {
+		int nThreads = computeContext.getParallelism();
+		dot(matrix1Path, matrix2, resultPath, blockRows, nThreads, nThreads, computeContext);
+	}
+
+	/**
+	 * @param matrix1Path    the matrix file holding the first matrix in the dot equation
+	 * @param matrix2        the second matrix in the dot equation
+	 * @param resultPath     the matrix file to write the result to. It is created or overwritten.
+	 * @param blockRows      the number of rows of matrix1 to read and multiply at a time
+	 * @param nThreads       the maximum number of blocks to multiply at the same time
+	 * @param prefetchBlocks the maximum number of blocks to read ahead of the worker threads
+	 */
+	public static void dot(Path matrix1Path, DoubleMatrix matrix2, Path resultPath, int blockRows, int nThreads, int prefetchBlocks) throws IOException, MatricesIncompatibleForOperationException {
+		dot(matrix1Path, matrix2, resultPath, blockRows, nThreads, prefetchBlocks, ComputeContext.getDefault());
+	}
+
+	/**
+	 * Same as {@link #dot(Path, DoubleMatrix, Path, int, int, int)}, multiplying the blocks on the context's executor.
+	 * At most nThreads blocks are multiplied at the same time, and no more than {@link ComputeContext#getParallelism()}.
+	 */
+	public static void dot(Path matrix1Path, DoubleMatrix matrix2, Path resultPath, int blockRows, int nThreads, int prefetchBlocks, ComputeContext computeContext) throws IOException, MatricesIncompatibleForOperationException {
+		if (blockRows < 1 || nThreads < 1 || prefetchBlocks < 1) {
+			throw new IllegalArgumentException("blockRows, nThreads and prefetchBlocks must be positive");
+		}
+
+		try (MatrixFileReader reader = new MatrixFileReader(matrix1Path)) {
+			MatrixFileHeader header = reader.getHeader();
+			if (header.columns() != matrix2.getRows()) {
+				throw new MatricesIncompatibleForOperationException("Cannot create dot product for matrices. Matrices are incompatible for multiplication." +
+						"Columns of matrix 1: " + header.columns() + " does not match rows of matrix 2: " + matrix2.getRows());
+			}
+
+			int blocks = (header.rows() + blockRows - 1) / blockRows;
+
+			try (MatrixFileWriter writer = new MatrixFileWriter(resultPath, header.rows(), matrix2.getColumns())) {
+				streamBlocks(reader, writer, matrix2, blockRows, blocks, Math.min(nThreads, blocks), prefetchBlocks, computeContext.getExecutorService());
+			}
+		}
+	}
+
+	private static void streamBlocks(MatrixFileReader reader, MatrixFileWriter writer, DoubleMatrix matrix2, int blockRows, int blocks, int nThreads, int prefetchBlocks, ExecutorService executorService) throws IOException {
+		Semaphore blocksInMemory = new Semaphore(prefetchBlocks + nThreads);
+		Queue<Block> readBlocks = new ConcurrentLinkedQueue<>();
+		AtomicInteger workers = new AtomicInteger();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		AtomicBoolean stopped = new AtomicBoolean();
+		List<Future<?>> futures = new ArrayList<>();
+		var completed = false;
+
+		// Each worker multiplies read blocks until none are left, so at most nThreads blocks are multiplied at the
+		// same time however large the executor is. A worker only gives up its slot once the queue is empty, and
+		// checks it again afterwards, so a block queued while it was leaving isn't stranded.
+		Runnable worker = () -> {
+			do {
+				Block block;
+				while ((block = readBlocks.poll()) != null) {
+					try {
+						if (!stopped.get()) {
+							writer.writeRows(block.startRow(), DoubleMatricesCalculator.dot(block.rows(), matrix2));
+						}
+					} catch (Throwable e) {
+						failure.compareAndSet(null, e);
+						stopped.set(true);
+					} finally {
+						blocksInMemory.release();
+					}
+				}
+				workers.decrementAndGet();
+			} while (!readBlocks.isEmpty() && tryStartWorker(workers, nThreads));
+		};
+
+		try {
+			for (var block = 0; block < blocks; block++) {
+				blocksInMemory.acquire();
+				if (stopped.get()) {
+					// Stop reading, the failure is rethrown below
+					blocksInMemory.release();
+					break;
+				}
+
+				int startRow = block * blockRows;
+				try {
+					readBlocks.add(new Block(startRow, reader.readRows(startRow, Math.min(blockRows, reader.getHeader().rows() - startRow))));
+				} catch (IOException | RuntimeException e) {
+					blocksInMemory.release();
+					throw e;
+				}
+
+				if (tryStartWorker(workers, nThreads)) {
+					if (ComputeContext.isExecutorThread(executorService)) {
+						// Called from one of the executor's threads, which could all end up waiting on workers queued
+						// behind them
+						worker.run();
+					} else {
+						futures.add(executorService.submit(worker));
+					}
+				}
+			}
+
+			for (var future : futures) {
+				future.get();
+			}
+			completed = true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		} finally {
+			if (!completed) {
+				// The executor outlives this call, so the queued blocks are skipped and the running ones must finish
+				// before the writer is closed
+				stopped.set(true);
+				awaitBlocks(futures);
+			}
+		}
+
+		Throwable cause = failure.get();
+		if (cause instanceof IOException ioException) {
+			throw ioException;
+		}
+		if (cause instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+		if (cause instanceof Error error) {
+			throw error;
+		}
+	}
+
+	private static boolean tryStartWorker(AtomicInteger workers, int nThreads) {
+		return workers.getAndUpdate(running -> running < nThreads ? running + 1 : running) < nThreads;
+	}
+
+	private static void awaitBlocks(List<Future<?>> futures) {
+		var interrupted = false;
+		for (var future : futures) {
+			while (true) {
+				try {
+					future.get();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				} catch (ExecutionException | CancellationException e) {
+					break;
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private record Block(int startRow, DoubleMatrix rows) {
+	}
+}
@@ -0,0 +1,180 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * A mutable sum of products of unscaled BigDecimal values, used by {@link BigDecimalDotKernel}.
+ * <p>
+ * The sum is a two's complement integer stored in 64-bit words, least significant first, with a fixed scale per
+ * result element. The operands are unscaled values of up to 128 bits, given as a sign and a magnitude. Each product is
+ * computed exactly in up to 256 bits, multiplied by a power of ten if its scale is smaller than the result's, and
+ * added in place, so nothing is allocated until the sum is converted to a BigDecimal. The word buffers are reused for
+ * every element of the result.
+ */
+final class UnscaledAccumulator {
+
+	private final long[] words;
+	private final long[] term;
+
+	/**
+	 * @param maxAlignment the most decimal digits any product is shifted by to match the scale of the result
+	 */
+	UnscaledAccumulator(int maxAlignment) {
+		// a product of two 128-bit magnitudes needs 256 bits, the sum of up to 2^31 of them 288 bits with the sign,
+		// and each digit of alignment less than 4 more bits
+		int length = 5 + (maxAlignment * 4 + 63) / 64;
+		this.words = new long[length];
+		this.term = new long[length];
+	}
+
+	void reset() {
+		Arrays.fill(words, 0);
+	}
+
+	/**
+	 * Adds {@code multiplicand * multiplier * 10^alignment} to the sum, where each operand is given as the low and
+	 * high words of its unsigned magnitude and its sign.
+	 */
+	void addProduct(long low1, long high1, boolean negative1, long low2, long high2, boolean negative2, int alignment) {
+		int termLength = multiplyMagnitudes(low1, high1, low2, high2);
+
+		while (alignment > 0) {
+			int digits = Math.min(alignment, FixedPointArithmetic.POWERS_OF_TEN.length - 1);
+			termLength = multiplyTerm(termLength, FixedPointArithmetic.POWERS_OF_TEN[digits]);
+			alignment -= digits;
+		}
+
+		if (negative1 != negative2) {
+			subtractTerm(termLength);
+		} else {
+			addTerm(termLength);
+		}
+	}
+
+	BigDecimal toBigDecimal(int scale) {
+		long signExtension = words[0] >> 63;
+		var fitsInLong = true;
+		for (var i = 1; i < words.length && fitsInLong; i++) {
+			fitsInLong = words[i] == signExtension;
+		}
+		if (fitsInLong) {
+			return BigDecimal.valueOf(words[0], scale);
+		}
+
+		byte[] bytes = new byte[words.length * Long.BYTES];
+		for (var i = 0; i < words.length; i++) {
+			long word = words[words.length - 1 - i];
+			for (var j = 0; j < Long.BYTES; j++) {
+				bytes[i * Long.BYTES + j] = (byte) (word >>> (56 - 8 * j));
+			}
+		}
+		return new BigDecimal(new BigInteger(bytes), scale);
+	}
+
+	/**
+	 * Sets term to the product of two unsigned 128-bit magnitudes.
+	 *
+	 * @return the number of words in term
+	 */
+	private int multiplyMagnitudes(long low1, long high1, long low2, long high2) {
+		if (high1 == 0 && high2 == 0) {
+			term[0] = low1 * low2;
+			term[1] = Math.unsignedMultiplyHigh(low1, low2);
+			return 2;
+		}
+
+		Arrays.fill(term, 0, 4, 0);
+		multiplyAddToTerm(low1, low2, high2, 0);
+		multiplyAddToTerm(high1, low2, high2, 1);
+		return 4;
+	}
+
+	/**
+	 * Adds {@code factor * (high, low) * 2^(64 * offset)} to term.
+	 */
+	private void multiplyAddToTerm(long factor, long low, long high, int offset) {
+		long carry = 0;
+		for (var i = 0; i < 2; i++) {
+			long word = i == 0 ? low : high;
+			long productLow = factor * word;
+			long productHigh = Math.unsignedMultiplyHigh(factor, word);
+
+			productLow += carry;
+			if (Long.compareUnsigned(productLow, carry) < 0) {
+				productHigh++;
+			}
+			productLow += term[offset + i];
+			if (Long.compareUnsigned(productLow, term[offset + i]) < 0) {
+				productHigh++;
+			}
+			term[offset + i] = productLow;
+			carry = productHigh;
+		}
+		term[offset + 2] = carry;
+	}
+
+	/**
+	 * Multiplies the unsigned magnitude in term by an unsigned factor.
+	 *
+	 * @return the new number of words in term
+	 */
+	private int multiplyTerm(int termLength, long factor) {
+		long carry = 0;
+		for (var i = 0; i < termLength; i++) {
+			long low = term[i] * factor;
+			long high = Math.unsignedMultiplyHigh(term[i], factor);
+			low += carry;
+			if (Long.compareUnsigned(low, carry) < 0) {
+				high++;
+			}
+			term[i] = low;
+			carry = high;
+		}
+		if (carry != 0) {
+			term[termLength++] = carry;
+		}
+		return termLength;
+	}
+
+	private void addTerm(int termLength) {
+		long carry = 0;
+		for (var i = 0; i < termLength; i++) {
+			carry = addWord(i, term[i], carry);
+		}
+		for (var i = termLength; i < words.length && carry != 0; i++) {
+			carry = addWord(i, 0, carry);
+		}
+	}
+
+	private void subtractTerm(int termLength) {
+		long borrow = 0;
+		for (var i = 0; i < termLength; i++) {
+			long word = words[i];
+			long difference = word - term[i] - borrow;
+			borrow = Long.compareUnsigned(word, term[i]) < 0 || (word == term[i] && borrow != 0) ? 1 : 0;
+			words[i] = difference;
+		}
+		for (var i = termLength; i < words.length && borrow != 0; i++) {
+			borrow = words[i] == 0 ? 1 : 0;
+			words[i]--;
+		}
+	}
+
+	/**
+	 * Adds value and carry to words[index].
+	 *
+	 * @return the carry out, 0 or 1
+	 */
+	private long addWord(int index, long value, long carry) {
+		long sum = words[index] + value;
+		long carryOut = Long.compareUnsigned(sum, value) < 0 ? 1 : 0;
+		long sumWithCarry = sum + carry;
+		if (Long.compareUnsigned(sumWithCarry, carry) < 0) {
+			carryOut++;
+		}
+		words[index] = sumWithCarry;
+		return carryOut;
+	}
+}
@@ -0,0 +1,27 @@
+package org.jmatrix.matrix.matrix.calculator.vector;
+
+/**
+ * The element-wise operations that {@link VectorMatricesCalculator#combine} can apply to two matrices. Unlike an
+ * arbitrary {@code DoubleBinaryOperator}, each operation has a known SIMD equivalent, so it can be vectorised.
+ */
+public enum ElementWiseOperation {
+	ADD,
+	SUBTRACT,
+	MULTIPLY;
+
+	double applyAsDouble(double x, double y) {
+		return switch (this) {
+			case ADD -> x + y;
+			case SUBTRACT -> x - y;
+			case MULTIPLY -> x * y;
+		};
+	}
+
+	float applyAsFloat(float x, float y) {
+		return switch (this) {
+			case ADD -> x + y;
+			case SUBTRACT -> x - y;
+			case MULTIPLY -> x * y;
+		};
+	}
+}
@@ -0,0 +1,119 @@
+package org.jmatrix.matrix.matrix.calculator.vector;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.jmatrix.matrix.matrix.FloatMatrix;
+
+/**
+ * {@link FloatVector} kernels for {@link FloatMatrix}. Each row is processed in chunks of
+ * {@code SPECIES.length()} lanes, and the remaining elements at the end of the row are processed one at a time.
+ * <p>
+ * This is the only class (along with {@link DoubleVectorKernels}) that references {@code jdk.incubator.vector}, so it
+ * must only be loaded once {@link #isSupported()} has returned true.
+ */
+final class FloatVectorKernels {
+
+	private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+	private FloatVectorKernels() {
+	}
+
+	/**
+	 * @return true if the preferred species holds more than one float, i.e. the CPU has usable SIMD registers
+	 */
+	static boolean isSupported() {
+		return SPECIES.length() > 1;
+	}
+
+	/**
+	 * Multiplies in i-k-j order, using a separate multiply and add (rather than a fused multiply-add) so the result
+	 * is identical to the scalar kernels.
+	 */
+	static void dot(FloatMatrix matrix1, FloatMatrix matrix2, FloatMatrix result) {
+		float[] data1 = matrix1.getData();
+		float[] data2 = matrix2.getData();
+		float[] resultData = result.getData();
+		int columns = matrix2.getColumns();
+		int loopBound = SPECIES.loopBound(columns);
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+			for (var elementIndex = 0; elementIndex < matrix1.getColumns(); elementIndex++) {
+				var value1 = data1[row1 + elementIndex];
+				var broadcastValue1 = FloatVector.broadcast(SPECIES, value1);
+				var row2 = matrix2.index(elementIndex, 0);
+
+				var colIterator = 0;
+				for (; colIterator < loopBound; colIterator += SPECIES.length()) {
+					FloatVector.fromArray(SPECIES, resultData, resultRow + colIterator)
+							.add(broadcastValue1.mul(FloatVector.fromArray(SPECIES, data2, row2 + colIterator)))
+							.intoArray(resultData, resultRow + colIterator);
+				}
+				for (; colIterator < columns; colIterator++) {
+					resultData[resultRow + colIterator] += value1 * data2[row2 + colIterator];
+				}
+			}
+		}
+	}
+
+	static void combine(FloatMatrix matrix1, FloatMatrix matrix2, ElementWiseOperation operation, FloatMatrix result) {
+		float[] data1 = matrix1.getData();
+		float[] data2 = matrix2.getData();
+		float[] resultData = result.getData();
+		int columns = matrix1.getColumns();
+		int loopBound = SPECIES.loopBound(columns);
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			var row2 = matrix2.index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+
+			var colIterator = 0;
+			for (; colIterator < loopBound; colIterator += SPECIES.length()) {
+				var vector1 = FloatVector.fromArray(SPECIES, data1, row1 + colIterator);
+				var vector2 = FloatVector.fromArray(SPECIES, data2, row2 + colIterator);
+				var combined = switch (operation) {
+					case ADD -> vector1.add(vector2);
+					case SUBTRACT -> vector1.sub(vector2);
+					case MULTIPLY -> vector1.mul(vector2);
+				};
+				combined.intoArray(resultData, resultRow + colIterator);
+			}
+			for (; colIterator < columns; colIterator++) {
+				resultData[resultRow + colIterator] = operation.applyAsFloat(data1[row1 + colIterator], data2[row2 + colIterator]);
+			}
+		}
+	}
+
+	static void transform(FloatMatrix matrix, TransformOperation operation, FloatMatrix result) {
+		float[] data = matrix.getData();
+		float[] resultData = result.getData();
+		int columns = matrix.getColumns();
+		int loopBound = SPECIES.loopBound(columns);
+
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			var row = matrix.index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+
+			var colIterator = 0;
+			for (; colIterator < loopBound; colIterator += SPECIES.length()) {
+				var vector = FloatVector.fromArray(SPECIES, data, row + colIterator);
+				var transformed = switch (operation) {
+					case NEGATE -> vector.neg();
+					case ABS -> vector.abs();
+					case SQRT -> vector.sqrt();
+					case EXP -> vector.lanewise(VectorOperators.EXP);
+					case TANH -> vector.lanewise(VectorOperators.TANH);
+					case SIGMOID -> FloatVector.broadcast(SPECIES, 1.0f)
+							.div(vector.neg().lanewise(VectorOperators.EXP).add(1.0f));
+				};
+				transformed.intoArray(resultData, resultRow + colIterator);
+			}
+			for (; colIterator < columns; colIterator++) {
+				resultData[resultRow + colIterator] = operation.applyAsFloat(data[row + colIterator]);
+			}
+		}
+	}
+}
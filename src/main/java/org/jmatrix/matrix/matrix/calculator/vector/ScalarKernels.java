@@ -0,0 +1,109 @@
+package org.jmatrix.matrix.matrix.calculator.vector;
+
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.FloatMatrix;
+
+/**
+ * The scalar fallback used by {@link VectorMatricesCalculator} when the Vector API isn't available. The loops are
+ * ordered the same way as the vector kernels so the results are identical (apart from the transcendental functions
+ * in {@link TransformOperation}).
+ */
+final class ScalarKernels {
+
+	private ScalarKernels() {
+	}
+
+	static void dot(DoubleMatrix matrix1, DoubleMatrix matrix2, DoubleMatrix result) {
+		double[] data1 = matrix1.getData();
+		double[] data2 = matrix2.getData();
+		double[] resultData = result.getData();
+		int columns = matrix2.getColumns();
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+			for (var elementIndex = 0; elementIndex < matrix1.getColumns(); elementIndex++) {
+				var value1 = data1[row1 + elementIndex];
+				var row2 = matrix2.index(elementIndex, 0);
+				for (var colIterator = 0; colIterator < columns; colIterator++) {
+					resultData[resultRow + colIterator] += value1 * data2[row2 + colIterator];
+				}
+			}
+		}
+	}
+
+	static void dot(FloatMatrix matrix1, FloatMatrix matrix2, FloatMatrix result) {
+		float[] data1 = matrix1.getData();
+		float[] data2 = matrix2.getData();
+		float[] resultData = result.getData();
+		int columns = matrix2.getColumns();
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+			for (var elementIndex = 0; elementIndex < matrix1.getColumns(); elementIndex++) {
+				var value1 = data1[row1 + elementIndex];
+				var row2 = matrix2.index(elementIndex, 0);
+				for (var colIterator = 0; colIterator < columns; colIterator++) {
+					resultData[resultRow + colIterator] += value1 * data2[row2 + colIterator];
+				}
+			}
+		}
+	}
+
+	static void combine(DoubleMatrix matrix1, DoubleMatrix matrix2, ElementWiseOperation operation, DoubleMatrix result) {
+		double[] data1 = matrix1.getData();
+		double[] data2 = matrix2.getData();
+		double[] resultData = result.getData();
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			var row2 = matrix2.index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix1.getColumns(); colIterator++) {
+				resultData[resultRow + colIterator] = operation.applyAsDouble(data1[row1 + colIterator], data2[row2 + colIterator]);
+			}
+		}
+	}
+
+	static void combine(FloatMatrix matrix1, FloatMatrix matrix2, ElementWiseOperation operation, FloatMatrix result) {
+		float[] data1 = matrix1.getData();
+		float[] data2 = matrix2.getData();
+		float[] resultData = result.getData();
+
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			var row1 = matrix1.index(rowIterator, 0);
+			var row2 = matrix2.index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix1.getColumns(); colIterator++) {
+				resultData[resultRow + colIterator] = operation.applyAsFloat(data1[row1 + colIterator], data2[row2 + colIterator]);
+			}
+		}
+	}
+
+	static void transform(DoubleMatrix matrix, TransformOperation operation, DoubleMatrix result) {
+		double[] data = matrix.getData();
+		double[] resultData = result.getData();
+
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			var row = matrix.index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix.getColumns(); colIterator++) {
+				resultData[resultRow + colIterator] = operation.applyAsDouble(data[row + colIterator]);
+			}
+		}
+	}
+
+	static void transform(FloatMatrix matrix, TransformOperation operation, FloatMatrix result) {
+		float[] data = matrix.getData();
+		float[] resultData = result.getData();
+
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			var row = matrix.index(rowIterator, 0);
+			var resultRow = result.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix.getColumns(); colIterator++) {
+				resultData[resultRow + colIterator] = operation.applyAsFloat(data[row + colIterator]);
+			}
+		}
+	}
+}
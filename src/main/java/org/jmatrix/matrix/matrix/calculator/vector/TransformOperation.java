@@ -0,0 +1,39 @@
+package org.jmatrix.matrix.matrix.calculator.vector;
+
+/**
+ * The functions that {@link VectorMatricesCalculator#transform} can apply to each element of a matrix. Unlike an
+ * arbitrary {@code DoubleUnaryOperator}, each function has a known SIMD equivalent, so it can be vectorised.
+ * <p>
+ * {@link #EXP}, {@link #TANH} and {@link #SIGMOID} use the Vector API's own transcendental implementations when
+ * vectorised, which may differ from {@link Math} in the last bit or so.
+ */
+public enum TransformOperation {
+	NEGATE,
+	ABS,
+	SQRT,
+	EXP,
+	TANH,
+	SIGMOID;
+
+	double applyAsDouble(double x) {
+		return switch (this) {
+			case NEGATE -> -x;
+			case ABS -> Math.abs(x);
+			case SQRT -> Math.sqrt(x);
+			case EXP -> Math.exp(x);
+			case TANH -> Math.tanh(x);
+			case SIGMOID -> 1.0 / (1.0 + Math.exp(-x));
+		};
+	}
+
+	float applyAsFloat(float x) {
+		return switch (this) {
+			case NEGATE -> -x;
+			case ABS -> Math.abs(x);
+			case SQRT -> (float) Math.sqrt(x);
+			case EXP -> (float) Math.exp(x);
+			case TANH -> (float) Math.tanh(x);
+			case SIGMOID -> 1.0f / (1.0f + (float) Math.exp(-x));
+		};
+	}
+}
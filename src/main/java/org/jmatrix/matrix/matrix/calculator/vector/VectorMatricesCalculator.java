@@ -0,0 +1,123 @@
+package org.jmatrix.matrix.matrix.calculator.vector;
+
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.FloatMatrix;
+import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+
+/**
+ * SIMD calculations on {@link DoubleMatrix} and {@link FloatMatrix} using the
+ * <a href="https://openjdk.org/jeps/460">Java Vector API</a>.
+ * <p>
+ * The Vector API is still an incubator module, so this library only declares {@code requires static
+ * jdk.incubator.vector}. To enable the vector kernels, add the module at runtime with
+ * {@code --add-modules jdk.incubator.vector}. If the module isn't available, or the preferred vector species only
+ * holds a single lane, every method falls back to an equivalent scalar kernel, so callers don't have to check.
+ * {@link #isDoubleVectorised()} and {@link #isFloatVectorised()} report which kernels are in use.
+ * <p>
+ * Only operations with a SIMD equivalent can be vectorised, so combine and transform take an
+ * {@link ElementWiseOperation} or {@link TransformOperation} instead of an arbitrary function.
+ */
+public abstract class VectorMatricesCalculator {
+
+	private static final boolean DOUBLE_VECTORISED = isSupported(true);
+	private static final boolean FLOAT_VECTORISED = isSupported(false);
+
+	private static boolean isSupported(boolean doubleKernels) {
+		try {
+			return doubleKernels ? DoubleVectorKernels.isSupported() : FloatVectorKernels.isSupported();
+		} catch (LinkageError e) {
+			// jdk.incubator.vector hasn't been added to the module graph
+			return false;
+		}
+	}
+
+	public static boolean isDoubleVectorised() {
+		return DOUBLE_VECTORISED;
+	}
+
+	public static boolean isFloatVectorised() {
+		return FLOAT_VECTORISED;
+	}
+
+	public static DoubleMatrix dot(DoubleMatrix matrix1, DoubleMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1.getColumns(), matrix2.getRows());
+
+		DoubleMatrix result = new DoubleMatrix(matrix1.getRows(), matrix2.getColumns());
+		if (DOUBLE_VECTORISED) {
+			DoubleVectorKernels.dot(matrix1, matrix2, result);
+		} else {
+			ScalarKernels.dot(matrix1, matrix2, result);
+		}
+		return result;
+	}
+
+	public static FloatMatrix dot(FloatMatrix matrix1, FloatMatrix matrix2) throws MatricesIncompatibleForOperationException {
+		validateMatricesForDot(matrix1.getColumns(), matrix2.getRows());
+
+		FloatMatrix result = new FloatMatrix(matrix1.getRows(), matrix2.getColumns());
+		if (FLOAT_VECTORISED) {
+			FloatVectorKernels.dot(matrix1, matrix2, result);
+		} else {
+			ScalarKernels.dot(matrix1, matrix2, result);
+		}
+		return result;
+	}
+
+	public static DoubleMatrix combine(DoubleMatrix matrix1, DoubleMatrix matrix2, ElementWiseOperation operation) throws MatricesIncompatibleForOperationException {
+		validateMatricesForCombine(matrix1.getRows(), matrix1.getColumns(), matrix2.getRows(), matrix2.getColumns());
+
+		DoubleMatrix result = new DoubleMatrix(matrix1.getRows(), matrix1.getColumns());
+		if (DOUBLE_VECTORISED) {
+			DoubleVectorKernels.combine(matrix1, matrix2, operation, result);
+		} else {
+			ScalarKernels.combine(matrix1, matrix2, operation, result);
+		}
+		return result;
+	}
+
+	public static FloatMatrix combine(FloatMatrix matrix1, FloatMatrix matrix2, ElementWiseOperation operation) throws MatricesIncompatibleForOperationException {
+		validateMatricesForCombine(matrix1.getRows(), matrix1.getColumns(), matrix2.getRows(), matrix2.getColumns());
+
+		FloatMatrix result = new FloatMatrix(matrix1.getRows(), matrix1.getColumns());
+		if (FLOAT_VECTORISED) {
+			FloatVectorKernels.combine(matrix1, matrix2, operation, result);
+		} else {
+			ScalarKernels.combine(matrix1, matrix2, operation, result);
+		}
+		return result;
+	}
+
+	public static DoubleMatrix transform(DoubleMatrix matrix, TransformOperation operation) {
+		DoubleMatrix result = new DoubleMatrix(matrix.getRows(), matrix.getColumns());
+		if (DOUBLE_VECTORISED) {
+			DoubleVectorKernels.transform(matrix, operation, result);
+		} else {
+			ScalarKernels.transform(matrix, operation, result);
+		}
+		return result;
+	}
+
+	public static FloatMatrix transform(FloatMatrix matrix, TransformOperation operation) {
+		FloatMatrix result = new FloatMatrix(matrix.getRows(), matrix.getColumns());
+		if (FLOAT_VECTORISED) {
+			FloatVectorKernels.transform(matrix, operation, result);
+		} else {
+			ScalarKernels.transform(matrix, operation, result);
+		}
+		return result;
+	}
+
+	private static void validateMatricesForDot(int matrix1Columns, int matrix2Rows) throws MatricesIncompatibleForOperationException {
+		if (matrix1Columns != matrix2Rows) {
+			throw new MatricesIncompatibleForOperationException("Cannot create dot product for matrices. Matrices are incompatible for multiplication." +
+					"Columns of matrix 1: " + matrix1Columns + " does not match rows of matrix 2: " + matrix2Rows);
+		}
+	}
+
+	private static void validateMatricesForCombine(int matrix1Rows, int matrix1Columns, int matrix2Rows, int matrix2Columns) throws MatricesIncompatibleForOperationException {
+		if (matrix1Rows != matrix2Rows || matrix1Columns != matrix2Columns) {
+			throw new MatricesIncompatibleForOperationException(MatricesCalculator.CANNOT_COMBINE_MATRICES_ERROR_MSG);
+		}
+	}
+}
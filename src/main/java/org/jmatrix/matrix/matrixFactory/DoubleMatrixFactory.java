@@ -0,0 +1,35 @@
+package org.jmatrix.matrix.matrixFactory;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public class DoubleMatrixFactory {
+
+	public static DoubleMatrix withRandomValues(int rows, int columns, double minRange, double maxRange) throws EmptyMatrixException {
+		DoubleMatrix matrix = new DoubleMatrix(rows, columns);
+		double[] data = matrix.getData();
+		for (var i = 0; i < data.length; i++) {
+			data[i] = minRange + ThreadLocalRandom.current().nextDouble() * (maxRange - minRange);
+		}
+		return matrix;
+	}
+
+	/**
+	 * Copies a boxed matrix into a new {@link DoubleMatrix}.
+	 */
+	public static DoubleMatrix fromMatrix(Matrix<Double> matrix) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		DoubleMatrix doubleMatrix = new DoubleMatrix(matrix.getRows(), matrix.getColumns());
+		double[] data = doubleMatrix.getData();
+		var i = 0;
+		for (var row : matrix.getMatrixLists()) {
+			for (var value : row) {
+				data[i++] = value;
+			}
+		}
+		return doubleMatrix;
+	}
+}
@@ -0,0 +1,38 @@
+package org.jmatrix.matrix.matrixFactory;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+import org.jmatrix.matrix.matrix.FixedPointMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public class FixedPointMatrixFactory {
+
+	/**
+	 * Copies a boxed matrix into a new {@link FixedPointMatrix}, rounding every element to scale with
+	 * {@link RoundingMode#HALF_EVEN}.
+	 */
+	public static FixedPointMatrix fromMatrix(Matrix<BigDecimal> matrix, int scale) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		return fromMatrix(matrix, scale, RoundingMode.HALF_EVEN);
+	}
+
+	/**
+	 * Copies a boxed matrix into a new {@link FixedPointMatrix}, rounding every element to scale.
+	 *
+	 * @throws ArithmeticException if an element doesn't fit in a long at scale, or roundingMode is
+	 *                             {@link RoundingMode#UNNECESSARY} and an element has to be rounded
+	 */
+	public static FixedPointMatrix fromMatrix(Matrix<BigDecimal> matrix, int scale, RoundingMode roundingMode) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		FixedPointMatrix fixedPointMatrix = new FixedPointMatrix(matrix.getRows(), matrix.getColumns(), scale);
+		long[] data = fixedPointMatrix.getData();
+		var i = 0;
+		for (var row : matrix.getMatrixLists()) {
+			for (var value : row) {
+				data[i++] = value.setScale(scale, roundingMode).unscaledValue().longValueExact();
+			}
+		}
+		return fixedPointMatrix;
+	}
+}
@@ -0,0 +1,54 @@
+package org.jmatrix.matrix.matrixFactory;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.FloatMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public class FloatMatrixFactory {
+
+	public static FloatMatrix withRandomValues(int rows, int columns, float minRange, float maxRange) throws EmptyMatrixException {
+		FloatMatrix matrix = new FloatMatrix(rows, columns);
+		float[] data = matrix.getData();
+		for (var i = 0; i < data.length; i++) {
+			data[i] = minRange + ThreadLocalRandom.current().nextFloat() * (maxRange - minRange);
+		}
+		return matrix;
+	}
+
+	/**
+	 * Copies a boxed matrix of any numeric type into a new {@link FloatMatrix}, rounding each element with
+	 * {@link Number#floatValue()}.
+	 */
+	public static FloatMatrix fromMatrix(Matrix<? extends Number> matrix) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		FloatMatrix floatMatrix = new FloatMatrix(matrix.getRows(), matrix.getColumns());
+		float[] data = floatMatrix.getData();
+		var i = 0;
+		for (var row : matrix.getMatrixLists()) {
+			for (var value : row) {
+				data[i++] = value.floatValue();
+			}
+		}
+		return floatMatrix;
+	}
+
+	/**
+	 * Copies a {@link DoubleMatrix} into a new {@link FloatMatrix}, rounding each element to the nearest float.
+	 */
+	public static FloatMatrix fromDoubleMatrix(DoubleMatrix matrix) throws EmptyMatrixException {
+		FloatMatrix floatMatrix = new FloatMatrix(matrix.getRows(), matrix.getColumns());
+		double[] data = matrix.getData();
+		float[] floatData = floatMatrix.getData();
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			var row = matrix.index(rowIterator, 0);
+			var floatRow = floatMatrix.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix.getColumns(); colIterator++) {
+				floatData[floatRow + colIterator] = (float) data[row + colIterator];
+			}
+		}
+		return floatMatrix;
+	}
+}
@@ -0,0 +1,75 @@
+package org.jmatrix.matrix.matrixFactory;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.FloatMatrix;
+import org.jmatrix.matrix.matrix.HalfMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Creates {@link HalfMatrix} instances. Every element is rounded to a float first, and then to the nearest 16-bit
+ * float of the given format, see {@link HalfMatrix.Format#fromFloat}.
+ */
+public class HalfMatrixFactory {
+
+	public static HalfMatrix withRandomValues(int rows, int columns, float minRange, float maxRange, HalfMatrix.Format format) throws EmptyMatrixException {
+		HalfMatrix matrix = new HalfMatrix(rows, columns, format);
+		short[] data = matrix.getData();
+		for (var i = 0; i < data.length; i++) {
+			data[i] = format.fromFloat(minRange + ThreadLocalRandom.current().nextFloat() * (maxRange - minRange));
+		}
+		return matrix;
+	}
+
+	/**
+	 * Copies a boxed matrix of any numeric type into a new {@link HalfMatrix}.
+	 */
+	public static HalfMatrix fromMatrix(Matrix<? extends Number> matrix, HalfMatrix.Format format) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		HalfMatrix halfMatrix = new HalfMatrix(matrix.getRows(), matrix.getColumns(), format);
+		short[] data = halfMatrix.getData();
+		var i = 0;
+		for (var row : matrix.getMatrixLists()) {
+			for (var value : row) {
+				data[i++] = format.fromFloat(value.floatValue());
+			}
+		}
+		return halfMatrix;
+	}
+
+	/**
+	 * Narrows a {@link FloatMatrix} into a new {@link HalfMatrix}.
+	 */
+	public static HalfMatrix fromFloatMatrix(FloatMatrix matrix, HalfMatrix.Format format) throws EmptyMatrixException {
+		HalfMatrix halfMatrix = new HalfMatrix(matrix.getRows(), matrix.getColumns(), format);
+		float[] data = matrix.getData();
+		short[] halfData = halfMatrix.getData();
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			var row = matrix.index(rowIterator, 0);
+			var halfRow = halfMatrix.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix.getColumns(); colIterator++) {
+				halfData[halfRow + colIterator] = format.fromFloat(data[row + colIterator]);
+			}
+		}
+		return halfMatrix;
+	}
+
+	/**
+	 * Narrows a {@link DoubleMatrix} into a new {@link HalfMatrix}.
+	 */
+	public static HalfMatrix fromDoubleMatrix(DoubleMatrix matrix, HalfMatrix.Format format) throws EmptyMatrixException {
+		HalfMatrix halfMatrix = new HalfMatrix(matrix.getRows(), matrix.getColumns(), format);
+		double[] data = matrix.getData();
+		short[] halfData = halfMatrix.getData();
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			var row = matrix.index(rowIterator, 0);
+			var halfRow = halfMatrix.index(rowIterator, 0);
+			for (var colIterator = 0; colIterator < matrix.getColumns(); colIterator++) {
+				halfData[halfRow + colIterator] = format.fromFloat((float) data[row + colIterator]);
+			}
+		}
+		return halfMatrix;
+	}
+}
@@ -1,5 +1,6 @@
 package org.jmatrix.matrix.matrixFactory;
 
+import org.jmatrix.matrix.matrix.IntMatrix;
 import org.jmatrix.matrix.matrix.Matrix;
 import org.jmatrix.matrix.exception.EmptyMatrixException;
 import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
@@ -7,6 +8,7 @@ import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class IntegerMatrixFactory {
 
@@ -20,6 +22,33 @@ public class IntegerMatrixFactory {
 		return new Matrix<>(matrixLists);
 	}
 
+	/**
+	 * Same as {@link #withRandomValues}, but creates an {@link IntMatrix}. Values are in [minRange, maxRange).
+	 */
+	public static IntMatrix intMatrixWithRandomValues(int rows, int columns, int minRange, int maxRange) throws EmptyMatrixException {
+		IntMatrix matrix = new IntMatrix(rows, columns);
+		int[] data = matrix.getData();
+		for (var i = 0; i < data.length; i++) {
+			data[i] = ThreadLocalRandom.current().nextInt(minRange, maxRange);
+		}
+		return matrix;
+	}
+
+	/**
+	 * Copies a boxed matrix into a new {@link IntMatrix}.
+	 */
+	public static IntMatrix fromMatrix(Matrix<Integer> matrix) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		IntMatrix intMatrix = new IntMatrix(matrix.getRows(), matrix.getColumns());
+		int[] data = intMatrix.getData();
+		var i = 0;
+		for (var row : matrix.getMatrixLists()) {
+			for (var value : row) {
+				data[i++] = value;
+			}
+		}
+		return intMatrix;
+	}
+
 
 	private static List<Integer> createListOfRandomNumbers(int min, int max, int length) {
 		return new Random().ints(length, min, max).boxed().toList();
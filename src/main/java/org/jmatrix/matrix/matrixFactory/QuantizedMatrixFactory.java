@@ -0,0 +1,94 @@
+package org.jmatrix.matrix.matrixFactory;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.QuantizedMatrix;
+
+import java.util.List;
+
+/**
+ * Quantizes matrices into {@link QuantizedMatrix} instances with asymmetric, min-max quantization.
+ * <p>
+ * The range of the values sharing a scale and zero point, widened to include 0 so zero is exact, is mapped onto the
+ * 256 values of a byte: {@code scale = (max - min) / 255}, and the zero point is the byte that 0 maps to. Each value
+ * is then rounded to the nearest byte, so it's off by at most half a scale.
+ */
+public class QuantizedMatrixFactory {
+
+	private static final int LEVELS = 255;
+
+	/**
+	 * Quantizes a {@link DoubleMatrix}.
+	 *
+	 * @throws IllegalArgumentException if the matrix contains a NaN or infinite value
+	 */
+	public static QuantizedMatrix quantize(DoubleMatrix matrix, QuantizedMatrix.Granularity granularity) throws EmptyMatrixException {
+		return quantize(matrix.getRows(), matrix.getColumns(), matrix.getData(), matrix.getOffset(), matrix.getStride(), granularity);
+	}
+
+	/**
+	 * Quantizes a boxed matrix of any numeric type, e.g. a {@code Matrix<BigDecimal>}, using the nearest double to
+	 * each element.
+	 *
+	 * @throws IllegalArgumentException if an element doesn't fit in a double
+	 */
+	public static QuantizedMatrix quantize(Matrix<? extends Number> matrix, QuantizedMatrix.Granularity granularity) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		double[] values = new double[matrix.getRows() * matrix.getColumns()];
+		var i = 0;
+		for (List<? extends Number> row : matrix.getMatrixLists()) {
+			for (Number value : row) {
+				values[i++] = value.doubleValue();
+			}
+		}
+		return quantize(matrix.getRows(), matrix.getColumns(), values, 0, matrix.getColumns(), granularity);
+	}
+
+	private static QuantizedMatrix quantize(int rows, int columns, double[] values, int offset, int stride, QuantizedMatrix.Granularity granularity) {
+		int groups = granularity == QuantizedMatrix.Granularity.PER_TENSOR ? 1 : rows;
+		int rowsPerGroup = rows / groups;
+		double[] scales = new double[groups];
+		int[] zeroPoints = new int[groups];
+		byte[] data = new byte[Math.multiplyExact(rows, columns)];
+
+		for (var group = 0; group < groups; group++) {
+			int rowStart = group * rowsPerGroup;
+			int rowEnd = rowStart + rowsPerGroup;
+
+			double min = 0;
+			double max = 0;
+			for (var rowIterator = rowStart; rowIterator < rowEnd; rowIterator++) {
+				var row = offset + rowIterator * stride;
+				for (var colIterator = 0; colIterator < columns; colIterator++) {
+					double value = values[row + colIterator];
+					if (!Double.isFinite(value)) {
+						throw new IllegalArgumentException("Cannot quantize " + value);
+					}
+					min = Math.min(min, value);
+					max = Math.max(max, value);
+				}
+			}
+
+			// a row of zeros can have any scale, and every element is the zero point
+			double scale = max > min ? (max - min) / LEVELS : 1;
+			int zeroPoint = clamp(Math.round(Byte.MIN_VALUE - min / scale));
+			scales[group] = scale;
+			zeroPoints[group] = zeroPoint;
+
+			for (var rowIterator = rowStart; rowIterator < rowEnd; rowIterator++) {
+				var row = offset + rowIterator * stride;
+				var quantizedRow = rowIterator * columns;
+				for (var colIterator = 0; colIterator < columns; colIterator++) {
+					data[quantizedRow + colIterator] = (byte) clamp(Math.round(values[row + colIterator] / scale) + zeroPoint);
+				}
+			}
+		}
+
+		return new QuantizedMatrix(rows, columns, data, scales, zeroPoints);
+	}
+
+	private static int clamp(long value) {
+		return (int) Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE, value));
+	}
+}
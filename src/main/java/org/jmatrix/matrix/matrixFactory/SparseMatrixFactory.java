@@ -0,0 +1,150 @@
+package org.jmatrix.matrix.matrixFactory;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.SparseMatrix;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Creates {@link SparseMatrix} instances from dense matrices, from (row, column, value) triplets, or with random
+ * values.
+ */
+public class SparseMatrixFactory {
+
+	/**
+	 * Compresses a dense matrix, storing every element that isn't equal to zeroVal.
+	 */
+	public static <T> SparseMatrix<T> fromMatrix(Matrix<T> matrix, T zeroVal, SparseMatrix.Layout layout) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		return fromMatrix(matrix, zeroVal, zeroVal::equals, layout);
+	}
+
+	/**
+	 * Compresses a dense matrix, storing every element for which isZero is false. Use this when zero has more than one
+	 * representation, e.g. {@code value -> value.signum() == 0} for BigDecimal, where 0 and 0.00 aren't equal.
+	 */
+	public static <T> SparseMatrix<T> fromMatrix(Matrix<T> matrix, T zeroVal, Predicate<T> isZero, SparseMatrix.Layout layout) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		int[] pointers = new int[matrix.getRows() + 1];
+		List<Integer> indices = new ArrayList<>();
+		List<T> values = new ArrayList<>();
+
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			List<T> row = matrix.getMatrixLists().get(rowIterator);
+			for (var colIterator = 0; colIterator < matrix.getColumns(); colIterator++) {
+				T value = row.get(colIterator);
+				if (!isZero.test(value)) {
+					indices.add(colIterator);
+					values.add(value);
+				}
+			}
+			pointers[rowIterator + 1] = values.size();
+		}
+
+		int[] indicesArray = indices.stream().mapToInt(Integer::intValue).toArray();
+		return new SparseMatrix<>(matrix.getRows(), matrix.getColumns(), SparseMatrix.Layout.CSR, pointers, indicesArray, values, zeroVal).toLayout(layout);
+	}
+
+	/**
+	 * Creates a matrix from (rowIndices[i], columnIndices[i], values.get(i)) triplets, in any order. Every element
+	 * without a triplet is zeroVal.
+	 *
+	 * @throws IllegalArgumentException if the arrays have different lengths, or two triplets have the same row and
+	 *                                  column
+	 * @throws ListsIncompatibleForMatrixException if a row or column is out of bounds
+	 */
+	public static <T> SparseMatrix<T> fromTriplets(int rows, int columns, int[] rowIndices, int[] columnIndices, List<T> values, T zeroVal, SparseMatrix.Layout layout) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		if (rowIndices.length != columnIndices.length || rowIndices.length != values.size()) {
+			throw new IllegalArgumentException("There must be as many row indices, column indices and values but there are "
+					+ rowIndices.length + ", " + columnIndices.length + " and " + values.size());
+		}
+		if (rows < 1 || columns < 1) {
+			throw new EmptyMatrixException("Matrix must have at least 1 row and 1 column");
+		}
+		for (var i = 0; i < rowIndices.length; i++) {
+			if (rowIndices[i] < 0 || rowIndices[i] >= rows || columnIndices[i] < 0 || columnIndices[i] >= columns) {
+				throw new ListsIncompatibleForMatrixException("Triplet (" + rowIndices[i] + ", " + columnIndices[i] + ") is out of bounds for a " + rows + "x" + columns + " matrix");
+			}
+		}
+
+		// a stable counting sort by column and then by row leaves the triplets in row-major order
+		int[] byColumn = countingSort(identity(rowIndices.length), columnIndices, columns);
+		int[] byRow = countingSort(byColumn, rowIndices, rows);
+
+		int[] pointers = new int[rows + 1];
+		int[] indices = new int[byRow.length];
+		List<T> sortedValues = new ArrayList<>(byRow.length);
+		for (var position = 0; position < byRow.length; position++) {
+			int triplet = byRow[position];
+			if (position > 0 && rowIndices[triplet] == rowIndices[byRow[position - 1]] && columnIndices[triplet] == columnIndices[byRow[position - 1]]) {
+				throw new IllegalArgumentException("Duplicate triplets for element (" + rowIndices[triplet] + ", " + columnIndices[triplet] + ")");
+			}
+			pointers[rowIndices[triplet] + 1]++;
+			indices[position] = columnIndices[triplet];
+			sortedValues.add(values.get(triplet));
+		}
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			pointers[rowIterator + 1] += pointers[rowIterator];
+		}
+
+		return new SparseMatrix<>(rows, columns, SparseMatrix.Layout.CSR, pointers, indices, sortedValues, zeroVal).toLayout(layout);
+	}
+
+	/**
+	 * Creates a matrix where each element is stored with the given probability, with a value from randomValue.
+	 *
+	 * @param density the probability that an element is stored, between 0 and 1
+	 */
+	public static <T> SparseMatrix<T> withRandomValues(int rows, int columns, double density, Supplier<T> randomValue, T zeroVal, SparseMatrix.Layout layout) throws EmptyMatrixException, ListsIncompatibleForMatrixException {
+		if (!(density >= 0 && density <= 1)) {
+			throw new IllegalArgumentException("Density must be between 0 and 1 but was " + density);
+		}
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int[] pointers = new int[rows + 1];
+		List<Integer> indices = new ArrayList<>();
+		List<T> values = new ArrayList<>();
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				if (random.nextDouble() < density) {
+					indices.add(colIterator);
+					values.add(randomValue.get());
+				}
+			}
+			pointers[rowIterator + 1] = values.size();
+		}
+
+		int[] indicesArray = indices.stream().mapToInt(Integer::intValue).toArray();
+		return new SparseMatrix<>(rows, columns, SparseMatrix.Layout.CSR, pointers, indicesArray, values, zeroVal).toLayout(layout);
+	}
+
+	private static int[] identity(int length) {
+		int[] order = new int[length];
+		for (var i = 0; i < length; i++) {
+			order[i] = i;
+		}
+		return order;
+	}
+
+	/**
+	 * @return order, stably sorted by keys[order[i]], each key being in [0, keyCount)
+	 */
+	private static int[] countingSort(int[] order, int[] keys, int keyCount) {
+		int[] starts = new int[keyCount + 1];
+		for (int i : order) {
+			starts[keys[i] + 1]++;
+		}
+		for (var key = 0; key < keyCount; key++) {
+			starts[key + 1] += starts[key];
+		}
+		int[] sorted = new int[order.length];
+		for (int i : order) {
+			sorted[starts[keys[i]]++] = i;
+		}
+		return sorted;
+	}
+}
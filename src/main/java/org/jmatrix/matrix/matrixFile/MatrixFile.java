@@ -0,0 +1,72 @@
+package org.jmatrix.matrix.matrixFile;
+
+import org.jmatrix.matrix.exception.MatrixFileFormatException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.OffHeapDoubleMatrix;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads and writes matrices in the binary matrix file format: a {@link MatrixFileHeader} followed by the raw,
+ * row-major payload.
+ * <p>
+ * {@link #open(Path)} memory-maps the payload instead of reading it, so opening a file takes the same time whatever its
+ * size, no element is copied, and the operating system pages the data in lazily as it's accessed. Loading a saved model
+ * this way avoids creating an object per element as the {@code Matrix(List<List<T>>)} constructor would.
+ */
+public abstract class MatrixFile {
+
+	public static void write(Path path, DoubleMatrix matrix) throws IOException {
+		try (MatrixFileWriter writer = new MatrixFileWriter(path, matrix.getRows(), matrix.getColumns())) {
+			writer.writeRows(0, matrix);
+		}
+	}
+
+	public static MatrixFileHeader readHeader(Path path) throws IOException, MatrixFileFormatException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return readHeader(channel);
+		}
+	}
+
+	/**
+	 * Memory-maps the matrix file as a read-only matrix. Writing to the matrix throws a
+	 * {@link java.nio.ReadOnlyBufferException}. Closing the matrix unmaps the file, after which accessing it throws an
+	 * {@link IllegalStateException}, see {@link OffHeapDoubleMatrix#close()}.
+	 */
+	public static OffHeapDoubleMatrix open(Path path) throws IOException, MatrixFileFormatException {
+		return open(path, OffHeapDoubleMatrix.MAX_CHUNK_BYTES);
+	}
+
+	static OffHeapDoubleMatrix open(Path path, long maxChunkBytes) throws IOException, MatrixFileFormatException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			MatrixFileHeader header = readHeader(channel);
+			if (channel.size() < MatrixFileHeader.SIZE + header.payloadBytes()) {
+				throw new MatrixFileFormatException("Matrix file is truncated, expected " + header.payloadBytes() + " bytes of payload");
+			}
+
+			int rowsPerChunk = OffHeapDoubleMatrix.rowsPerChunk(header.rows(), header.columns(), maxChunkBytes);
+			long rowBytes = (long) header.columns() * header.dataType().getBytes();
+			ByteBuffer[] chunks = new ByteBuffer[OffHeapDoubleMatrix.chunkCount(header.rows(), rowsPerChunk)];
+
+			// The mappings stay valid after the channel is closed
+			for (var i = 0; i < chunks.length; i++) {
+				int chunkRows = Math.min(rowsPerChunk, header.rows() - i * rowsPerChunk);
+				chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, MatrixFileHeader.SIZE + i * rowsPerChunk * rowBytes, chunkRows * rowBytes);
+			}
+			return new OffHeapDoubleMatrix(chunks, header.rows(), header.columns(), rowsPerChunk, ByteOrder.LITTLE_ENDIAN);
+		}
+	}
+
+	static MatrixFileHeader readHeader(FileChannel channel) throws IOException, MatrixFileFormatException {
+		ByteBuffer buffer = ByteBuffer.allocate(MatrixFileHeader.SIZE);
+		while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) >= 0) {
+			// Keep reading until the header is complete or the end of the file is reached
+		}
+		return MatrixFileHeader.fromBytes(buffer.flip());
+	}
+}
@@ -0,0 +1,124 @@
+package org.jmatrix.matrix.matrixFile;
+
+import org.jmatrix.matrix.exception.MatrixFileFormatException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * The header at the start of every matrix file. The header is {@link #SIZE} bytes long, little-endian, and laid out as:
+ * <pre>
+ * offset  size  field
+ *      0     4  magic number, the ASCII characters "JMTX"
+ *      4     2  format version, currently 1
+ *      6     1  data type code, see {@link DataType}
+ *      7     1  layout code, see {@link Layout}
+ *      8     8  number of rows
+ *     16     8  number of columns
+ *     24    40  reserved, zero
+ * </pre>
+ * The payload follows immediately after the header, so it starts on a 64 byte boundary.
+ *
+ * @param dataType the type of each element in the payload
+ * @param layout   the order the elements are stored in the payload
+ * @param rows     the number of rows
+ * @param columns  the number of columns
+ */
+public record MatrixFileHeader(DataType dataType, Layout layout, int rows, int columns) {
+
+	public static final int SIZE = 64;
+	public static final int MAGIC = ('J' << 24) | ('M' << 16) | ('T' << 8) | 'X';
+	public static final short VERSION = 1;
+
+	public enum DataType {
+		/**
+		 * IEEE 754 double, little-endian.
+		 */
+		FLOAT64(1, Double.BYTES);
+
+		private final byte code;
+		private final int bytes;
+
+		DataType(int code, int bytes) {
+			this.code = (byte) code;
+			this.bytes = bytes;
+		}
+
+		public int getBytes() {
+			return bytes;
+		}
+
+		static DataType fromCode(byte code) {
+			for (var dataType : values()) {
+				if (dataType.code == code) {
+					return dataType;
+				}
+			}
+			throw new MatrixFileFormatException("Unknown data type code: " + code);
+		}
+	}
+
+	public enum Layout {
+		ROW_MAJOR(0);
+
+		private final byte code;
+
+		Layout(int code) {
+			this.code = (byte) code;
+		}
+
+		static Layout fromCode(byte code) {
+			for (var layout : values()) {
+				if (layout.code == code) {
+					return layout;
+				}
+			}
+			throw new MatrixFileFormatException("Unknown layout code: " + code);
+		}
+	}
+
+	public MatrixFileHeader {
+		if (rows < 1 || columns < 1) {
+			throw new MatrixFileFormatException("Matrix must have at least 1 row and 1 column, found " + rows + "x" + columns);
+		}
+	}
+
+	/**
+	 * @return the size of the payload in bytes
+	 */
+	public long payloadBytes() {
+		return (long) rows * columns * dataType.getBytes();
+	}
+
+	ByteBuffer toBytes() {
+		ByteBuffer buffer = ByteBuffer.allocate(SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(MAGIC)
+				.putShort(VERSION)
+				.put(dataType.code)
+				.put(layout.code)
+				.putLong(rows)
+				.putLong(columns);
+		return buffer.clear();
+	}
+
+	static MatrixFileHeader fromBytes(ByteBuffer buffer) throws MatrixFileFormatException {
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		if (buffer.remaining() < SIZE || buffer.getInt() != MAGIC) {
+			throw new MatrixFileFormatException("Not a matrix file");
+		}
+
+		short version = buffer.getShort();
+		if (version != VERSION) {
+			throw new MatrixFileFormatException("Unsupported matrix file version: " + version);
+		}
+
+		DataType dataType = DataType.fromCode(buffer.get());
+		Layout layout = Layout.fromCode(buffer.get());
+		long rows = buffer.getLong();
+		long columns = buffer.getLong();
+		if (rows > Integer.MAX_VALUE || columns > Integer.MAX_VALUE) {
+			throw new MatrixFileFormatException("Matrix of " + rows + "x" + columns + " is too large");
+		}
+		return new MatrixFileHeader(dataType, layout, (int) rows, (int) columns);
+	}
+}
@@ -0,0 +1,76 @@
+package org.jmatrix.matrix.matrixFile;
+
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.exception.MatrixFileFormatException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a {@link MatrixFileHeader.DataType#FLOAT64} matrix file a block of rows at a time onto the heap, so only the
+ * block being read has to fit in memory. Unlike {@link MatrixFile#open(Path)}, the data is copied, but nothing is
+ * mapped, so memory use is bounded by the block size rather than by the page cache.
+ * <p>
+ * Each block is read from the position of its first row, so blocks can be read in any order, and from several threads
+ * at once.
+ */
+public class MatrixFileReader implements AutoCloseable {
+
+	private final FileChannel channel;
+	private final MatrixFileHeader header;
+
+	public MatrixFileReader(Path path) throws IOException, MatrixFileFormatException {
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+
+		try {
+			this.header = MatrixFile.readHeader(channel);
+			if (channel.size() < MatrixFileHeader.SIZE + header.payloadBytes()) {
+				throw new MatrixFileFormatException("Matrix file is truncated, expected " + header.payloadBytes() + " bytes of payload");
+			}
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * @param startRow the first row to read
+	 * @param rowCount the number of rows to read
+	 * @return a new matrix holding the rows
+	 */
+	public DoubleMatrix readRows(int startRow, int rowCount) throws IOException, MatricesIncompatibleForOperationException {
+		if (startRow < 0 || rowCount < 1 || startRow + rowCount > header.rows()) {
+			throw new MatricesIncompatibleForOperationException("Cannot read " + rowCount + " rows from row " + startRow +
+					" of a " + header.rows() + "x" + header.columns() + " matrix file");
+		}
+
+		DoubleMatrix block = new DoubleMatrix(rowCount, header.columns());
+		ByteBuffer buffer = ByteBuffer.allocate(Math.multiplyExact(Math.multiplyExact(rowCount, header.columns()), Double.BYTES)).order(ByteOrder.LITTLE_ENDIAN);
+		long position = MatrixFileHeader.SIZE + (long) startRow * header.columns() * Double.BYTES;
+
+		while (buffer.hasRemaining()) {
+			int read = channel.read(buffer, position);
+			if (read < 0) {
+				throw new EOFException("Unexpected end of matrix file");
+			}
+			position += read;
+		}
+		buffer.flip().asDoubleBuffer().get(block.getData());
+		return block;
+	}
+
+	public MatrixFileHeader getHeader() {
+		return header;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
@@ -0,0 +1,96 @@
+package org.jmatrix.matrix.matrixFile;
+
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes a {@link MatrixFileHeader.DataType#FLOAT64} matrix file a block of rows at a time, so a matrix can be written
+ * without ever being held in memory as a whole.
+ * <p>
+ * Each block is written at the position of its first row, so blocks can be written in any order, and from several
+ * threads at once.
+ */
+public class MatrixFileWriter implements AutoCloseable {
+
+	private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+	private final FileChannel channel;
+	private final MatrixFileHeader header;
+
+	/**
+	 * Creates (or truncates) the file and writes the header. The payload is zero until the rows are written.
+	 */
+	public MatrixFileWriter(Path path, int rows, int columns) throws IOException {
+		this.header = new MatrixFileHeader(MatrixFileHeader.DataType.FLOAT64, MatrixFileHeader.Layout.ROW_MAJOR, rows, columns);
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+		try {
+			writeFully(header.toBytes(), 0);
+			// Extend the file to its full size so it can be mapped before every row has been written
+			writeFully(ByteBuffer.allocate(1), MatrixFileHeader.SIZE + header.payloadBytes() - 1);
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Writes the rows of the block to the file, starting at the given row.
+	 *
+	 * @param startRow the row in the file to write the first row of the block to
+	 * @param block    the rows to write. It must have the same number of columns as the file.
+	 */
+	public void writeRows(int startRow, DoubleMatrix block) throws IOException, MatricesIncompatibleForOperationException {
+		if (block.getColumns() != header.columns() || startRow < 0 || startRow + block.getRows() > header.rows()) {
+			throw new MatricesIncompatibleForOperationException("Cannot write a " + block.getRows() + "x" + block.getColumns() +
+					" block at row " + startRow + " of a " + header.rows() + "x" + header.columns() + " matrix file");
+		}
+
+		int rowBytes = header.columns() * Double.BYTES;
+		ByteBuffer buffer = ByteBuffer.allocate(Math.max(rowBytes, WRITE_BUFFER_BYTES / rowBytes * rowBytes)).order(ByteOrder.LITTLE_ENDIAN);
+		long position = rowPosition(startRow);
+
+		for (var rowIterator = 0; rowIterator < block.getRows(); rowIterator++) {
+			if (buffer.remaining() < rowBytes) {
+				position += flush(buffer, position);
+			}
+			buffer.asDoubleBuffer().put(block.getData(), block.index(rowIterator, 0), block.getColumns());
+			buffer.position(buffer.position() + rowBytes);
+		}
+		flush(buffer, position);
+	}
+
+	private long rowPosition(int row) {
+		return MatrixFileHeader.SIZE + (long) row * header.columns() * Double.BYTES;
+	}
+
+	private int flush(ByteBuffer buffer, long position) throws IOException {
+		buffer.flip();
+		int bytes = buffer.remaining();
+		writeFully(buffer, position);
+		buffer.clear();
+		return bytes;
+	}
+
+	private void writeFully(ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			position += channel.write(buffer, position);
+		}
+	}
+
+	public MatrixFileHeader getHeader() {
+		return header;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
@@ -0,0 +1,76 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DoubleMatrixTest {
+
+	@Test
+	void testArrayConstructor() {
+		var matrix = new DoubleMatrix(2, 3, new double[]{1, 2, 3, 4, 5, 6});
+
+		assertEquals(2, matrix.getRows());
+		assertEquals(3, matrix.getColumns());
+		assertEquals(3, matrix.getStride());
+		assertEquals(2.0, matrix.get(0, 1));
+		assertEquals(6.0, matrix.get(1, 2));
+	}
+
+	@Test
+	void testStridedConstructor() {
+		// The 2x2 bottom-right corner of a 3x3 matrix
+		var matrix = new DoubleMatrix(new double[]{1, 2, 3, 4, 5, 6, 7, 8, 9}, 4, 2, 2, 3);
+
+		assertEquals(new DoubleMatrix(2, 2, new double[]{5, 6, 8, 9}), matrix);
+		assertFalse(matrix.isContiguous());
+	}
+
+	@Test
+	void testGetAndSetOutsideStridedMatrixThrowException() {
+		// The 2x2 top-left corner of a 3x3 matrix, where (0, 2) and (1, -1) are still inside the backing array
+		var matrix = new DoubleMatrix(new double[]{1, 2, 3, 4, 5, 6, 7, 8, 9}, 0, 2, 2, 3);
+
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(0, 2));
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(1, -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.set(2, 0, 1.0));
+		assertEquals(5.0, matrix.get(1, 1));
+	}
+
+	@Test
+	void testConstructorThrowsExceptions() {
+		assertThrows(EmptyMatrixException.class, () -> new DoubleMatrix(0, 3));
+		assertThrows(ListsIncompatibleForMatrixException.class, () -> new DoubleMatrix(2, 3, new double[5]));
+	}
+
+	@Test
+	void testConversionToAndFromMatrix() throws ListsIncompatibleForMatrixException, EmptyMatrixException {
+		var matrix = new Matrix<>(List.of(
+				List.of(1.5, -2.0, 3.25),
+				List.of(4.0, 5.5, -6.75)
+		));
+
+		DoubleMatrix doubleMatrix = DoubleMatrixFactory.fromMatrix(matrix);
+
+		assertEquals(new DoubleMatrix(2, 3, new double[]{1.5, -2.0, 3.25, 4.0, 5.5, -6.75}), doubleMatrix);
+		assertEquals(matrix, doubleMatrix.toMatrix());
+	}
+
+	@Test
+	void testCreatingMatrixWithRandomValues() {
+		DoubleMatrix matrix = DoubleMatrixFactory.withRandomValues(50, 70, -0.5, 0.5);
+
+		assertEquals(50, matrix.getRows());
+		assertEquals(70, matrix.getColumns());
+		for (double value : matrix.getData()) {
+			assertTrue(value >= -0.5 && value <= 0.5, "Matrix elements are not within min and max range");
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+import org.jmatrix.matrix.matrix.FixedPointMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrixFactory.FixedPointMatrixFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FixedPointMatrixTest {
+
+	@Test
+	void testArrayConstructorAndAccessors() {
+		var matrix = new FixedPointMatrix(2, 3, 2, new long[]{100, -250, 3, 4, 5, 6});
+
+		assertEquals(2, matrix.getRows());
+		assertEquals(3, matrix.getColumns());
+		assertEquals(2, matrix.getScale());
+		assertEquals(-250, matrix.getUnscaled(0, 1));
+		assertEquals(new BigDecimal("-2.50"), matrix.get(0, 1));
+		assertEquals(new BigDecimal("0.06"), matrix.get(1, 2));
+	}
+
+	@Test
+	void testConstructorThrowsExceptions() {
+		assertThrows(EmptyMatrixException.class, () -> new FixedPointMatrix(0, 3, 2));
+		assertThrows(ListsIncompatibleForMatrixException.class, () -> new FixedPointMatrix(2, 3, 2, new long[5]));
+		assertThrows(IllegalArgumentException.class, () -> new FixedPointMatrix(2, 3, -1));
+		assertThrows(IllegalArgumentException.class, () -> new FixedPointMatrix(2, 3, FixedPointMatrix.MAX_SCALE + 1));
+	}
+
+	@Test
+	void testConvertsToAndFromBigDecimalMatrix() {
+		Matrix<BigDecimal> matrix = new Matrix<>(List.of(
+				List.of(new BigDecimal("1.25"), new BigDecimal("-0.005")),
+				List.of(new BigDecimal("3"), new BigDecimal("0.0049"))
+		));
+
+		FixedPointMatrix fixedPointMatrix = FixedPointMatrixFactory.fromMatrix(matrix, 2);
+
+		assertEquals(new FixedPointMatrix(2, 2, 2, new long[]{125, 0, 300, 0}), fixedPointMatrix);
+		assertEquals(new FixedPointMatrix(2, 2, 2, new long[]{125, -1, 300, 1}), FixedPointMatrixFactory.fromMatrix(matrix, 2, RoundingMode.UP));
+		assertEquals(new Matrix<>(List.of(
+				List.of(new BigDecimal("1.25"), new BigDecimal("0.00")),
+				List.of(new BigDecimal("3.00"), new BigDecimal("0.00"))
+		)), fixedPointMatrix.toMatrix());
+		assertThrows(ArithmeticException.class, () -> FixedPointMatrixFactory.fromMatrix(matrix, 2, RoundingMode.UNNECESSARY));
+		assertThrows(ArithmeticException.class, () -> FixedPointMatrixFactory.fromMatrix(new Matrix<>(List.of(List.of(new BigDecimal("1E+18")))), 2));
+	}
+
+	@Test
+	void testEqualsComparesScale() {
+		assertNotEquals(new FixedPointMatrix(1, 1, 1, new long[]{10}), new FixedPointMatrix(1, 1, 2, new long[]{10}));
+		assertEquals(new FixedPointMatrix(1, 1, 2, new long[]{10}).hashCode(), new FixedPointMatrix(1, 1, 2, new long[]{10}).hashCode());
+	}
+}
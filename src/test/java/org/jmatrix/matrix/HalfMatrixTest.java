@@ -0,0 +1,132 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.FloatMatrix;
+import org.jmatrix.matrix.matrix.HalfMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrixFactory.FloatMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.HalfMatrixFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+
+import static org.jmatrix.matrix.matrix.HalfMatrix.Format.BFLOAT16;
+import static org.jmatrix.matrix.matrix.HalfMatrix.Format.FLOAT16;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HalfMatrixTest {
+
+	@Test
+	void testArrayConstructor() {
+		var matrix = new HalfMatrix(2, 2, FLOAT16, new short[]{Float.floatToFloat16(1.5f), 0, 0, Float.floatToFloat16(-3f)});
+
+		assertEquals(2, matrix.getRows());
+		assertEquals(2, matrix.getColumns());
+		assertEquals(1.5f, matrix.get(0, 0));
+		assertEquals(-3f, matrix.get(1, 1));
+	}
+
+	@Test
+	void testConstructorThrowsExceptions() {
+		assertThrows(EmptyMatrixException.class, () -> new HalfMatrix(0, 3, FLOAT16));
+		assertThrows(ListsIncompatibleForMatrixException.class, () -> new HalfMatrix(2, 3, FLOAT16, new short[5]));
+		assertThrows(IllegalArgumentException.class, () -> new HalfMatrix(2, 3, null));
+	}
+
+	@Test
+	void testSetRoundsToFormat() {
+		var float16 = new HalfMatrix(1, 2, FLOAT16);
+		var bfloat16 = new HalfMatrix(1, 2, BFLOAT16);
+
+		float16.set(0, 0, 0.1f);
+		float16.set(0, 1, 1e6f);
+		bfloat16.set(0, 0, 0.1f);
+		bfloat16.set(0, 1, 1e6f);
+
+		assertEquals(Float.float16ToFloat(Float.floatToFloat16(0.1f)), float16.get(0, 0));
+		assertEquals(Float.POSITIVE_INFINITY, float16.get(0, 1));
+		assertEquals(0.10009765625f, bfloat16.get(0, 0));
+		assertEquals(999424f, bfloat16.get(0, 1));
+	}
+
+	@Test
+	void testBfloat16RoundsToNearestEven() {
+		var random = new Random(23);
+		for (var i = 0; i < 100_000; i++) {
+			float value = Float.intBitsToFloat(random.nextInt());
+			if (!Float.isFinite(value)) {
+				continue;
+			}
+
+			float rounded = BFLOAT16.toFloat(BFLOAT16.fromFloat(value));
+			int truncatedBits = Float.floatToRawIntBits(value) & 0xFFFF0000;
+			float truncated = Float.intBitsToFloat(truncatedBits);
+			float awayFromZero = Float.intBitsToFloat(truncatedBits + 0x10000);
+
+			// past the largest finite value, the next value away from zero would be 2^128 if the exponent were unbounded
+			BigDecimal awayFromZeroValue = Float.isFinite(awayFromZero) ? new BigDecimal(awayFromZero) : new BigDecimal(Math.copySign(0x1p128, value));
+			int comparison = new BigDecimal(value).subtract(new BigDecimal(truncated)).abs()
+					.compareTo(awayFromZeroValue.subtract(new BigDecimal(value)).abs());
+			boolean truncatedIsEven = (truncatedBits & 0x10000) == 0;
+			float expected = comparison < 0 || (comparison == 0 && truncatedIsEven) ? truncated : awayFromZero;
+
+			assertEquals(expected, rounded, () -> "bfloat16 of " + value);
+		}
+	}
+
+	@Test
+	void testBfloat16SpecialValues() {
+		assertTrue(Float.isNaN(BFLOAT16.toFloat(BFLOAT16.fromFloat(Float.NaN))));
+		// a NaN whose fraction is only in the low 16 bits must not become infinity
+		assertTrue(Float.isNaN(BFLOAT16.toFloat(BFLOAT16.fromFloat(Float.intBitsToFloat(0x7F800001)))));
+		assertEquals(Float.NEGATIVE_INFINITY, BFLOAT16.toFloat(BFLOAT16.fromFloat(Float.NEGATIVE_INFINITY)));
+		assertEquals(Float.POSITIVE_INFINITY, BFLOAT16.toFloat(BFLOAT16.fromFloat(Float.MAX_VALUE)));
+		assertEquals(-0.0f, BFLOAT16.toFloat(BFLOAT16.fromFloat(-0.0f)));
+	}
+
+	@Test
+	void testConversionToAndFromMatrix() throws ListsIncompatibleForMatrixException, EmptyMatrixException {
+		var matrix = new Matrix<>(List.of(
+				List.of(1.5, -2.0, 3.25),
+				List.of(4.0, 0.5, -6.75)
+		));
+
+		for (var format : HalfMatrix.Format.values()) {
+			HalfMatrix halfMatrix = HalfMatrixFactory.fromMatrix(matrix, format);
+
+			assertEquals(format, halfMatrix.getFormat());
+			assertEquals(FloatMatrixFactory.fromMatrix(matrix).toMatrix(), halfMatrix.toMatrix());
+			assertEquals(FloatMatrixFactory.fromMatrix(matrix), halfMatrix.toFloatMatrix());
+			assertEquals(halfMatrix, HalfMatrixFactory.fromDoubleMatrix(new DoubleMatrix(2, 3, new double[]{1.5, -2.0, 3.25, 4.0, 0.5, -6.75}), format));
+		}
+	}
+
+	@Test
+	void testConversionFromFloatMatrix() {
+		FloatMatrix floatMatrix = FloatMatrixFactory.withRandomValues(20, 30, -0.5f, 0.5f);
+
+		HalfMatrix halfMatrix = HalfMatrixFactory.fromFloatMatrix(floatMatrix, FLOAT16);
+
+		for (var rowIterator = 0; rowIterator < 20; rowIterator++) {
+			for (var colIterator = 0; colIterator < 30; colIterator++) {
+				// float16 has 11 significant bits, so the relative error is at most 2^-11
+				float value = floatMatrix.get(rowIterator, colIterator);
+				assertEquals(value, halfMatrix.get(rowIterator, colIterator), Math.max(Math.abs(value) * 0x1p-11f, 0x1p-25f));
+			}
+		}
+	}
+
+	@Test
+	void testEqualsComparesFormat() {
+		var float16 = new HalfMatrix(1, 1, FLOAT16);
+		var bfloat16 = new HalfMatrix(1, 1, BFLOAT16);
+
+		assertNotEquals(float16, bfloat16);
+		assertEquals(float16, new HalfMatrix(1, 1, FLOAT16));
+		assertEquals(float16.hashCode(), new HalfMatrix(1, 1, FLOAT16).hashCode());
+	}
+}
@@ -0,0 +1,65 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+import org.jmatrix.matrix.matrix.IntMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntMatrixTest {
+
+	@Test
+	void testArrayConstructor() {
+		var matrix = new IntMatrix(2, 3, new int[]{1, 2, 3, 4, 5, 6});
+
+		assertEquals(2, matrix.getRows());
+		assertEquals(3, matrix.getColumns());
+		assertEquals(3, matrix.getStride());
+		assertEquals(2, matrix.get(0, 1));
+		assertEquals(6, matrix.get(1, 2));
+	}
+
+	@Test
+	void testStridedConstructor() {
+		// The 2x2 bottom-right corner of a 3x3 matrix
+		var matrix = new IntMatrix(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9}, 4, 2, 2, 3);
+
+		assertEquals(new IntMatrix(2, 2, new int[]{5, 6, 8, 9}), matrix);
+		assertFalse(matrix.isContiguous());
+	}
+
+	@Test
+	void testConstructorThrowsExceptions() {
+		assertThrows(EmptyMatrixException.class, () -> new IntMatrix(0, 3));
+		assertThrows(ListsIncompatibleForMatrixException.class, () -> new IntMatrix(2, 3, new int[5]));
+	}
+
+	@Test
+	void testConversionToAndFromMatrix() throws ListsIncompatibleForMatrixException, EmptyMatrixException {
+		var matrix = new Matrix<>(List.of(
+				List.of(1, -2, 3),
+				List.of(400, 5, Integer.MIN_VALUE)
+		));
+
+		IntMatrix intMatrix = IntegerMatrixFactory.fromMatrix(matrix);
+
+		assertEquals(new IntMatrix(2, 3, new int[]{1, -2, 3, 400, 5, Integer.MIN_VALUE}), intMatrix);
+		assertEquals(matrix, intMatrix.toMatrix());
+	}
+
+	@Test
+	void testCreatingMatrixWithRandomValues() {
+		IntMatrix matrix = IntegerMatrixFactory.intMatrixWithRandomValues(50, 70, -50, 50);
+
+		assertEquals(50, matrix.getRows());
+		assertEquals(70, matrix.getColumns());
+		for (int value : matrix.getData()) {
+			assertTrue(value >= -50 && value < 50, "Matrix elements are not within min and max range");
+		}
+	}
+}
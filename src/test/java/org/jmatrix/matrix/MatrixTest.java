@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -130,4 +131,26 @@ public class MatrixTest {
 		assertThrows(ListsIncompatibleForMatrixException.class, () -> matrix1.appendMatrix(matrix2),
 				"Appending a matrix with different column size should throw exception");
 	}
+
+	@Test
+	void testWrapRowsKeepsRowsAndCanBeAppendedTo() {
+		List<BigDecimal> row1 = new ArrayList<>(List.of(BigDecimal.ONE, BigDecimal.TWO));
+		List<BigDecimal> row2 = new ArrayList<>(List.of(BigDecimal.TEN, BigDecimal.ZERO));
+		var matrix = Matrix.wrapRows(Arrays.asList(row1, row2));
+
+		assertSame(row1, matrix.getMatrixLists().get(0));
+		assertEquals(2, matrix.getRows());
+		assertEquals(2, matrix.getColumns());
+
+		matrix.appendMatrix(new Matrix<>(List.of(List.of(BigDecimal.ONE, BigDecimal.ONE))));
+		assertEquals(3, matrix.getRows());
+	}
+
+	@Test
+	void testWrapRowsValidatesRows() {
+		assertThrows(EmptyMatrixException.class, () -> Matrix.wrapRows(List.<List<BigDecimal>>of()));
+		assertThrows(ListsIncompatibleForMatrixException.class, () -> Matrix.wrapRows(List.of(
+				List.of(BigDecimal.ONE, BigDecimal.TWO),
+				List.of(BigDecimal.TEN))));
+	}
 }
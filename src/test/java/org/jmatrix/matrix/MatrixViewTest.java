@@ -0,0 +1,90 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
+import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MatrixViewTest {
+
+	private static final Matrix<Integer> MATRIX = new Matrix<>(List.of(
+			List.of(1, 2, 3, 4),
+			List.of(5, 6, 7, 8),
+			List.of(9, 10, 11, 12)));
+
+	@Test
+	void testSubViewOfSubViewAddsOffsets() {
+		MatrixView<Integer> view = new MatrixView<>(MATRIX).subView(1, 1, 2, 3).subView(1, 1, 1, 2);
+
+		assertEquals(2, view.getRowOffset());
+		assertEquals(2, view.getColOffset());
+		assertEquals(11, view.get(0, 0));
+		assertEquals(List.of(11, 12), view.getRow(0));
+		assertEquals(new Matrix<>(List.of(List.of(11, 12))), view.toMatrix());
+	}
+
+	@Test
+	void testFullWidthRowIsNotCopied() {
+		MatrixView<Integer> view = new MatrixView<>(MATRIX).rowRange(1, 3);
+
+		assertSame(MATRIX.getMatrixLists().get(2), view.getRow(1));
+	}
+
+	@Test
+	void testViewReadsThroughToMatrix() {
+		Matrix<Integer> matrix = new Matrix<>(List.of(List.of(1, 2), List.of(3, 4)));
+		MatrixView<Integer> view = new MatrixView<>(matrix).rowRange(1, 2);
+
+		matrix.getMatrixLists().get(1).set(0, 30);
+		matrix.appendMatrix(new Matrix<>(List.of(List.of(5, 6))));
+
+		assertEquals(30, view.get(0, 0));
+		assertEquals(1, view.getRows());
+	}
+
+	@Test
+	void testOutOfBoundsThrowsException() {
+		MatrixView<Integer> view = new MatrixView<>(MATRIX).subView(1, 1, 2, 2);
+
+		assertThrows(IndexOutOfBoundsException.class, () -> view.get(2, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> view.get(0, 2));
+		assertThrows(IndexOutOfBoundsException.class, () -> view.subView(0, 1, 2, 2));
+	}
+
+	@Test
+	void testCombineViews() {
+		MatrixView<Integer> left = new MatrixView<>(MATRIX).subView(0, 0, 3, 2);
+		MatrixView<Integer> right = new MatrixView<>(MATRIX).subView(0, 2, 3, 2);
+
+		assertEquals(new Matrix<>(List.of(List.of(4, 6), List.of(12, 14), List.of(20, 22))), MatricesCalculator.combine(left, right, Integer::sum));
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> MatricesCalculator.combine(left, right.rowRange(0, 2), Integer::sum));
+	}
+
+	@Test
+	void testTransposedViewSwapsIndexes() {
+		MatrixView<Integer> view = new MatrixView<>(MATRIX).transpose();
+
+		assertEquals(4, view.getRows());
+		assertEquals(3, view.getColumns());
+		assertEquals(8, view.get(3, 1));
+		assertEquals(List.of(2, 6, 10), view.getRow(1));
+		assertEquals(new Matrix<>(List.of(List.of(7, 11), List.of(8, 12))), view.subView(2, 1, 2, 2).toMatrix());
+		assertEquals(new MatrixView<>(MATRIX).subView(1, 2, 2, 2).toMatrix(), view.subView(2, 1, 2, 2).transpose().toMatrix());
+		assertArrayEquals(new Object[][]{{3, 7, 11}, {4, 8, 12}}, view.copyRows(2, 4));
+		assertArrayEquals(new Object[]{2, 6, 3, 7}, view.subView(1, 0, 2, 2).toRowMajorArray());
+	}
+
+	@Test
+	void testTransposedRowWritesThroughToMatrix() {
+		Matrix<Integer> matrix = new Matrix<>(List.of(List.of(1, 2), List.of(3, 4)));
+
+		new MatrixView<>(matrix).transpose().getRow(0).set(1, 30);
+
+		assertEquals(30, matrix.getMatrixLists().get(1).get(0));
+	}
+}
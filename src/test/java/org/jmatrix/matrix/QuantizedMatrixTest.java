@@ -0,0 +1,116 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.QuantizedMatrix;
+import org.jmatrix.matrix.matrixFactory.BigDecimalMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.QuantizedMatrixFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.jmatrix.matrix.matrix.QuantizedMatrix.Granularity.PER_ROW;
+import static org.jmatrix.matrix.matrix.QuantizedMatrix.Granularity.PER_TENSOR;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QuantizedMatrixTest {
+
+	@Test
+	void testArrayConstructor() {
+		var matrix = new QuantizedMatrix(2, 2, new byte[]{-128, 0, 10, 127}, new double[]{0.5, 0.25}, new int[]{0, -10});
+
+		assertEquals(PER_ROW, matrix.getGranularity());
+		assertEquals(-128, matrix.getQuantized(0, 0));
+		assertEquals(-64.0, matrix.get(0, 0));
+		assertEquals(5.0, matrix.get(1, 0));
+		assertEquals(new DoubleMatrix(2, 2, new double[]{-64, 0, 5, 34.25}), matrix.dequantize());
+	}
+
+	@Test
+	void testConstructorThrowsExceptions() {
+		assertThrows(EmptyMatrixException.class, () -> new QuantizedMatrix(0, 3, new byte[3], new double[]{1}, new int[]{0}));
+		assertThrows(ListsIncompatibleForMatrixException.class, () -> new QuantizedMatrix(2, 3, new byte[5], new double[]{1}, new int[]{0}));
+		assertThrows(IllegalArgumentException.class, () -> new QuantizedMatrix(2, 3, new byte[6], new double[]{1, 1, 1}, new int[]{0, 0, 0}));
+		assertThrows(IllegalArgumentException.class, () -> new QuantizedMatrix(2, 3, new byte[6], new double[]{1}, new int[]{0, 0}));
+		assertThrows(IllegalArgumentException.class, () -> new QuantizedMatrix(2, 3, new byte[6], new double[]{0}, new int[]{0}));
+		assertThrows(IllegalArgumentException.class, () -> new QuantizedMatrix(2, 3, new byte[6], new double[]{1}, new int[]{128}));
+	}
+
+	@Test
+	void testQuantizeIsWithinHalfAScale() {
+		DoubleMatrix matrix = DoubleMatrixFactory.withRandomValues(30, 40, -3, 1);
+
+		for (var granularity : QuantizedMatrix.Granularity.values()) {
+			QuantizedMatrix quantized = QuantizedMatrixFactory.quantize(matrix, granularity);
+
+			assertEquals(granularity, quantized.getGranularity());
+			for (var rowIterator = 0; rowIterator < 30; rowIterator++) {
+				for (var colIterator = 0; colIterator < 40; colIterator++) {
+					assertEquals(matrix.get(rowIterator, colIterator), quantized.get(rowIterator, colIterator), quantized.getScale(rowIterator) / 2 + 1e-12);
+				}
+			}
+		}
+	}
+
+	@Test
+	void testQuantizePerRowKeepsPrecisionOfSmallRows() {
+		var matrix = new DoubleMatrix(2, 3, new double[]{-1000, 0, 1000, -0.001, 0.0005, 0.001});
+
+		QuantizedMatrix perTensor = QuantizedMatrixFactory.quantize(matrix, PER_TENSOR);
+		QuantizedMatrix perRow = QuantizedMatrixFactory.quantize(matrix, PER_ROW);
+
+		assertEquals(0.0, perTensor.get(1, 1));
+		assertEquals(0.0005, perRow.get(1, 1), perRow.getScale(1) / 2);
+		assertEquals(perTensor.getScale(0), perRow.getScale(0));
+	}
+
+	@Test
+	void testQuantizeKeepsZeroExact() {
+		var matrix = new DoubleMatrix(2, 2, new double[]{0, 0.3, 0.7, 0});
+
+		QuantizedMatrix quantized = QuantizedMatrixFactory.quantize(matrix, PER_TENSOR);
+
+		assertEquals(0.0, quantized.get(0, 0));
+		assertEquals(0.0, quantized.get(1, 1));
+		assertEquals(0.7, quantized.get(1, 0), 1e-12);
+	}
+
+	@Test
+	void testQuantizeZeroMatrix() {
+		QuantizedMatrix quantized = QuantizedMatrixFactory.quantize(new DoubleMatrix(2, 2), PER_ROW);
+
+		assertEquals(new DoubleMatrix(2, 2), quantized.dequantize());
+	}
+
+	@Test
+	void testQuantizeRejectsNonFiniteValues() {
+		var matrix = new DoubleMatrix(1, 2, new double[]{1, Double.NaN});
+
+		assertThrows(IllegalArgumentException.class, () -> QuantizedMatrixFactory.quantize(matrix, PER_TENSOR));
+	}
+
+	@Test
+	void testQuantizeBoxedMatrixMatchesDoubleMatrix() throws ListsIncompatibleForMatrixException, EmptyMatrixException {
+		Matrix<BigDecimal> matrix = BigDecimalMatrixFactory.withRandomValues(10, 20, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+		DoubleMatrix doubleMatrix = new DoubleMatrix(10, 20);
+		for (var rowIterator = 0; rowIterator < 10; rowIterator++) {
+			for (var colIterator = 0; colIterator < 20; colIterator++) {
+				doubleMatrix.set(rowIterator, colIterator, matrix.getMatrixLists().get(rowIterator).get(colIterator).doubleValue());
+			}
+		}
+
+		assertEquals(QuantizedMatrixFactory.quantize(doubleMatrix, PER_ROW), QuantizedMatrixFactory.quantize(matrix, PER_ROW));
+		assertEquals(QuantizedMatrixFactory.quantize(matrix, PER_ROW).dequantize().toMatrix(), QuantizedMatrixFactory.quantize(matrix, PER_ROW).toMatrix());
+	}
+
+	@Test
+	void testToMatrix() throws ListsIncompatibleForMatrixException, EmptyMatrixException {
+		var matrix = new QuantizedMatrix(1, 2, new byte[]{3, -1}, new double[]{0.5}, new int[]{1});
+
+		assertEquals(new Matrix<>(List.of(List.of(1.0, -1.0))), matrix.toMatrix());
+	}
+}
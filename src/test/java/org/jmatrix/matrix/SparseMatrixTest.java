@@ -0,0 +1,157 @@
+package org.jmatrix.matrix;
+
+import org.jmatrix.matrix.exception.EmptyMatrixException;
+import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.SparseMatrix;
+import org.jmatrix.matrix.matrixFactory.SparseMatrixFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.jmatrix.matrix.matrix.SparseMatrix.Layout.CSC;
+import static org.jmatrix.matrix.matrix.SparseMatrix.Layout.CSR;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SparseMatrixTest {
+
+	private static final Matrix<Integer> MATRIX = new Matrix<>(List.of(
+			List.of(0, 2, 0, 0),
+			List.of(0, 0, 0, 0),
+			List.of(5, 0, 0, 7)));
+
+	@Test
+	public void testFromMatrix_csrArrays() {
+		SparseMatrix<Integer> sparseMatrix = SparseMatrixFactory.fromMatrix(MATRIX, 0, CSR);
+
+		assertArrayEquals(new int[]{0, 1, 1, 3}, sparseMatrix.getPointers());
+		assertArrayEquals(new int[]{1, 0, 3}, sparseMatrix.getIndices());
+		assertEquals(List.of(2, 5, 7), List.of(sparseMatrix.getValue(0), sparseMatrix.getValue(1), sparseMatrix.getValue(2)));
+		assertEquals(3, sparseMatrix.getNonZeroCount());
+		assertEquals(0.25, sparseMatrix.getDensity());
+	}
+
+	@Test
+	public void testFromMatrix_cscArrays() {
+		SparseMatrix<Integer> sparseMatrix = SparseMatrixFactory.fromMatrix(MATRIX, 0, CSC);
+
+		assertArrayEquals(new int[]{0, 1, 2, 2, 3}, sparseMatrix.getPointers());
+		assertArrayEquals(new int[]{2, 0, 2}, sparseMatrix.getIndices());
+		assertEquals(List.of(5, 2, 7), List.of(sparseMatrix.getValue(0), sparseMatrix.getValue(1), sparseMatrix.getValue(2)));
+	}
+
+	@ParameterizedTest
+	@EnumSource(SparseMatrix.Layout.class)
+	public void testGetAndToMatrix_matchDenseMatrix(SparseMatrix.Layout layout) {
+		Matrix<Integer> matrix = randomSparseDenseMatrix(13, 9);
+		SparseMatrix<Integer> sparseMatrix = SparseMatrixFactory.fromMatrix(matrix, 0, layout);
+
+		for (var rowIterator = 0; rowIterator < matrix.getRows(); rowIterator++) {
+			for (var colIterator = 0; colIterator < matrix.getColumns(); colIterator++) {
+				assertEquals(matrix.getMatrixLists().get(rowIterator).get(colIterator), sparseMatrix.get(rowIterator, colIterator));
+			}
+		}
+		assertEquals(matrix, sparseMatrix.toMatrix());
+		assertThrows(IndexOutOfBoundsException.class, () -> sparseMatrix.get(13, 0));
+	}
+
+	@Test
+	public void testToLayout_roundTripAndEquality() {
+		Matrix<Integer> matrix = randomSparseDenseMatrix(17, 11);
+		SparseMatrix<Integer> csr = SparseMatrixFactory.fromMatrix(matrix, 0, CSR);
+		SparseMatrix<Integer> csc = csr.toLayout(CSC);
+
+		assertSame(csr, csr.toLayout(CSR));
+		assertEquals(CSC, csc.getLayout());
+		assertEquals(matrix, csc.toMatrix());
+		assertEquals(csr, csc);
+		assertEquals(csr.hashCode(), csc.hashCode());
+		assertArrayEquals(csr.getIndices(), csc.toLayout(CSR).getIndices());
+	}
+
+	@Test
+	public void testTranspose() {
+		SparseMatrix<Integer> transposed = SparseMatrixFactory.fromMatrix(MATRIX, 0, CSR).transpose();
+
+		assertEquals(4, transposed.getRows());
+		assertEquals(3, transposed.getColumns());
+		assertEquals(CSC, transposed.getLayout());
+		assertEquals(new Matrix<>(List.of(
+				List.of(0, 0, 5),
+				List.of(2, 0, 0),
+				List.of(0, 0, 0),
+				List.of(0, 0, 7))), transposed.toMatrix());
+	}
+
+	@ParameterizedTest
+	@EnumSource(SparseMatrix.Layout.class)
+	public void testFromTriplets_anyOrder(SparseMatrix.Layout layout) {
+		SparseMatrix<Integer> sparseMatrix = SparseMatrixFactory.fromTriplets(3, 4, new int[]{2, 0, 2}, new int[]{3, 1, 0}, List.of(7, 2, 5), 0, layout);
+
+		assertEquals(MATRIX, sparseMatrix.toMatrix());
+		assertEquals(SparseMatrixFactory.fromMatrix(MATRIX, 0, CSR), sparseMatrix);
+	}
+
+	@Test
+	public void testFromTriplets_invalidTriplets() {
+		assertThrows(IllegalArgumentException.class, () -> SparseMatrixFactory.fromTriplets(3, 4, new int[]{2, 0, 2}, new int[]{3, 1, 3}, List.of(7, 2, 5), 0, CSR));
+		assertThrows(IllegalArgumentException.class, () -> SparseMatrixFactory.fromTriplets(3, 4, new int[]{2, 0}, new int[]{3, 1, 0}, List.of(7, 2, 5), 0, CSR));
+		assertThrows(ListsIncompatibleForMatrixException.class, () -> SparseMatrixFactory.fromTriplets(3, 4, new int[]{3}, new int[]{0}, List.of(1), 0, CSR));
+		assertThrows(EmptyMatrixException.class, () -> SparseMatrixFactory.fromTriplets(0, 4, new int[0], new int[0], List.of(), 0, CSR));
+	}
+
+	@Test
+	public void testFromMatrix_zeroPredicate() {
+		Matrix<BigDecimal> matrix = new Matrix<>(List.of(
+				List.of(new BigDecimal("0.00"), BigDecimal.ONE),
+				List.of(BigDecimal.ZERO, new BigDecimal("0.0"))));
+
+		assertEquals(3, SparseMatrixFactory.fromMatrix(matrix, BigDecimal.ZERO, CSR).getNonZeroCount());
+		assertEquals(1, SparseMatrixFactory.fromMatrix(matrix, BigDecimal.ZERO, value -> value.signum() == 0, CSR).getNonZeroCount());
+	}
+
+	@Test
+	public void testConstructor_invalidArrays() {
+		List<Integer> values = List.of(1, 2);
+
+		assertDoesNotThrow(() -> new SparseMatrix<>(2, 2, CSR, new int[]{0, 1, 2}, new int[]{1, 0}, values, 0));
+		// wrong number of pointers
+		assertThrows(ListsIncompatibleForMatrixException.class, () -> new SparseMatrix<>(2, 2, CSR, new int[]{0, 2}, new int[]{0, 1}, values, 0));
+		// last pointer doesn't match the number of elements
+		assertThrows(ListsIncompatibleForMatrixException.class, () -> new SparseMatrix<>(2, 2, CSR, new int[]{0, 1, 1}, new int[]{0, 1}, values, 0));
+		// column out of bounds
+		assertThrows(ListsIncompatibleForMatrixException.class, () -> new SparseMatrix<>(2, 2, CSR, new int[]{0, 1, 2}, new int[]{0, 2}, values, 0));
+		// columns not ascending within a row
+		assertThrows(ListsIncompatibleForMatrixException.class, () -> new SparseMatrix<>(2, 2, CSR, new int[]{0, 2, 2}, new int[]{1, 0}, values, 0));
+		assertThrows(EmptyMatrixException.class, () -> new SparseMatrix<>(0, 2, CSR, new int[]{0}, new int[0], List.of(), 0));
+	}
+
+	@Test
+	public void testWithRandomValues_density() {
+		SparseMatrix<Integer> sparseMatrix = SparseMatrixFactory.withRandomValues(200, 200, 0.05, () -> 1, 0, CSC);
+
+		assertEquals(0.05, sparseMatrix.getDensity(), 0.01);
+		assertEquals(0, SparseMatrixFactory.withRandomValues(10, 10, 0, () -> 1, 0, CSR).getNonZeroCount());
+		assertThrows(IllegalArgumentException.class, () -> SparseMatrixFactory.withRandomValues(10, 10, 1.5, () -> 1, 0, CSR));
+	}
+
+	/**
+	 * @return a matrix with about 80% zeros, and a row and a column of only zeros
+	 */
+	private static Matrix<Integer> randomSparseDenseMatrix(int rows, int columns) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		Integer[][] values = new Integer[rows][columns];
+		for (var rowIterator = 0; rowIterator < rows; rowIterator++) {
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				boolean stored = rowIterator != 1 && colIterator != 2 && random.nextDouble() < 0.2;
+				values[rowIterator][colIterator] = stored ? random.nextInt(-50, 50) | 1 : 0;
+			}
+		}
+		return new Matrix<>(Arrays.stream(values).map(List::of).toList());
+	}
+}
@@ -0,0 +1,131 @@
+package org.jmatrix.matrix.concurrent;
+
+import org.jmatrix.matrix.concurrent.task.parallel.MatricesTaskDivider;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.calculator.IntegerMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.MatrixCalculator;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ComputeContextTest {
+
+	@Test
+	void testContextIsReusedAcrossCalculations() {
+		Matrix<Integer> matrix1 = IntegerMatrixFactory.withRandomValues(37, 23, -100, 100);
+		Matrix<Integer> matrix2 = IntegerMatrixFactory.withRandomValues(23, 19, -100, 100);
+		Matrix<Integer> matrix3 = IntegerMatrixFactory.withRandomValues(37, 23, -100, 100);
+		Matrix<Integer> expectedDot = IntegerMatricesCalculator.dot(matrix1, matrix2);
+		Matrix<Integer> expectedCombine = MatricesCalculator.combine(matrix1, matrix3, Integer::sum);
+
+		try (ComputeContext computeContext = new ComputeContext(3)) {
+			for (var i = 0; i < 5; i++) {
+				assertEquals(expectedDot, IntegerMatricesCalculator.parallelDot(matrix1, matrix2, computeContext));
+				assertEquals(expectedDot, IntegerMatricesCalculator.forkJoinDot(matrix1, matrix2, 50, computeContext));
+				assertEquals(expectedCombine, MatricesCalculator.parallelCombine(matrix1, matrix3, Integer::sum, computeContext));
+				assertEquals(expectedCombine, MatricesCalculator.forkAndJoinCombine(matrix1, matrix3, Integer::sum, 50, computeContext));
+			}
+			assertFalse(computeContext.isClosed());
+		}
+	}
+
+	@Test
+	void testBoundedQueueRunsOverflowOnCallingThread() throws Exception {
+		List<Callable<Integer>> callables = IntStream.range(0, 20).<Callable<Integer>>mapToObj(i -> () -> i * i).toList();
+
+		// 20 tasks, but only 1 thread and 1 queue slot
+		try (ComputeContext computeContext = new ComputeContext(1, 1)) {
+			List<Future<Integer>> futures = computeContext.getExecutorService().invokeAll(callables);
+			for (var i = 0; i < futures.size(); i++) {
+				assertEquals(i * i, futures.get(i).get());
+			}
+			assertEquals(0, computeContext.getQueuedTaskCount());
+		}
+	}
+
+	@Test
+	void testDefaultContextCanBeReplaced() {
+		ComputeContext computeContext = new ComputeContext(2);
+		ComputeContext previous = ComputeContext.setDefault(computeContext);
+		try {
+			assertSame(computeContext, ComputeContext.getDefault());
+		} finally {
+			if (previous != null) {
+				ComputeContext.setDefault(previous);
+			}
+			computeContext.close();
+		}
+
+		assertNotSame(computeContext, ComputeContext.getDefault());
+		assertFalse(ComputeContext.getDefault().isClosed());
+	}
+
+	@Test
+	void testClosedContextRejectsTasks() {
+		Matrix<Integer> matrix = IntegerMatrixFactory.withRandomValues(4, 4, -100, 100);
+		ComputeContext computeContext = new ComputeContext(2);
+		computeContext.close();
+
+		assertTrue(computeContext.isClosed());
+		assertThrows(RejectedExecutionException.class, () -> IntegerMatricesCalculator.forkJoinDot(matrix, matrix, 1, computeContext));
+		// the executor's tasks used to be discarded once it was shut down, leaving the caller waiting forever
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			assertThrows(RejectedExecutionException.class, () -> IntegerMatricesCalculator.parallelDot(matrix, matrix, computeContext));
+			assertThrows(RejectedExecutionException.class, () -> MatricesCalculator.parallelCombine(matrix, matrix, Integer::sum, computeContext));
+			assertThrows(RejectedExecutionException.class, () -> MatrixCalculator.parallelTransform(matrix, x -> x + 1, computeContext));
+		});
+	}
+
+	@Test
+	void testNestedParallelCallsOnSameContextDoNotDeadlock() {
+		Matrix<Integer> matrix = IntegerMatrixFactory.withRandomValues(16, 16, -100, 100);
+		Matrix<Integer> small = IntegerMatrixFactory.withRandomValues(3, 3, -10, 10);
+		int smallDotSum = IntegerMatricesCalculator.dot(small, small).getMatrixLists().stream().flatMap(List::stream).mapToInt(Integer::intValue).sum();
+
+		try (ComputeContext computeContext = new ComputeContext(2)) {
+			// every thread of the context waits on a nested calculation, which used to queue behind the waiting tasks
+			Matrix<Integer> result = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> MatrixCalculator.parallelTransform(matrix,
+					x -> x + IntegerMatricesCalculator.parallelDot(small, small, computeContext).getMatrixLists().stream().flatMap(List::stream).mapToInt(Integer::intValue).sum(),
+					computeContext));
+
+			assertEquals(MatrixCalculator.transform(matrix, x -> x + smallDotSum), result);
+		}
+	}
+
+	@Test
+	void testInvokeAllRunsAtMostMaxConcurrentTasks() {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		AtomicInteger completed = new AtomicInteger();
+		List<Callable<Void>> callables = IntStream.range(0, 20).<Callable<Void>>mapToObj(i -> () -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			Thread.sleep(2);
+			running.decrementAndGet();
+			completed.incrementAndGet();
+			return null;
+		}).toList();
+
+		try (ComputeContext computeContext = new ComputeContext(8)) {
+			MatricesTaskDivider.invokeAll(callables, computeContext.getExecutorService(), 2);
+		}
+
+		assertEquals(20, completed.get());
+		assertTrue(maxRunning.get() <= 2, "ran " + maxRunning.get() + " tasks at the same time");
+	}
+
+	@Test
+	void testNonPositiveConfigurationThrowsException() {
+		assertThrows(IllegalArgumentException.class, () -> new ComputeContext(0));
+		assertThrows(IllegalArgumentException.class, () -> new ComputeContext(2, 0));
+	}
+}
@@ -0,0 +1,90 @@
+package org.jmatrix.matrix.concurrent.task.forkJoin;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
+import org.jmatrix.matrix.matrix.calculator.BigDecimalMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.IntegerMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+import org.jmatrix.matrix.matrixFactory.BigDecimalMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveForkJoinThresholdTest {
+
+	@Test
+	void testThresholdCoversTargetTaskTimeForSmallOperations() {
+		// 10ns per computation, so 5,000 computations take TARGET_TASK_NANOS
+		assertEquals(5_000, AdaptiveForkJoinThreshold.threshold(10_000, 10, 8));
+	}
+
+	@Test
+	void testThresholdSplitsLargeOperationsBetweenThreads() {
+		long totalComputations = AdaptiveForkJoinThreshold.dotComputations(1_000, 1_000, 1_000);
+
+		assertEquals(1_999L * 1_000 * 1_000, totalComputations);
+		assertEquals(totalComputations / (8 * AdaptiveForkJoinThreshold.TASKS_PER_THREAD), AdaptiveForkJoinThreshold.threshold(totalComputations, 10, 8));
+	}
+
+	@Test
+	void testAdaptiveForkJoinMatchesSerialResults() {
+		Matrix<Integer> matrix1 = IntegerMatrixFactory.withRandomValues(150, 60, -100, 100);
+		Matrix<Integer> matrix2 = IntegerMatrixFactory.withRandomValues(60, 70, -100, 100);
+		Matrix<Integer> matrix3 = IntegerMatrixFactory.withRandomValues(150, 60, -100, 100);
+
+		try (ComputeContext computeContext = new ComputeContext(4)) {
+			assertEquals(IntegerMatricesCalculator.dot(matrix1, matrix2), IntegerMatricesCalculator.forkJoinDot(matrix1, matrix2, computeContext));
+			assertEquals(MatricesCalculator.combine(matrix1, matrix3, Integer::sum), MatricesCalculator.forkAndJoinCombine(matrix1, matrix3, Integer::sum, computeContext));
+		}
+		assertNotNull(AdaptiveForkJoinThreshold.getNanosPerComputation("dot", Integer.class, IntegerMatricesCalculator.getMultiplyFunction(), IntegerMatricesCalculator.getAccumulatorFunction()));
+	}
+
+	@Test
+	void testAdaptiveForkJoinDotCalibratesEachElementType() {
+		Matrix<BigDecimal> matrix1 = BigDecimalMatrixFactory.withRandomValues(40, 3, BigDecimal.ONE, BigDecimal.TEN);
+		Matrix<BigDecimal> matrix2 = BigDecimalMatrixFactory.withRandomValues(3, 50, BigDecimal.ONE, BigDecimal.TEN);
+
+		assertEquals(BigDecimalMatricesCalculator.dot(matrix1, matrix2), BigDecimalMatricesCalculator.forkJoinDot(matrix1, matrix2));
+		assertNotNull(AdaptiveForkJoinThreshold.getNanosPerComputation("dot", BigDecimal.class, BigDecimalMatricesCalculator.getMultiplyFunction(), BigDecimalMatricesCalculator.getAccumulatorFunction()));
+	}
+
+	@Test
+	void testSmallFirstCallDoesNotDecideThresholdForExpensiveFunction() {
+		UnaryOperator<Integer> cheapFunction = x -> x + 1;
+		UnaryOperator<Integer> expensiveFunction = x -> {
+			long start = System.nanoTime();
+			while (System.nanoTime() - start < 20_000) {
+				Thread.onSpinWait();
+			}
+			return x + 1;
+		};
+		Matrix<Integer> oneElement = IntegerMatrixFactory.withRandomValues(1, 1, -100, 100);
+		Matrix<Integer> matrix = IntegerMatrixFactory.withRandomValues(64, 64, -100, 100);
+
+		int cheapThreshold = AdaptiveForkJoinThreshold.forTransform(oneElement, cheapFunction, 1024);
+		int expensiveThreshold = AdaptiveForkJoinThreshold.forTransform(matrix, expensiveFunction, 1024);
+
+		// enough threads that splitting between them doesn't decide the threshold. 20 microseconds per element is at
+		// most 3 elements per task, a cheap increment is thousands
+		assertTrue(expensiveThreshold <= 3, "expensive function threshold was " + expensiveThreshold);
+		assertTrue(cheapThreshold > 10 * expensiveThreshold, "cheap function threshold was " + cheapThreshold);
+		assertNotEquals(AdaptiveForkJoinThreshold.getNanosPerComputation("transform", Integer.class, cheapFunction),
+				AdaptiveForkJoinThreshold.getNanosPerComputation("transform", Integer.class, expensiveFunction));
+	}
+
+	@Test
+	void testSampleIsCalibrationSizeForSmallMatrix() {
+		Matrix<Integer> matrix = new Matrix<>(List.of(List.of(1, 2)));
+		Matrix<Integer> sample = AdaptiveForkJoinThreshold.sample(new MatrixView<>(matrix));
+
+		assertEquals(AdaptiveForkJoinThreshold.CALIBRATION_SIZE, sample.getRows());
+		assertEquals(AdaptiveForkJoinThreshold.CALIBRATION_SIZE, sample.getColumns());
+		assertEquals(List.of(1, 2, 1, 2), sample.getMatrixLists().get(5).subList(0, 4));
+	}
+}
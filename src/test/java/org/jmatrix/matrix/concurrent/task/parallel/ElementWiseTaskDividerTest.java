@@ -0,0 +1,50 @@
+package org.jmatrix.matrix.concurrent.task.parallel;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.MatrixCalculator;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ElementWiseTaskDividerTest {
+
+	@ParameterizedTest
+	@CsvSource({"1, 5000000, 8", "3, 1000000, 8", "1000, 1000, 8", "2, 3, 8", "1, 1, 4"})
+	void testPartsCoverEveryElementOnce(int rows, int columns, int nTasks) {
+		ElementWiseTaskDivider elementWiseTaskDivider = new ElementWiseTaskDivider(rows, columns, nTasks);
+
+		assertTrue(elementWiseTaskDivider.getTasks() >= Math.min(nTasks, (long) rows * columns));
+
+		long elements = 0;
+		for (var i = 0; i < elementWiseTaskDivider.getTasks(); i++) {
+			int partRows = elementWiseTaskDivider.rowEnd(i) - elementWiseTaskDivider.rowStart(i);
+			int partColumns = elementWiseTaskDivider.colEnd(i) - elementWiseTaskDivider.colStart(i);
+			assertTrue(partRows > 0 && partColumns > 0);
+			elements += (long) partRows * partColumns;
+		}
+		assertEquals((long) rows * columns, elements);
+	}
+
+	@ParameterizedTest
+	@CsvSource({"1, 20000", "3, 7001", "2, 1", "1, 1"})
+	void testWideElementWiseOperationsMatchSerial(int rows, int columns) {
+		Matrix<Integer> matrix1 = IntegerMatrixFactory.withRandomValues(rows, columns, -100, 100);
+		Matrix<Integer> matrix2 = IntegerMatrixFactory.withRandomValues(rows, columns, -100, 100);
+		Matrix<Integer> combined = MatricesCalculator.combine(matrix1, matrix2, Integer::sum);
+		Matrix<Integer> transformed = MatrixCalculator.transform(matrix1, x -> x * 3 - 1);
+
+		try (ComputeContext computeContext = new ComputeContext(4)) {
+			assertEquals(combined, MatricesCalculator.parallelCombine(matrix1, matrix2, Integer::sum, computeContext));
+			assertEquals(combined, MatricesCalculator.forkAndJoinCombine(matrix1, matrix2, Integer::sum, 100, computeContext));
+			assertEquals(transformed, MatrixCalculator.parallelTransform(matrix1, x -> x * 3 - 1, computeContext));
+			assertEquals(transformed, MatrixCalculator.forkJoinTransform(matrix1, x -> x * 3 - 1, 100, computeContext));
+			assertEquals(MatrixCalculator.transpose(matrix1), MatrixCalculator.parallelTranspose(matrix1, computeContext));
+			assertTrue(MatrixCalculator.parallelIsConditionTrueForEachElement(matrix1, x -> x >= -100, computeContext));
+		}
+	}
+}
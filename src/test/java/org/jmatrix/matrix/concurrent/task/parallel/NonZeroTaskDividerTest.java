@@ -0,0 +1,80 @@
+package org.jmatrix.matrix.concurrent.task.parallel;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NonZeroTaskDividerTest {
+
+	@ParameterizedTest
+	@CsvSource({"1000, 8", "3, 8", "1, 4", "8, 8"})
+	void testPartsCoverEveryRowOnce(int rows, int nTasks) {
+		NonZeroTaskDivider taskDivider = new NonZeroTaskDivider(cumulative(skewedWork(rows)), nTasks);
+
+		assertTrue(taskDivider.getTasks() >= 1 && taskDivider.getTasks() <= Math.min(rows, nTasks));
+		assertEquals(0, taskDivider.rowStart(0));
+		for (var i = 0; i < taskDivider.getTasks(); i++) {
+			assertTrue(taskDivider.rowEnd(i) > taskDivider.rowStart(i));
+			if (i > 0) {
+				assertEquals(taskDivider.rowEnd(i - 1), taskDivider.rowStart(i));
+			}
+		}
+		assertEquals(rows, taskDivider.rowEnd(taskDivider.getTasks() - 1));
+	}
+
+	@Test
+	void testSkewedRowsAreSplitByWork() {
+		// the first 10 rows hold 90% of the work
+		long[] work = new long[1000];
+		for (var row = 0; row < work.length; row++) {
+			work[row] = row < 10 ? 900 : 1;
+		}
+		long[] cumulativeWork = cumulative(work);
+		long total = cumulativeWork[work.length];
+
+		NonZeroTaskDivider taskDivider = new NonZeroTaskDivider(cumulativeWork, 4);
+
+		assertEquals(4, taskDivider.getTasks());
+		for (var i = 0; i < taskDivider.getTasks(); i++) {
+			long taskWork = cumulativeWork[taskDivider.rowEnd(i)] - cumulativeWork[taskDivider.rowStart(i)];
+			// within one row of an equal share
+			assertTrue(Math.abs(taskWork - total / 4) <= 900, "task " + i + " has " + taskWork + " of " + total);
+		}
+	}
+
+	@Test
+	void testSingleHeavyRowGivesFewerTasks() {
+		NonZeroTaskDivider taskDivider = new NonZeroTaskDivider(cumulative(new long[]{1000, 1, 1}), 3);
+
+		assertEquals(2, taskDivider.getTasks());
+		assertEquals(1, taskDivider.rowStart(1));
+
+		NonZeroTaskDivider middleRow = new NonZeroTaskDivider(cumulative(new long[]{1, 1000, 1}), 3);
+		assertEquals(3, middleRow.getTasks());
+		assertEquals(1, middleRow.rowStart(1));
+		assertEquals(2, middleRow.rowEnd(1));
+
+		NonZeroTaskDivider noWork = new NonZeroTaskDivider(new long[5], 4);
+		assertEquals(1, noWork.getTasks());
+		assertEquals(4, noWork.rowEnd(0));
+	}
+
+	private static long[] skewedWork(int rows) {
+		long[] work = new long[rows];
+		for (var row = 0; row < rows; row++) {
+			work[row] = row % 7 == 0 ? 50 : row % 3;
+		}
+		return work;
+	}
+
+	private static long[] cumulative(long[] work) {
+		long[] cumulativeWork = new long[work.length + 1];
+		for (var row = 0; row < work.length; row++) {
+			cumulativeWork[row + 1] = cumulativeWork[row] + work[row];
+		}
+		return cumulativeWork;
+	}
+}
@@ -0,0 +1,103 @@
+package org.jmatrix.matrix.expression;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.calculator.IntegerMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.MatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.MatrixCalculator;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MatrixExpressionTest {
+
+	private static final UnaryOperator<Double> SIGMOID = x -> 1 / (1 + Math.exp(-x));
+
+	@ParameterizedTest
+	@CsvSource({"20, 78, 1", "1, 300, 257", "37, 41, 43"})
+	void testLayerMatchesDotCombineTransform(int rows, int inner, int columns) {
+		Matrix<Double> weights = DoubleMatrixFactory.withRandomValues(rows, inner, -0.5, 0.5).toMatrix();
+		Matrix<Double> inputs = DoubleMatrixFactory.withRandomValues(inner, columns, -0.5, 0.5).toMatrix();
+		Matrix<Double> bias = DoubleMatrixFactory.withRandomValues(rows, columns, -0.5, 0.5).toMatrix();
+
+		Matrix<Double> dotProduct = MatricesCalculator.dot(weights, inputs, 0.0, (x, y) -> x * y, Double::sum);
+		Matrix<Double> expected = MatrixCalculator.transform(MatricesCalculator.combine(dotProduct, bias, Double::sum), SIGMOID);
+
+		MatrixExpression<Double> layer = MatrixExpression.of(weights)
+				.dot(MatrixExpression.of(inputs), 0.0, (x, y) -> x * y, Double::sum)
+				.combine(MatrixExpression.of(bias), Double::sum)
+				.transform(SIGMOID);
+
+		try (ComputeContext computeContext = new ComputeContext(4)) {
+			assertEquals(expected, layer.evaluate(computeContext));
+		}
+		assertEquals(expected, layer.evaluate());
+	}
+
+	@Test
+	void testTransposesFoldIntoTheDotProduct() {
+		Matrix<Integer> matrix1 = IntegerMatrixFactory.withRandomValues(20, 30, -100, 100);
+		Matrix<Integer> matrix2 = IntegerMatrixFactory.withRandomValues(25, 20, -100, 100);
+		Matrix<Integer> matrix3 = IntegerMatrixFactory.withRandomValues(20, 25, -100, 100);
+
+		Matrix<Integer> expected = IntegerMatricesCalculator.dot(MatrixCalculator.transpose(matrix1),
+				MatricesCalculator.combine(MatrixCalculator.transpose(MatrixCalculator.transform(matrix2, x -> x * 2)), matrix3, Integer::sum));
+
+		MatrixExpression<Integer> expression = MatrixExpression.of(matrix1).transpose()
+				.dot(MatrixExpression.of(matrix2).transform(x -> x * 2).transpose().combine(MatrixExpression.of(matrix3), Integer::sum),
+						0, (x, y) -> x * y, Integer::sum);
+
+		assertEquals(expected, expression.evaluate());
+		assertEquals(MatrixCalculator.transpose(expected), expression.transpose().evaluate());
+	}
+
+	@Test
+	void testSharedExpressionIsEvaluatedOnce() {
+		Matrix<Integer> matrix1 = IntegerMatrixFactory.withRandomValues(12, 9, -100, 100);
+		Matrix<Integer> matrix2 = IntegerMatrixFactory.withRandomValues(9, 12, -100, 100);
+		AtomicInteger transforms = new AtomicInteger();
+
+		MatrixExpression<Integer> shared = MatrixExpression.of(matrix1)
+				.dot(MatrixExpression.of(matrix2), 0, (x, y) -> x * y, Integer::sum)
+				.transform(x -> {
+					transforms.incrementAndGet();
+					return x - 1;
+				});
+		MatrixExpression<Integer> expression = shared.combine(shared.transpose(), Integer::sum).dot(shared, 0, (x, y) -> x * y, Integer::sum);
+
+		Matrix<Integer> sharedMatrix = MatrixCalculator.transform(IntegerMatricesCalculator.dot(matrix1, matrix2), x -> x - 1);
+		Matrix<Integer> expected = IntegerMatricesCalculator.dot(
+				MatricesCalculator.combine(sharedMatrix, MatrixCalculator.transpose(sharedMatrix), Integer::sum), sharedMatrix);
+
+		assertEquals(expected, expression.evaluate());
+		assertEquals(12 * 12, transforms.get());
+	}
+
+	@Test
+	void testSourceIsCopied() {
+		Matrix<Integer> matrix = IntegerMatrixFactory.withRandomValues(3, 4, -100, 100);
+		Matrix<Integer> result = MatrixExpression.of(matrix).evaluate();
+
+		assertEquals(matrix, result);
+		assertNotSame(matrix.getMatrixLists().get(0), result.getMatrixLists().get(0));
+	}
+
+	@Test
+	void testIncompatibleDimensionsThrowExceptionWhenBuilt() {
+		MatrixExpression<Integer> expression = MatrixExpression.of(IntegerMatrixFactory.withRandomValues(3, 4, -100, 100));
+
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> expression.dot(expression, 0, (x, y) -> x * y, Integer::sum));
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> expression.combine(expression.transpose(), Integer::sum));
+		assertEquals(3, expression.dot(expression.transpose(), 0, (x, y) -> x * y, Integer::sum).getColumns());
+	}
+}
@@ -0,0 +1,125 @@
+package org.jmatrix.matrix.matrix;
+
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.calculator.DoubleMatricesCalculator;
+import org.jmatrix.matrix.matrix.calculator.OffHeapMatricesCalculator;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapDoubleMatrixTest {
+
+	@Test
+	void testCopyRoundTrip() {
+		DoubleMatrix matrix = DoubleMatrixFactory.withRandomValues(20, 30, -0.5, 0.5);
+
+		try (OffHeapDoubleMatrix offHeapMatrix = OffHeapDoubleMatrix.copyOf(matrix)) {
+			assertEquals(20, offHeapMatrix.getRows());
+			assertEquals(30, offHeapMatrix.getColumns());
+			assertEquals(matrix.get(7, 11), offHeapMatrix.get(7, 11));
+			assertEquals(matrix, offHeapMatrix.toDoubleMatrix());
+		}
+	}
+
+	@Test
+	void testRowsAreSplitIntoChunks() {
+		// 3 rows of 4 doubles fit into each 100 byte chunk
+		try (OffHeapDoubleMatrix matrix = OffHeapDoubleMatrix.allocate(10, 4, 100)) {
+			assertEquals(3, matrix.getRowsPerChunk());
+
+			matrix.set(2, 3, 1.5);
+			matrix.set(3, 0, 2.5);
+			matrix.set(9, 3, 3.5);
+
+			assertNotSame(matrix.getRowChunk(2), matrix.getRowChunk(3));
+			assertEquals(0, matrix.rowOffset(3));
+			assertEquals(1.5, matrix.get(2, 3));
+			assertEquals(2.5, matrix.get(3, 0));
+			assertEquals(3.5, matrix.get(9, 3));
+		}
+	}
+
+	@Test
+	void testAccessAfterCloseThrowsException() {
+		OffHeapDoubleMatrix matrix = OffHeapDoubleMatrix.allocate(2, 2);
+		matrix.close();
+		matrix.close();
+
+		assertTrue(matrix.isClosed());
+		assertThrows(IllegalStateException.class, () -> matrix.get(0, 0));
+		assertThrows(IllegalStateException.class, () -> matrix.set(0, 0, 1.0));
+		assertThrows(IllegalStateException.class, () -> matrix.getRow(0, new double[2], 0));
+		assertThrows(IllegalStateException.class, () -> matrix.setRow(0, new double[2], 0));
+		assertThrows(IllegalStateException.class, matrix::toDoubleMatrix);
+		assertThrows(IllegalStateException.class, () -> OffHeapMatricesCalculator.combine(matrix, matrix, Double::sum));
+	}
+
+	@Test
+	void testCloseWhileAccessedThrowsException() {
+		OffHeapDoubleMatrix matrix = OffHeapDoubleMatrix.allocate(2, 2);
+
+		matrix.acquire();
+		assertThrows(IllegalStateException.class, matrix::close);
+		assertFalse(matrix.isClosed());
+		assertEquals(0.0, matrix.get(1, 1));
+
+		matrix.release();
+		matrix.close();
+		assertTrue(matrix.isClosed());
+	}
+
+	@Test
+	void testCloseReleasesMemoryEagerly() {
+		assertTrue(DirectBufferCleaner.isAvailable());
+	}
+
+	@Test
+	void testDotAndCombineMatchHeapKernels() {
+		DoubleMatrix matrix1 = DoubleMatrixFactory.withRandomValues(13, 17, -0.5, 0.5);
+		DoubleMatrix matrix2 = DoubleMatrixFactory.withRandomValues(17, 9, -0.5, 0.5);
+		DoubleMatrix matrix3 = DoubleMatrixFactory.withRandomValues(13, 17, -0.5, 0.5);
+
+		try (OffHeapDoubleMatrix offHeapMatrix1 = copyInChunks(matrix1, 200);
+			 OffHeapDoubleMatrix offHeapMatrix2 = copyInChunks(matrix2, 100);
+			 OffHeapDoubleMatrix offHeapMatrix3 = copyInChunks(matrix3, 300);
+			 OffHeapDoubleMatrix dotResult = OffHeapMatricesCalculator.dot(offHeapMatrix1, offHeapMatrix2);
+			 OffHeapDoubleMatrix combineResult = OffHeapMatricesCalculator.combine(offHeapMatrix1, offHeapMatrix3, Double::sum)) {
+
+			assertEquals(DoubleMatricesCalculator.dot(matrix1, matrix2), dotResult.toDoubleMatrix());
+			assertEquals(DoubleMatricesCalculator.combine(matrix1, matrix3, Double::sum), combineResult.toDoubleMatrix());
+		}
+	}
+
+	@Test
+	void testDotOverSeveralRowBlocksMatchesHeapKernel() {
+		// two full blocks of rows and a partial one
+		DoubleMatrix matrix1 = DoubleMatrixFactory.withRandomValues(2 * OffHeapMatricesCalculator.DOT_ROW_BLOCK + 5, 11, -0.5, 0.5);
+		DoubleMatrix matrix2 = DoubleMatrixFactory.withRandomValues(11, 6, -0.5, 0.5);
+
+		try (OffHeapDoubleMatrix offHeapMatrix1 = copyInChunks(matrix1, 1000);
+			 OffHeapDoubleMatrix offHeapMatrix2 = OffHeapDoubleMatrix.copyOf(matrix2);
+			 OffHeapDoubleMatrix dotResult = OffHeapMatricesCalculator.dot(offHeapMatrix1, offHeapMatrix2)) {
+
+			assertEquals(DoubleMatricesCalculator.dot(matrix1, matrix2), dotResult.toDoubleMatrix());
+		}
+	}
+
+	@Test
+	void testDotIncompatibleMatricesThrowsException() {
+		try (OffHeapDoubleMatrix matrix1 = OffHeapDoubleMatrix.allocate(2, 3);
+			 OffHeapDoubleMatrix matrix2 = OffHeapDoubleMatrix.allocate(2, 3)) {
+			assertThrows(MatricesIncompatibleForOperationException.class, () -> OffHeapMatricesCalculator.dot(matrix1, matrix2));
+		}
+	}
+
+	private static OffHeapDoubleMatrix copyInChunks(DoubleMatrix matrix, long maxChunkBytes) {
+		OffHeapDoubleMatrix offHeapMatrix = OffHeapDoubleMatrix.allocate(matrix.getRows(), matrix.getColumns(), maxChunkBytes);
+		for (var row = 0; row < matrix.getRows(); row++) {
+			for (var column = 0; column < matrix.getColumns(); column++) {
+				offHeapMatrix.set(row, column, matrix.get(row, column));
+			}
+		}
+		return offHeapMatrix;
+	}
+}
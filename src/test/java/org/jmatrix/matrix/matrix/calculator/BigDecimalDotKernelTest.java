@@ -0,0 +1,70 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrixFactory.BigDecimalMatrixFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class BigDecimalDotKernelTest {
+
+	@ParameterizedTest
+	@CsvSource({"1, 1, 1", "200, 784, 1", "20, 78, 30", "7, 300, 9"})
+	void testRandomValuesMatchGenericDot(int rows, int inner, int columns) {
+		Matrix<BigDecimal> matrix1 = BigDecimalMatrixFactory.withRandomValues(rows, inner, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+		Matrix<BigDecimal> matrix2 = BigDecimalMatrixFactory.withRandomValues(inner, columns, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+
+		assertBitIdentical(genericDot(matrix1, matrix2), BigDecimalDotKernel.multiply(matrix1, matrix2));
+		assertBitIdentical(genericDot(matrix1, matrix2), BigDecimalMatricesCalculator.dot(matrix1, matrix2));
+	}
+
+	@Test
+	void testMixedScalesAndLargeUnscaledValuesMatchGenericDot() {
+		Random random = new Random(42);
+		String[] samples = {"0", "1", "-1", "1E+3", "-2.5E+7", "0.001", "123.456", "999999999999999999", "-999999999999999999",
+				"0.999999999999999999", "-12345678.9012345678", "1E-40", "7E+12", "-0.00000000000000000000001"};
+
+		Matrix<BigDecimal> matrix1 = randomMatrix(random, samples, 9, 130);
+		Matrix<BigDecimal> matrix2 = randomMatrix(random, samples, 130, 11);
+
+		Matrix<BigDecimal> result = BigDecimalDotKernel.multiply(matrix1, matrix2);
+		assertNotNull(result);
+		assertBitIdentical(genericDot(matrix1, matrix2), result);
+	}
+
+	@Test
+	void testFallsBackWhenTheKernelDoesNotApply() throws Exception {
+		Matrix<BigDecimal> wideUnscaled = new Matrix<>(List.of(List.of(new BigDecimal("123456789012345678901234567890123456789012"), BigDecimal.ONE)));
+		Matrix<BigDecimal> spreadScales = new Matrix<>(List.of(List.of(new BigDecimal("1E-2000"), new BigDecimal("1E+5"))));
+		Matrix<BigDecimal> column = new Matrix<>(List.of(List.of(new BigDecimal("3.5")), List.of(new BigDecimal("-2"))));
+
+		assertNull(BigDecimalDotKernel.multiply(wideUnscaled, column));
+		assertNull(BigDecimalDotKernel.multiply(spreadScales, column));
+		assertBitIdentical(genericDot(wideUnscaled, column), BigDecimalMatricesCalculator.dot(wideUnscaled, column));
+		assertBitIdentical(genericDot(spreadScales, column), BigDecimalMatricesCalculator.dot(spreadScales, column));
+	}
+
+	private static Matrix<BigDecimal> genericDot(Matrix<BigDecimal> matrix1, Matrix<BigDecimal> matrix2) {
+		return MatricesCalculator.dot(matrix1, matrix2, BigDecimal.ZERO, BigDecimal::multiply, BigDecimal::add);
+	}
+
+	private static Matrix<BigDecimal> randomMatrix(Random random, String[] samples, int rows, int columns) {
+		return new Matrix<>(rows, columns, null, null, (min, max) -> new BigDecimal(samples[random.nextInt(samples.length)]));
+	}
+
+	/**
+	 * BigDecimal.equals already compares the scale, toString makes a failure readable
+	 */
+	private static void assertBitIdentical(Matrix<BigDecimal> expected, Matrix<BigDecimal> actual) {
+		assertEquals(expected, actual);
+		assertEquals(expected.toString(), actual.toString());
+	}
+}
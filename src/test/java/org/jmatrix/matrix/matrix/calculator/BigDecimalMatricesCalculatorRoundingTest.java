@@ -0,0 +1,79 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrixFactory.BigDecimalMatrixFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BigDecimalMatricesCalculatorRoundingTest {
+
+	private static final MathContext PRECISION_12 = new MathContext(12);
+
+	@ParameterizedTest
+	@CsvSource({"1, 784, 1", "20, 78, 30", "37, 300, 43"})
+	void testPerAccumulationRoundsTheExactDotProduct(int rows, int inner, int columns) {
+		Matrix<BigDecimal> matrix1 = BigDecimalMatrixFactory.withRandomValues(rows, inner, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+		Matrix<BigDecimal> matrix2 = BigDecimalMatrixFactory.withRandomValues(inner, columns, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+		BigDecimalRounding rounding = BigDecimalRounding.perAccumulation(PRECISION_12);
+
+		Matrix<BigDecimal> expected = MatrixCalculator.transform(BigDecimalMatricesCalculator.dot(matrix1, matrix2), x -> x.round(PRECISION_12));
+
+		try (ComputeContext computeContext = new ComputeContext(4)) {
+			assertEquals(expected, BigDecimalMatricesCalculator.dot(matrix1, matrix2, rounding));
+			assertEquals(expected, BigDecimalMatricesCalculator.parallelDot(matrix1, matrix2, rounding, computeContext));
+			assertEquals(expected, BigDecimalMatricesCalculator.forkJoinDot(matrix1, matrix2, rounding, computeContext));
+		}
+	}
+
+	@ParameterizedTest
+	@CsvSource({"1, 784, 1", "20, 78, 30", "37, 300, 43"})
+	void testPerOperationRoundsEveryProductAndSum(int rows, int inner, int columns) {
+		Matrix<BigDecimal> matrix1 = BigDecimalMatrixFactory.withRandomValues(rows, inner, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+		Matrix<BigDecimal> matrix2 = BigDecimalMatrixFactory.withRandomValues(inner, columns, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+		BigDecimalRounding rounding = BigDecimalRounding.perOperation(PRECISION_12);
+
+		Matrix<BigDecimal> expected = MatricesCalculator.dot(matrix1, matrix2, BigDecimal.ZERO,
+				(x, y) -> x.multiply(y, PRECISION_12), (x, y) -> x.add(y, PRECISION_12));
+		Matrix<BigDecimal> result = BigDecimalMatricesCalculator.dot(matrix1, matrix2, rounding);
+
+		assertEquals(expected, result);
+		assertTrue(MatrixCalculator.isConditionTrueForEachElement(result, x -> x.precision() <= 12));
+		try (ComputeContext computeContext = new ComputeContext(4)) {
+			assertEquals(expected, BigDecimalMatricesCalculator.parallelDot(matrix1, matrix2, rounding, computeContext));
+			assertEquals(expected, BigDecimalMatricesCalculator.forkJoinDot(matrix1, matrix2, rounding, computeContext));
+		}
+	}
+
+	@Test
+	void testChainedDotProductsStayBounded() {
+		Matrix<BigDecimal> weights = BigDecimalMatrixFactory.withRandomValues(16, 16, BigDecimal.valueOf(-0.25), BigDecimal.valueOf(0.25));
+		Matrix<BigDecimal> activations = BigDecimalMatrixFactory.withRandomValues(16, 4, BigDecimal.valueOf(-1), BigDecimal.ONE);
+		BigDecimalRounding rounding = BigDecimalRounding.perAccumulation(PRECISION_12);
+
+		for (var layer = 0; layer < 100; layer++) {
+			activations = BigDecimalMatricesCalculator.dot(weights, activations, rounding);
+		}
+
+		assertTrue(MatrixCalculator.isConditionTrueForEachElement(activations, x -> x.precision() <= 12));
+	}
+
+	@Test
+	void testInvalidRoundingAndDimensionsThrow() {
+		Matrix<BigDecimal> matrix1 = BigDecimalMatrixFactory.withRandomValues(3, 4, BigDecimal.ONE, BigDecimal.TEN);
+		Matrix<BigDecimal> matrix2 = BigDecimalMatrixFactory.withRandomValues(5, 3, BigDecimal.ONE, BigDecimal.TEN);
+
+		assertThrows(IllegalArgumentException.class, () -> BigDecimalRounding.perOperation(MathContext.UNLIMITED));
+		assertThrows(IllegalArgumentException.class, () -> new BigDecimalRounding(PRECISION_12, null));
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> BigDecimalMatricesCalculator.dot(matrix1, matrix2, BigDecimalRounding.perOperation(PRECISION_12)));
+	}
+}
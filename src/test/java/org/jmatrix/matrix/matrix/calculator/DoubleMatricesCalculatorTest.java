@@ -0,0 +1,74 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DoubleMatricesCalculatorTest {
+
+	@Test
+	public void testDot_validMultiplication() {
+		var matrix1 = new DoubleMatrix(2, 3, new double[]{1, 2, 3, 4, 5, 6});
+		var matrix2 = new DoubleMatrix(3, 2, new double[]{7, 8, 9, 10, 11, 12});
+
+		var expected = new DoubleMatrix(2, 2, new double[]{58, 64, 139, 154});
+
+		assertEquals(expected, DoubleMatricesCalculator.dot(matrix1, matrix2));
+	}
+
+	@Test
+	public void testDot_matchesBoxedDot() {
+		DoubleMatrix matrix1 = DoubleMatrixFactory.withRandomValues(20, 78, -0.5, 0.5);
+		DoubleMatrix matrix2 = DoubleMatrixFactory.withRandomValues(78, 5, -0.5, 0.5);
+
+		Matrix<Double> boxedResult = MatricesCalculator.dot(matrix1.toMatrix(), matrix2.toMatrix(), 0.0, (x, y) -> x * y, Double::sum);
+
+		assertEquals(boxedResult, DoubleMatricesCalculator.dot(matrix1, matrix2).toMatrix());
+	}
+
+	@Test
+	public void testDot_incompatibleMatrices_throwsMatricesIncompatibleForOperationException() {
+		var matrix1 = new DoubleMatrix(2, 3);
+		var matrix2 = new DoubleMatrix(2, 3);
+
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> DoubleMatricesCalculator.dot(matrix1, matrix2));
+	}
+
+	@Test
+	public void testCombine_validMatrices() {
+		var matrix1 = new DoubleMatrix(2, 2, new double[]{1, 2, 3, 4});
+		var matrix2 = new DoubleMatrix(2, 2, new double[]{4, 3, 2, 1});
+
+		assertEquals(new DoubleMatrix(2, 2, new double[]{5, 5, 5, 5}), DoubleMatricesCalculator.combine(matrix1, matrix2, Double::sum));
+	}
+
+	@Test
+	public void testCombine_differentDimensions_throwsMatricesIncompatibleForOperationException() {
+		var matrix1 = new DoubleMatrix(2, 2);
+		var matrix2 = new DoubleMatrix(2, 3);
+
+		MatricesIncompatibleForOperationException e = assertThrows(MatricesIncompatibleForOperationException.class,
+				() -> DoubleMatricesCalculator.combine(matrix1, matrix2, Double::sum));
+
+		assertEquals(MatricesCalculator.CANNOT_COMBINE_MATRICES_ERROR_MSG, e.getMessage());
+	}
+
+	@Test
+	public void testTransform() {
+		var matrix = new DoubleMatrix(2, 2, new double[]{1, 2, 3, 4});
+
+		assertEquals(new DoubleMatrix(2, 2, new double[]{-2, -4, -6, -8}), DoubleMatrixCalculator.transform(matrix, x -> x * -2));
+	}
+
+	@Test
+	public void testTranspose() {
+		var matrix = new DoubleMatrix(2, 3, new double[]{1, 2, 3, 4, 5, 6});
+
+		assertEquals(new DoubleMatrix(3, 2, new double[]{1, 4, 2, 5, 3, 6}), DoubleMatrixCalculator.transpose(matrix));
+	}
+}
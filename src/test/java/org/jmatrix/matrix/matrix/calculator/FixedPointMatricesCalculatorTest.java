@@ -0,0 +1,108 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.FixedPointMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrixFactory.BigDecimalMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.FixedPointMatrixFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FixedPointMatricesCalculatorTest {
+
+	@ParameterizedTest
+	@EnumSource(RoundingMode.class)
+	void testMultiplyRoundsLikeBigDecimal(RoundingMode roundingMode) {
+		Random random = new Random(7);
+
+		for (var i = 0; i < 20_000; i++) {
+			long multiplicand = randomUnscaled(random);
+			long multiplier = randomUnscaled(random);
+			int productScale = random.nextInt(37);
+			int toScale = random.nextInt(FixedPointMatrix.MAX_SCALE + 1);
+
+			BigDecimal product = new BigDecimal(BigInteger.valueOf(multiplicand).multiply(BigInteger.valueOf(multiplier)), productScale);
+			BigDecimal expected;
+			try {
+				expected = product.setScale(toScale, roundingMode);
+				expected.unscaledValue().longValueExact();
+			} catch (ArithmeticException e) {
+				assertThrows(ArithmeticException.class, () -> FixedPointArithmetic.multiply(multiplicand, multiplier, productScale, toScale, roundingMode));
+				continue;
+			}
+			assertEquals(expected.unscaledValue().longValueExact(), FixedPointArithmetic.multiply(multiplicand, multiplier, productScale, toScale, roundingMode),
+					() -> product + " to scale " + toScale);
+		}
+	}
+
+	/**
+	 * Values of every magnitude, including the extremes and exact halves, rather than only uniformly random longs
+	 */
+	private static long randomUnscaled(Random random) {
+		return switch (random.nextInt(5)) {
+			case 0 -> Long.MIN_VALUE + random.nextInt(3);
+			case 1 -> Long.MAX_VALUE - random.nextInt(3);
+			case 2 -> 5 * FixedPointArithmetic.POWERS_OF_TEN[random.nextInt(18)] * (random.nextBoolean() ? 1 : -1);
+			default -> random.nextLong() >> random.nextInt(64);
+		};
+	}
+
+	@ParameterizedTest
+	@CsvSource({"1, 1, 1, 9", "200, 784, 1, 9", "20, 78, 30, 12", "7, 300, 9, 18"})
+	void testDotMatchesRoundedBigDecimalDot(int rows, int inner, int columns, int scale) {
+		Matrix<BigDecimal> matrix1 = BigDecimalMatrixFactory.withRandomValues(rows, inner, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+		Matrix<BigDecimal> matrix2 = BigDecimalMatrixFactory.withRandomValues(inner, columns, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+		FixedPointMatrix fixedPoint1 = FixedPointMatrixFactory.fromMatrix(matrix1, scale);
+		FixedPointMatrix fixedPoint2 = FixedPointMatrixFactory.fromMatrix(matrix2, scale);
+
+		Matrix<BigDecimal> exact = BigDecimalMatricesCalculator.dot(fixedPoint1.toMatrix(), fixedPoint2.toMatrix());
+		FixedPointMatrix expected = FixedPointMatrixFactory.fromMatrix(exact, scale, RoundingMode.HALF_EVEN);
+
+		assertEquals(expected, FixedPointMatricesCalculator.dot(fixedPoint1, fixedPoint2));
+
+		FixedPointMatrix out = new FixedPointMatrix(rows, columns, 4);
+		FixedPointMatricesCalculator.dotInto(fixedPoint1, fixedPoint2, RoundingMode.FLOOR, out);
+		assertEquals(FixedPointMatrixFactory.fromMatrix(exact, 4, RoundingMode.FLOOR), out);
+	}
+
+	@Test
+	void testElementWiseOperationsMatchBigDecimal() {
+		Matrix<BigDecimal> matrix1 = BigDecimalMatrixFactory.withRandomValues(30, 40, BigDecimal.valueOf(-1000), BigDecimal.valueOf(1000));
+		Matrix<BigDecimal> matrix2 = BigDecimalMatrixFactory.withRandomValues(30, 40, BigDecimal.valueOf(-1000), BigDecimal.valueOf(1000));
+		FixedPointMatrix fixedPoint1 = FixedPointMatrixFactory.fromMatrix(matrix1, 6);
+		FixedPointMatrix fixedPoint2 = FixedPointMatrixFactory.fromMatrix(matrix2, 6);
+		Matrix<BigDecimal> exact1 = fixedPoint1.toMatrix();
+		Matrix<BigDecimal> exact2 = fixedPoint2.toMatrix();
+
+		assertEquals(FixedPointMatrixFactory.fromMatrix(MatricesCalculator.combine(exact1, exact2, BigDecimal::add), 6),
+				FixedPointMatricesCalculator.add(fixedPoint1, fixedPoint2));
+		assertEquals(FixedPointMatrixFactory.fromMatrix(MatricesCalculator.combine(exact1, exact2, BigDecimal::subtract), 6),
+				FixedPointMatricesCalculator.subtract(fixedPoint1, fixedPoint2));
+		assertEquals(FixedPointMatrixFactory.fromMatrix(MatricesCalculator.combine(exact1, exact2, BigDecimal::multiply), 3, RoundingMode.HALF_UP),
+				FixedPointMatricesCalculator.multiplyElements(fixedPoint1, fixedPoint2, 3, RoundingMode.HALF_UP));
+	}
+
+	@Test
+	void testOverflowAndIncompatibleMatricesThrow() {
+		FixedPointMatrix large = new FixedPointMatrix(1, 2, 0, new long[]{Long.MAX_VALUE, Long.MAX_VALUE});
+		FixedPointMatrix largeColumn = new FixedPointMatrix(2, 1, 0, new long[]{Long.MAX_VALUE, Long.MAX_VALUE});
+		FixedPointMatrix scale2 = new FixedPointMatrix(1, 2, 2);
+
+		assertThrows(ArithmeticException.class, () -> FixedPointMatricesCalculator.add(large, large));
+		assertThrows(ArithmeticException.class, () -> FixedPointMatricesCalculator.dot(large, largeColumn));
+		assertThrows(ArithmeticException.class, () -> FixedPointMatricesCalculator.multiplyElements(large, large, 0, RoundingMode.HALF_EVEN));
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> FixedPointMatricesCalculator.add(large, scale2));
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> FixedPointMatricesCalculator.dot(large, large));
+		assertThrows(IllegalArgumentException.class, () -> FixedPointMatricesCalculator.dotInto(large, largeColumn, RoundingMode.HALF_EVEN, new FixedPointMatrix(large.getData(), 0, 1, 1, 2, 0)));
+	}
+}
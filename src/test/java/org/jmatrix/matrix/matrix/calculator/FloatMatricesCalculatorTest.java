@@ -0,0 +1,87 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.FloatMatrix;
+import org.jmatrix.matrix.matrix.HalfMatrix;
+import org.jmatrix.matrix.matrixFactory.FloatMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.HalfMatrixFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FloatMatricesCalculatorTest {
+
+	@Test
+	public void testDot_validMultiplication() {
+		var matrix1 = new FloatMatrix(2, 3, new float[]{1, 2, 3, 4, 5, 6});
+		var matrix2 = new FloatMatrix(3, 2, new float[]{7, 8, 9, 10, 11, 12});
+
+		var expected = new FloatMatrix(2, 2, new float[]{58, 64, 139, 154});
+
+		assertEquals(expected, FloatMatricesCalculator.dot(matrix1, matrix2));
+		for (var format : HalfMatrix.Format.values()) {
+			assertEquals(expected, FloatMatricesCalculator.dot(HalfMatrixFactory.fromFloatMatrix(matrix1, format), matrix2));
+			assertEquals(expected, FloatMatricesCalculator.dot(matrix1, HalfMatrixFactory.fromFloatMatrix(matrix2, format)));
+		}
+	}
+
+	@Test
+	public void testDot_halfMatricesMatchWidenedFloatMatrices() {
+		for (var format : HalfMatrix.Format.values()) {
+			HalfMatrix weights = HalfMatrixFactory.withRandomValues(20, 78, -0.5f, 0.5f, format);
+			FloatMatrix inputs = FloatMatrixFactory.withRandomValues(78, 5, -0.5f, 0.5f);
+			FloatMatrix vector = FloatMatrixFactory.withRandomValues(78, 1, -0.5f, 0.5f);
+			FloatMatrix batch = FloatMatrixFactory.withRandomValues(5, 20, -0.5f, 0.5f);
+
+			assertEquals(FloatMatricesCalculator.dot(weights.toFloatMatrix(), inputs), FloatMatricesCalculator.dot(weights, inputs));
+			assertEquals(FloatMatricesCalculator.dot(weights.toFloatMatrix(), vector), FloatMatricesCalculator.dot(weights, vector));
+			assertEquals(FloatMatricesCalculator.dot(batch, weights.toFloatMatrix()), FloatMatricesCalculator.dot(batch, weights));
+		}
+	}
+
+	@Test
+	public void testDot_matchesDoubleDotWithinFloatPrecision() {
+		for (var columns : new int[]{1, 5}) {
+			FloatMatrix matrix1 = FloatMatrixFactory.withRandomValues(20, 78, -0.5f, 0.5f);
+			FloatMatrix matrix2 = FloatMatrixFactory.withRandomValues(78, columns, -0.5f, 0.5f);
+
+			assertMatchesDoubleDot(matrix1, matrix2, FloatMatricesCalculator.dot(matrix1, matrix2));
+		}
+	}
+
+	private static void assertMatchesDoubleDot(FloatMatrix matrix1, FloatMatrix matrix2, FloatMatrix result) {
+		for (var rowIterator = 0; rowIterator < matrix1.getRows(); rowIterator++) {
+			for (var colIterator = 0; colIterator < matrix2.getColumns(); colIterator++) {
+				double expected = 0;
+				for (var elementIndex = 0; elementIndex < matrix1.getColumns(); elementIndex++) {
+					expected += (double) matrix1.get(rowIterator, elementIndex) * matrix2.get(elementIndex, colIterator);
+				}
+				assertEquals(expected, result.get(rowIterator, colIterator), 1e-4);
+			}
+		}
+	}
+
+	@Test
+	public void testDotInto_reusesOutput() {
+		HalfMatrix weights = HalfMatrixFactory.withRandomValues(20, 78, -0.5f, 0.5f, HalfMatrix.Format.BFLOAT16);
+		FloatMatrix inputs = FloatMatrixFactory.withRandomValues(78, 1, -0.5f, 0.5f);
+		FloatMatrix out = FloatMatrixFactory.withRandomValues(20, 1, -0.5f, 0.5f);
+
+		FloatMatricesCalculator.dotInto(weights, inputs, out);
+
+		assertEquals(FloatMatricesCalculator.dot(weights, inputs), out);
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> FloatMatricesCalculator.dotInto(weights, inputs, new FloatMatrix(20, 2)));
+		assertThrows(IllegalArgumentException.class, () -> FloatMatricesCalculator.dotInto(weights, inputs, new FloatMatrix(inputs.getData(), 0, 20, 1, 1)));
+	}
+
+	@Test
+	public void testDot_incompatibleMatrices_throwsMatricesIncompatibleForOperationException() {
+		var floatMatrix = new FloatMatrix(2, 3);
+		var halfMatrix = new HalfMatrix(2, 3, HalfMatrix.Format.FLOAT16);
+
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> FloatMatricesCalculator.dot(floatMatrix, floatMatrix));
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> FloatMatricesCalculator.dot(halfMatrix, floatMatrix));
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> FloatMatricesCalculator.dot(floatMatrix, halfMatrix));
+	}
+}
@@ -0,0 +1,113 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.IntMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IntMatricesCalculatorTest {
+
+	@Test
+	public void testDot_validMultiplication() {
+		var matrix1 = new IntMatrix(2, 3, new int[]{1, 2, 3, 4, 5, 6});
+		var matrix2 = new IntMatrix(3, 2, new int[]{7, 8, 9, 10, 11, 12});
+
+		var expected = new IntMatrix(2, 2, new int[]{58, 64, 139, 154});
+
+		assertEquals(expected, IntMatricesCalculator.dot(matrix1, matrix2));
+	}
+
+	@Test
+	public void testDot_matchesBoxedDot() {
+		IntMatrix matrix1 = IntegerMatrixFactory.intMatrixWithRandomValues(20, 78, -1000, 1000);
+		IntMatrix matrix2 = IntegerMatrixFactory.intMatrixWithRandomValues(78, 5, -1000, 1000);
+
+		Matrix<Integer> boxedResult = IntegerMatricesCalculator.dot(matrix1.toMatrix(), matrix2.toMatrix());
+
+		assertEquals(boxedResult, IntMatricesCalculator.dot(matrix1, matrix2).toMatrix());
+	}
+
+	@Test
+	public void testDot_intermediateSumsOutsideIntRange() {
+		// The partial sums pass Integer.MAX_VALUE, which the boxed Integer dot product would wrap around, but the result fits
+		var matrix1 = new IntMatrix(1, 3, new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE, 1});
+		var matrix2 = new IntMatrix(3, 1, new int[]{2, -2, 7});
+
+		assertEquals(new IntMatrix(1, 1, new int[]{7}), IntMatricesCalculator.dot(matrix1, matrix2));
+	}
+
+	@Test
+	public void testDot_intermediateSumsOutsideLongRange() {
+		// The first two products are 2^62 each, so their sum overflows a long before the last two are added
+		var matrix1 = new IntMatrix(1, 4, new int[]{Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE});
+		var matrix2 = new IntMatrix(4, 1, new int[]{Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE});
+
+		assertThrows(ArithmeticException.class, () -> IntMatricesCalculator.dot(matrix1, matrix2));
+	}
+
+	@Test
+	public void testDot_resultOutsideIntRange_throwsArithmeticException() {
+		var matrix1 = new IntMatrix(1, 2, new int[]{Integer.MAX_VALUE, 1});
+		var matrix2 = new IntMatrix(2, 1, new int[]{1, 1});
+
+		assertThrows(ArithmeticException.class, () -> IntMatricesCalculator.dot(matrix1, matrix2));
+	}
+
+	@Test
+	public void testDotInto_reusesOutput() {
+		var matrix1 = new IntMatrix(2, 3, new int[]{1, 2, 3, 4, 5, 6});
+		var matrix2 = new IntMatrix(3, 2, new int[]{7, 8, 9, 10, 11, 12});
+		var out = new IntMatrix(2, 2, new int[]{-1, -1, -1, -1});
+
+		IntMatricesCalculator.dotInto(matrix1, matrix2, out);
+
+		assertEquals(new IntMatrix(2, 2, new int[]{58, 64, 139, 154}), out);
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> IntMatricesCalculator.dotInto(matrix1, matrix2, new IntMatrix(2, 3)));
+		assertThrows(IllegalArgumentException.class, () -> IntMatricesCalculator.dotInto(matrix1, matrix2, new IntMatrix(matrix1.getData(), 0, 2, 2, 2)));
+	}
+
+	@Test
+	public void testDot_incompatibleMatrices_throwsMatricesIncompatibleForOperationException() {
+		var matrix1 = new IntMatrix(2, 3);
+		var matrix2 = new IntMatrix(2, 3);
+
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> IntMatricesCalculator.dot(matrix1, matrix2));
+	}
+
+	@Test
+	public void testCombine_validMatrices() {
+		var matrix1 = new IntMatrix(2, 2, new int[]{1, 2, 3, 4});
+		var matrix2 = new IntMatrix(2, 2, new int[]{4, 3, 2, 1});
+
+		assertEquals(new IntMatrix(2, 2, new int[]{5, 5, 5, 5}), IntMatricesCalculator.combine(matrix1, matrix2, Integer::sum));
+	}
+
+	@Test
+	public void testCombine_differentDimensions_throwsMatricesIncompatibleForOperationException() {
+		var matrix1 = new IntMatrix(2, 2);
+		var matrix2 = new IntMatrix(2, 3);
+
+		MatricesIncompatibleForOperationException e = assertThrows(MatricesIncompatibleForOperationException.class,
+				() -> IntMatricesCalculator.combine(matrix1, matrix2, Integer::sum));
+
+		assertEquals(MatricesCalculator.CANNOT_COMBINE_MATRICES_ERROR_MSG, e.getMessage());
+	}
+
+	@Test
+	public void testTransform() {
+		var matrix = new IntMatrix(2, 2, new int[]{1, 2, 3, 4});
+
+		assertEquals(new IntMatrix(2, 2, new int[]{-2, -4, -6, -8}), IntMatrixCalculator.transform(matrix, x -> x * -2));
+	}
+
+	@Test
+	public void testTranspose() {
+		var matrix = new IntMatrix(2, 3, new int[]{1, 2, 3, 4, 5, 6});
+
+		assertEquals(new IntMatrix(3, 2, new int[]{1, 4, 2, 5, 3, 6}), IntMatrixCalculator.transpose(matrix));
+	}
+}
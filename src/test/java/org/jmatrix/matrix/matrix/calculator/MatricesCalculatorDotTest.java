@@ -4,6 +4,7 @@ import org.jmatrix.matrix.exception.EmptyMatrixException;
 import org.jmatrix.matrix.exception.ListsIncompatibleForMatrixException;
 import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
 import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
@@ -91,4 +92,22 @@ public class MatricesCalculatorDotTest {
 		assertThrows(MatricesIncompatibleForOperationException.class, () ->
 				IntegerMatricesCalculator.dot(matrix1, matrix2));
 	}
+
+	@Test
+	public void testDot_tileSizesDoNotAffectResult() {
+		Matrix<Integer> matrix1 = IntegerMatrixFactory.withRandomValues(37, 41, -5, 5);
+		Matrix<Integer> matrix2 = IntegerMatrixFactory.withRandomValues(41, 29, -5, 5);
+
+		// A single tile covering the whole product is the plain i-k-j loop
+		Matrix<Integer> untiledResult = MatricesCalculator.dot(matrix1, matrix2, 0, IntegerMatricesCalculator.getMultiplyFunction(), Integer::sum, new DotTileSizes(37, 41, 29));
+		Matrix<Integer> tiledResult = MatricesCalculator.dot(matrix1, matrix2, 0, IntegerMatricesCalculator.getMultiplyFunction(), Integer::sum, new DotTileSizes(4, 7, 3));
+
+		assertEquals(untiledResult, tiledResult);
+		assertEquals(untiledResult, IntegerMatricesCalculator.dot(matrix1, matrix2));
+	}
+
+	@Test
+	public void testDotTileSizes_nonPositiveSize_throwsIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class, () -> new DotTileSizes(0, 128, 256));
+	}
 }
@@ -0,0 +1,83 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.concurrent.task.forkJoin.MatricesForkJoinDotTask;
+import org.jmatrix.matrix.concurrent.task.parallel.DotTaskDivider;
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MatricesCalculatorFusedDotTest {
+
+	private static final UnaryOperator<Double> SIGMOID = x -> 1 / (1 + Math.exp(-x));
+
+	@ParameterizedTest
+	@CsvSource({"20, 78, 1", "1, 300, 257", "37, 41, 43", "200, 784, 3"})
+	void testFusedDotMatchesDotCombineTransform(int rows, int inner, int columns) {
+		Matrix<Double> weights = DoubleMatrixFactory.withRandomValues(rows, inner, -0.5, 0.5).toMatrix();
+		Matrix<Double> inputs = DoubleMatrixFactory.withRandomValues(inner, columns, -0.5, 0.5).toMatrix();
+		Matrix<Double> bias = DoubleMatrixFactory.withRandomValues(rows, columns, -0.5, 0.5).toMatrix();
+		BiasActivation<Double> biasActivation = new BiasActivation<>(bias, Double::sum, SIGMOID);
+
+		Matrix<Double> dotProduct = MatricesCalculator.dot(weights, inputs, 0.0, (x, y) -> x * y, Double::sum);
+		Matrix<Double> expected = MatrixCalculator.transform(MatricesCalculator.combine(dotProduct, bias, Double::sum), SIGMOID);
+
+		assertEquals(expected, MatricesCalculator.dot(weights, inputs, 0.0, (x, y) -> x * y, Double::sum, biasActivation));
+		try (ComputeContext computeContext = new ComputeContext(4)) {
+			assertEquals(expected, MatricesCalculator.parallelDot(weights, inputs, computeContext, 0.0, (x, y) -> x * y, Double::sum, biasActivation));
+			assertEquals(expected, MatricesCalculator.forkJoinDot(weights, inputs, 10, computeContext, 0.0, (x, y) -> x * y, Double::sum, biasActivation));
+			assertEquals(expected, MatricesCalculator.forkJoinDot(weights, inputs, computeContext, 0.0, (x, y) -> x * y, Double::sum, biasActivation));
+		}
+	}
+
+	@Test
+	void testBiasIsAppliedOnceWhenTheInnerDimensionIsSplit() {
+		Matrix<Integer> matrix1 = IntegerMatrixFactory.withRandomValues(2, 700, -100, 100);
+		Matrix<Integer> matrix2 = IntegerMatrixFactory.withRandomValues(700, 1, -100, 100);
+		Matrix<Integer> bias = IntegerMatrixFactory.withRandomValues(2, 1, -100, 100);
+		BiasActivation<Integer> biasActivation = new BiasActivation<>(bias, Integer::sum, x -> Math.max(x, 0));
+		BlockedDotKernel<Integer> dotKernel = new BlockedDotKernel<>(matrix2, 0, (x, y) -> x * y, Integer::sum);
+
+		Matrix<Integer> expected = MatricesCalculator.dot(matrix1, matrix2, 0, (x, y) -> x * y, Integer::sum, biasActivation);
+
+		try (ComputeContext computeContext = new ComputeContext(8)) {
+			assertEquals(expected, new DotTaskDivider(2, 700, 1, 8, true).multiply(matrix1, dotKernel, biasActivation, computeContext.getExecutorService()));
+			assertEquals(expected, computeContext.getForkJoinPool().invoke(new MatricesForkJoinDotTask<>(new MatrixView<>(matrix1), 10, dotKernel, false, true, biasActivation)));
+		}
+	}
+
+	@Test
+	void testFusedDotWithWrongBiasDimensionsThrowsException() {
+		Matrix<Integer> matrix1 = IntegerMatrixFactory.withRandomValues(3, 4, -100, 100);
+		Matrix<Integer> matrix2 = IntegerMatrixFactory.withRandomValues(4, 2, -100, 100);
+		BiasActivation<Integer> biasActivation = new BiasActivation<>(IntegerMatrixFactory.withRandomValues(2, 3, -100, 100), Integer::sum, x -> x);
+
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> MatricesCalculator.dot(matrix1, matrix2, 0, (x, y) -> x * y, Integer::sum, biasActivation));
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> MatricesCalculator.forkJoinDot(matrix1, matrix2, 0, (x, y) -> x * y, Integer::sum, biasActivation));
+	}
+
+	@Test
+	void testDoubleMatrixFusedDotMatchesDotCombineTransform() {
+		DoubleMatrix weights = DoubleMatrixFactory.withRandomValues(200, 784, -0.5, 0.5);
+		DoubleMatrix inputs = DoubleMatrixFactory.withRandomValues(784, 1, -0.5, 0.5);
+		DoubleMatrix bias = DoubleMatrixFactory.withRandomValues(200, 1, -0.5, 0.5);
+
+		DoubleMatrix expected = DoubleMatrixCalculator.transform(
+				DoubleMatricesCalculator.combine(DoubleMatricesCalculator.dot(weights, inputs), bias, Double::sum),
+				x -> 1 / (1 + Math.exp(-x)));
+
+		assertEquals(expected, DoubleMatricesCalculator.dot(weights, inputs, bias, x -> 1 / (1 + Math.exp(-x))));
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> DoubleMatricesCalculator.dot(weights, inputs, weights, x -> x));
+	}
+}
@@ -0,0 +1,129 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MatricesCalculatorIntoTest {
+
+	@ParameterizedTest
+	@CsvSource({"1, 300, 257", "37, 41, 43", "100, 10, 100"})
+	void testDotIntoMatchesDotAndCanReuseTheOutput(int rows, int inner, int columns) {
+		Matrix<Integer> matrix1 = IntegerMatrixFactory.withRandomValues(rows, inner, -100, 100);
+		Matrix<Integer> matrix2 = IntegerMatrixFactory.withRandomValues(inner, columns, -100, 100);
+		Matrix<Integer> expected = IntegerMatricesCalculator.dot(matrix1, matrix2);
+		Matrix<Integer> out = IntegerMatrixFactory.withRandomValues(rows, columns, -100, 100);
+
+		IntegerMatricesCalculator.dotInto(matrix1, matrix2, out);
+		assertEquals(expected, out);
+		IntegerMatricesCalculator.dotInto(matrix1, matrix2, out);
+		assertEquals(expected, out);
+
+		try (ComputeContext computeContext = new ComputeContext(4)) {
+			Matrix<Integer> parallelOut = IntegerMatrixFactory.withRandomValues(rows, columns, -100, 100);
+			IntegerMatricesCalculator.parallelDotInto(matrix1, matrix2, computeContext, parallelOut);
+			assertEquals(expected, parallelOut);
+		}
+	}
+
+	@Test
+	void testDotIntoMatrix1MultipliesInPlace() {
+		Matrix<Integer> matrix1 = IntegerMatrixFactory.withRandomValues(70, 40, -100, 100);
+		Matrix<Integer> matrix2 = IntegerMatrixFactory.withRandomValues(40, 40, -100, 100);
+		Matrix<Integer> expected = IntegerMatricesCalculator.dot(matrix1, matrix2);
+
+		IntegerMatricesCalculator.dotInto(matrix1, matrix2, matrix1);
+
+		assertEquals(expected, matrix1);
+	}
+
+	@Test
+	void testDotIntoRejectsUnsafeOutputs() {
+		Matrix<Integer> matrix1 = IntegerMatrixFactory.withRandomValues(4, 4, -100, 100);
+		Matrix<Integer> matrix2 = IntegerMatrixFactory.withRandomValues(4, 4, -100, 100);
+
+		assertThrows(IllegalArgumentException.class, () -> IntegerMatricesCalculator.dotInto(matrix1, matrix2, matrix2));
+		assertThrows(IllegalArgumentException.class, () -> IntegerMatricesCalculator.parallelDotInto(matrix1, matrix2, matrix1));
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> IntegerMatricesCalculator.dotInto(matrix1, matrix2, IntegerMatrixFactory.withRandomValues(4, 3, -100, 100)));
+	}
+
+	@Test
+	void testCombineIntoMatchesCombineAndCanCombineInPlace() {
+		Matrix<Integer> matrix1 = IntegerMatrixFactory.withRandomValues(53, 17, -100, 100);
+		Matrix<Integer> matrix2 = IntegerMatrixFactory.withRandomValues(53, 17, -100, 100);
+		Matrix<Integer> expected = MatricesCalculator.combine(matrix1, matrix2, Integer::sum);
+		Matrix<Integer> out = IntegerMatrixFactory.withRandomValues(53, 17, -100, 100);
+
+		MatricesCalculator.combineInto(matrix1, matrix2, Integer::sum, out);
+		assertEquals(expected, out);
+
+		try (ComputeContext computeContext = new ComputeContext(4)) {
+			Matrix<Integer> parallelOut = IntegerMatrixFactory.withRandomValues(53, 17, -100, 100);
+			MatricesCalculator.parallelCombineInto(matrix1, matrix2, Integer::sum, parallelOut, computeContext);
+			assertEquals(expected, parallelOut);
+		}
+
+		MatricesCalculator.combineInto(matrix1, matrix2, Integer::sum, matrix1);
+		assertEquals(expected, matrix1);
+
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> MatricesCalculator.combineInto(matrix1, matrix2, Integer::sum, IntegerMatrixFactory.withRandomValues(17, 53, -100, 100)));
+	}
+
+	@Test
+	void testTransformAndTransposeInto() {
+		Matrix<Integer> matrix = new Matrix<>(List.of(List.of(1, 2, 3), List.of(4, 5, 6)));
+		Matrix<Integer> transformed = new Matrix<>(List.of(List.of(0, 0, 0), List.of(0, 0, 0)));
+		Matrix<Integer> transposed = new Matrix<>(List.of(List.of(0, 0), List.of(0, 0), List.of(0, 0)));
+
+		MatrixCalculator.transformInto(matrix, x -> x * 10, transformed);
+		MatrixCalculator.transposeInto(matrix, transposed);
+
+		assertEquals(new Matrix<>(List.of(List.of(10, 20, 30), List.of(40, 50, 60))), transformed);
+		assertEquals(MatrixCalculator.transpose(matrix), transposed);
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> MatrixCalculator.transposeInto(matrix, transformed));
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> MatrixCalculator.transposeInPlace(matrix));
+
+		MatrixCalculator.transformInPlace(matrix, x -> -x);
+		assertEquals(new Matrix<>(List.of(List.of(-1, -2, -3), List.of(-4, -5, -6))), matrix);
+
+		Matrix<Integer> square = IntegerMatrixFactory.withRandomValues(5, 5, -100, 100);
+		Matrix<Integer> expected = MatrixCalculator.transpose(square);
+		MatrixCalculator.transposeInPlace(square);
+		assertEquals(expected, square);
+	}
+
+	@Test
+	void testDoubleMatrixIntoVariants() {
+		DoubleMatrix matrix1 = DoubleMatrixFactory.withRandomValues(20, 30, -0.5, 0.5);
+		DoubleMatrix matrix2 = DoubleMatrixFactory.withRandomValues(30, 20, -0.5, 0.5);
+		DoubleMatrix out = DoubleMatrixFactory.withRandomValues(20, 20, -0.5, 0.5);
+
+		DoubleMatricesCalculator.dotInto(matrix1, matrix2, out);
+		assertEquals(DoubleMatricesCalculator.dot(matrix1, matrix2), out);
+		assertThrows(IllegalArgumentException.class, () -> DoubleMatricesCalculator.dotInto(out, out, out));
+
+		DoubleMatrix expected = DoubleMatricesCalculator.combine(out, out, Double::sum);
+		DoubleMatricesCalculator.combineInto(out, out, Double::sum, out);
+		assertEquals(expected, out);
+
+		expected = DoubleMatrixCalculator.transpose(DoubleMatrixCalculator.transform(out, Math::abs));
+		DoubleMatrixCalculator.transformInPlace(out, Math::abs);
+		DoubleMatrixCalculator.transposeInPlace(out);
+		assertEquals(expected, out);
+
+		DoubleMatrix transposed = new DoubleMatrix(30, 20);
+		DoubleMatrixCalculator.transposeInto(matrix1, transposed);
+		assertEquals(DoubleMatrixCalculator.transpose(matrix1), transposed);
+	}
+}
@@ -101,4 +101,18 @@ public class MatricesCalculatorMultithreadedDotTest {
 		assertEquals(expectedResultMatrix, multiThreadResultMatrix, "Multi-thread dot product result with 2 threads is not correct.");
 		assertEquals(expectedResultMatrix, forkJoinResultMatrix, "Fork/Join dot product result is not correct.");
 	}
+
+	@Test
+	void testDotProductResultRowsCanBeResized() {
+		var matrix1 = IntegerMatrixFactory.withRandomValues(40, 30, Integer.valueOf(-5), Integer.valueOf(5));
+		var matrix2 = IntegerMatrixFactory.withRandomValues(30, 20, Integer.valueOf(-5), Integer.valueOf(5));
+
+		for (var result : List.of(IntegerMatricesCalculator.dot(matrix1, matrix2), IntegerMatricesCalculator.parallelDot(matrix1, matrix2),
+				IntegerMatricesCalculator.forkJoinDot(matrix1, matrix2, 50), IntegerMatricesCalculator.strassenDot(matrix1, matrix2, 8))) {
+			List<Integer> row = result.getMatrixLists().getFirst();
+			row.add(1);
+			row.removeLast();
+			assertEquals(20, row.size(), "Result rows should be resizable.");
+		}
+	}
 }
@@ -0,0 +1,84 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.concurrent.task.forkJoin.MatricesForkJoinStrassenDotTask;
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrixFactory.BigDecimalMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MatricesCalculatorStrassenDotTest {
+
+	@Test
+	void testDepthStopsAtTheCutoffAndPaddingIsMinimal() {
+		assertEquals(0, MatricesForkJoinStrassenDotTask.depth(64, 64, 64, 64));
+		assertEquals(4, MatricesForkJoinStrassenDotTask.depth(2048, 2048, 2048, 128));
+		assertEquals(1, MatricesForkJoinStrassenDotTask.depth(2048, 100, 2048, 64));
+
+		assertEquals(2048, MatricesForkJoinStrassenDotTask.paddedSize(2048, 4));
+		assertEquals(112, MatricesForkJoinStrassenDotTask.paddedSize(100, 4));
+		assertEquals(101, MatricesForkJoinStrassenDotTask.paddedSize(101, 0));
+	}
+
+	@ParameterizedTest
+	@CsvSource({"64, 64, 64, 16", "37, 41, 43, 8", "100, 3, 50, 2", "1, 40, 40, 4", "33, 33, 33, 1"})
+	void testIntegerStrassenDotMatchesDot(int rows, int inner, int columns, int cutoff) {
+		Matrix<Integer> matrix1 = IntegerMatrixFactory.withRandomValues(rows, inner, -100, 100);
+		Matrix<Integer> matrix2 = IntegerMatrixFactory.withRandomValues(inner, columns, -100, 100);
+
+		try (ComputeContext computeContext = new ComputeContext(4)) {
+			assertEquals(IntegerMatricesCalculator.dot(matrix1, matrix2), IntegerMatricesCalculator.strassenDot(matrix1, matrix2, cutoff, computeContext));
+		}
+	}
+
+	@Test
+	void testBigDecimalStrassenDotMatchesDot() {
+		Matrix<BigDecimal> matrix1 = BigDecimalMatrixFactory.withRandomValues(30, 25, BigDecimal.valueOf(-10), BigDecimal.valueOf(10));
+		Matrix<BigDecimal> matrix2 = BigDecimalMatrixFactory.withRandomValues(25, 19, BigDecimal.valueOf(-10), BigDecimal.valueOf(10));
+		Matrix<BigDecimal> expected = BigDecimalMatricesCalculator.dot(matrix1, matrix2);
+		Matrix<BigDecimal> result = BigDecimalMatricesCalculator.strassenDot(matrix1, matrix2, 4);
+
+		for (var rowIterator = 0; rowIterator < expected.getRows(); rowIterator++) {
+			for (var colIterator = 0; colIterator < expected.getColumns(); colIterator++) {
+				assertEquals(0, expected.getMatrixLists().get(rowIterator).get(colIterator).compareTo(result.getMatrixLists().get(rowIterator).get(colIterator)));
+			}
+		}
+	}
+
+	@Test
+	void testDoubleStrassenDotIsCloseToDot() {
+		DoubleMatrix matrix1 = DoubleMatrixFactory.withRandomValues(70, 90, -0.5, 0.5);
+		DoubleMatrix matrix2 = DoubleMatrixFactory.withRandomValues(90, 65, -0.5, 0.5);
+		DoubleMatrix expected = DoubleMatricesCalculator.dot(matrix1, matrix2);
+
+		try (ComputeContext computeContext = new ComputeContext(4)) {
+			DoubleMatrix result = DoubleMatricesCalculator.strassenDot(matrix1, matrix2, 8, computeContext);
+
+			assertEquals(expected.getRows(), result.getRows());
+			assertEquals(expected.getColumns(), result.getColumns());
+			for (var rowIterator = 0; rowIterator < expected.getRows(); rowIterator++) {
+				for (var colIterator = 0; colIterator < expected.getColumns(); colIterator++) {
+					assertEquals(expected.get(rowIterator, colIterator), result.get(rowIterator, colIterator), 1e-9);
+				}
+			}
+		}
+	}
+
+	@Test
+	void testStrassenDotValidatesArguments() {
+		Matrix<Integer> matrix1 = IntegerMatrixFactory.withRandomValues(4, 3, -100, 100);
+
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> IntegerMatricesCalculator.strassenDot(matrix1, matrix1));
+		assertThrows(IllegalArgumentException.class, () -> MatricesForkJoinStrassenDotTask.depth(4, 4, 4, 0));
+	}
+}
@@ -0,0 +1,85 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.concurrent.task.parallel.DotTaskDivider;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrixFactory.BigDecimalMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MatricesCalculatorTiledDotTest {
+
+	@Test
+	void testDividerSplitsColumnsWhenThereAreFewerRowsThanTasks() {
+		DotTaskDivider dotTaskDivider = new DotTaskDivider(1, 4096, 4096, 8, false);
+
+		assertEquals(1, dotTaskDivider.getRowTiles());
+		assertEquals(8, dotTaskDivider.getColumnTiles());
+		assertEquals(1, dotTaskDivider.getInnerSplits());
+	}
+
+	@Test
+	void testDividerSplitsInnerDimensionOnlyWhenAllowed() {
+		assertEquals(8, new DotTaskDivider(1, 4096, 1, 8, true).getTasks());
+		assertEquals(1, new DotTaskDivider(1, 4096, 1, 8, false).getTasks());
+
+		DotTaskDivider dotTaskDivider = new DotTaskDivider(2, 8192, 2, 8, true);
+		assertEquals(2, dotTaskDivider.getRowTiles());
+		assertEquals(2, dotTaskDivider.getColumnTiles());
+		assertEquals(2, dotTaskDivider.getInnerSplits());
+	}
+
+	@Test
+	void testDividerKeepsRowSplitForTallMatrices() {
+		DotTaskDivider dotTaskDivider = new DotTaskDivider(100, 10, 100, 8, true);
+
+		assertEquals(8, dotTaskDivider.getRowTiles());
+		assertEquals(1, dotTaskDivider.getColumnTiles());
+		assertEquals(1, dotTaskDivider.getInnerSplits());
+	}
+
+	@ParameterizedTest
+	@CsvSource({"1, 300, 257", "3, 1, 200", "1, 1000, 1", "2, 513, 3", "37, 41, 43"})
+	void testIntegerTiledDotMatchesSerialDot(int rows, int inner, int columns) {
+		Matrix<Integer> matrix1 = IntegerMatrixFactory.withRandomValues(rows, inner, -100, 100);
+		Matrix<Integer> matrix2 = IntegerMatrixFactory.withRandomValues(inner, columns, -100, 100);
+		Matrix<Integer> expected = IntegerMatricesCalculator.dot(matrix1, matrix2);
+
+		try (ComputeContext computeContext = new ComputeContext(8)) {
+			assertEquals(expected, IntegerMatricesCalculator.parallelDot(matrix1, matrix2, computeContext));
+			assertEquals(expected, IntegerMatricesCalculator.forkJoinDot(matrix1, matrix2, 10, computeContext));
+			assertEquals(expected, IntegerMatricesCalculator.forkJoinDot(matrix1, matrix2, computeContext));
+		}
+	}
+
+	@Test
+	void testBigDecimalInnerSplitMatchesSerialDot() {
+		Matrix<BigDecimal> matrix1 = BigDecimalMatrixFactory.withRandomValues(2, 700, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+		Matrix<BigDecimal> matrix2 = BigDecimalMatrixFactory.withRandomValues(700, 1, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+		Matrix<BigDecimal> expected = BigDecimalMatricesCalculator.dot(matrix1, matrix2);
+
+		try (ComputeContext computeContext = new ComputeContext(8)) {
+			assertEquals(expected, BigDecimalMatricesCalculator.parallelDot(matrix1, matrix2, computeContext));
+			assertEquals(expected, BigDecimalMatricesCalculator.forkJoinDot(matrix1, matrix2, 10, computeContext));
+		}
+	}
+
+	@Test
+	void testDoubleTilesWithoutInnerSplitAreBitIdentical() {
+		Matrix<Double> matrix1 = DoubleMatrixFactory.withRandomValues(1, 500, -0.5, 0.5).toMatrix();
+		Matrix<Double> matrix2 = DoubleMatrixFactory.withRandomValues(500, 300, -0.5, 0.5).toMatrix();
+		Matrix<Double> expected = MatricesCalculator.dot(matrix1, matrix2, 0.0, (x, y) -> x * y, Double::sum);
+
+		try (ComputeContext computeContext = new ComputeContext(8)) {
+			assertEquals(expected, MatricesCalculator.parallelDot(matrix1, matrix2, computeContext, 0.0, (x, y) -> x * y, Double::sum));
+			assertEquals(expected, MatricesCalculator.forkJoinDot(matrix1, matrix2, 10, computeContext, 0.0, (x, y) -> x * y, Double::sum));
+		}
+	}
+}
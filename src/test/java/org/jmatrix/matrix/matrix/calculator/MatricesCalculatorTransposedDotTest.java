@@ -0,0 +1,51 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MatricesCalculatorTransposedDotTest {
+
+	@ParameterizedTest
+	@CsvSource({"1, 1, 1", "37, 41, 43", "200, 10, 1", "3, 300, 70"})
+	void testTransposedViewsMatchCopiedTransposes(int rows, int inner, int columns) {
+		Matrix<Integer> matrix1 = IntegerMatrixFactory.withRandomValues(inner, rows, -100, 100);
+		Matrix<Integer> matrix2 = IntegerMatrixFactory.withRandomValues(columns, inner, -100, 100);
+		MatrixView<Integer> view1 = MatrixCalculator.transposeView(matrix1);
+		MatrixView<Integer> view2 = MatrixCalculator.transposeView(matrix2);
+
+		Matrix<Integer> expected = IntegerMatricesCalculator.dot(MatrixCalculator.transpose(matrix1), MatrixCalculator.transpose(matrix2));
+
+		assertEquals(expected, IntegerMatricesCalculator.dot(view1, view2));
+		try (ComputeContext computeContext = new ComputeContext(4)) {
+			assertEquals(expected, IntegerMatricesCalculator.parallelDot(view1, view2, computeContext));
+			assertEquals(expected, IntegerMatricesCalculator.forkJoinDot(view1, view2, computeContext));
+		}
+	}
+
+	@Test
+	void testTransposedViewOfOneOperand() {
+		Matrix<Integer> weights = IntegerMatrixFactory.withRandomValues(20, 30, -100, 100);
+		Matrix<Integer> errors = IntegerMatrixFactory.withRandomValues(20, 5, -100, 100);
+
+		Matrix<Integer> expected = IntegerMatricesCalculator.dot(MatrixCalculator.transpose(weights), errors);
+
+		assertEquals(expected, IntegerMatricesCalculator.dot(MatrixCalculator.transposeView(weights), new MatrixView<>(errors)));
+		assertEquals(MatrixCalculator.transpose(expected), IntegerMatricesCalculator.dot(MatrixCalculator.transposeView(errors), new MatrixView<>(weights)));
+	}
+
+	@Test
+	void testIncompatibleViewsThrowException() {
+		Matrix<Integer> matrix = IntegerMatrixFactory.withRandomValues(3, 4, -100, 100);
+
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> IntegerMatricesCalculator.dot(MatrixCalculator.transposeView(matrix), MatrixCalculator.transposeView(matrix)));
+	}
+}
@@ -0,0 +1,76 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.MatrixView;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MatrixCalculatorParallelTest {
+
+	@ParameterizedTest
+	@CsvSource({"1, 1", "1, 500", "500, 1", "130, 70", "3, 200"})
+	void testParallelTransformAndTransposeMatchSerial(int rows, int columns) {
+		Matrix<Integer> matrix = IntegerMatrixFactory.withRandomValues(rows, columns, -100, 100);
+		Matrix<Integer> transformed = MatrixCalculator.transform(matrix, x -> x * 3 - 1);
+		Matrix<Integer> transposed = MatrixCalculator.transpose(matrix);
+
+		try (ComputeContext computeContext = new ComputeContext(4)) {
+			assertEquals(transformed, MatrixCalculator.parallelTransform(matrix, x -> x * 3 - 1, computeContext));
+			assertEquals(transformed, MatrixCalculator.forkJoinTransform(matrix, x -> x * 3 - 1, computeContext));
+			assertEquals(transformed, MatrixCalculator.forkJoinTransform(matrix, x -> x * 3 - 1, 10, computeContext));
+			assertEquals(transposed, MatrixCalculator.parallelTranspose(matrix, computeContext));
+		}
+		assertEquals(transformed, MatrixCalculator.parallelTransform(matrix, x -> x * 3 - 1));
+		assertEquals(transposed, MatrixCalculator.parallelTranspose(matrix));
+	}
+
+	@Test
+	void testParallelPredicateCheck() {
+		Matrix<Integer> matrix = IntegerMatrixFactory.withRandomValues(300, 40, 0, 100);
+
+		try (ComputeContext computeContext = new ComputeContext(4)) {
+			assertTrue(MatrixCalculator.parallelIsConditionTrueForEachElement(matrix, x -> x >= 0, computeContext));
+
+			matrix.getMatrixLists().get(150).set(20, -1);
+			assertFalse(MatrixCalculator.parallelIsConditionTrueForEachElement(matrix, x -> x >= 0, computeContext));
+		}
+	}
+
+	@Test
+	void testParallelPredicateCheckStopsAfterFailure() {
+		Matrix<Integer> matrix = IntegerMatrixFactory.withRandomValues(1000, 100, 0, 100);
+		matrix.getMatrixLists().getFirst().set(0, -1);
+		AtomicInteger tests = new AtomicInteger();
+
+		try (ComputeContext computeContext = new ComputeContext(1)) {
+			assertFalse(MatrixCalculator.parallelIsConditionTrueForEachElement(matrix, x -> {
+				tests.incrementAndGet();
+				return x >= 0;
+			}, computeContext));
+		}
+		assertEquals(1, tests.get());
+	}
+
+	@Test
+	void testBlockedTransposeIntoView() {
+		Matrix<Integer> matrix = IntegerMatrixFactory.withRandomValues(150, 70, -100, 100);
+		Matrix<Integer> out = IntegerMatrixFactory.withRandomValues(70, 150, -100, 100);
+
+		MatrixCalculator.transposeInto(new MatrixView<>(matrix), new MatrixView<>(out));
+
+		assertEquals(MatrixCalculator.transpose(matrix), out);
+		assertThrows(MatricesIncompatibleForOperationException.class,
+				() -> MatrixCalculator.transposeInto(new MatrixView<>(matrix), new MatrixView<>(matrix)));
+	}
+}
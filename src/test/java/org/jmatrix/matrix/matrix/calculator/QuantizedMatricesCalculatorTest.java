@@ -0,0 +1,122 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.QuantizedMatrix;
+import org.jmatrix.matrix.matrixFactory.BigDecimalMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.QuantizedMatrixFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.jmatrix.matrix.matrix.QuantizedMatrix.Granularity.PER_ROW;
+import static org.jmatrix.matrix.matrix.QuantizedMatrix.Granularity.PER_TENSOR;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QuantizedMatricesCalculatorTest {
+
+	@Test
+	public void testDot_validMultiplication() {
+		// 0.5 * (q - 1) and 0.25 * (q + 2)
+		var matrix1 = new QuantizedMatrix(2, 3, new byte[]{3, 5, 7, 9, 11, 13}, new double[]{0.5}, new int[]{1});
+		var matrix2 = new QuantizedMatrix(3, 2, new byte[]{26, 30, 34, 38, 42, 46}, new double[]{0.25}, new int[]{-2});
+
+		var expected = new DoubleMatrix(2, 2, new double[]{58, 64, 139, 154});
+
+		assertEquals(expected, QuantizedMatricesCalculator.dot(matrix1, matrix2));
+		assertEquals(expected, QuantizedMatricesCalculator.parallelDot(matrix1, matrix2));
+	}
+
+	@Test
+	public void testDot_isExactDotOfDequantizedValues() {
+		for (var columns : new int[]{1, 7}) {
+			Matrix<BigDecimal> matrix1 = BigDecimalMatrixFactory.withRandomValues(20, 78, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(1.5));
+			Matrix<BigDecimal> matrix2 = BigDecimalMatrixFactory.withRandomValues(78, columns, BigDecimal.valueOf(-2), BigDecimal.valueOf(0.5));
+			QuantizedMatrix quantized1 = QuantizedMatrixFactory.quantize(matrix1, PER_ROW);
+			QuantizedMatrix quantized2 = QuantizedMatrixFactory.quantize(matrix2, PER_TENSOR);
+
+			DoubleMatrix result = QuantizedMatricesCalculator.dot(quantized1, quantized2);
+
+			for (var rowIterator = 0; rowIterator < 20; rowIterator++) {
+				for (var colIterator = 0; colIterator < columns; colIterator++) {
+					BigDecimal expected = BigDecimal.ZERO;
+					for (var elementIndex = 0; elementIndex < 78; elementIndex++) {
+						expected = expected.add(new BigDecimal(quantized1.get(rowIterator, elementIndex)).multiply(new BigDecimal(quantized2.get(elementIndex, colIterator))));
+					}
+					assertEquals(expected.doubleValue(), result.get(rowIterator, colIterator), Math.abs(expected.doubleValue()) * 1e-12 + 1e-12);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testDot_accuracyAgainstBigDecimalDot() {
+		Matrix<BigDecimal> matrix1 = BigDecimalMatrixFactory.withRandomValues(20, 200, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+		Matrix<BigDecimal> matrix2 = BigDecimalMatrixFactory.withRandomValues(200, 3, BigDecimal.valueOf(-0.5), BigDecimal.valueOf(0.5));
+		QuantizedMatrix quantized1 = QuantizedMatrixFactory.quantize(matrix1, PER_ROW);
+		QuantizedMatrix quantized2 = QuantizedMatrixFactory.quantize(matrix2, PER_TENSOR);
+
+		Matrix<BigDecimal> expected = BigDecimalMatricesCalculator.dot(matrix1, matrix2);
+		DoubleMatrix result = QuantizedMatricesCalculator.dot(quantized1, quantized2);
+
+		for (var rowIterator = 0; rowIterator < 20; rowIterator++) {
+			for (var colIterator = 0; colIterator < 3; colIterator++) {
+				// each element of each matrix is off by at most half its scale
+				double bound = 0;
+				for (var elementIndex = 0; elementIndex < 200; elementIndex++) {
+					double value1 = matrix1.getMatrixLists().get(rowIterator).get(elementIndex).doubleValue();
+					double value2 = matrix2.getMatrixLists().get(elementIndex).get(colIterator).doubleValue();
+					double error1 = quantized1.getScale(rowIterator) / 2;
+					double error2 = quantized2.getScale(0) / 2;
+					bound += Math.abs(value1) * error2 + Math.abs(value2) * error1 + error1 * error2;
+				}
+				double delta = Math.abs(expected.getMatrixLists().get(rowIterator).get(colIterator).doubleValue() - result.get(rowIterator, colIterator));
+				assertTrue(delta <= bound + 1e-12, "Delta " + delta + " is larger than the quantization bound " + bound);
+			}
+		}
+	}
+
+	@Test
+	public void testParallelDot_matchesDot() {
+		Matrix<BigDecimal> matrix1 = BigDecimalMatrixFactory.withRandomValues(37, 90, BigDecimal.valueOf(-1), BigDecimal.valueOf(1));
+		try (var computeContext = new ComputeContext(4)) {
+			for (var columns : new int[]{1, 2, 11}) {
+				Matrix<BigDecimal> matrix2 = BigDecimalMatrixFactory.withRandomValues(90, columns, BigDecimal.valueOf(-1), BigDecimal.valueOf(1));
+				QuantizedMatrix quantized1 = QuantizedMatrixFactory.quantize(matrix1, PER_ROW);
+				QuantizedMatrix quantized2 = QuantizedMatrixFactory.quantize(matrix2, PER_TENSOR);
+
+				assertEquals(QuantizedMatricesCalculator.dot(quantized1, quantized2), QuantizedMatricesCalculator.parallelDot(quantized1, quantized2, computeContext));
+			}
+		}
+	}
+
+	@Test
+	public void testDot_extremeValuesAreExact() {
+		// every product is (-128)^2 and the sum is spread over more than MAX_INT_PRODUCTS products, so it doesn't fit in an int
+		int inner = QuantizedMatricesCalculator.MAX_INT_PRODUCTS + 10;
+		byte[] data1 = new byte[inner];
+		byte[] data2 = new byte[inner * 2];
+		Arrays.fill(data1, Byte.MIN_VALUE);
+		Arrays.fill(data2, Byte.MIN_VALUE);
+		var matrix1 = new QuantizedMatrix(1, inner, data1, new double[]{1}, new int[]{0});
+		var vector = new QuantizedMatrix(inner, 1, Arrays.copyOf(data2, inner), new double[]{1}, new int[]{0});
+		var matrix2 = new QuantizedMatrix(inner, 2, data2, new double[]{1}, new int[]{0});
+
+		double expected = (double) inner * (1 << 14);
+		assertEquals(expected, QuantizedMatricesCalculator.dot(matrix1, vector).get(0, 0));
+		assertEquals(new DoubleMatrix(1, 2, new double[]{expected, expected}), QuantizedMatricesCalculator.dot(matrix1, matrix2));
+	}
+
+	@Test
+	public void testDot_incompatibleMatrices_throwsMatricesIncompatibleForOperationException() {
+		var matrix1 = new QuantizedMatrix(2, 3, new byte[6], new double[]{1}, new int[]{0});
+		var perRow = new QuantizedMatrix(3, 2, new byte[6], new double[]{1, 1, 1}, new int[]{0, 0, 0});
+
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> QuantizedMatricesCalculator.dot(matrix1, matrix1));
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> QuantizedMatricesCalculator.dot(matrix1, perRow));
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> QuantizedMatricesCalculator.parallelDot(matrix1, perRow));
+	}
+}
@@ -0,0 +1,158 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.Matrix;
+import org.jmatrix.matrix.matrix.SparseMatrix;
+import org.jmatrix.matrix.matrixFactory.BigDecimalMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.IntegerMatrixFactory;
+import org.jmatrix.matrix.matrixFactory.SparseMatrixFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.jmatrix.matrix.matrix.SparseMatrix.Layout.CSC;
+import static org.jmatrix.matrix.matrix.SparseMatrix.Layout.CSR;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SparseMatricesCalculatorTest {
+
+	@Test
+	public void testDot_validMultiplication() {
+		SparseMatrix<Integer> sparseMatrix = SparseMatrixFactory.fromMatrix(new Matrix<>(List.of(
+				List.of(0, 2, 0),
+				List.of(3, 0, 4))), 0, CSR);
+		Matrix<Integer> denseMatrix = new Matrix<>(List.of(
+				List.of(1, 2),
+				List.of(3, 4),
+				List.of(5, 6)));
+
+		Matrix<Integer> expected = new Matrix<>(List.of(
+				List.of(6, 8),
+				List.of(23, 30)));
+
+		assertEquals(expected, SparseMatricesCalculator.dot(sparseMatrix, denseMatrix, Math::multiplyExact, Math::addExact));
+		assertEquals(expected, SparseMatricesCalculator.parallelDot(sparseMatrix, denseMatrix, Math::multiplyExact, Math::addExact));
+	}
+
+	@ParameterizedTest
+	@EnumSource(SparseMatrix.Layout.class)
+	public void testSparseDenseDot_matchesDenseDot(SparseMatrix.Layout layout) {
+		Matrix<Integer> matrix1 = randomSparseMatrix(37, 23, 0.1);
+		Matrix<Integer> matrix2 = IntegerMatrixFactory.withRandomValues(23, 9, -100, 100);
+		SparseMatrix<Integer> sparseMatrix1 = SparseMatrixFactory.fromMatrix(matrix1, 0, layout);
+
+		Matrix<Integer> expected = IntegerMatricesCalculator.dot(matrix1, matrix2);
+
+		assertEquals(expected, SparseMatricesCalculator.dot(sparseMatrix1, matrix2, Math::multiplyExact, Math::addExact));
+		try (ComputeContext computeContext = new ComputeContext(4)) {
+			assertEquals(expected, SparseMatricesCalculator.parallelDot(sparseMatrix1, matrix2, computeContext, Math::multiplyExact, Math::addExact));
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(SparseMatrix.Layout.class)
+	public void testDenseSparseDot_matchesDenseDot(SparseMatrix.Layout layout) {
+		Matrix<Integer> matrix1 = IntegerMatrixFactory.withRandomValues(11, 23, -100, 100);
+		Matrix<Integer> matrix2 = randomSparseMatrix(23, 31, 0.1);
+		SparseMatrix<Integer> sparseMatrix2 = SparseMatrixFactory.fromMatrix(matrix2, 0, layout);
+
+		Matrix<Integer> expected = IntegerMatricesCalculator.dot(matrix1, matrix2);
+
+		assertEquals(expected, SparseMatricesCalculator.dot(matrix1, sparseMatrix2, Math::multiplyExact, Math::addExact));
+		try (ComputeContext computeContext = new ComputeContext(4)) {
+			assertEquals(expected, SparseMatricesCalculator.parallelDot(matrix1, sparseMatrix2, computeContext, Math::multiplyExact, Math::addExact));
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(SparseMatrix.Layout.class)
+	public void testSparseSparseDot_matchesDenseDot(SparseMatrix.Layout layout) {
+		Matrix<Integer> matrix1 = randomSparseMatrix(41, 29, 0.1);
+		Matrix<Integer> matrix2 = randomSparseMatrix(29, 19, 0.15);
+		SparseMatrix<Integer> sparseMatrix1 = SparseMatrixFactory.fromMatrix(matrix1, 0, layout);
+		SparseMatrix<Integer> sparseMatrix2 = SparseMatrixFactory.fromMatrix(matrix2, 0, layout);
+
+		Matrix<Integer> expected = IntegerMatricesCalculator.dot(matrix1, matrix2);
+
+		SparseMatrix<Integer> result = SparseMatricesCalculator.dot(sparseMatrix1, sparseMatrix2, Math::multiplyExact, Math::addExact);
+		assertEquals(CSR, result.getLayout());
+		assertEquals(expected, result.toMatrix());
+		try (ComputeContext computeContext = new ComputeContext(4)) {
+			assertEquals(result, SparseMatricesCalculator.parallelDot(sparseMatrix1, sparseMatrix2, computeContext, Math::multiplyExact, Math::addExact));
+		}
+	}
+
+	@Test
+	public void testSparseSparseDot_storesOnlyElementsWithProducts() {
+		// row 0 of the result has products in column 0 that cancel out, and none in column 1
+		SparseMatrix<Integer> sparseMatrix1 = SparseMatrixFactory.fromTriplets(2, 2, new int[]{0, 0, 1}, new int[]{0, 1, 1}, List.of(1, 1, 3), 0, CSR);
+		SparseMatrix<Integer> sparseMatrix2 = SparseMatrixFactory.fromTriplets(2, 2, new int[]{0, 1}, new int[]{0, 0}, List.of(2, -2), 0, CSR);
+
+		SparseMatrix<Integer> result = SparseMatricesCalculator.dot(sparseMatrix1, sparseMatrix2, Math::multiplyExact, Math::addExact);
+
+		assertArrayEquals(new int[]{0, 1, 2}, result.getPointers());
+		assertArrayEquals(new int[]{0, 0}, result.getIndices());
+		assertEquals(0, result.getValue(0));
+		assertEquals(-6, result.getValue(1));
+	}
+
+	@Test
+	public void testParallelDot_skewedRowsMatchDot() {
+		// a few dense rows among mostly empty ones, so splitting by row count would leave the work on one task
+		Matrix<BigDecimal> matrix1 = BigDecimalMatrixFactory.withRandomValues(200, 50, BigDecimal.valueOf(-1), BigDecimal.ONE);
+		List<List<BigDecimal>> rows1 = matrix1.getMatrixLists();
+		for (var rowIterator = 0; rowIterator < 200; rowIterator++) {
+			for (var colIterator = 0; colIterator < 50; colIterator++) {
+				if (rowIterator % 50 != 0 && colIterator != rowIterator % 50) {
+					rows1.get(rowIterator).set(colIterator, BigDecimal.ZERO);
+				}
+			}
+		}
+		Matrix<BigDecimal> matrix2 = BigDecimalMatrixFactory.withRandomValues(50, 7, BigDecimal.valueOf(-1), BigDecimal.ONE);
+		SparseMatrix<BigDecimal> sparseMatrix1 = SparseMatrixFactory.fromMatrix(matrix1, BigDecimal.ZERO, value -> value.signum() == 0, CSR);
+
+		Matrix<BigDecimal> expected = SparseMatricesCalculator.dot(sparseMatrix1, matrix2, BigDecimal::multiply, BigDecimal::add);
+
+		try (ComputeContext computeContext = new ComputeContext(4)) {
+			assertEquals(expected, SparseMatricesCalculator.parallelDot(sparseMatrix1, matrix2, computeContext, BigDecimal::multiply, BigDecimal::add));
+		}
+		for (var rowIterator = 0; rowIterator < 200; rowIterator++) {
+			for (var colIterator = 0; colIterator < 7; colIterator++) {
+				BigDecimal sum = BigDecimal.ZERO;
+				for (var elementIndex = 0; elementIndex < 50; elementIndex++) {
+					sum = sum.add(rows1.get(rowIterator).get(elementIndex).multiply(matrix2.getMatrixLists().get(elementIndex).get(colIterator)));
+				}
+				assertEquals(0, sum.compareTo(expected.getMatrixLists().get(rowIterator).get(colIterator)));
+			}
+		}
+	}
+
+	@Test
+	public void testDot_invalidMultiplication() {
+		SparseMatrix<Integer> sparseMatrix = SparseMatrixFactory.fromMatrix(randomSparseMatrix(3, 4, 0.5), 0, CSR);
+		Matrix<Integer> denseMatrix = IntegerMatrixFactory.withRandomValues(3, 4, 0, 10);
+
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> SparseMatricesCalculator.dot(sparseMatrix, denseMatrix, Math::multiplyExact, Math::addExact));
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> SparseMatricesCalculator.dot(denseMatrix, sparseMatrix, Math::multiplyExact, Math::addExact));
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> SparseMatricesCalculator.dot(sparseMatrix, sparseMatrix, Math::multiplyExact, Math::addExact));
+		assertThrows(MatricesIncompatibleForOperationException.class, () -> SparseMatricesCalculator.parallelDot(sparseMatrix, sparseMatrix, Math::multiplyExact, Math::addExact));
+	}
+
+	private static Matrix<Integer> randomSparseMatrix(int rows, int columns, double density) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		Matrix<Integer> matrix = IntegerMatrixFactory.withRandomValues(rows, columns, -100, 100);
+		for (List<Integer> row : matrix.getMatrixLists()) {
+			for (var colIterator = 0; colIterator < columns; colIterator++) {
+				if (random.nextDouble() >= density) {
+					row.set(colIterator, 0);
+				}
+			}
+		}
+		return matrix;
+	}
+}
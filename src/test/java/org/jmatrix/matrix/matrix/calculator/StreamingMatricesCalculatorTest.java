@@ -0,0 +1,96 @@
+package org.jmatrix.matrix.matrix.calculator;
+
+import org.jmatrix.matrix.concurrent.ComputeContext;
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.OffHeapDoubleMatrix;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.jmatrix.matrix.matrixFile.MatrixFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class StreamingMatricesCalculatorTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void testStreamingDot_matchesInMemoryDot() throws IOException {
+		Path matrix1Path = tempDir.resolve("matrix1.jmtx");
+		Path resultPath = tempDir.resolve("result.jmtx");
+		DoubleMatrix matrix1 = DoubleMatrixFactory.withRandomValues(103, 20, -0.5, 0.5);
+		DoubleMatrix matrix2 = DoubleMatrixFactory.withRandomValues(20, 7, -0.5, 0.5);
+		MatrixFile.write(matrix1Path, matrix1);
+
+		// 11 blocks of 10 rows, the last one partial
+		StreamingMatricesCalculator.dot(matrix1Path, matrix2, resultPath, 10, 3, 2);
+
+		try (OffHeapDoubleMatrix result = MatrixFile.open(resultPath)) {
+			assertEquals(DoubleMatricesCalculator.dot(matrix1, matrix2), result.toDoubleMatrix());
+		}
+	}
+
+	@Test
+	public void testStreamingDot_singleBlock() throws IOException {
+		Path matrix1Path = tempDir.resolve("matrix1.jmtx");
+		Path resultPath = tempDir.resolve("result.jmtx");
+		DoubleMatrix matrix1 = DoubleMatrixFactory.withRandomValues(5, 4, -0.5, 0.5);
+		DoubleMatrix matrix2 = DoubleMatrixFactory.withRandomValues(4, 3, -0.5, 0.5);
+		MatrixFile.write(matrix1Path, matrix1);
+
+		StreamingMatricesCalculator.dot(matrix1Path, matrix2, resultPath, 100);
+
+		try (OffHeapDoubleMatrix result = MatrixFile.open(resultPath)) {
+			assertEquals(DoubleMatricesCalculator.dot(matrix1, matrix2), result.toDoubleMatrix());
+		}
+	}
+
+	@Test
+	public void testStreamingDot_fewerThreadsThanContext() throws IOException {
+		Path matrix1Path = tempDir.resolve("matrix1.jmtx");
+		Path resultPath = tempDir.resolve("result.jmtx");
+		DoubleMatrix matrix1 = DoubleMatrixFactory.withRandomValues(200, 9, -0.5, 0.5);
+		DoubleMatrix matrix2 = DoubleMatrixFactory.withRandomValues(9, 5, -0.5, 0.5);
+		MatrixFile.write(matrix1Path, matrix1);
+
+		// single row blocks, so the workers keep running out of blocks and handing over to new ones
+		try (ComputeContext computeContext = new ComputeContext(8)) {
+			for (var nThreads = 1; nThreads <= 3; nThreads++) {
+				StreamingMatricesCalculator.dot(matrix1Path, matrix2, resultPath, 1, nThreads, 1, computeContext);
+
+				try (OffHeapDoubleMatrix result = MatrixFile.open(resultPath)) {
+					assertEquals(DoubleMatricesCalculator.dot(matrix1, matrix2), result.toDoubleMatrix());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testStreamingDot_closedContext_throwsRejectedExecutionException() throws IOException {
+		Path matrix1Path = tempDir.resolve("matrix1.jmtx");
+		MatrixFile.write(matrix1Path, DoubleMatrixFactory.withRandomValues(20, 4, -0.5, 0.5));
+		ComputeContext computeContext = new ComputeContext(2);
+		computeContext.close();
+
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThrows(RejectedExecutionException.class,
+				() -> StreamingMatricesCalculator.dot(matrix1Path, new DoubleMatrix(4, 3), tempDir.resolve("result.jmtx"), 5, computeContext)));
+	}
+
+	@Test
+	public void testStreamingDot_incompatibleMatrices_throwsMatricesIncompatibleForOperationException() throws IOException {
+		Path matrix1Path = tempDir.resolve("matrix1.jmtx");
+		MatrixFile.write(matrix1Path, new DoubleMatrix(5, 4));
+
+		assertThrows(MatricesIncompatibleForOperationException.class,
+				() -> StreamingMatricesCalculator.dot(matrix1Path, new DoubleMatrix(3, 3), tempDir.resolve("result.jmtx"), 2));
+	}
+}
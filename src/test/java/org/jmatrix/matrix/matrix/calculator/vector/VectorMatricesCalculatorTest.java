@@ -0,0 +1,112 @@
+package org.jmatrix.matrix.matrix.calculator.vector;
+
+import org.jmatrix.matrix.exception.MatricesIncompatibleForOperationException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.FloatMatrix;
+import org.jmatrix.matrix.matrix.calculator.DoubleMatricesCalculator;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The matrices have an odd number of columns so that both the vector loop and the scalar tail loop are exercised.
+ */
+public class VectorMatricesCalculatorTest {
+
+	@Test
+	public void testDot_matchesScalarPrimitiveDot() {
+		DoubleMatrix matrix1 = DoubleMatrixFactory.withRandomValues(23, 45, -0.5, 0.5);
+		DoubleMatrix matrix2 = DoubleMatrixFactory.withRandomValues(45, 37, -0.5, 0.5);
+
+		assertEquals(DoubleMatricesCalculator.dot(matrix1, matrix2), VectorMatricesCalculator.dot(matrix1, matrix2));
+	}
+
+	@Test
+	public void testFloatDot_matchesScalarKernel() {
+		FloatMatrix matrix1 = randomFloatMatrix(23, 45);
+		FloatMatrix matrix2 = randomFloatMatrix(45, 37);
+
+		FloatMatrix expected = new FloatMatrix(23, 37);
+		ScalarKernels.dot(matrix1, matrix2, expected);
+
+		assertEquals(expected, VectorMatricesCalculator.dot(matrix1, matrix2));
+	}
+
+	@Test
+	public void testDot_incompatibleMatrices_throwsMatricesIncompatibleForOperationException() {
+		assertThrows(MatricesIncompatibleForOperationException.class,
+				() -> VectorMatricesCalculator.dot(new DoubleMatrix(2, 3), new DoubleMatrix(2, 3)));
+	}
+
+	@Test
+	public void testCombine() {
+		DoubleMatrix matrix1 = DoubleMatrixFactory.withRandomValues(9, 19, -0.5, 0.5);
+		DoubleMatrix matrix2 = DoubleMatrixFactory.withRandomValues(9, 19, -0.5, 0.5);
+
+		assertEquals(DoubleMatricesCalculator.combine(matrix1, matrix2, Double::sum),
+				VectorMatricesCalculator.combine(matrix1, matrix2, ElementWiseOperation.ADD));
+		assertEquals(DoubleMatricesCalculator.combine(matrix1, matrix2, (x, y) -> x - y),
+				VectorMatricesCalculator.combine(matrix1, matrix2, ElementWiseOperation.SUBTRACT));
+		assertEquals(DoubleMatricesCalculator.combine(matrix1, matrix2, (x, y) -> x * y),
+				VectorMatricesCalculator.combine(matrix1, matrix2, ElementWiseOperation.MULTIPLY));
+	}
+
+	@Test
+	public void testFloatCombine() {
+		FloatMatrix matrix1 = randomFloatMatrix(9, 19);
+		FloatMatrix matrix2 = randomFloatMatrix(9, 19);
+
+		for (ElementWiseOperation operation : ElementWiseOperation.values()) {
+			FloatMatrix expected = new FloatMatrix(9, 19);
+			ScalarKernels.combine(matrix1, matrix2, operation, expected);
+			assertEquals(expected, VectorMatricesCalculator.combine(matrix1, matrix2, operation), operation.name());
+		}
+	}
+
+	@Test
+	public void testCombine_differentDimensions_throwsMatricesIncompatibleForOperationException() {
+		assertThrows(MatricesIncompatibleForOperationException.class,
+				() -> VectorMatricesCalculator.combine(new FloatMatrix(2, 2), new FloatMatrix(2, 3), ElementWiseOperation.ADD));
+	}
+
+	@Test
+	public void testTransform() {
+		DoubleMatrix matrix = DoubleMatrixFactory.withRandomValues(9, 19, 0.0, 4.0);
+
+		for (TransformOperation operation : TransformOperation.values()) {
+			DoubleMatrix expected = new DoubleMatrix(9, 19);
+			ScalarKernels.transform(matrix, operation, expected);
+			DoubleMatrix result = VectorMatricesCalculator.transform(matrix, operation);
+
+			for (var i = 0; i < expected.getData().length; i++) {
+				assertEquals(expected.getData()[i], result.getData()[i], 1e-12, operation.name());
+			}
+		}
+	}
+
+	@Test
+	public void testFloatTransform() {
+		FloatMatrix matrix = randomFloatMatrix(9, 19);
+
+		for (TransformOperation operation : TransformOperation.values()) {
+			FloatMatrix expected = new FloatMatrix(9, 19);
+			ScalarKernels.transform(matrix, operation, expected);
+			FloatMatrix result = VectorMatricesCalculator.transform(matrix, operation);
+
+			for (var i = 0; i < expected.getData().length; i++) {
+				assertEquals(expected.getData()[i], result.getData()[i], 1e-5f, operation.name());
+			}
+		}
+	}
+
+	private static FloatMatrix randomFloatMatrix(int rows, int columns) {
+		double[] values = DoubleMatrixFactory.withRandomValues(rows, columns, 0.0, 1.0).getData();
+		float[] data = new float[values.length];
+		for (var i = 0; i < values.length; i++) {
+			data[i] = (float) values[i];
+		}
+		return new FloatMatrix(rows, columns, data);
+	}
+}
@@ -0,0 +1,98 @@
+package org.jmatrix.matrix.matrixFile;
+
+import org.jmatrix.matrix.exception.MatrixFileFormatException;
+import org.jmatrix.matrix.matrix.DoubleMatrix;
+import org.jmatrix.matrix.matrix.OffHeapDoubleMatrix;
+import org.jmatrix.matrix.matrixFactory.DoubleMatrixFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MatrixFileTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void testWriteAndOpen() throws IOException {
+		Path path = tempDir.resolve("weights.jmtx");
+		DoubleMatrix matrix = DoubleMatrixFactory.withRandomValues(30, 17, -0.5, 0.5);
+
+		MatrixFile.write(path, matrix);
+
+		assertEquals(MatrixFileHeader.SIZE + 30 * 17 * Double.BYTES, Files.size(path));
+		assertEquals(new MatrixFileHeader(MatrixFileHeader.DataType.FLOAT64, MatrixFileHeader.Layout.ROW_MAJOR, 30, 17), MatrixFile.readHeader(path));
+
+		try (OffHeapDoubleMatrix mappedMatrix = MatrixFile.open(path)) {
+			assertTrue(mappedMatrix.isReadOnly());
+			assertEquals(matrix, mappedMatrix.toDoubleMatrix());
+			assertThrows(ReadOnlyBufferException.class, () -> mappedMatrix.set(0, 0, 1.0));
+		}
+	}
+
+	@Test
+	void testOpenMapsRowsInChunks() throws IOException {
+		Path path = tempDir.resolve("weights.jmtx");
+		DoubleMatrix matrix = DoubleMatrixFactory.withRandomValues(30, 17, -0.5, 0.5);
+		MatrixFile.write(path, matrix);
+
+		// 4 rows of 17 doubles per chunk
+		try (OffHeapDoubleMatrix mappedMatrix = MatrixFile.open(path, 4 * 17 * Double.BYTES)) {
+			assertEquals(4, mappedMatrix.getRowsPerChunk());
+			assertEquals(matrix, mappedMatrix.toDoubleMatrix());
+		}
+	}
+
+	@Test
+	void testAccessAfterCloseThrowsException() throws IOException {
+		Path path = tempDir.resolve("weights.jmtx");
+		MatrixFile.write(path, DoubleMatrixFactory.withRandomValues(30, 17, -0.5, 0.5));
+
+		OffHeapDoubleMatrix mappedMatrix = MatrixFile.open(path, 4 * 17 * Double.BYTES);
+		mappedMatrix.close();
+
+		assertTrue(mappedMatrix.isClosed());
+		assertThrows(IllegalStateException.class, () -> mappedMatrix.get(29, 16));
+		assertThrows(IllegalStateException.class, () -> mappedMatrix.getRow(5, new double[17], 0));
+		assertThrows(IllegalStateException.class, mappedMatrix::toDoubleMatrix);
+	}
+
+	@Test
+	void testWriterWritesBlocksInAnyOrder() throws IOException {
+		Path path = tempDir.resolve("result.jmtx");
+		DoubleMatrix top = DoubleMatrixFactory.withRandomValues(3, 5, -0.5, 0.5);
+		DoubleMatrix bottom = DoubleMatrixFactory.withRandomValues(2, 5, -0.5, 0.5);
+
+		try (MatrixFileWriter writer = new MatrixFileWriter(path, 5, 5)) {
+			writer.writeRows(3, bottom);
+			writer.writeRows(0, top);
+		}
+
+		try (OffHeapDoubleMatrix mappedMatrix = MatrixFile.open(path)) {
+			assertEquals(top.get(2, 4), mappedMatrix.get(2, 4));
+			assertEquals(bottom.get(0, 0), mappedMatrix.get(3, 0));
+			assertEquals(bottom.get(1, 4), mappedMatrix.get(4, 4));
+		}
+	}
+
+	@Test
+	void testOpeningInvalidFileThrowsException() throws IOException {
+		Path notAMatrix = Files.writeString(tempDir.resolve("notes.txt"), "not a matrix");
+		assertThrows(MatrixFileFormatException.class, () -> MatrixFile.open(notAMatrix));
+
+		Path truncated = tempDir.resolve("truncated.jmtx");
+		MatrixFile.write(truncated, DoubleMatrixFactory.withRandomValues(4, 4, -0.5, 0.5));
+		try (var channel = FileChannel.open(truncated, StandardOpenOption.WRITE)) {
+			channel.truncate(MatrixFileHeader.SIZE + 8);
+		}
+		assertThrows(MatrixFileFormatException.class, () -> MatrixFile.open(truncated));
+	}
+}